@@ -0,0 +1,69 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.util.Random;
+
+/**
+ * Input data for the benchmarks.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 20170101L;
+
+    private static final int LETTER_COUNT = 26;
+
+    private BenchmarkData() {
+        super();
+    }
+
+    /**
+     * Create the byte array with the reproducible pseudo-random content.
+     *
+     * @param size the size of the byte array.
+     *
+     * @return the byte array.
+     */
+    public static byte[] createBytes(final int size) {
+        byte[] bytes = new byte[size];
+        new Random(SEED).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Create the char sequence with the reproducible pseudo-random latin letters.
+     * The encoded char sequence has the same length as the char sequence itself.
+     *
+     * @param size the size of the char sequence.
+     *
+     * @return the char sequence.
+     */
+    public static String createCharSequence(final int size) {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            builder.append((char) ('a' + random.nextInt(LETTER_COUNT)));
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,111 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Hash} operations.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashBenchmark {
+
+    private static final int SALT_SIZE = 16;
+
+    @Param({HashAlgorithms.MD2, HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256, HashAlgorithms.SHA384, HashAlgorithms.SHA512})
+    private String _algorithm;
+
+    @Param({"1", "1000"})
+    private int _iterations;
+
+    private byte[] _salt;
+
+    private Hash _hash;
+
+    private byte[] _storedHash;
+
+    /**
+     * Create new object.
+     */
+    public HashBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the benchmark input.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _salt = BenchmarkData.createBytes(SALT_SIZE);
+        _hash = HashHelper.getHash(_salt, _algorithm);
+        _storedHash = HashHelper.addSaltBytes(_hash.getBytes(), _salt, SaltStoreType.AT_THE_BEGINNING);
+    }
+
+    /**
+     * Benchmark for the salt addition.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    public Hash addSalt() {
+        return HashHelper.getHash(_salt, _algorithm).addSalt(_salt, _iterations);
+    }
+
+    /**
+     * Benchmark for the hash comparison.
+     *
+     * @return true if the hashes are the same.
+     */
+    @Benchmark
+    public boolean matches() {
+        return _hash.matches(_storedHash, _salt.length, _storedHash.length - _salt.length);
+    }
+
+    /**
+     * Benchmark for the hash bytes copy.
+     *
+     * @return the hash bytes.
+     */
+    @Benchmark
+    public byte[] getBytes() {
+        return _hash.getBytes();
+    }
+
+}
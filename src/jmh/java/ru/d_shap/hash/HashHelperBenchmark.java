@@ -0,0 +1,172 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link HashHelper} entry points.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class HashHelperBenchmark {
+
+    /**
+     * Create new object.
+     */
+    public HashHelperBenchmark() {
+        super();
+    }
+
+    /**
+     * Benchmark for the byte array hash.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    public Hash byteArrayHash(final ByteArrayState state) {
+        return HashHelper.getHash(state._bytes, state._algorithm);
+    }
+
+    /**
+     * Benchmark for the byte buffer hash.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    public Hash byteBufferHash(final ByteArrayState state) {
+        return HashHelper.getHash(ByteBuffer.wrap(state._bytes), state._algorithm);
+    }
+
+    /**
+     * Benchmark for the input stream hash.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    public Hash inputStreamHash(final ByteArrayState state) {
+        return HashHelper.getHash(new ByteArrayInputStream(state._bytes), state._algorithm);
+    }
+
+    /**
+     * Benchmark for the char sequence hash.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    public Hash charSequenceHash(final CharSequenceState state) {
+        return HashHelper.getHash(state._charSequence, state._algorithm);
+    }
+
+    /**
+     * Benchmark state with the byte array input.
+     *
+     * @author Dmitry Shapovalov
+     */
+    @State(Scope.Benchmark)
+    public static class ByteArrayState {
+
+        @Param({HashAlgorithms.MD2, HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256, HashAlgorithms.SHA384, HashAlgorithms.SHA512})
+        private String _algorithm;
+
+        @Param({"16", "1024", "65536", "1048576", "67108864", "1073741824"})
+        private int _size;
+
+        private byte[] _bytes;
+
+        /**
+         * Create new object.
+         */
+        public ByteArrayState() {
+            super();
+        }
+
+        /**
+         * Create the benchmark input.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            _bytes = BenchmarkData.createBytes(_size);
+        }
+
+    }
+
+    /**
+     * Benchmark state with the char sequence input.
+     *
+     * @author Dmitry Shapovalov
+     */
+    @State(Scope.Benchmark)
+    public static class CharSequenceState {
+
+        @Param({HashAlgorithms.MD2, HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256, HashAlgorithms.SHA384, HashAlgorithms.SHA512})
+        private String _algorithm;
+
+        @Param({"16", "1024", "65536", "1048576", "67108864", "1073741824"})
+        private int _size;
+
+        private CharSequence _charSequence;
+
+        /**
+         * Create new object.
+         */
+        public CharSequenceState() {
+            super();
+        }
+
+        /**
+         * Create the benchmark input.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            _charSequence = BenchmarkData.createCharSequence(_size);
+        }
+
+    }
+
+}
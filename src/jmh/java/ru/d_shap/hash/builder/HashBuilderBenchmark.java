@@ -0,0 +1,503 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.builder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.hash.BenchmarkData;
+import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.SaltOrder;
+import ru.d_shap.hash.SaltStoreType;
+
+/**
+ * Benchmarks for the hash builders.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class HashBuilderBenchmark {
+
+    private static final int SALT_SIZE = 16;
+
+    private static final int SEED_SIZE = 8;
+
+    /**
+     * Create new object.
+     */
+    public HashBuilderBenchmark() {
+        super();
+    }
+
+    /**
+     * Benchmark for the simple hash builder hash creation.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    public byte[] simpleHashBuilderGetHash(final SimpleState state) {
+        return state.newBuilder().getHash();
+    }
+
+    /**
+     * Benchmark for the simple hash builder hash validation.
+     *
+     * @param state the benchmark state.
+     *
+     * @return true if the hash is valid.
+     */
+    @Benchmark
+    public boolean simpleHashBuilderIsHashValid(final SimpleState state) {
+        return state.newBuilder().setStoredHash(state.getStoredHash()).isHashValid();
+    }
+
+    /**
+     * Benchmark for the hash with salt builder hash creation.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    public byte[] hashWithSaltBuilderGetHash(final SaltState state) {
+        return state.newBuilder().getHash();
+    }
+
+    /**
+     * Benchmark for the hash with salt builder hash validation.
+     *
+     * @param state the benchmark state.
+     *
+     * @return true if the hash is valid.
+     */
+    @Benchmark
+    public boolean hashWithSaltBuilderIsHashValid(final SaltState state) {
+        return state.newBuilder().setStoredHash(state.getStoredHash()).isHashValid();
+    }
+
+    /**
+     * Benchmark for the hash with two salts builder hash creation.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    public byte[] hashWithSalt2BuilderGetHash(final Salt2State state) {
+        return state.newBuilder().getHash();
+    }
+
+    /**
+     * Benchmark for the hash with two salts builder hash validation.
+     *
+     * @param state the benchmark state.
+     *
+     * @return true if the hash is valid.
+     */
+    @Benchmark
+    public boolean hashWithSalt2BuilderIsHashValid(final Salt2State state) {
+        return state.newBuilder().setStoredHash(state.getStoredHash()).isHashValid();
+    }
+
+    /**
+     * Benchmark for the hash with salt builder hash creation, the salt is the seed of the algorithm.
+     * The builder is reused for the subsequent calls.
+     *
+     * @param state the benchmark state.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    public byte[] seededHashWithSaltBuilderGetHash(final SeedState state) {
+        return state.getBuilder().getHash();
+    }
+
+    /**
+     * Benchmark for the hash with salt builder hash validation, the salt is the seed of the algorithm.
+     * The builder is reused for the subsequent calls.
+     *
+     * @param state the benchmark state.
+     *
+     * @return true if the hash is valid.
+     */
+    @Benchmark
+    public boolean seededHashWithSaltBuilderIsHashValid(final SeedState state) {
+        return state.getStoredHashBuilder().isHashValid();
+    }
+
+    /**
+     * Input type of the hash builder.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public enum InputType {
+
+        BYTE_ARRAY,
+
+        BYTE_BUFFER,
+
+        CHAR_SEQUENCE,
+
+        INPUT_STREAM
+
+    }
+
+    /**
+     * Input of the hash builder.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class BenchmarkInput {
+
+        private final InputType _inputType;
+
+        private final byte[] _bytes;
+
+        private final CharSequence _charSequence;
+
+        BenchmarkInput(final InputType inputType, final int size) {
+            super();
+            _inputType = inputType;
+            if (inputType == InputType.CHAR_SEQUENCE) {
+                _bytes = null;
+                _charSequence = BenchmarkData.createCharSequence(size);
+            } else {
+                _bytes = BenchmarkData.createBytes(size);
+                _charSequence = null;
+            }
+        }
+
+        SimpleHashBuilder newSimpleHashBuilder() {
+            switch (_inputType) {
+                case BYTE_ARRAY:
+                    return HashBuilder.newSimpleHashBuilder(_bytes);
+                case BYTE_BUFFER:
+                    return HashBuilder.newSimpleHashBuilder(ByteBuffer.wrap(_bytes));
+                case CHAR_SEQUENCE:
+                    return HashBuilder.newSimpleHashBuilder(_charSequence);
+                case INPUT_STREAM:
+                    return HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(_bytes));
+                default:
+                    throw new IllegalArgumentException("Input type is not supported: " + _inputType);
+            }
+        }
+
+        HashWithSaltBuilder newHashWithSaltBuilder() {
+            switch (_inputType) {
+                case BYTE_ARRAY:
+                    return HashBuilder.newHashWithSaltBuilder(_bytes);
+                case BYTE_BUFFER:
+                    return HashBuilder.newHashWithSaltBuilder(ByteBuffer.wrap(_bytes));
+                case CHAR_SEQUENCE:
+                    return HashBuilder.newHashWithSaltBuilder(_charSequence);
+                case INPUT_STREAM:
+                    return HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(_bytes));
+                default:
+                    throw new IllegalArgumentException("Input type is not supported: " + _inputType);
+            }
+        }
+
+        HashWithSalt2Builder newHashWithSalt2Builder() {
+            switch (_inputType) {
+                case BYTE_ARRAY:
+                    return HashBuilder.newHashWithSalt2Builder(_bytes);
+                case BYTE_BUFFER:
+                    return HashBuilder.newHashWithSalt2Builder(ByteBuffer.wrap(_bytes));
+                case CHAR_SEQUENCE:
+                    return HashBuilder.newHashWithSalt2Builder(_charSequence);
+                case INPUT_STREAM:
+                    return HashBuilder.newHashWithSalt2Builder(new ByteArrayInputStream(_bytes));
+                default:
+                    throw new IllegalArgumentException("Input type is not supported: " + _inputType);
+            }
+        }
+
+    }
+
+    /**
+     * Benchmark state for the simple hash builder.
+     *
+     * @author Dmitry Shapovalov
+     */
+    @State(Scope.Benchmark)
+    public static class SimpleState {
+
+        @Param({HashAlgorithms.MD2, HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256, HashAlgorithms.SHA384, HashAlgorithms.SHA512})
+        private String _algorithm;
+
+        @Param({"16", "1024", "65536", "1048576", "67108864", "1073741824"})
+        private int _size;
+
+        @Param({"BYTE_ARRAY", "BYTE_BUFFER", "CHAR_SEQUENCE", "INPUT_STREAM"})
+        private InputType _inputType;
+
+        private BenchmarkInput _input;
+
+        private byte[] _storedHash;
+
+        /**
+         * Create new object.
+         */
+        public SimpleState() {
+            super();
+        }
+
+        /**
+         * Create the benchmark input.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            _input = new BenchmarkInput(_inputType, _size);
+            _storedHash = newBuilder().getHash();
+        }
+
+        /**
+         * Create the configured hash builder.
+         *
+         * @return the hash builder.
+         */
+        public SimpleHashBuilder newBuilder() {
+            return _input.newSimpleHashBuilder().setAlgorithm(_algorithm);
+        }
+
+        /**
+         * Get the stored hash.
+         *
+         * @return the stored hash.
+         */
+        public byte[] getStoredHash() {
+            return _storedHash;
+        }
+
+    }
+
+    /**
+     * Benchmark state for the hash with salt builder.
+     *
+     * @author Dmitry Shapovalov
+     */
+    @State(Scope.Benchmark)
+    public static class SaltState {
+
+        @Param({HashAlgorithms.MD2, HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256, HashAlgorithms.SHA384, HashAlgorithms.SHA512})
+        private String _algorithm;
+
+        @Param({"16", "1024", "65536", "1048576", "67108864", "1073741824"})
+        private int _size;
+
+        @Param({"BYTE_ARRAY", "BYTE_BUFFER", "CHAR_SEQUENCE", "INPUT_STREAM"})
+        private InputType _inputType;
+
+        @Param({"DO_NOT_STORE", "AT_THE_BEGINNING", "AT_THE_END"})
+        private SaltStoreType _saltStoreType;
+
+        private BenchmarkInput _input;
+
+        private byte[] _salt;
+
+        private byte[] _storedHash;
+
+        /**
+         * Create new object.
+         */
+        public SaltState() {
+            super();
+        }
+
+        /**
+         * Create the benchmark input.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            _input = new BenchmarkInput(_inputType, _size);
+            _salt = BenchmarkData.createBytes(SALT_SIZE);
+            _storedHash = newBuilder().getHash();
+        }
+
+        /**
+         * Create the configured hash builder.
+         *
+         * @return the hash builder.
+         */
+        public HashWithSaltBuilder newBuilder() {
+            return _input.newHashWithSaltBuilder().setAlgorithm(_algorithm).setSalt(_salt).setSaltStoreType(_saltStoreType);
+        }
+
+        /**
+         * Get the stored hash.
+         *
+         * @return the stored hash.
+         */
+        public byte[] getStoredHash() {
+            return _storedHash;
+        }
+
+    }
+
+    /**
+     * Benchmark state for the hash with two salts builder.
+     *
+     * @author Dmitry Shapovalov
+     */
+    @State(Scope.Benchmark)
+    public static class Salt2State {
+
+        @Param({HashAlgorithms.MD2, HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256, HashAlgorithms.SHA384, HashAlgorithms.SHA512})
+        private String _algorithm;
+
+        @Param({"16", "1024", "65536", "1048576", "67108864", "1073741824"})
+        private int _size;
+
+        @Param({"BYTE_ARRAY", "BYTE_BUFFER", "CHAR_SEQUENCE", "INPUT_STREAM"})
+        private InputType _inputType;
+
+        @Param({"DO_NOT_STORE", "AT_THE_BEGINNING", "AT_THE_END"})
+        private SaltStoreType _saltStoreType;
+
+        @Param({"STORED_SALT_FIRST", "FIXED_SALT_FIRST"})
+        private SaltOrder _saltOrder;
+
+        private BenchmarkInput _input;
+
+        private byte[] _storedSalt;
+
+        private byte[] _fixedSalt;
+
+        private byte[] _storedHash;
+
+        /**
+         * Create new object.
+         */
+        public Salt2State() {
+            super();
+        }
+
+        /**
+         * Create the benchmark input.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            _input = new BenchmarkInput(_inputType, _size);
+            _storedSalt = BenchmarkData.createBytes(SALT_SIZE);
+            _fixedSalt = BenchmarkData.createBytes(SALT_SIZE * 2);
+            _storedHash = newBuilder().getHash();
+        }
+
+        /**
+         * Create the configured hash builder.
+         *
+         * @return the hash builder.
+         */
+        public HashWithSalt2Builder newBuilder() {
+            return _input.newHashWithSalt2Builder().setAlgorithm(_algorithm).setStoredSalt(_storedSalt).setFixedSalt(_fixedSalt).setSaltOrder(_saltOrder).setSaltStoreType(_saltStoreType);
+        }
+
+        /**
+         * Get the stored hash.
+         *
+         * @return the stored hash.
+         */
+        public byte[] getStoredHash() {
+            return _storedHash;
+        }
+
+    }
+
+    /**
+     * Benchmark state for the hash with salt builder, the salt is the seed of the algorithm.
+     *
+     * @author Dmitry Shapovalov
+     */
+    @State(Scope.Benchmark)
+    public static class SeedState {
+
+        @Param({HashAlgorithms.XXHASH64, HashAlgorithms.XXH3_64, HashAlgorithms.XXH3_128})
+        private String _algorithm;
+
+        @Param({"16", "1024", "65536"})
+        private int _size;
+
+        @Param({"DO_NOT_STORE", "AT_THE_BEGINNING", "AT_THE_END"})
+        private SaltStoreType _saltStoreType;
+
+        private HashWithSaltBuilder _builder;
+
+        private HashWithSaltBuilder _storedHashBuilder;
+
+        /**
+         * Create new object.
+         */
+        public SeedState() {
+            super();
+        }
+
+        /**
+         * Create the benchmark input.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            BenchmarkInput input = new BenchmarkInput(InputType.BYTE_ARRAY, _size);
+            byte[] salt = BenchmarkData.createBytes(SEED_SIZE);
+            _builder = input.newHashWithSaltBuilder().setAlgorithm(_algorithm).setSalt(salt).setSaltStoreType(_saltStoreType);
+            _storedHashBuilder = input.newHashWithSaltBuilder().setAlgorithm(_algorithm).setSalt(salt).setSaltStoreType(_saltStoreType);
+            _storedHashBuilder.setStoredHash(_builder.getHash());
+        }
+
+        /**
+         * Get the configured hash builder.
+         *
+         * @return the hash builder.
+         */
+        public HashWithSaltBuilder getBuilder() {
+            return _builder;
+        }
+
+        /**
+         * Get the configured hash builder with the stored hash.
+         *
+         * @return the hash builder.
+         */
+        public HashWithSaltBuilder getStoredHashBuilder() {
+            return _storedHashBuilder;
+        }
+
+    }
+
+}
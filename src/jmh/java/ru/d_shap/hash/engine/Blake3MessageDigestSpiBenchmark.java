@@ -0,0 +1,94 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.hash.BenchmarkData;
+import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashFunction;
+import ru.d_shap.hash.HashHelper;
+
+/**
+ * Benchmarks for {@link Blake3MessageDigestSpi} against the single-threaded SHA-256 and BLAKE2b.
+ * The large inputs of BLAKE3 are hashed in parallel, so the throughput should grow with the number
+ * of cores.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class Blake3MessageDigestSpiBenchmark {
+
+    @Param({HashAlgorithms.BLAKE3, HashAlgorithms.SHA256, HashAlgorithms.BLAKE2B_256})
+    private String _algorithm;
+
+    @Param({"1024", "1048576", "67108864"})
+    private int _size;
+
+    private byte[] _bytes;
+
+    private HashFunction _hashFunction;
+
+    /**
+     * Create new object.
+     */
+    public Blake3MessageDigestSpiBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the benchmark input.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _bytes = BenchmarkData.createBytes(_size);
+        _hashFunction = HashFunction.getInstance(_algorithm);
+    }
+
+    /**
+     * Benchmark for the hash, computed with {@link HashHelper}.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    @Fork(1)
+    public Hash hashHelper() {
+        return HashHelper.getHash(_bytes, _hashFunction);
+    }
+
+}
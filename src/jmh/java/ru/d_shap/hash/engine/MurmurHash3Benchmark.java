@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.hash.BenchmarkData;
+import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashHelper;
+
+/**
+ * Benchmarks for {@link MurmurHash3}. The primitive hashes of the shard keys are compared with the
+ * MD5 hash of the same keys, computed with {@link HashHelper}.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class MurmurHash3Benchmark {
+
+    @Param({"16", "100", "1024"})
+    private int _size;
+
+    private byte[] _bytes;
+
+    private String _charSequence;
+
+    private long[] _result;
+
+    /**
+     * Create new object.
+     */
+    public MurmurHash3Benchmark() {
+        super();
+    }
+
+    /**
+     * Create the benchmark input.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _bytes = BenchmarkData.createBytes(_size);
+        _charSequence = BenchmarkData.createCharSequence(_size);
+        _result = new long[2];
+    }
+
+    /**
+     * Benchmark for the x86_32 hash of the byte array.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    @Fork(1)
+    public int byteArrayHash32() {
+        return MurmurHash3.getHash32(_bytes, 0, _bytes.length, 0);
+    }
+
+    /**
+     * Benchmark for the x64_128 hash of the byte array.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    @Fork(1)
+    public long[] byteArrayHash128() {
+        MurmurHash3.getHash128(_bytes, 0, _bytes.length, 0, _result);
+        return _result;
+    }
+
+    /**
+     * Benchmark for the x86_32 hash of the char sequence.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    @Fork(1)
+    public int charSequenceHash32() {
+        return MurmurHash3.getHash32(_charSequence, 0);
+    }
+
+    /**
+     * Benchmark for the MD5 hash of the char sequence, computed with {@link HashHelper}.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    @Fork(1)
+    public Hash charSequenceMd5() {
+        return HashHelper.getHash(_charSequence, HashAlgorithms.MD5);
+    }
+
+}
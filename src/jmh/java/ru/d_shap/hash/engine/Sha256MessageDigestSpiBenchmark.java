@@ -0,0 +1,141 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.hash.BenchmarkData;
+import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashFunction;
+import ru.d_shap.hash.HashHelper;
+
+/**
+ * Benchmarks for {@link Sha256MessageDigestSpi} against the SHA-256 implementations of the JDK
+ * and BouncyCastle. The JDK implementation is benchmarked both with and without the SHA-256
+ * intrinsics of the JVM.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class Sha256MessageDigestSpiBenchmark {
+
+    private static final String JDK_PROVIDER = "SUN";
+
+    private static final String BOUNCY_CASTLE_PROVIDER = "BC";
+
+    @Param({JDK_PROVIDER, HashProvider.NAME, BOUNCY_CASTLE_PROVIDER})
+    private String _provider;
+
+    @Param({"64", "1024", "65536", "1048576"})
+    private int _size;
+
+    private byte[] _bytes;
+
+    private MessageDigest _messageDigest;
+
+    private HashFunction _hashFunction;
+
+    /**
+     * Create new object.
+     */
+    public Sha256MessageDigestSpiBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the benchmark input.
+     *
+     * @throws NoSuchAlgorithmException if the algorithm is not supported by the provider.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        Provider provider = getProvider(_provider);
+        _bytes = BenchmarkData.createBytes(_size);
+        _messageDigest = MessageDigest.getInstance(HashAlgorithms.SHA256, provider);
+        _hashFunction = HashFunction.getInstance(HashAlgorithms.SHA256, provider);
+    }
+
+    /**
+     * Benchmark for the message digest of the provider.
+     *
+     * @return the hash bytes.
+     */
+    @Benchmark
+    @Fork(1)
+    public byte[] messageDigest() {
+        return _messageDigest.digest(_bytes);
+    }
+
+    /**
+     * Benchmark for the message digest of the provider without the SHA-256 intrinsics of the JVM.
+     *
+     * @return the hash bytes.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-XX:+UnlockDiagnosticVMOptions", "-XX:-UseSHA256Intrinsics"})
+    public byte[] messageDigestNoIntrinsics() {
+        return _messageDigest.digest(_bytes);
+    }
+
+    /**
+     * Benchmark for the hash of the provider, computed with {@link HashHelper}.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    @Fork(1)
+    public Hash hashHelper() {
+        return HashHelper.getHash(_bytes, _hashFunction);
+    }
+
+    private static Provider getProvider(final String name) {
+        if (HashProvider.NAME.equals(name)) {
+            return new HashProvider();
+        }
+        if (BOUNCY_CASTLE_PROVIDER.equals(name)) {
+            return new BouncyCastleProvider();
+        }
+        return Security.getProvider(name);
+    }
+
+}
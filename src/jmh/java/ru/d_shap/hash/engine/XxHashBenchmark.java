@@ -0,0 +1,112 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ru.d_shap.hash.BenchmarkData;
+import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashFunction;
+import ru.d_shap.hash.HashHelper;
+
+/**
+ * Benchmarks for {@link XxHash}. The primitive hashes of the small keys are compared with the
+ * message digest path, that allocates the hash objects.
+ *
+ * @author Dmitry Shapovalov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class XxHashBenchmark {
+
+    @Param({"16", "100", "1024", "1048576"})
+    private int _size;
+
+    private byte[] _bytes;
+
+    private HashFunction _hashFunction;
+
+    /**
+     * Create new object.
+     */
+    public XxHashBenchmark() {
+        super();
+    }
+
+    /**
+     * Create the benchmark input.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _bytes = BenchmarkData.createBytes(_size);
+        _hashFunction = HashFunction.getInstance(HashAlgorithms.XXH3_64);
+    }
+
+    /**
+     * Benchmark for the primitive xxHash64 hash.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    @Fork(1)
+    public long xxHash64() {
+        return XxHash.getXxHash64(_bytes, 0, _bytes.length, 0L);
+    }
+
+    /**
+     * Benchmark for the primitive XXH3 hash.
+     *
+     * @return the hash.
+     */
+    @Benchmark
+    @Fork(1)
+    public long xxh3Hash64() {
+        return XxHash.getXxh3Hash64(_bytes, 0, _bytes.length, 0L);
+    }
+
+    /**
+     * Benchmark for the XXH3 hash, computed with {@link HashHelper}.
+     *
+     * @return the hash object.
+     */
+    @Benchmark
+    @Fork(1)
+    public Hash hashHelper() {
+        return HashHelper.getHash(_bytes, _hashFunction);
+    }
+
+}
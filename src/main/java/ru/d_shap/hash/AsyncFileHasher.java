@@ -0,0 +1,169 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+
+/**
+ * Asynchronous hash computation for the file channel. Two buffers are used, so the next read is
+ * already in progress while the bytes of the previous read are hashed. The bytes are hashed in the
+ * completion handler threads of the channel. At most one thread hashes the bytes at a time, the
+ * read, completed while the previous bytes are hashed, is picked up by the hashing thread.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class AsyncFileHasher implements CompletionHandler<Integer, ByteBuffer> {
+
+    private final AsynchronousFileChannel _channel;
+
+    private final boolean _closeChannel;
+
+    private final IncrementalHash _incrementalHash;
+
+    private final DirectBufferPool _bufferPool;
+
+    private final ByteBuffer _buffer1;
+
+    private final ByteBuffer _buffer2;
+
+    private final HashFuture<?> _result;
+
+    private final Object _lock;
+
+    private long _position;
+
+    private boolean _hashing;
+
+    private ByteBuffer _pendingBuffer;
+
+    private int _pendingCount;
+
+    private Throwable _failure;
+
+    AsyncFileHasher(final AsynchronousFileChannel channel, final boolean closeChannel, final HashFunction hashFunction, final DirectBufferPool bufferPool, final HashFuture<?> result) {
+        super();
+        _channel = channel;
+        _closeChannel = closeChannel;
+        _incrementalHash = new IncrementalHash(hashFunction);
+        _bufferPool = bufferPool;
+        _buffer1 = bufferPool.acquire();
+        _buffer2 = bufferPool.acquire();
+        _result = result;
+        _lock = new Object();
+        _position = 0;
+        _hashing = false;
+        _pendingBuffer = null;
+        _pendingCount = 0;
+        _failure = null;
+    }
+
+    void start() {
+        readNext(_buffer1);
+    }
+
+    @Override
+    public void completed(final Integer count, final ByteBuffer buffer) {
+        synchronized (_lock) {
+            if (_hashing) {
+                _pendingBuffer = buffer;
+                _pendingCount = count;
+                return;
+            }
+            _hashing = true;
+        }
+        process(count, buffer);
+    }
+
+    @Override
+    public void failed(final Throwable ex, final ByteBuffer buffer) {
+        synchronized (_lock) {
+            _failure = ex;
+            if (_hashing) {
+                return;
+            }
+            _hashing = true;
+        }
+        finish();
+    }
+
+    private void process(final int count, final ByteBuffer buffer) {
+        int currentCount = count;
+        ByteBuffer currentBuffer = buffer;
+        while (currentCount >= 0 && !_result.isDone()) {
+            _position += currentCount;
+            readNext(getOtherBuffer(currentBuffer));
+            currentBuffer.flip();
+            _incrementalHash.update(currentBuffer);
+            synchronized (_lock) {
+                if (_failure != null) {
+                    break;
+                }
+                if (_pendingBuffer == null) {
+                    _hashing = false;
+                    return;
+                }
+                currentCount = _pendingCount;
+                currentBuffer = _pendingBuffer;
+                _pendingBuffer = null;
+            }
+        }
+        finish();
+    }
+
+    private ByteBuffer getOtherBuffer(final ByteBuffer buffer) {
+        if (buffer == _buffer1) {
+            return _buffer2;
+        } else {
+            return _buffer1;
+        }
+    }
+
+    private void readNext(final ByteBuffer buffer) {
+        buffer.clear();
+        try {
+            _channel.read(buffer, _position, buffer, this);
+        } catch (IllegalStateException ex) {
+            failed(ex, buffer);
+        }
+    }
+
+    private void finish() {
+        _bufferPool.release(_buffer1);
+        _bufferPool.release(_buffer2);
+        if (_closeChannel) {
+            try {
+                _channel.close();
+            } catch (IOException ex) {
+                if (_failure == null) {
+                    _failure = ex;
+                }
+            }
+        }
+        if (_failure == null) {
+            _result.complete(_incrementalHash.getHash());
+        } else {
+            _result.fail(_failure);
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ru.d_shap.hash.engine.HashProvider;
+
+/**
+ * Factory of the message digest objects for the hash algorithm. The algorithm name and the provider
+ * are resolved only once. New message digest objects are created as clones of the prototype object.
+ * If the message digest object does not support cloning, then new objects are obtained from the
+ * resolved provider. The algorithms, not supported by the installed providers, are resolved with the
+ * hash library provider.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DigestFactory {
+
+    private static final ConcurrentMap<String, DigestFactory> DIGEST_FACTORIES = new ConcurrentHashMap<>();
+
+    private static final Provider HASH_PROVIDER = new HashProvider();
+
+    private static final String MESSAGE_DIGEST = "MessageDigest";
+
+    private final String _algorithm;
+
+    private final Provider _provider;
+
+    private final MessageDigest _prototype;
+
+    private final MessageDigestPool _messageDigestPool;
+
+    private final boolean _cached;
+
+    private volatile boolean _cloneable;
+
+    private DigestFactory(final String algorithm, final MessageDigest prototype, final boolean cached) {
+        super();
+        _algorithm = algorithm;
+        _provider = prototype.getProvider();
+        _prototype = prototype;
+        _messageDigestPool = new MessageDigestPool(this);
+        _cached = cached;
+        _cloneable = true;
+    }
+
+    /**
+     * Get the message digest factory for the specified algorithm. The algorithm name is case insensitive
+     * and is converted to the upper case. The algorithm is resolved only once, the same factory is returned
+     * for the subsequent calls. The parameterized names, for example SHAKE128-384 or BLAKE3-512, are not
+     * cached, the caller should keep the factory for the subsequent calls.
+     *
+     * @param algorithm the hash algorithm.
+     *
+     * @return the message digest factory.
+     */
+    public static DigestFactory getInstance(final String algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm is null");
+        }
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        DigestFactory digestFactory = DIGEST_FACTORIES.get(name);
+        if (digestFactory == null) {
+            MessageDigest prototype = createMessageDigest(algorithm);
+            if (!isRegistered(prototype.getProvider(), name)) {
+                return new DigestFactory(name, prototype, false);
+            }
+            DIGEST_FACTORIES.putIfAbsent(name, new DigestFactory(name, prototype, true));
+            digestFactory = DIGEST_FACTORIES.get(name);
+        }
+        return digestFactory;
+    }
+
+    /**
+     * Get the message digest factory for the specified algorithm and the specified provider.
+     * The result is not cached, the caller should keep the factory for the subsequent calls.
+     *
+     * @param algorithm the hash algorithm.
+     * @param provider  the provider of the hash algorithm.
+     *
+     * @return the message digest factory.
+     */
+    public static DigestFactory getInstance(final String algorithm, final Provider provider) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm is null");
+        }
+        if (provider == null) {
+            throw new IllegalArgumentException("Provider is null");
+        }
+        return new DigestFactory(algorithm, createMessageDigest(algorithm, provider), false);
+    }
+
+    /**
+     * Get the message digest factory for the specified algorithm and the provider with the specified
+     * name. The provider should be installed, except the hash library provider, that can be used with
+     * the {@link HashProvider#NAME} name without the installation. The result is not cached, the caller
+     * should keep the factory for the subsequent calls.
+     *
+     * @param algorithm    the hash algorithm.
+     * @param providerName the name of the provider of the hash algorithm.
+     *
+     * @return the message digest factory.
+     */
+    public static DigestFactory getInstance(final String algorithm, final String providerName) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm is null");
+        }
+        if (providerName == null) {
+            throw new IllegalArgumentException("Provider name is null");
+        }
+        return getInstance(algorithm, resolveProvider(providerName));
+    }
+
+    private static MessageDigest createMessageDigest(final String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException ex) {
+            return createMessageDigest(algorithm, HASH_PROVIDER);
+        }
+    }
+
+    private static MessageDigest createMessageDigest(final String algorithm, final Provider provider) {
+        try {
+            return MessageDigest.getInstance(algorithm, provider);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalArgumentException("Wrong algorithm name: " + algorithm, ex);
+        }
+    }
+
+    private static boolean isRegistered(final Provider provider, final String algorithm) {
+        return provider.getServices().contains(provider.getService(MESSAGE_DIGEST, algorithm));
+    }
+
+    private static Provider resolveProvider(final String providerName) {
+        if (HashProvider.NAME.equals(providerName)) {
+            return HASH_PROVIDER;
+        }
+        Provider provider = Security.getProvider(providerName);
+        if (provider == null) {
+            throw new IllegalArgumentException("Wrong provider name: " + providerName);
+        }
+        return provider;
+    }
+
+    /**
+     * Get the algorithm name.
+     *
+     * @return the algorithm name.
+     */
+    public String getAlgorithm() {
+        return _algorithm;
+    }
+
+    /**
+     * Get the provider of the hash algorithm.
+     *
+     * @return the provider of the hash algorithm.
+     */
+    public Provider getProvider() {
+        return _provider;
+    }
+
+    /**
+     * Create new message digest object.
+     *
+     * @return new message digest object.
+     */
+    public MessageDigest newMessageDigest() {
+        if (_cloneable) {
+            try {
+                return (MessageDigest) _prototype.clone();
+            } catch (CloneNotSupportedException ex) {
+                _cloneable = false;
+            }
+        }
+        return createMessageDigest(_algorithm, _provider);
+    }
+
+    MessageDigestPool getMessageDigestPool() {
+        return _messageDigestPool;
+    }
+
+    boolean isCached() {
+        return _cached;
+    }
+
+}
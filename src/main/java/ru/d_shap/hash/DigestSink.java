@@ -0,0 +1,48 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Target for the bytes of the source, that is read by chunks.
+ *
+ * @author Dmitry Shapovalov
+ */
+interface DigestSink {
+
+    /**
+     * Feed the specified range of bytes.
+     *
+     * @param bytes  the bytes.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     */
+    void update(byte[] bytes, int offset, int length);
+
+    /**
+     * Feed the remaining bytes of the specified byte buffer. The position of the byte buffer is
+     * advanced to its limit.
+     *
+     * @param buffer the byte buffer.
+     */
+    void update(ByteBuffer buffer);
+
+}
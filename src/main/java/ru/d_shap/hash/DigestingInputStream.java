@@ -0,0 +1,190 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that computes the hash of the bytes while the application reads them. The underlying
+ * stream is read only once, so the hash is available as soon as the stream is read to the end.
+ * The bytes, skipped with the {@link #skip(long)} method, are read and hashed too. Mark and reset
+ * are not supported. The underlying stream is closed only if it is specified explicitly.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DigestingInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final IncrementalHash _incrementalHash;
+
+    private final boolean _closeStream;
+
+    private boolean _endOfStream;
+
+    /**
+     * Create new object. The underlying stream is not closed when this stream is closed.
+     *
+     * @param stream    the underlying stream.
+     * @param algorithm the hash algorithm.
+     */
+    public DigestingInputStream(final InputStream stream, final String algorithm) {
+        this(stream, algorithm, false);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param stream      the underlying stream.
+     * @param algorithm   the hash algorithm.
+     * @param closeStream true to close the underlying stream when this stream is closed.
+     */
+    public DigestingInputStream(final InputStream stream, final String algorithm, final boolean closeStream) {
+        this(checkStream(stream), HashFunction.getInstance(algorithm), closeStream);
+    }
+
+    /**
+     * Create new object. The underlying stream is not closed when this stream is closed.
+     *
+     * @param stream       the underlying stream.
+     * @param hashFunction the hash function.
+     */
+    public DigestingInputStream(final InputStream stream, final HashFunction hashFunction) {
+        this(stream, hashFunction, false);
+    }
+
+    /**
+     * Create new object.
+     *
+     * @param stream       the underlying stream.
+     * @param hashFunction the hash function.
+     * @param closeStream  true to close the underlying stream when this stream is closed.
+     */
+    public DigestingInputStream(final InputStream stream, final HashFunction hashFunction, final boolean closeStream) {
+        super(checkStream(stream));
+        _incrementalHash = new IncrementalHash(hashFunction);
+        _closeStream = closeStream;
+        _endOfStream = false;
+    }
+
+    private static InputStream checkStream(final InputStream stream) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        return stream;
+    }
+
+    @Override
+    public int read() throws IOException {
+        _incrementalHash.checkHashNotComputed();
+        int result = in.read();
+        if (result < 0) {
+            _endOfStream = true;
+        } else {
+            _incrementalHash.update((byte) result);
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        _incrementalHash.checkHashNotComputed();
+        int result = in.read(bytes, offset, length);
+        if (result < 0) {
+            _endOfStream = true;
+        } else {
+            _incrementalHash.update(bytes, offset, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+        _incrementalHash.checkHashNotComputed();
+        if (count <= 0) {
+            return 0;
+        }
+        byte[] buffer = new byte[(int) Math.min(count, SKIP_BUFFER_SIZE)];
+        long remaining = count;
+        while (remaining > 0) {
+            int read = read(buffer, 0, (int) Math.min(remaining, buffer.length));
+            if (read < 0) {
+                break;
+            }
+            remaining -= read;
+        }
+        return count - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(final int readLimit) {
+        // Mark is not supported, the bytes can not be hashed twice
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("Mark and reset are not supported");
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (_closeStream) {
+            in.close();
+        }
+    }
+
+    /**
+     * Check if the end of the underlying stream is reached.
+     *
+     * @return true if the end of the underlying stream is reached.
+     */
+    public boolean isEndOfStream() {
+        return _endOfStream;
+    }
+
+    /**
+     * Get the hash of the bytes read so far. The hash is computed only once, after that the stream
+     * can not be read anymore. The same hash object is returned for the subsequent calls.
+     *
+     * @return the hash object.
+     */
+    public Hash getHash() {
+        return _incrementalHash.getHash();
+    }
+
+    /**
+     * Check if the hash of the bytes read so far matches the stored hash.
+     *
+     * @param storedHash the stored hash.
+     *
+     * @return true if the hash matches the stored hash.
+     */
+    public boolean isHashValid(final byte[] storedHash) {
+        return getHash().matches(storedHash);
+    }
+
+}
@@ -0,0 +1,225 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of the direct byte buffers to read the channels. The total memory of the direct byte buffers
+ * is limited. If the limit is reached, then the pool degrades to the small heap byte buffers, that
+ * are not pooled, instead of blocking the caller.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DirectBufferPool {
+
+    /**
+     * The default size of the direct byte buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The default total memory of the direct byte buffers.
+     */
+    public static final long DEFAULT_MAX_MEMORY = 64L * 1024 * 1024;
+
+    static final int DEGRADED_BUFFER_SIZE = 4096;
+
+    private static final DirectBufferPool DEFAULT_INSTANCE = new DirectBufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_MEMORY);
+
+    private final int _bufferSize;
+
+    private final int _degradedBufferSize;
+
+    private final Queue<ByteBuffer> _idleBuffers;
+
+    private final AtomicInteger _idleCount;
+
+    private final AtomicInteger _acquiredCount;
+
+    private final AtomicLong _degradedCount;
+
+    private final Object _lock;
+
+    private long _maxMemory;
+
+    private long _allocatedMemory;
+
+    /**
+     * Create new object.
+     *
+     * @param bufferSize the size of the direct byte buffer.
+     * @param maxMemory  the total memory of the direct byte buffers.
+     */
+    public DirectBufferPool(final int bufferSize, final long maxMemory) {
+        super();
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size is less than 1");
+        }
+        checkMaxMemory(maxMemory);
+        _bufferSize = bufferSize;
+        _degradedBufferSize = Math.min(bufferSize, DEGRADED_BUFFER_SIZE);
+        _idleBuffers = new ConcurrentLinkedQueue<>();
+        _idleCount = new AtomicInteger();
+        _acquiredCount = new AtomicInteger();
+        _degradedCount = new AtomicLong();
+        _lock = new Object();
+        _maxMemory = maxMemory;
+        _allocatedMemory = 0;
+    }
+
+    /**
+     * Get the pool, used by default to read the channels.
+     *
+     * @return the pool.
+     */
+    public static DirectBufferPool getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Get the size of the direct byte buffer.
+     *
+     * @return the size of the direct byte buffer.
+     */
+    public int getBufferSize() {
+        return _bufferSize;
+    }
+
+    /**
+     * Get the total memory of the direct byte buffers.
+     *
+     * @return the total memory of the direct byte buffers.
+     */
+    public long getMaxMemory() {
+        synchronized (_lock) {
+            return _maxMemory;
+        }
+    }
+
+    /**
+     * Set the total memory of the direct byte buffers. If the memory is decreased, then the excess
+     * direct byte buffers are dropped as they are released.
+     *
+     * @param maxMemory the total memory of the direct byte buffers.
+     */
+    public void setMaxMemory(final long maxMemory) {
+        checkMaxMemory(maxMemory);
+        synchronized (_lock) {
+            _maxMemory = maxMemory;
+        }
+    }
+
+    /**
+     * Get the memory of the direct byte buffers, allocated by the pool.
+     *
+     * @return the memory of the direct byte buffers.
+     */
+    public long getAllocatedMemory() {
+        synchronized (_lock) {
+            return _allocatedMemory;
+        }
+    }
+
+    /**
+     * Get the number of the direct byte buffers, available for reuse.
+     *
+     * @return the number of the direct byte buffers.
+     */
+    public int getIdleCount() {
+        return _idleCount.get();
+    }
+
+    /**
+     * Get the number of the byte buffers, currently used by the callers.
+     *
+     * @return the number of the byte buffers.
+     */
+    public int getAcquiredCount() {
+        return _acquiredCount.get();
+    }
+
+    /**
+     * Get the number of the small heap byte buffers, used because the memory limit was reached.
+     *
+     * @return the number of the small heap byte buffers.
+     */
+    public long getDegradedCount() {
+        return _degradedCount.get();
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = _idleBuffers.poll();
+        if (buffer == null) {
+            if (reserveMemory()) {
+                buffer = ByteBuffer.allocateDirect(_bufferSize);
+            } else {
+                _degradedCount.incrementAndGet();
+                buffer = ByteBuffer.allocate(_degradedBufferSize);
+            }
+        } else {
+            _idleCount.decrementAndGet();
+        }
+        _acquiredCount.incrementAndGet();
+        return buffer;
+    }
+
+    void release(final ByteBuffer buffer) {
+        _acquiredCount.decrementAndGet();
+        if (buffer.isDirect() && keepMemory()) {
+            buffer.clear();
+            _idleCount.incrementAndGet();
+            _idleBuffers.add(buffer);
+        }
+    }
+
+    private boolean reserveMemory() {
+        synchronized (_lock) {
+            if (_allocatedMemory + _bufferSize > _maxMemory) {
+                return false;
+            } else {
+                _allocatedMemory += _bufferSize;
+                return true;
+            }
+        }
+    }
+
+    private boolean keepMemory() {
+        synchronized (_lock) {
+            if (_allocatedMemory > _maxMemory) {
+                _allocatedMemory -= _bufferSize;
+                return false;
+            } else {
+                return true;
+            }
+        }
+    }
+
+    private static void checkMaxMemory(final long maxMemory) {
+        if (maxMemory < 0) {
+            throw new IllegalArgumentException("Max memory is negative");
+        }
+    }
+
+}
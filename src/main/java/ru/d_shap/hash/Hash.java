@@ -20,6 +20,8 @@
 package ru.d_shap.hash;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 
 /**
@@ -29,14 +31,20 @@ import java.security.MessageDigest;
  */
 public final class Hash {
 
-    private final MessageDigest _messageDigest;
+    private final MessageDigestPool _messageDigestPool;
 
-    private byte[] _currentHash;
+    private final byte[] _currentHash;
 
-    Hash(final MessageDigest messageDigest) {
+    Hash(final MessageDigestPool messageDigestPool, final MessageDigest messageDigest) {
         super();
-        _messageDigest = messageDigest;
-        _currentHash = _messageDigest.digest();
+        _messageDigestPool = messageDigestPool;
+        _currentHash = messageDigest.digest();
+    }
+
+    Hash(final MessageDigestPool messageDigestPool, final byte[] currentHash) {
+        super();
+        _messageDigestPool = messageDigestPool;
+        _currentHash = currentHash;
     }
 
     /**
@@ -56,12 +64,90 @@ public final class Hash {
      * @return current object for the chain call.
      */
     public Hash addSalt(final byte[] salt) {
+        return addSalt(salt, 1);
+    }
+
+    /**
+     * Add the salt to the current hash the specified number of times. Each iteration computes
+     * the hash of the current hash bytes followed by the salt bytes.
+     *
+     * @param salt       the salt.
+     * @param iterations the number of iterations.
+     *
+     * @return current object for the chain call.
+     */
+    public Hash addSalt(final byte[] salt, final int iterations) {
+        if (salt == null) {
+            throw new IllegalArgumentException("Salt byte array is null");
+        }
+        return addSalt(salt, 0, salt.length, iterations);
+    }
+
+    /**
+     * Add the range of the salt bytes to the current hash.
+     *
+     * @param salt   the salt.
+     * @param offset the offset of the first salt byte.
+     * @param length the number of the salt bytes.
+     *
+     * @return current object for the chain call.
+     */
+    public Hash addSalt(final byte[] salt, final int offset, final int length) {
+        return addSalt(salt, offset, length, 1);
+    }
+
+    /**
+     * Add the range of the salt bytes to the current hash the specified number of times. Each iteration
+     * computes the hash of the current hash bytes followed by the salt bytes. The hash bytes are computed
+     * in place, so no arrays are created for the iterations.
+     *
+     * @param salt       the salt.
+     * @param offset     the offset of the first salt byte.
+     * @param length     the number of the salt bytes.
+     * @param iterations the number of iterations.
+     *
+     * @return current object for the chain call.
+     */
+    public Hash addSalt(final byte[] salt, final int offset, final int length, final int iterations) {
         if (salt == null) {
             throw new IllegalArgumentException("Salt byte array is null");
         }
-        _messageDigest.update(_currentHash);
-        _messageDigest.update(salt);
-        _currentHash = _messageDigest.digest();
+        if (offset < 0 || length < 0 || offset > salt.length - length) {
+            throw new IllegalArgumentException("Offset and length are not within [0; " + salt.length + "]");
+        }
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iteration count is less than 1");
+        }
+        MessageDigest messageDigest = _messageDigestPool.acquire();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                messageDigest.update(_currentHash);
+                messageDigest.update(salt, offset, length);
+                digestCurrentHash(messageDigest);
+            }
+        } finally {
+            _messageDigestPool.release(messageDigest);
+        }
+        return this;
+    }
+
+    Hash addSalt(final byte[] firstSalt, final int firstOffset, final int firstLength, final byte[] secondSalt, final int secondOffset, final int secondLength, final int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iteration count is less than 1");
+        }
+        MessageDigest messageDigest = _messageDigestPool.acquire();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                messageDigest.update(_currentHash);
+                messageDigest.update(firstSalt, firstOffset, firstLength);
+                digestCurrentHash(messageDigest);
+                messageDigest.update(_currentHash);
+                messageDigest.update(secondSalt, secondOffset, secondLength);
+                digestCurrentHash(messageDigest);
+            }
+        } finally {
+            _messageDigestPool.release(messageDigest);
+        }
         return this;
     }
 
@@ -110,6 +196,47 @@ public final class Hash {
         return result;
     }
 
+    /**
+     * Write the current hash bytes to the output byte array.
+     *
+     * @param output the output byte array.
+     * @param offset the offset of the first hash byte in the output byte array.
+     *
+     * @return the number of the hash bytes.
+     */
+    public int writeTo(final byte[] output, final int offset) {
+        if (output == null) {
+            throw new IllegalArgumentException("Output byte array is null");
+        }
+        if (offset < 0 || offset > output.length) {
+            throw new IllegalArgumentException("Output offset is not within [0; " + output.length + "]");
+        }
+        if (output.length - offset < _currentHash.length) {
+            throw new IllegalArgumentException("Output byte array is too small");
+        }
+        System.arraycopy(_currentHash, 0, output, offset, _currentHash.length);
+        return _currentHash.length;
+    }
+
+    /**
+     * Write the current hash bytes to the output byte buffer. The position of the output byte buffer
+     * is advanced by the number of the hash bytes.
+     *
+     * @param output the output byte buffer.
+     *
+     * @return the number of the hash bytes.
+     */
+    public int writeTo(final ByteBuffer output) {
+        if (output == null) {
+            throw new IllegalArgumentException("Output byte buffer is null");
+        }
+        if (output.remaining() < _currentHash.length) {
+            throw new IllegalArgumentException("Output byte buffer is too small");
+        }
+        output.put(_currentHash);
+        return _currentHash.length;
+    }
+
     /**
      * Check if the current hash bytes are equal to the specified bytes.
      *
@@ -121,7 +248,42 @@ public final class Hash {
         if (hash == null) {
             throw new IllegalArgumentException("Hash byte array is null");
         }
-        return MessageDigest.isEqual(_currentHash, hash);
+        return matches(hash, 0, hash.length);
+    }
+
+    /**
+     * Check if the current hash bytes are equal to the specified range of bytes. The comparison
+     * time does not depend on the position of the first different byte.
+     *
+     * @param hash   the specified bytes.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     *
+     * @return true if the current hash bytes are equal to the specified range of bytes.
+     */
+    public boolean matches(final byte[] hash, final int offset, final int length) {
+        if (hash == null) {
+            throw new IllegalArgumentException("Hash byte array is null");
+        }
+        if (offset < 0 || length < 0 || offset > hash.length - length) {
+            throw new IllegalArgumentException("Offset and length are not within [0; " + hash.length + "]");
+        }
+        if (length != _currentHash.length) {
+            return false;
+        }
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            result |= _currentHash[i] ^ hash[offset + i];
+        }
+        return result == 0;
+    }
+
+    private void digestCurrentHash(final MessageDigest messageDigest) {
+        try {
+            messageDigest.digest(_currentHash, 0, _currentHash.length);
+        } catch (DigestException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 
 }
@@ -22,7 +22,8 @@ package ru.d_shap.hash;
 /**
  * Hash algorithm names. This hash algorithms are supported by every java
  * implementations. Additional security providers should be added for non-supported
- * hash algorithms.
+ * hash algorithms. The {@link #TREE_SHA256}, SHA-3, SHAKE, BLAKE2, BLAKE3, xxHash64, XXH3 and checksum
+ * algorithms are implemented by the hash library, if they are not supported by the installed providers.
  *
  * @author Dmitry Shapovalov
  */
@@ -40,6 +41,96 @@ public final class HashAlgorithms {
 
     public static final String SHA512 = "SHA-512";
 
+    public static final String SHA3_224 = "SHA3-224";
+
+    public static final String SHA3_256 = "SHA3-256";
+
+    public static final String SHA3_384 = "SHA3-384";
+
+    public static final String SHA3_512 = "SHA3-512";
+
+    /**
+     * SHAKE128 extendable output function with the 256 bits hash. The hash of the other length
+     * is specified with the number of bits after the hyphen, for example SHAKE128-512.
+     */
+    public static final String SHAKE128 = "SHAKE128-256";
+
+    /**
+     * SHAKE256 extendable output function with the 512 bits hash. The hash of the other length
+     * is specified with the number of bits after the hyphen, for example SHAKE256-1024.
+     */
+    public static final String SHAKE256 = "SHAKE256-512";
+
+    /**
+     * BLAKE2b with the 256 bits hash. The salt of the hash with salt builders is used as the key
+     * of the hash, if the salt is not longer than 64 bytes.
+     */
+    public static final String BLAKE2B_256 = "BLAKE2B-256";
+
+    /**
+     * BLAKE2b with the 512 bits hash. The salt of the hash with salt builders is used as the key
+     * of the hash, if the salt is not longer than 64 bytes.
+     */
+    public static final String BLAKE2B_512 = "BLAKE2B-512";
+
+    /**
+     * BLAKE2s with the 256 bits hash. The salt of the hash with salt builders is used as the key
+     * of the hash, if the salt is not longer than 32 bytes.
+     */
+    public static final String BLAKE2S_256 = "BLAKE2S-256";
+
+    /**
+     * BLAKE3 with the 256 bits hash. The hash of any length is specified with the number of bits
+     * after the hyphen, for example BLAKE3-512. The large data is hashed in parallel. The salt of the
+     * hash with salt builders is used as the key of the hash, if the salt is 32 bytes long.
+     */
+    public static final String BLAKE3 = "BLAKE3-256";
+
+    /**
+     * Non-cryptographic xxHash64 with the 64 bits hash. The salt of the hash with salt builders is
+     * used as the big-endian seed of the hash, if the salt is 8 bytes long. The hash can also be
+     * computed without allocations, see {@link ru.d_shap.hash.engine.XxHash}.
+     */
+    public static final String XXHASH64 = "XXHASH64";
+
+    /**
+     * Non-cryptographic XXH3 with the 64 bits hash. The salt of the hash with salt builders is
+     * used as the big-endian seed of the hash, if the salt is 8 bytes long. The hash can also be
+     * computed without allocations, see {@link ru.d_shap.hash.engine.XxHash}.
+     */
+    public static final String XXH3_64 = "XXH3-64";
+
+    /**
+     * Non-cryptographic XXH3 with the 128 bits hash. The salt of the hash with salt builders is
+     * used as the big-endian seed of the hash, if the salt is 8 bytes long. The hash can also be
+     * computed without allocations, see {@link ru.d_shap.hash.engine.XxHash}.
+     */
+    public static final String XXH3_128 = "XXH3-128";
+
+    /**
+     * CRC-32 checksum, the 32 bits hash is the big-endian checksum value. The checksums are intended
+     * for the cheap block checks, not for the security.
+     */
+    public static final String CRC32 = "CRC32";
+
+    /**
+     * CRC-32C (Castagnoli) checksum, the 32 bits hash is the big-endian checksum value. The checksums
+     * are intended for the cheap block checks, not for the security.
+     */
+    public static final String CRC32C = "CRC32C";
+
+    /**
+     * Adler-32 checksum, the 32 bits hash is the big-endian checksum value. The checksums are intended
+     * for the cheap block checks, not for the security.
+     */
+    public static final String ADLER32 = "ADLER32";
+
+    /**
+     * Parallel tree hash, based on SHA-256. The data is split into the leaves of 1 MiB, the leaves are
+     * hashed in parallel and combined into the root hash. This is a different hash, than SHA-256.
+     */
+    public static final String TREE_SHA256 = "TREE-SHA-256";
+
     private HashAlgorithms() {
         super();
     }
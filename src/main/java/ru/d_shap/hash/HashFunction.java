@@ -0,0 +1,358 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.Provider;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ru.d_shap.hash.engine.KeyedHashProvider;
+
+/**
+ * Resolved hash algorithm. The hash function is resolved only once and can be used instead of the
+ * algorithm name to avoid the algorithm lookup for every hash computation.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashFunction {
+
+    private static final ConcurrentMap<String, HashFunction> HASH_FUNCTIONS = new ConcurrentHashMap<>();
+
+    private static final Map<String, Integer> BLOCK_SIZES = createBlockSizes();
+
+    private final DigestFactory _digestFactory;
+
+    private final int _digestLength;
+
+    private final int _blockSize;
+
+    private HashFunction(final DigestFactory digestFactory) {
+        super();
+        _digestFactory = digestFactory;
+        _digestLength = computeDigestLength(digestFactory);
+        _blockSize = findBlockSize(digestFactory);
+    }
+
+    private static Map<String, Integer> createBlockSizes() {
+        Map<String, Integer> blockSizes = new HashMap<>();
+        blockSizes.put(HashAlgorithms.MD2, 16);
+        blockSizes.put(HashAlgorithms.MD5, 64);
+        blockSizes.put(HashAlgorithms.SHA1, 64);
+        blockSizes.put("SHA-224", 64);
+        blockSizes.put(HashAlgorithms.SHA256, 64);
+        blockSizes.put(HashAlgorithms.SHA384, 128);
+        blockSizes.put(HashAlgorithms.SHA512, 128);
+        blockSizes.put("SHA-512/224", 128);
+        blockSizes.put("SHA-512/256", 128);
+        blockSizes.put(HashAlgorithms.SHA3_224, 144);
+        blockSizes.put(HashAlgorithms.SHA3_256, 136);
+        blockSizes.put(HashAlgorithms.SHA3_384, 104);
+        blockSizes.put(HashAlgorithms.SHA3_512, 72);
+        blockSizes.put(HashAlgorithms.SHAKE128, 168);
+        blockSizes.put(HashAlgorithms.SHAKE256, 136);
+        blockSizes.put(HashAlgorithms.BLAKE2B_256, 128);
+        blockSizes.put(HashAlgorithms.BLAKE2B_512, 128);
+        blockSizes.put(HashAlgorithms.BLAKE2S_256, 64);
+        blockSizes.put(HashAlgorithms.BLAKE3, 64);
+        blockSizes.put(HashAlgorithms.XXHASH64, 32);
+        blockSizes.put(HashAlgorithms.XXH3_64, 64);
+        blockSizes.put(HashAlgorithms.XXH3_128, 64);
+        return blockSizes;
+    }
+
+    private static int computeDigestLength(final DigestFactory digestFactory) {
+        MessageDigest messageDigest = digestFactory.newMessageDigest();
+        int digestLength = messageDigest.getDigestLength();
+        if (digestLength == 0) {
+            digestLength = messageDigest.digest().length;
+        }
+        return digestLength;
+    }
+
+    private static int findBlockSize(final DigestFactory digestFactory) {
+        String algorithm = digestFactory.getAlgorithm().toUpperCase(Locale.ENGLISH);
+        Integer blockSize = BLOCK_SIZES.get(algorithm);
+        if (blockSize == null) {
+            return 0;
+        } else {
+            return blockSize;
+        }
+    }
+
+    /**
+     * Get the hash function for the specified algorithm. The algorithm name is case insensitive
+     * and is converted to the upper case. The algorithm is resolved only once, the same hash function
+     * is returned for the subsequent calls. The parameterized names, for example SHAKE128-384
+     * or BLAKE3-512, are not cached, the caller should keep the hash function for the subsequent calls.
+     *
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash function.
+     */
+    public static HashFunction getInstance(final String algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm is null");
+        }
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        HashFunction hashFunction = HASH_FUNCTIONS.get(name);
+        if (hashFunction == null) {
+            DigestFactory digestFactory = DigestFactory.getInstance(algorithm);
+            if (!digestFactory.isCached()) {
+                return new HashFunction(digestFactory);
+            }
+            HASH_FUNCTIONS.putIfAbsent(name, new HashFunction(digestFactory));
+            hashFunction = HASH_FUNCTIONS.get(name);
+        }
+        return hashFunction;
+    }
+
+    /**
+     * Get the hash function for the specified algorithm and the specified provider. The result is not
+     * cached, the caller should keep the hash function for the subsequent calls.
+     *
+     * @param algorithm the hash algorithm.
+     * @param provider  the provider of the hash algorithm.
+     *
+     * @return the hash function.
+     */
+    public static HashFunction getInstance(final String algorithm, final Provider provider) {
+        return new HashFunction(DigestFactory.getInstance(algorithm, provider));
+    }
+
+    /**
+     * Get the hash function for the specified algorithm and the provider with the specified name.
+     * The result is not cached, the caller should keep the hash function for the subsequent calls.
+     *
+     * @param algorithm    the hash algorithm.
+     * @param providerName the name of the provider of the hash algorithm.
+     *
+     * @return the hash function.
+     */
+    public static HashFunction getInstance(final String algorithm, final String providerName) {
+        return new HashFunction(DigestFactory.getInstance(algorithm, providerName));
+    }
+
+    /**
+     * Get the hash function for the specified algorithm, that computes the hash with the specified key.
+     * The keyed hash is supported for the BLAKE2 and BLAKE3 algorithms, the 8 bytes key is the seed
+     * of the xxHash64 and XXH3 algorithms. The result is not cached, the caller should keep the hash
+     * function for the subsequent calls.
+     *
+     * @param algorithm the hash algorithm.
+     * @param key       the key.
+     *
+     * @return the hash function.
+     */
+    public static HashFunction getKeyedInstance(final String algorithm, final byte[] key) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm is null");
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Key is null");
+        }
+        if (!KeyedHashProvider.isSupported(algorithm, key.length)) {
+            throw new IllegalArgumentException("Keyed hash is not supported: " + algorithm);
+        }
+        return new HashFunction(DigestFactory.getInstance(algorithm, new KeyedHashProvider(key)));
+    }
+
+    /**
+     * Get the algorithm name.
+     *
+     * @return the algorithm name.
+     */
+    public String getAlgorithm() {
+        return _digestFactory.getAlgorithm();
+    }
+
+    /**
+     * Get the message digest factory of the hash algorithm.
+     *
+     * @return the message digest factory.
+     */
+    public DigestFactory getDigestFactory() {
+        return _digestFactory;
+    }
+
+    /**
+     * Get the number of bytes of the hash.
+     *
+     * @return the number of bytes of the hash.
+     */
+    public int getDigestLength() {
+        return _digestLength;
+    }
+
+    /**
+     * Get the number of bytes, processed by the hash algorithm at once.
+     *
+     * @return the number of bytes, processed by the hash algorithm at once, or 0 if the block size is unknown.
+     */
+    public int getBlockSize() {
+        return _blockSize;
+    }
+
+    /**
+     * Compute the hash bytes for the specified bytes.
+     *
+     * @param bytes the specified bytes.
+     *
+     * @return the hash bytes.
+     */
+    public byte[] hash(final byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        return hash(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Compute the hash bytes for the specified range of bytes.
+     *
+     * @param bytes  the specified bytes.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     *
+     * @return the hash bytes.
+     */
+    public byte[] hash(final byte[] bytes, final int offset, final int length) {
+        checkSource(bytes, offset, length);
+        MessageDigestPool messageDigestPool = getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            messageDigest.update(bytes, offset, length);
+            return messageDigest.digest();
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Compute the hash bytes for the specified range of bytes and write them to the output
+     * byte array. No intermediate byte arrays are created.
+     *
+     * @param bytes        the specified bytes.
+     * @param offset       the offset of the first byte.
+     * @param length       the number of bytes.
+     * @param output       the output byte array.
+     * @param outputOffset the offset of the first hash byte in the output byte array.
+     *
+     * @return the number of the hash bytes.
+     */
+    public int hash(final byte[] bytes, final int offset, final int length, final byte[] output, final int outputOffset) {
+        checkSource(bytes, offset, length);
+        checkOutput(output, outputOffset);
+        MessageDigestPool messageDigestPool = getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            messageDigest.update(bytes, offset, length);
+            return writeDigest(messageDigest, output, outputOffset);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Compute the hash bytes for the specified range of bytes and write them to the output
+     * byte buffer. The position of the output byte buffer is advanced by the number of the hash bytes.
+     * No intermediate byte arrays are created, if the output byte buffer is backed by an accessible byte array.
+     *
+     * @param bytes  the specified bytes.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @param output the output byte buffer.
+     *
+     * @return the number of the hash bytes.
+     */
+    public int hash(final byte[] bytes, final int offset, final int length, final ByteBuffer output) {
+        checkSource(bytes, offset, length);
+        checkOutput(output);
+        MessageDigestPool messageDigestPool = getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            messageDigest.update(bytes, offset, length);
+            return writeDigest(messageDigest, output);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    private void checkSource(final byte[] bytes, final int offset, final int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Offset and length are not within [0; " + bytes.length + "]");
+        }
+    }
+
+    private void checkOutput(final byte[] output, final int outputOffset) {
+        if (output == null) {
+            throw new IllegalArgumentException("Output byte array is null");
+        }
+        if (outputOffset < 0 || outputOffset > output.length) {
+            throw new IllegalArgumentException("Output offset is not within [0; " + output.length + "]");
+        }
+        if (output.length - outputOffset < _digestLength) {
+            throw new IllegalArgumentException("Output byte array is too small");
+        }
+    }
+
+    private void checkOutput(final ByteBuffer output) {
+        if (output == null) {
+            throw new IllegalArgumentException("Output byte buffer is null");
+        }
+        if (output.remaining() < _digestLength) {
+            throw new IllegalArgumentException("Output byte buffer is too small");
+        }
+    }
+
+    private int writeDigest(final MessageDigest messageDigest, final byte[] output, final int outputOffset) {
+        try {
+            return messageDigest.digest(output, outputOffset, _digestLength);
+        } catch (DigestException ex) {
+            throw new IllegalArgumentException("Output byte array is too small", ex);
+        }
+    }
+
+    private int writeDigest(final MessageDigest messageDigest, final ByteBuffer output) {
+        if (output.hasArray()) {
+            int position = output.position();
+            int written = writeDigest(messageDigest, output.array(), output.arrayOffset() + position);
+            output.position(position + written);
+            return written;
+        } else {
+            byte[] digest = messageDigest.digest();
+            output.put(digest);
+            return digest.length;
+        }
+    }
+
+    MessageDigestPool getMessageDigestPool() {
+        return _digestFactory.getMessageDigestPool();
+    }
+
+}
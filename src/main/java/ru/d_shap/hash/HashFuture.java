@@ -0,0 +1,149 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Result of the asynchronous hash computation. The completion handler, if specified, is invoked
+ * when the computation completes or fails.
+ *
+ * @param <A> the type of the object attached to the completion handler.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class HashFuture<A> implements Future<Hash> {
+
+    private final CompletionHandler<Hash, ? super A> _handler;
+
+    private final A _attachment;
+
+    private final CountDownLatch _latch;
+
+    private final Object _lock;
+
+    private boolean _done;
+
+    private boolean _cancelled;
+
+    private Hash _hash;
+
+    private Throwable _failure;
+
+    HashFuture(final CompletionHandler<Hash, ? super A> handler, final A attachment) {
+        super();
+        _handler = handler;
+        _attachment = attachment;
+        _latch = new CountDownLatch(1);
+        _lock = new Object();
+        _done = false;
+        _cancelled = false;
+        _hash = null;
+        _failure = null;
+    }
+
+    void complete(final Hash hash) {
+        synchronized (_lock) {
+            if (_done) {
+                return;
+            }
+            _hash = hash;
+            _done = true;
+        }
+        _latch.countDown();
+        if (_handler != null) {
+            _handler.completed(hash, _attachment);
+        }
+    }
+
+    void fail(final Throwable failure) {
+        synchronized (_lock) {
+            if (_done) {
+                return;
+            }
+            _failure = failure;
+            _done = true;
+        }
+        _latch.countDown();
+        if (_handler != null) {
+            _handler.failed(failure, _attachment);
+        }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        synchronized (_lock) {
+            if (_done) {
+                return false;
+            }
+            _cancelled = true;
+            _done = true;
+        }
+        _latch.countDown();
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        synchronized (_lock) {
+            return _cancelled;
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        synchronized (_lock) {
+            return _done;
+        }
+    }
+
+    @Override
+    public Hash get() throws InterruptedException, ExecutionException {
+        _latch.await();
+        return getResult();
+    }
+
+    @Override
+    public Hash get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!_latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return getResult();
+    }
+
+    private Hash getResult() throws ExecutionException {
+        synchronized (_lock) {
+            if (_cancelled) {
+                throw new CancellationException();
+            }
+            if (_failure != null) {
+                throw new ExecutionException(_failure);
+            }
+            return _hash;
+        }
+    }
+
+}
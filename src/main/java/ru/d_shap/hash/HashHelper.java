@@ -22,8 +22,22 @@ package ru.d_shap.hash;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import ru.d_shap.hash.engine.ResumableDigest;
+import ru.d_shap.hash.engine.ResumableDigestFactory;
 
 /**
  * Class to perform hash computations.
@@ -32,111 +46,1183 @@ import java.security.NoSuchAlgorithmException;
  */
 public final class HashHelper {
 
-    private static final int INPUT_STREAM_BUFFER_SIZE = 512;
+    /**
+     * The buffer size to read the input stream with the adaptive buffer. The adaptive buffer starts
+     * small and grows up to 1 MiB while the reads keep returning full buffers.
+     */
+    public static final int ADAPTIVE_BUFFER_SIZE = 0;
+
+    private static final int INPUT_STREAM_BUFFER_SIZE = 8192;
+
+    private static final int INPUT_STREAM_MAX_BUFFER_SIZE = 1024 * 1024;
+
+    private static final long MAPPED_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private HashHelper() {
+        super();
+    }
+
+    /**
+     * Create the hash object for the specified bytes.
+     *
+     * @param bytes     the specified bytes.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final byte[] bytes, final String algorithm) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        return getHash(bytes, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the specified bytes.
+     *
+     * @param bytes        the specified bytes.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final byte[] bytes, final HashFunction hashFunction) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        return getHash(bytes, 0, bytes.length, hashFunction);
+    }
+
+    /**
+     * Create the hash object for the specified range of bytes.
+     *
+     * @param bytes     the specified bytes.
+     * @param offset    the offset of the first byte.
+     * @param length    the number of bytes.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final byte[] bytes, final int offset, final int length, final String algorithm) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        return getHash(bytes, offset, length, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the specified range of bytes.
+     *
+     * @param bytes        the specified bytes.
+     * @param offset       the offset of the first byte.
+     * @param length       the number of bytes.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final byte[] bytes, final int offset, final int length, final HashFunction hashFunction) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Offset and length are not within [0; " + bytes.length + "]");
+        }
+        MessageDigestPool messageDigestPool = hashFunction.getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            updateMessageDigest(messageDigest, bytes, offset, length);
+            return new Hash(messageDigestPool, messageDigest);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Create the hash object for the specified char sequence.
+     *
+     * @param charSequence the specified char sequence.
+     * @param algorithm    the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final CharSequence charSequence, final String algorithm) {
+        return getHash(charSequence, DefaultEncoding.UTF8, algorithm);
+    }
+
+    /**
+     * Create the hash object for the specified char sequence.
+     *
+     * @param charSequence the specified char sequence.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final CharSequence charSequence, final HashFunction hashFunction) {
+        return getHash(charSequence, DefaultEncoding.UTF8, hashFunction);
+    }
+
+    /**
+     * Create the hash object for the specified char sequence.
+     *
+     * @param charSequence the specified char sequence.
+     * @param encoding     the encoding of the char sequence.
+     * @param algorithm    the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final CharSequence charSequence, final String encoding, final String algorithm) {
+        byte[] charSequenceBytes = getCharSequenceBytes(charSequence, encoding);
+        return getHash(charSequenceBytes, algorithm);
+    }
+
+    /**
+     * Create the hash object for the specified char sequence.
+     *
+     * @param charSequence the specified char sequence.
+     * @param encoding     the encoding of the char sequence.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final CharSequence charSequence, final String encoding, final HashFunction hashFunction) {
+        byte[] charSequenceBytes = getCharSequenceBytes(charSequence, encoding);
+        return getHash(charSequenceBytes, hashFunction);
+    }
+
+    /**
+     * Create the hash object for the specified stream of bytes.
+     *
+     * @param stream    the specified stream of bytes.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final InputStream stream, final String algorithm) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        return getHash(stream, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the specified stream of bytes.
+     *
+     * @param stream       the specified stream of bytes.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final InputStream stream, final HashFunction hashFunction) {
+        return getHash(stream, ADAPTIVE_BUFFER_SIZE, hashFunction);
+    }
+
+    /**
+     * Create the hash object for the specified stream of bytes. The stream is read with the buffer
+     * of the specified size, or with the adaptive buffer if the size is {@link #ADAPTIVE_BUFFER_SIZE}.
+     *
+     * @param stream     the specified stream of bytes.
+     * @param bufferSize the size of the buffer to read the stream.
+     * @param algorithm  the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final InputStream stream, final int bufferSize, final String algorithm) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        return getHash(stream, bufferSize, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the specified stream of bytes. The stream is read with the buffer
+     * of the specified size, or with the adaptive buffer if the size is {@link #ADAPTIVE_BUFFER_SIZE}.
+     *
+     * @param stream       the specified stream of bytes.
+     * @param bufferSize   the size of the buffer to read the stream.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final InputStream stream, final int bufferSize, final HashFunction hashFunction) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        if (bufferSize < 0) {
+            throw new IllegalArgumentException("Buffer size is negative");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        MessageDigestPool messageDigestPool = hashFunction.getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            updateDigestSink(new MessageDigestSink(messageDigest), stream, bufferSize);
+            return new Hash(messageDigestPool, messageDigest);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Create the hash object for the specified stream of bytes. The stream is read by the task,
+     * submitted to the specified executor, into the next buffer of the small ring of buffers, while
+     * the bytes of the previous buffer are hashed by the calling thread. The buffers are of the
+     * specified size, or of the default size if the size is {@link #ADAPTIVE_BUFFER_SIZE}.
+     * The stream is closed.
+     *
+     * @param stream     the specified stream of bytes.
+     * @param bufferSize the size of the buffer to read the stream.
+     * @param executor   the executor to read the stream.
+     * @param algorithm  the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final InputStream stream, final int bufferSize, final ExecutorService executor, final String algorithm) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        return getHash(stream, bufferSize, executor, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the specified stream of bytes. The stream is read by the task,
+     * submitted to the specified executor, into the next buffer of the small ring of buffers, while
+     * the bytes of the previous buffer are hashed by the calling thread. The buffers are of the
+     * specified size, or of the default size if the size is {@link #ADAPTIVE_BUFFER_SIZE}.
+     * The stream is closed.
+     *
+     * @param stream       the specified stream of bytes.
+     * @param bufferSize   the size of the buffer to read the stream.
+     * @param executor     the executor to read the stream.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final InputStream stream, final int bufferSize, final ExecutorService executor, final HashFunction hashFunction) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        if (bufferSize < 0) {
+            throw new IllegalArgumentException("Buffer size is negative");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        MessageDigestPool messageDigestPool = hashFunction.getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            updateDigestSink(new MessageDigestSink(messageDigest), stream, bufferSize, executor);
+            return new Hash(messageDigestPool, messageDigest);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Create the hash object for the remaining bytes of the specified byte buffer. The position
+     * of the byte buffer is advanced to its limit. Both heap and direct byte buffers are hashed
+     * without copying the bytes.
+     *
+     * @param buffer    the specified byte buffer.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final ByteBuffer buffer, final String algorithm) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Source byte buffer is null");
+        }
+        return getHash(buffer, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the remaining bytes of the specified byte buffer. The position
+     * of the byte buffer is advanced to its limit. Both heap and direct byte buffers are hashed
+     * without copying the bytes.
+     *
+     * @param buffer       the specified byte buffer.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final ByteBuffer buffer, final HashFunction hashFunction) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Source byte buffer is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        MessageDigestPool messageDigestPool = hashFunction.getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            updateMessageDigest(messageDigest, buffer);
+            return new Hash(messageDigestPool, messageDigest);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Create the hash object for the content of the specified file. The file is mapped into memory
+     * in windows of the limited size, and the windows are hashed without copying the bytes. Every
+     * window is unmapped after it is hashed, if the java runtime allows it.
+     *
+     * @param path      the specified file.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final Path path, final String algorithm) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        return getHash(path, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the content of the specified file. The file is mapped into memory
+     * in windows of the limited size, and the windows are hashed without copying the bytes. Every
+     * window is unmapped after it is hashed, if the java runtime allows it.
+     *
+     * @param path         the specified file.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final Path path, final HashFunction hashFunction) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return getHash(channel, hashFunction);
+        } catch (IOException ex) {
+            throw new HashIOException(ex);
+        }
+    }
+
+    /**
+     * Create the hash object for the content of the specified file channel. The whole content is
+     * hashed regardless of the channel position, and the channel position is not changed. The file
+     * is mapped into memory in windows of the limited size, and the windows are hashed without
+     * copying the bytes. Every window is unmapped after it is hashed, if the java runtime allows it.
+     * The channel is not closed.
+     *
+     * @param channel   the specified file channel.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final FileChannel channel, final String algorithm) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Source file channel is null");
+        }
+        return getHash(channel, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the content of the specified file channel. The whole content is
+     * hashed regardless of the channel position, and the channel position is not changed. The file
+     * is mapped into memory in windows of the limited size, and the windows are hashed without
+     * copying the bytes. Every window is unmapped after it is hashed, if the java runtime allows it.
+     * The channel is not closed.
+     *
+     * @param channel      the specified file channel.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final FileChannel channel, final HashFunction hashFunction) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Source file channel is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        MessageDigestPool messageDigestPool = hashFunction.getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            updateDigestSink(new MessageDigestSink(messageDigest), channel, 0L);
+            return new Hash(messageDigestPool, messageDigest);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Create the hash object for the bytes of the specified channel. The channel is read to the end
+     * with the direct byte buffer from the default pool. The channel is not closed.
+     *
+     * @param channel   the specified channel.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final ReadableByteChannel channel, final String algorithm) {
+        return getHash(channel, DirectBufferPool.getDefaultInstance(), algorithm);
+    }
+
+    /**
+     * Create the hash object for the bytes of the specified channel. The channel is read to the end
+     * with the direct byte buffer from the default pool. The channel is not closed.
+     *
+     * @param channel      the specified channel.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final ReadableByteChannel channel, final HashFunction hashFunction) {
+        return getHash(channel, DirectBufferPool.getDefaultInstance(), hashFunction);
+    }
+
+    /**
+     * Create the hash object for the bytes of the specified channel. The channel is read to the end
+     * with the direct byte buffer from the specified pool. The channel is not closed.
+     *
+     * @param channel    the specified channel.
+     * @param bufferPool the pool of the direct byte buffers.
+     * @param algorithm  the hash algorithm.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final ReadableByteChannel channel, final DirectBufferPool bufferPool, final String algorithm) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Source channel is null");
+        }
+        if (bufferPool == null) {
+            throw new IllegalArgumentException("Buffer pool is null");
+        }
+        return getHash(channel, bufferPool, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create the hash object for the bytes of the specified channel. The channel is read to the end
+     * with the direct byte buffer from the specified pool. The channel is not closed.
+     *
+     * @param channel      the specified channel.
+     * @param bufferPool   the pool of the direct byte buffers.
+     * @param hashFunction the hash function.
+     *
+     * @return the hash object.
+     */
+    public static Hash getHash(final ReadableByteChannel channel, final DirectBufferPool bufferPool, final HashFunction hashFunction) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Source channel is null");
+        }
+        if (bufferPool == null) {
+            throw new IllegalArgumentException("Buffer pool is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        MessageDigestPool messageDigestPool = hashFunction.getMessageDigestPool();
+        MessageDigest messageDigest = messageDigestPool.acquire();
+        try {
+            updateMessageDigest(messageDigest, channel, bufferPool);
+            return new Hash(messageDigestPool, messageDigest);
+        } finally {
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * Start the asynchronous hash computation for the specified file. The file is read with the
+     * overlapped reads and the bytes are hashed in the threads of the specified executor, so the
+     * calling thread is not blocked.
+     *
+     * @param path      the specified file.
+     * @param algorithm the hash algorithm.
+     * @param executor  the executor to read and hash the file.
+     *
+     * @return the result of the asynchronous hash computation.
+     */
+    public static Future<Hash> getHashAsync(final Path path, final String algorithm, final ExecutorService executor) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        return getHashAsync(path, HashFunction.getInstance(algorithm), executor);
+    }
+
+    /**
+     * Start the asynchronous hash computation for the specified file. The file is read with the
+     * overlapped reads and the bytes are hashed in the threads of the specified executor, so the
+     * calling thread is not blocked.
+     *
+     * @param path         the specified file.
+     * @param hashFunction the hash function.
+     * @param executor     the executor to read and hash the file.
+     *
+     * @return the result of the asynchronous hash computation.
+     */
+    public static Future<Hash> getHashAsync(final Path path, final HashFunction hashFunction, final ExecutorService executor) {
+        return startHashAsync(path, hashFunction, executor, new HashFuture<>(null, null));
+    }
+
+    /**
+     * Start the asynchronous hash computation for the specified file. The file is read with the
+     * overlapped reads and the bytes are hashed in the threads of the specified executor. The
+     * completion handler is invoked when the computation completes or fails.
+     *
+     * @param path       the specified file.
+     * @param algorithm  the hash algorithm.
+     * @param executor   the executor to read and hash the file.
+     * @param attachment the object to attach to the completion handler.
+     * @param handler    the completion handler.
+     * @param <A>        the type of the object attached to the completion handler.
+     */
+    public static <A> void getHashAsync(final Path path, final String algorithm, final ExecutorService executor, final A attachment, final CompletionHandler<Hash, ? super A> handler) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        getHashAsync(path, HashFunction.getInstance(algorithm), executor, attachment, handler);
+    }
+
+    /**
+     * Start the asynchronous hash computation for the specified file. The file is read with the
+     * overlapped reads and the bytes are hashed in the threads of the specified executor. The
+     * completion handler is invoked when the computation completes or fails.
+     *
+     * @param path         the specified file.
+     * @param hashFunction the hash function.
+     * @param executor     the executor to read and hash the file.
+     * @param attachment   the object to attach to the completion handler.
+     * @param handler      the completion handler.
+     * @param <A>          the type of the object attached to the completion handler.
+     */
+    public static <A> void getHashAsync(final Path path, final HashFunction hashFunction, final ExecutorService executor, final A attachment, final CompletionHandler<Hash, ? super A> handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Completion handler is null");
+        }
+        startHashAsync(path, hashFunction, executor, new HashFuture<A>(handler, attachment));
+    }
+
+    /**
+     * Start the asynchronous hash computation for the bytes of the specified file channel. The
+     * channel is read with the overlapped reads and the bytes are hashed in the completion handler
+     * threads of the channel. The position of the channel is not used, the channel is not closed.
+     *
+     * @param channel   the specified file channel.
+     * @param algorithm the hash algorithm.
+     *
+     * @return the result of the asynchronous hash computation.
+     */
+    public static Future<Hash> getHashAsync(final AsynchronousFileChannel channel, final String algorithm) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Source file channel is null");
+        }
+        return getHashAsync(channel, HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Start the asynchronous hash computation for the bytes of the specified file channel. The
+     * channel is read with the overlapped reads and the bytes are hashed in the completion handler
+     * threads of the channel. The position of the channel is not used, the channel is not closed.
+     *
+     * @param channel      the specified file channel.
+     * @param hashFunction the hash function.
+     *
+     * @return the result of the asynchronous hash computation.
+     */
+    public static Future<Hash> getHashAsync(final AsynchronousFileChannel channel, final HashFunction hashFunction) {
+        return startHashAsync(channel, hashFunction, new HashFuture<>(null, null));
+    }
+
+    /**
+     * Start the asynchronous hash computation for the bytes of the specified file channel. The
+     * channel is read with the overlapped reads and the bytes are hashed in the completion handler
+     * threads of the channel. The completion handler is invoked when the computation completes or
+     * fails. The position of the channel is not used, the channel is not closed.
+     *
+     * @param channel    the specified file channel.
+     * @param algorithm  the hash algorithm.
+     * @param attachment the object to attach to the completion handler.
+     * @param handler    the completion handler.
+     * @param <A>        the type of the object attached to the completion handler.
+     */
+    public static <A> void getHashAsync(final AsynchronousFileChannel channel, final String algorithm, final A attachment, final CompletionHandler<Hash, ? super A> handler) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Source file channel is null");
+        }
+        getHashAsync(channel, HashFunction.getInstance(algorithm), attachment, handler);
+    }
+
+    /**
+     * Start the asynchronous hash computation for the bytes of the specified file channel. The
+     * channel is read with the overlapped reads and the bytes are hashed in the completion handler
+     * threads of the channel. The completion handler is invoked when the computation completes or
+     * fails. The position of the channel is not used, the channel is not closed.
+     *
+     * @param channel      the specified file channel.
+     * @param hashFunction the hash function.
+     * @param attachment   the object to attach to the completion handler.
+     * @param handler      the completion handler.
+     * @param <A>          the type of the object attached to the completion handler.
+     */
+    public static <A> void getHashAsync(final AsynchronousFileChannel channel, final HashFunction hashFunction, final A attachment, final CompletionHandler<Hash, ? super A> handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Completion handler is null");
+        }
+        startHashAsync(channel, hashFunction, new HashFuture<A>(handler, attachment));
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified bytes. The bytes
+     * are fed to all message digests at once.
+     *
+     * @param bytes      the specified bytes.
+     * @param algorithms the hash algorithms.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final byte[] bytes, final String... algorithms) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        return computeHashes(bytes, getHashFunctions(algorithms), null);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified bytes. The bytes
+     * are fed to all message digests at once.
+     *
+     * @param bytes         the specified bytes.
+     * @param hashFunctions the hash functions.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final byte[] bytes, final HashFunction... hashFunctions) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        return computeHashes(bytes, checkHashFunctions(hashFunctions), null);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified bytes. The bytes
+     * are fed to all message digests at once, in parallel with the specified executor.
+     *
+     * @param bytes      the specified bytes.
+     * @param executor   the executor to feed the message digests in parallel.
+     * @param algorithms the hash algorithms.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final byte[] bytes, final ExecutorService executor, final String... algorithms) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        return computeHashes(bytes, getHashFunctions(algorithms), executor);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified bytes. The bytes
+     * are fed to all message digests at once, in parallel with the specified executor.
+     *
+     * @param bytes         the specified bytes.
+     * @param executor      the executor to feed the message digests in parallel.
+     * @param hashFunctions the hash functions.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final byte[] bytes, final ExecutorService executor, final HashFunction... hashFunctions) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        return computeHashes(bytes, checkHashFunctions(hashFunctions), executor);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified stream of bytes.
+     * The stream is read only once with the adaptive buffer, every chunk of bytes is fed to all
+     * message digests. The stream is closed.
+     *
+     * @param stream     the specified stream of bytes.
+     * @param algorithms the hash algorithms.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final InputStream stream, final String... algorithms) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        return computeHashes(stream, getHashFunctions(algorithms), null);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified stream of bytes.
+     * The stream is read only once with the adaptive buffer, every chunk of bytes is fed to all
+     * message digests. The stream is closed.
+     *
+     * @param stream        the specified stream of bytes.
+     * @param hashFunctions the hash functions.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final InputStream stream, final HashFunction... hashFunctions) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        return computeHashes(stream, checkHashFunctions(hashFunctions), null);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified stream of bytes.
+     * The stream is read only once with the adaptive buffer, every chunk of bytes is fed to all
+     * message digests in parallel with the specified executor. The stream is closed.
+     *
+     * @param stream     the specified stream of bytes.
+     * @param executor   the executor to feed the message digests in parallel.
+     * @param algorithms the hash algorithms.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final InputStream stream, final ExecutorService executor, final String... algorithms) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        return computeHashes(stream, getHashFunctions(algorithms), executor);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified stream of bytes.
+     * The stream is read only once with the adaptive buffer, every chunk of bytes is fed to all
+     * message digests in parallel with the specified executor. The stream is closed.
+     *
+     * @param stream        the specified stream of bytes.
+     * @param executor      the executor to feed the message digests in parallel.
+     * @param hashFunctions the hash functions.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final InputStream stream, final ExecutorService executor, final HashFunction... hashFunctions) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Source stream is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        return computeHashes(stream, checkHashFunctions(hashFunctions), executor);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified file. The file is
+     * mapped into memory only once, every window of the file is fed to all message digests.
+     *
+     * @param path       the specified file.
+     * @param algorithms the hash algorithms.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final Path path, final String... algorithms) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        return computeHashes(path, getHashFunctions(algorithms), null);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified file. The file is
+     * mapped into memory only once, every window of the file is fed to all message digests.
+     *
+     * @param path          the specified file.
+     * @param hashFunctions the hash functions.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final Path path, final HashFunction... hashFunctions) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        return computeHashes(path, checkHashFunctions(hashFunctions), null);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified file. The file is
+     * mapped into memory only once, every window of the file is fed to all message digests in
+     * parallel with the specified executor.
+     *
+     * @param path       the specified file.
+     * @param executor   the executor to feed the message digests in parallel.
+     * @param algorithms the hash algorithms.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final Path path, final ExecutorService executor, final String... algorithms) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        return computeHashes(path, getHashFunctions(algorithms), executor);
+    }
+
+    /**
+     * Create the hash objects of the specified hash functions for the specified file. The file is
+     * mapped into memory only once, every window of the file is fed to all message digests in
+     * parallel with the specified executor.
+     *
+     * @param path          the specified file.
+     * @param executor      the executor to feed the message digests in parallel.
+     * @param hashFunctions the hash functions.
+     *
+     * @return the hash objects in the order of the hash functions.
+     */
+    public static Hash[] getHashes(final Path path, final ExecutorService executor, final HashFunction... hashFunctions) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        return computeHashes(path, checkHashFunctions(hashFunctions), executor);
+    }
+
+    /**
+     * Compute the hash for the specified bytes and write the hash bytes to the output byte array.
+     * No intermediate byte arrays are created.
+     *
+     * @param bytes     the specified bytes.
+     * @param algorithm the hash algorithm.
+     * @param output    the output byte array.
+     * @param offset    the offset of the first hash byte in the output byte array.
+     *
+     * @return the number of the hash bytes.
+     */
+    public static int writeHash(final byte[] bytes, final String algorithm, final byte[] output, final int offset) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        return writeHash(bytes, HashFunction.getInstance(algorithm), output, offset);
+    }
 
-    private HashHelper() {
-        super();
+    /**
+     * Compute the hash for the specified bytes and write the hash bytes to the output byte array.
+     * No intermediate byte arrays are created.
+     *
+     * @param bytes        the specified bytes.
+     * @param hashFunction the hash function.
+     * @param output       the output byte array.
+     * @param offset       the offset of the first hash byte in the output byte array.
+     *
+     * @return the number of the hash bytes.
+     */
+    public static int writeHash(final byte[] bytes, final HashFunction hashFunction, final byte[] output, final int offset) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        return hashFunction.hash(bytes, 0, bytes.length, output, offset);
     }
 
     /**
-     * Create the hash object for the specified bytes.
+     * Compute the hash for the specified bytes and write the hash bytes to the output byte buffer.
+     * The position of the output byte buffer is advanced by the number of the hash bytes.
      *
      * @param bytes     the specified bytes.
      * @param algorithm the hash algorithm.
+     * @param output    the output byte buffer.
      *
-     * @return the hash object.
+     * @return the number of the hash bytes.
      */
-    public static Hash getHash(final byte[] bytes, final String algorithm) {
+    public static int writeHash(final byte[] bytes, final String algorithm, final ByteBuffer output) {
         if (bytes == null) {
             throw new IllegalArgumentException("Source byte array is null");
         }
-        if (algorithm == null) {
-            throw new IllegalArgumentException("Algorithm is null");
-        }
-        MessageDigest messageDigest = createMessageDigest(algorithm);
-        updateMessageDigest(messageDigest, bytes);
-        return new Hash(messageDigest);
+        return writeHash(bytes, HashFunction.getInstance(algorithm), output);
     }
 
     /**
-     * Create the hash object for the specified char sequence.
+     * Compute the hash for the specified bytes and write the hash bytes to the output byte buffer.
+     * The position of the output byte buffer is advanced by the number of the hash bytes.
      *
-     * @param charSequence the specified char sequence.
-     * @param algorithm    the hash algorithm.
+     * @param bytes        the specified bytes.
+     * @param hashFunction the hash function.
+     * @param output       the output byte buffer.
      *
-     * @return the hash object.
+     * @return the number of the hash bytes.
      */
-    public static Hash getHash(final CharSequence charSequence, final String algorithm) {
-        return getHash(charSequence, DefaultEncoding.UTF8, algorithm);
+    public static int writeHash(final byte[] bytes, final HashFunction hashFunction, final ByteBuffer output) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        return hashFunction.hash(bytes, 0, bytes.length, output);
     }
 
     /**
-     * Create the hash object for the specified char sequence.
+     * Compute the intermediate state of the hash of the specified file. The state is computed at
+     * the end of the file, so the hash of the file with the appended bytes can be computed later with
+     * the {@link #resumeHash(Path, HashState)} method without hashing the file from the beginning.
+     * The intermediate state is supported for the MD5, SHA-1, SHA-256, SHA-384 and SHA-512 algorithms.
      *
-     * @param charSequence the specified char sequence.
-     * @param encoding     the encoding of the char sequence.
-     * @param algorithm    the hash algorithm.
+     * @param path      the specified file.
+     * @param algorithm the hash algorithm.
      *
-     * @return the hash object.
+     * @return the intermediate state of the hash.
      */
-    public static Hash getHash(final CharSequence charSequence, final String encoding, final String algorithm) {
-        if (charSequence == null) {
-            throw new IllegalArgumentException("Source char sequence is null");
+    public static HashState getHashState(final Path path, final String algorithm) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
         }
-        if (encoding == null) {
-            throw new IllegalArgumentException("Source char sequence encoding is null");
+        ResumableDigest resumableDigest = newResumableDigest(algorithm);
+        updateResumableDigest(resumableDigest, path, 0L);
+        return new HashState(algorithm, resumableDigest.getLength(), resumableDigest.getState());
+    }
+
+    /**
+     * Compute the intermediate state of the hash of the specified file. The state is computed at
+     * the end of the file, so the hash of the file with the appended bytes can be computed later with
+     * the {@link #resumeHash(Path, HashState)} method without hashing the file from the beginning.
+     * The intermediate state is supported for the MD5, SHA-1, SHA-256, SHA-384 and SHA-512 algorithms.
+     *
+     * @param path         the specified file.
+     * @param hashFunction the hash function.
+     *
+     * @return the intermediate state of the hash.
+     */
+    public static HashState getHashState(final Path path, final HashFunction hashFunction) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
         }
-        try {
-            byte[] charSequenceBytes = charSequence.toString().getBytes(encoding);
-            return getHash(charSequenceBytes, algorithm);
-        } catch (UnsupportedEncodingException ex) {
-            throw new IllegalArgumentException("Wrong source char sequence encoding: " + encoding, ex);
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
         }
+        return getHashState(path, hashFunction.getAlgorithm());
     }
 
     /**
-     * Create the hash object for the specified stream of bytes.
+     * Create the hash object for the content of the specified file from the saved intermediate state.
+     * Only the bytes after the offset of the state are hashed, the result is the same as the result of
+     * the {@link #getHash(Path, String)} method, if the bytes before the offset are not changed.
      *
-     * @param stream    the specified stream of bytes.
-     * @param algorithm the hash algorithm.
+     * @param path      the specified file.
+     * @param hashState the saved intermediate state of the hash.
      *
      * @return the hash object.
      */
-    public static Hash getHash(final InputStream stream, final String algorithm) {
-        if (stream == null) {
-            throw new IllegalArgumentException("Source stream is null");
+    public static Hash resumeHash(final Path path, final HashState hashState) {
+        ResumableDigest resumableDigest = resumeDigest(path, hashState);
+        MessageDigestPool messageDigestPool = HashFunction.getInstance(hashState.getAlgorithm()).getMessageDigestPool();
+        return new Hash(messageDigestPool, resumableDigest.digest());
+    }
+
+    /**
+     * Compute the intermediate state of the hash of the specified file from the saved intermediate
+     * state. Only the bytes after the offset of the saved state are hashed, the new state is computed
+     * at the end of the file.
+     *
+     * @param path      the specified file.
+     * @param hashState the saved intermediate state of the hash.
+     *
+     * @return the intermediate state of the hash.
+     */
+    public static HashState resumeHashState(final Path path, final HashState hashState) {
+        ResumableDigest resumableDigest = resumeDigest(path, hashState);
+        return new HashState(hashState.getAlgorithm(), resumableDigest.getLength(), resumableDigest.getState());
+    }
+
+    private static HashFunction[] getHashFunctions(final String[] algorithms) {
+        if (algorithms == null) {
+            throw new IllegalArgumentException("Algorithms is null");
+        }
+        HashFunction[] hashFunctions = new HashFunction[algorithms.length];
+        for (int i = 0; i < algorithms.length; i++) {
+            hashFunctions[i] = HashFunction.getInstance(algorithms[i]);
+        }
+        return hashFunctions;
+    }
+
+    private static HashFunction[] checkHashFunctions(final HashFunction[] hashFunctions) {
+        if (hashFunctions == null) {
+            throw new IllegalArgumentException("Hash functions is null");
+        }
+        for (HashFunction hashFunction : hashFunctions) {
+            if (hashFunction == null) {
+                throw new IllegalArgumentException("Hash function is null");
+            }
+        }
+        return hashFunctions;
+    }
+
+    private static Hash[] computeHashes(final byte[] bytes, final HashFunction[] hashFunctions, final ExecutorService executor) {
+        MultiDigestSink digestSink = new MultiDigestSink(hashFunctions, executor);
+        try {
+            digestSink.update(bytes, 0, bytes.length);
+            return digestSink.getHashes();
+        } finally {
+            digestSink.release();
+        }
+    }
+
+    private static Hash[] computeHashes(final InputStream stream, final HashFunction[] hashFunctions, final ExecutorService executor) {
+        MultiDigestSink digestSink = new MultiDigestSink(hashFunctions, executor);
+        try {
+            updateDigestSink(digestSink, stream, ADAPTIVE_BUFFER_SIZE);
+            return digestSink.getHashes();
+        } finally {
+            digestSink.release();
+        }
+    }
+
+    private static Hash[] computeHashes(final Path path, final HashFunction[] hashFunctions, final ExecutorService executor) {
+        MultiDigestSink digestSink = new MultiDigestSink(hashFunctions, executor);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            updateDigestSink(digestSink, channel, 0L);
+            return digestSink.getHashes();
+        } catch (IOException ex) {
+            throw new HashIOException(ex);
+        } finally {
+            digestSink.release();
+        }
+    }
+
+    private static ResumableDigest newResumableDigest(final String algorithm) {
+        ResumableDigest resumableDigest = ResumableDigestFactory.newResumableDigest(algorithm);
+        if (resumableDigest == null) {
+            throw new IllegalArgumentException("Resumable hash is not supported: " + algorithm);
+        }
+        return resumableDigest;
+    }
+
+    private static ResumableDigest resumeDigest(final Path path, final HashState hashState) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
         }
-        if (algorithm == null) {
-            throw new IllegalArgumentException("Algorithm is null");
+        if (hashState == null) {
+            throw new IllegalArgumentException("Hash state is null");
         }
-        MessageDigest messageDigest = createMessageDigest(algorithm);
-        updateMessageDigest(messageDigest, stream);
-        return new Hash(messageDigest);
+        ResumableDigest resumableDigest = newResumableDigest(hashState.getAlgorithm());
+        resumableDigest.setState(hashState.getState());
+        if (resumableDigest.getLength() != hashState.getOffset()) {
+            throw new IllegalArgumentException("Wrong hash state");
+        }
+        updateResumableDigest(resumableDigest, path, hashState.getOffset());
+        return resumableDigest;
+    }
+
+    private static void updateResumableDigest(final ResumableDigest resumableDigest, final Path path, final long offset) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < offset) {
+                throw new IllegalArgumentException("File is shorter than the hash state offset");
+            }
+            updateDigestSink(new ResumableDigestSink(resumableDigest), channel, offset);
+        } catch (IOException ex) {
+            throw new HashIOException(ex);
+        }
+    }
+
+    private static Future<Hash> startHashAsync(final Path path, final HashFunction hashFunction, final ExecutorService executor, final HashFuture<?> result) {
+        if (path == null) {
+            throw new IllegalArgumentException("Source path is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null");
+        }
+        AsynchronousFileChannel channel;
+        try {
+            channel = AsynchronousFileChannel.open(path, Collections.singleton(StandardOpenOption.READ), executor);
+        } catch (IOException ex) {
+            result.fail(ex);
+            return result;
+        }
+        new AsyncFileHasher(channel, true, hashFunction, DirectBufferPool.getDefaultInstance(), result).start();
+        return result;
+    }
+
+    private static Future<Hash> startHashAsync(final AsynchronousFileChannel channel, final HashFunction hashFunction, final HashFuture<?> result) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Source file channel is null");
+        }
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        new AsyncFileHasher(channel, false, hashFunction, DirectBufferPool.getDefaultInstance(), result).start();
+        return result;
     }
 
-    private static MessageDigest createMessageDigest(final String algorithm) {
+    private static byte[] getCharSequenceBytes(final CharSequence charSequence, final String encoding) {
+        if (charSequence == null) {
+            throw new IllegalArgumentException("Source char sequence is null");
+        }
+        if (encoding == null) {
+            throw new IllegalArgumentException("Source char sequence encoding is null");
+        }
         try {
-            return MessageDigest.getInstance(algorithm);
-        } catch (NoSuchAlgorithmException ex) {
-            throw new IllegalArgumentException("Wrong algorithm name: " + algorithm, ex);
+            return charSequence.toString().getBytes(encoding);
+        } catch (UnsupportedEncodingException ex) {
+            throw new IllegalArgumentException("Wrong source char sequence encoding: " + encoding, ex);
         }
     }
 
-    private static void updateMessageDigest(final MessageDigest messageDigest, final byte[] bytes) {
-        messageDigest.update(bytes);
+    private static void updateMessageDigest(final MessageDigest messageDigest, final byte[] bytes, final int offset, final int length) {
+        messageDigest.update(bytes, offset, length);
+    }
+
+    private static void updateMessageDigest(final MessageDigest messageDigest, final ByteBuffer buffer) {
+        messageDigest.update(buffer);
+    }
+
+    private static void updateMessageDigest(final MessageDigest messageDigest, final ReadableByteChannel channel, final DirectBufferPool bufferPool) {
+        ByteBuffer buffer = bufferPool.acquire();
+        try {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException ex) {
+            throw new HashIOException(ex);
+        } finally {
+            bufferPool.release(buffer);
+        }
     }
 
-    private static void updateMessageDigest(final MessageDigest messageDigest, final InputStream stream) {
+    private static void updateDigestSink(final DigestSink digestSink, final InputStream stream, final int bufferSize) {
         try {
             try {
-                byte[] buffer = new byte[INPUT_STREAM_BUFFER_SIZE];
+                byte[] buffer;
+                int maxBufferSize;
+                if (bufferSize == ADAPTIVE_BUFFER_SIZE) {
+                    buffer = new byte[INPUT_STREAM_BUFFER_SIZE];
+                    maxBufferSize = INPUT_STREAM_MAX_BUFFER_SIZE;
+                } else {
+                    buffer = new byte[bufferSize];
+                    maxBufferSize = bufferSize;
+                }
                 int read;
                 while (true) {
                     read = stream.read(buffer);
                     if (read <= 0) {
                         break;
                     }
-                    messageDigest.update(buffer, 0, read);
+                    digestSink.update(buffer, 0, read);
+                    if (read == buffer.length && buffer.length < maxBufferSize) {
+                        buffer = new byte[Math.min(buffer.length * 2, maxBufferSize)];
+                    }
                 }
             } finally {
                 stream.close();
@@ -146,6 +1232,34 @@ public final class HashHelper {
         }
     }
 
+    private static void updateDigestSink(final DigestSink digestSink, final InputStream stream, final int bufferSize, final ExecutorService executor) {
+        PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(stream, bufferSize);
+        Future<Void> future;
+        try {
+            future = executor.submit(pipelinedStreamReader);
+        } catch (RejectedExecutionException ex) {
+            updateDigestSink(digestSink, stream, bufferSize);
+            return;
+        }
+        pipelinedStreamReader.updateDigestSink(digestSink, future);
+    }
+
+    private static void updateDigestSink(final DigestSink digestSink, final FileChannel channel, final long offset) {
+        try {
+            long size = channel.size();
+            long position = offset;
+            while (position < size) {
+                long length = Math.min(MAPPED_WINDOW_SIZE, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                digestSink.update(buffer);
+                MappedBufferCleaner.getInstance().clean(buffer);
+                position += length;
+            }
+        } catch (IOException ex) {
+            throw new HashIOException(ex);
+        }
+    }
+
     /**
      * Add the specified salt to the specified hash in the specified order.
      *
@@ -170,6 +1284,67 @@ public final class HashHelper {
         saltOrder.addSalt(hash, storedSalt, fixedSalt);
     }
 
+    /**
+     * Add the specified salt to the specified hash in the specified order the specified number of times.
+     *
+     * @param hash       the hash object.
+     * @param storedSalt the stored salt.
+     * @param fixedSalt  the fixed salt.
+     * @param saltOrder  the stored salt and the fixed salt order.
+     * @param iterations the number of iterations.
+     */
+    public static void addSalt(final Hash hash, final byte[] storedSalt, final byte[] fixedSalt, final SaltOrder saltOrder, final int iterations) {
+        if (storedSalt == null) {
+            throw new IllegalArgumentException("Stored salt is null");
+        }
+        addSalt(hash, storedSalt, 0, storedSalt.length, fixedSalt, saltOrder, iterations);
+    }
+
+    /**
+     * Add the specified range of the stored salt and the fixed salt to the specified hash in the specified order.
+     *
+     * @param hash       the hash object.
+     * @param storedSalt the stored salt.
+     * @param offset     the offset of the first stored salt byte.
+     * @param length     the number of the stored salt bytes.
+     * @param fixedSalt  the fixed salt.
+     * @param saltOrder  the stored salt and the fixed salt order.
+     */
+    public static void addSalt(final Hash hash, final byte[] storedSalt, final int offset, final int length, final byte[] fixedSalt, final SaltOrder saltOrder) {
+        addSalt(hash, storedSalt, offset, length, fixedSalt, saltOrder, 1);
+    }
+
+    /**
+     * Add the specified range of the stored salt and the fixed salt to the specified hash in the specified order
+     * the specified number of times.
+     *
+     * @param hash       the hash object.
+     * @param storedSalt the stored salt.
+     * @param offset     the offset of the first stored salt byte.
+     * @param length     the number of the stored salt bytes.
+     * @param fixedSalt  the fixed salt.
+     * @param saltOrder  the stored salt and the fixed salt order.
+     * @param iterations the number of iterations.
+     */
+    public static void addSalt(final Hash hash, final byte[] storedSalt, final int offset, final int length, final byte[] fixedSalt, final SaltOrder saltOrder, final int iterations) {
+        if (hash == null) {
+            throw new IllegalArgumentException("Hash is null");
+        }
+        if (storedSalt == null) {
+            throw new IllegalArgumentException("Stored salt is null");
+        }
+        if (offset < 0 || length < 0 || offset > storedSalt.length - length) {
+            throw new IllegalArgumentException("Offset and length are not within [0; " + storedSalt.length + "]");
+        }
+        if (fixedSalt == null) {
+            throw new IllegalArgumentException("Fixed salt is null");
+        }
+        if (saltOrder == null) {
+            throw new IllegalArgumentException("Salt order is null");
+        }
+        saltOrder.addSalt(hash, storedSalt, offset, length, fixedSalt, iterations);
+    }
+
     /**
      * Store the salt bytes in the result array of bytes along with the hash bytes.
      *
@@ -192,6 +1367,30 @@ public final class HashHelper {
         return saltStoreType.addSaltBytes(hash, salt);
     }
 
+    /**
+     * Store the iteration count and the salt bytes in the result array of bytes along with the hash bytes.
+     * The iteration count is stored before the salt bytes.
+     *
+     * @param hash          the hash bytes.
+     * @param salt          the salt bytes.
+     * @param iterations    the iteration count.
+     * @param saltStoreType how to store the iteration count and the salt bytes.
+     *
+     * @return the result array of bytes.
+     */
+    public static byte[] addSaltBytes(final byte[] hash, final byte[] salt, final int iterations, final SaltStoreType saltStoreType) {
+        if (hash == null) {
+            throw new IllegalArgumentException("Hash byte array is null");
+        }
+        if (salt == null) {
+            throw new IllegalArgumentException("Salt byte array is null");
+        }
+        if (saltStoreType == null) {
+            throw new IllegalArgumentException("Salt store type is null");
+        }
+        return saltStoreType.addSaltBytes(hash, salt, iterations);
+    }
+
     /**
      * Get the hash bytes from the the array of bytes.
      *
@@ -236,4 +1435,70 @@ public final class HashHelper {
         return saltStoreType.getSaltBytes(bytes, saltLength);
     }
 
+    /**
+     * Get the offset of the hash bytes in the array of bytes.
+     *
+     * @param bytes         the array of bytes.
+     * @param saltStoreType how the salt bytes are stored.
+     * @param saltLength    the number of the salt bytes.
+     *
+     * @return the offset of the hash bytes.
+     */
+    public static int getHashOffset(final byte[] bytes, final SaltStoreType saltStoreType, final int saltLength) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array is null");
+        }
+        if (saltStoreType == null) {
+            throw new IllegalArgumentException("Salt store type is null");
+        }
+        if (saltLength < 0 || saltLength >= bytes.length) {
+            throw new IllegalArgumentException("Salt length is not within [0; " + bytes.length + ")");
+        }
+        return saltStoreType.getHashOffset(bytes.length, saltLength);
+    }
+
+    /**
+     * Get the offset of the salt bytes in the array of bytes.
+     *
+     * @param bytes         the array of bytes.
+     * @param saltStoreType how the salt bytes are stored.
+     * @param saltLength    the number of the salt bytes.
+     *
+     * @return the offset of the salt bytes.
+     */
+    public static int getSaltOffset(final byte[] bytes, final SaltStoreType saltStoreType, final int saltLength) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array is null");
+        }
+        if (saltStoreType == null) {
+            throw new IllegalArgumentException("Salt store type is null");
+        }
+        if (saltLength < 0 || saltLength >= bytes.length) {
+            throw new IllegalArgumentException("Salt length is not within [0; " + bytes.length + ")");
+        }
+        return saltStoreType.getSaltOffset(bytes.length, saltLength);
+    }
+
+    /**
+     * Get the iteration count, stored before the salt bytes, from the array of bytes.
+     *
+     * @param bytes         the array of bytes.
+     * @param saltStoreType how the iteration count and the salt bytes are stored.
+     * @param saltLength    the number of the iteration count bytes and the salt bytes.
+     *
+     * @return the iteration count.
+     */
+    public static int getIterations(final byte[] bytes, final SaltStoreType saltStoreType, final int saltLength) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array is null");
+        }
+        if (saltStoreType == null) {
+            throw new IllegalArgumentException("Salt store type is null");
+        }
+        if (saltLength < SaltStoreType.ITERATIONS_LENGTH || saltLength >= bytes.length) {
+            throw new IllegalArgumentException("Salt length is not within [" + SaltStoreType.ITERATIONS_LENGTH + "; " + bytes.length + ")");
+        }
+        return saltStoreType.getIterations(bytes, saltLength);
+    }
+
 }
@@ -0,0 +1,130 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Intermediate state of the hash computation at the known offset of the data. The state can be
+ * converted to the bytes to be stored, and restored from the stored bytes later. The hash of the
+ * data, appended after the offset, is computed from the state without processing the data before
+ * the offset.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashState {
+
+    private static final int VERSION = 1;
+
+    private static final Charset ALGORITHM_ENCODING = StandardCharsets.UTF_8;
+
+    private final String _algorithm;
+
+    private final long _offset;
+
+    private final byte[] _state;
+
+    HashState(final String algorithm, final long offset, final byte[] state) {
+        super();
+        _algorithm = algorithm;
+        _offset = offset;
+        _state = state;
+    }
+
+    /**
+     * Restore the hash state from the bytes, obtained with the {@link #getBytes()} method.
+     *
+     * @param bytes the bytes of the hash state.
+     *
+     * @return the hash state.
+     */
+    public static HashState fromBytes(final byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Hash state bytes is null");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Wrong hash state bytes");
+            }
+            byte[] algorithm = readBytes(buffer, buffer.getShort());
+            long offset = buffer.getLong();
+            byte[] state = readBytes(buffer, buffer.getInt());
+            if (buffer.hasRemaining() || offset < 0) {
+                throw new IllegalArgumentException("Wrong hash state bytes");
+            }
+            return new HashState(new String(algorithm, ALGORITHM_ENCODING), offset, state);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Wrong hash state bytes", ex);
+        }
+    }
+
+    /**
+     * Get the hash algorithm.
+     *
+     * @return the hash algorithm.
+     */
+    public String getAlgorithm() {
+        return _algorithm;
+    }
+
+    /**
+     * Get the offset of the data, the hash state is computed for.
+     *
+     * @return the offset of the data.
+     */
+    public long getOffset() {
+        return _offset;
+    }
+
+    /**
+     * Get the bytes of the hash state to be stored.
+     *
+     * @return the bytes of the hash state.
+     */
+    public byte[] getBytes() {
+        byte[] algorithm = _algorithm.getBytes(ALGORITHM_ENCODING);
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 2 + algorithm.length + 8 + 4 + _state.length);
+        buffer.put((byte) VERSION);
+        buffer.putShort((short) algorithm.length);
+        buffer.put(algorithm);
+        buffer.putLong(_offset);
+        buffer.putInt(_state.length);
+        buffer.put(_state);
+        return buffer.array();
+    }
+
+    byte[] getState() {
+        return _state;
+    }
+
+    private static byte[] readBytes(final ByteBuffer buffer, final int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Wrong hash state bytes");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+}
@@ -0,0 +1,176 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writable byte channel that computes the hash of the bytes written to it. The bytes are optionally
+ * written to the downstream channel as well. The channel can be used as the target of the
+ * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)} method, so the
+ * file copy is hashed without an extra pass. The downstream channel is closed only if it is
+ * specified explicitly.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashingByteChannel implements WritableByteChannel {
+
+    private final WritableByteChannel _channel;
+
+    private final IncrementalHash _incrementalHash;
+
+    private final boolean _closeChannel;
+
+    private boolean _open;
+
+    /**
+     * Create new object. The bytes are only hashed.
+     *
+     * @param algorithm the hash algorithm.
+     */
+    public HashingByteChannel(final String algorithm) {
+        this(HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create new object. The bytes are only hashed.
+     *
+     * @param hashFunction the hash function.
+     */
+    public HashingByteChannel(final HashFunction hashFunction) {
+        super();
+        _channel = null;
+        _incrementalHash = new IncrementalHash(hashFunction);
+        _closeChannel = false;
+        _open = true;
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream channel. The
+     * downstream channel is not closed when this channel is closed.
+     *
+     * @param channel   the downstream channel.
+     * @param algorithm the hash algorithm.
+     */
+    public HashingByteChannel(final WritableByteChannel channel, final String algorithm) {
+        this(channel, algorithm, false);
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream channel.
+     *
+     * @param channel      the downstream channel.
+     * @param algorithm    the hash algorithm.
+     * @param closeChannel true to close the downstream channel when this channel is closed.
+     */
+    public HashingByteChannel(final WritableByteChannel channel, final String algorithm, final boolean closeChannel) {
+        this(checkChannel(channel), HashFunction.getInstance(algorithm), closeChannel);
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream channel. The
+     * downstream channel is not closed when this channel is closed.
+     *
+     * @param channel      the downstream channel.
+     * @param hashFunction the hash function.
+     */
+    public HashingByteChannel(final WritableByteChannel channel, final HashFunction hashFunction) {
+        this(channel, hashFunction, false);
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream channel.
+     *
+     * @param channel      the downstream channel.
+     * @param hashFunction the hash function.
+     * @param closeChannel true to close the downstream channel when this channel is closed.
+     */
+    public HashingByteChannel(final WritableByteChannel channel, final HashFunction hashFunction, final boolean closeChannel) {
+        super();
+        _channel = checkChannel(channel);
+        _incrementalHash = new IncrementalHash(hashFunction);
+        _closeChannel = closeChannel;
+        _open = true;
+    }
+
+    private static WritableByteChannel checkChannel(final WritableByteChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Target channel is null");
+        }
+        return channel;
+    }
+
+    @Override
+    public int write(final ByteBuffer buffer) throws IOException {
+        if (!_open) {
+            throw new ClosedChannelException();
+        }
+        _incrementalHash.checkHashNotComputed();
+        if (_channel == null) {
+            int written = buffer.remaining();
+            _incrementalHash.update(buffer);
+            return written;
+        } else {
+            ByteBuffer writtenBuffer = buffer.duplicate();
+            int written = _channel.write(buffer);
+            writtenBuffer.limit(writtenBuffer.position() + written);
+            _incrementalHash.update(writtenBuffer);
+            return written;
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return _open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        _open = false;
+        if (_closeChannel) {
+            _channel.close();
+        }
+    }
+
+    /**
+     * Get the hash of the bytes written so far. The hash is computed only once, after that the
+     * channel can not be written anymore. The same hash object is returned for the subsequent calls.
+     *
+     * @return the hash object.
+     */
+    public Hash getHash() {
+        return _incrementalHash.getHash();
+    }
+
+    /**
+     * Check if the hash of the bytes written so far matches the stored hash.
+     *
+     * @param storedHash the stored hash.
+     *
+     * @return true if the hash matches the stored hash.
+     */
+    public boolean isHashValid(final byte[] storedHash) {
+        return getHash().matches(storedHash);
+    }
+
+}
@@ -0,0 +1,170 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream that computes the hash of the bytes written to it. The bytes are optionally written
+ * to the downstream output stream as well, so the data can be hashed without buffering it. The
+ * downstream output stream is closed only if it is specified explicitly.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashingOutputStream extends OutputStream {
+
+    private final OutputStream _stream;
+
+    private final IncrementalHash _incrementalHash;
+
+    private final boolean _closeStream;
+
+    /**
+     * Create new object. The bytes are only hashed.
+     *
+     * @param algorithm the hash algorithm.
+     */
+    public HashingOutputStream(final String algorithm) {
+        this(HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Create new object. The bytes are only hashed.
+     *
+     * @param hashFunction the hash function.
+     */
+    public HashingOutputStream(final HashFunction hashFunction) {
+        super();
+        _stream = null;
+        _incrementalHash = new IncrementalHash(hashFunction);
+        _closeStream = false;
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream output stream. The
+     * downstream output stream is not closed when this stream is closed.
+     *
+     * @param stream    the downstream output stream.
+     * @param algorithm the hash algorithm.
+     */
+    public HashingOutputStream(final OutputStream stream, final String algorithm) {
+        this(stream, algorithm, false);
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream output stream.
+     *
+     * @param stream      the downstream output stream.
+     * @param algorithm   the hash algorithm.
+     * @param closeStream true to close the downstream output stream when this stream is closed.
+     */
+    public HashingOutputStream(final OutputStream stream, final String algorithm, final boolean closeStream) {
+        this(checkStream(stream), HashFunction.getInstance(algorithm), closeStream);
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream output stream. The
+     * downstream output stream is not closed when this stream is closed.
+     *
+     * @param stream       the downstream output stream.
+     * @param hashFunction the hash function.
+     */
+    public HashingOutputStream(final OutputStream stream, final HashFunction hashFunction) {
+        this(stream, hashFunction, false);
+    }
+
+    /**
+     * Create new object. The bytes are hashed and written to the downstream output stream.
+     *
+     * @param stream       the downstream output stream.
+     * @param hashFunction the hash function.
+     * @param closeStream  true to close the downstream output stream when this stream is closed.
+     */
+    public HashingOutputStream(final OutputStream stream, final HashFunction hashFunction, final boolean closeStream) {
+        super();
+        _stream = checkStream(stream);
+        _incrementalHash = new IncrementalHash(hashFunction);
+        _closeStream = closeStream;
+    }
+
+    private static OutputStream checkStream(final OutputStream stream) {
+        if (stream == null) {
+            throw new IllegalArgumentException("Target stream is null");
+        }
+        return stream;
+    }
+
+    @Override
+    public void write(final int value) throws IOException {
+        _incrementalHash.checkHashNotComputed();
+        if (_stream != null) {
+            _stream.write(value);
+        }
+        _incrementalHash.update((byte) value);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        _incrementalHash.checkHashNotComputed();
+        if (_stream != null) {
+            _stream.write(bytes, offset, length);
+        }
+        _incrementalHash.update(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (_stream != null) {
+            _stream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (_closeStream) {
+            _stream.close();
+        } else {
+            flush();
+        }
+    }
+
+    /**
+     * Get the hash of the bytes written so far. The hash is computed only once, after that the
+     * stream can not be written anymore. The same hash object is returned for the subsequent calls.
+     *
+     * @return the hash object.
+     */
+    public Hash getHash() {
+        return _incrementalHash.getHash();
+    }
+
+    /**
+     * Check if the hash of the bytes written so far matches the stored hash.
+     *
+     * @param storedHash the stored hash.
+     *
+     * @return true if the hash matches the stored hash.
+     */
+    public boolean isHashValid(final byte[] storedHash) {
+        return getHash().matches(storedHash);
+    }
+
+}
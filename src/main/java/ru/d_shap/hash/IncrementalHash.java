@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+/**
+ * Hash, that is computed incrementally from the bytes fed to it. The message digest is acquired
+ * from the pool of the hash function and is released when the hash is computed.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class IncrementalHash {
+
+    private final MessageDigestPool _messageDigestPool;
+
+    private final MessageDigest _messageDigest;
+
+    private Hash _hash;
+
+    IncrementalHash(final HashFunction hashFunction) {
+        super();
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        _messageDigestPool = hashFunction.getMessageDigestPool();
+        _messageDigest = _messageDigestPool.acquire();
+        _hash = null;
+    }
+
+    void checkHashNotComputed() {
+        if (_hash != null) {
+            throw new IllegalStateException("Hash is already computed");
+        }
+    }
+
+    void update(final byte value) {
+        checkHashNotComputed();
+        _messageDigest.update(value);
+    }
+
+    void update(final byte[] bytes, final int offset, final int length) {
+        checkHashNotComputed();
+        _messageDigest.update(bytes, offset, length);
+    }
+
+    void update(final ByteBuffer buffer) {
+        checkHashNotComputed();
+        _messageDigest.update(buffer);
+    }
+
+    Hash getHash() {
+        if (_hash == null) {
+            try {
+                _hash = new Hash(_messageDigestPool, _messageDigest);
+            } finally {
+                _messageDigestPool.release(_messageDigest);
+            }
+        }
+        return _hash;
+    }
+
+}
@@ -0,0 +1,110 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+/**
+ * Cleaner of the mapped byte buffers. The mapped byte buffer is unmapped with the invokeCleaner method
+ * of the sun.misc.Unsafe class, if the method is available (java 9 and later). Otherwise the mapped
+ * byte buffer is unmapped, when it is garbage collected.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class MappedBufferCleaner {
+
+    static final String UNSAFE_CLASS_NAME = "sun.misc.Unsafe";
+
+    private static final String UNSAFE_FIELD_NAME = "theUnsafe";
+
+    private static final String INVOKE_CLEANER_METHOD_NAME = "invokeCleaner";
+
+    private static final MappedBufferCleaner DEFAULT_INSTANCE = newInstance(UNSAFE_CLASS_NAME);
+
+    private final Object _unsafe;
+
+    private final Method _invokeCleanerMethod;
+
+    private MappedBufferCleaner(final Object unsafe, final Method invokeCleanerMethod) {
+        super();
+        _unsafe = unsafe;
+        _invokeCleanerMethod = invokeCleanerMethod;
+    }
+
+    static MappedBufferCleaner getInstance() {
+        return DEFAULT_INSTANCE;
+    }
+
+    static MappedBufferCleaner newInstance(final String unsafeClassName) {
+        try {
+            Class<?> unsafeClass = Class.forName(unsafeClassName);
+            Method invokeCleanerMethod = unsafeClass.getMethod(INVOKE_CLEANER_METHOD_NAME, ByteBuffer.class);
+            Object unsafe = AccessController.doPrivileged(new UnsafeAction(unsafeClass));
+            return new MappedBufferCleaner(unsafe, invokeCleanerMethod);
+        } catch (ReflectiveOperationException | PrivilegedActionException | SecurityException ex) {
+            return new MappedBufferCleaner(null, null);
+        }
+    }
+
+    boolean isSupported() {
+        return _invokeCleanerMethod != null;
+    }
+
+    boolean clean(final ByteBuffer buffer) {
+        if (_invokeCleanerMethod == null) {
+            return false;
+        }
+        try {
+            _invokeCleanerMethod.invoke(_unsafe, buffer);
+            return true;
+        } catch (ReflectiveOperationException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Action to get the sun.misc.Unsafe instance.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class UnsafeAction implements PrivilegedExceptionAction<Object> {
+
+        private final Class<?> _unsafeClass;
+
+        UnsafeAction(final Class<?> unsafeClass) {
+            super();
+            _unsafeClass = unsafeClass;
+        }
+
+        @Override
+        public Object run() throws ReflectiveOperationException {
+            Field unsafeField = _unsafeClass.getDeclaredField(UNSAFE_FIELD_NAME);
+            unsafeField.setAccessible(true);
+            return unsafeField.get(null);
+        }
+
+    }
+
+}
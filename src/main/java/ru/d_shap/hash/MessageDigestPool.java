@@ -0,0 +1,77 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.security.MessageDigest;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of the message digest objects, created by the message digest factory. The number of the idle
+ * message digest objects is limited, so the pool does not grow with the number of threads.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class MessageDigestPool {
+
+    static final int MAX_IDLE_COUNT = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final DigestFactory _digestFactory;
+
+    private final Queue<MessageDigest> _idleMessageDigests;
+
+    private final AtomicInteger _idleCount;
+
+    MessageDigestPool(final DigestFactory digestFactory) {
+        super();
+        _digestFactory = digestFactory;
+        _idleMessageDigests = new ConcurrentLinkedQueue<>();
+        _idleCount = new AtomicInteger();
+    }
+
+    DigestFactory getDigestFactory() {
+        return _digestFactory;
+    }
+
+    int getIdleCount() {
+        return _idleCount.get();
+    }
+
+    MessageDigest acquire() {
+        MessageDigest messageDigest = _idleMessageDigests.poll();
+        if (messageDigest == null) {
+            return _digestFactory.newMessageDigest();
+        } else {
+            _idleCount.decrementAndGet();
+            return messageDigest;
+        }
+    }
+
+    void release(final MessageDigest messageDigest) {
+        messageDigest.reset();
+        if (_idleCount.incrementAndGet() <= MAX_IDLE_COUNT) {
+            _idleMessageDigests.add(messageDigest);
+        } else {
+            _idleCount.decrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+/**
+ * Digest sink, that feeds the bytes to the single message digest.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class MessageDigestSink implements DigestSink {
+
+    private final MessageDigest _messageDigest;
+
+    MessageDigestSink(final MessageDigest messageDigest) {
+        super();
+        _messageDigest = messageDigest;
+    }
+
+    @Override
+    public void update(final byte[] bytes, final int offset, final int length) {
+        _messageDigest.update(bytes, offset, length);
+    }
+
+    @Override
+    public void update(final ByteBuffer buffer) {
+        _messageDigest.update(buffer);
+    }
+
+}
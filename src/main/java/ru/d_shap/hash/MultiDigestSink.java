@@ -0,0 +1,186 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Digest sink, that feeds the same bytes to the message digests of several hash functions, so the
+ * source is read only once. If the executor is specified, the large chunks of bytes are fed to
+ * the message digests in parallel. The tasks, that are not started by the executor, when the calling
+ * thread has fed its message digest, are run by the calling thread, so the calling thread waits only
+ * for the running tasks. The message digests are acquired from the pools of the hash functions and
+ * must be released with the {@link #release()} method.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class MultiDigestSink implements DigestSink {
+
+    static final int PARALLEL_UPDATE_THRESHOLD = 64 * 1024;
+
+    private final MessageDigestPool[] _messageDigestPools;
+
+    private final MessageDigest[] _messageDigests;
+
+    private final ExecutorService _executor;
+
+    MultiDigestSink(final HashFunction[] hashFunctions, final ExecutorService executor) {
+        super();
+        _messageDigestPools = new MessageDigestPool[hashFunctions.length];
+        _messageDigests = new MessageDigest[hashFunctions.length];
+        for (int i = 0; i < hashFunctions.length; i++) {
+            _messageDigestPools[i] = hashFunctions[i].getMessageDigestPool();
+            _messageDigests[i] = _messageDigestPools[i].acquire();
+        }
+        _executor = executor;
+    }
+
+    Hash[] getHashes() {
+        Hash[] hashes = new Hash[_messageDigests.length];
+        for (int i = 0; i < _messageDigests.length; i++) {
+            hashes[i] = new Hash(_messageDigestPools[i], _messageDigests[i]);
+        }
+        return hashes;
+    }
+
+    void release() {
+        for (int i = 0; i < _messageDigests.length; i++) {
+            _messageDigestPools[i].release(_messageDigests[i]);
+        }
+    }
+
+    @Override
+    public void update(final byte[] bytes, final int offset, final int length) {
+        UpdateTask[] updateTasks = new UpdateTask[_messageDigests.length];
+        for (int i = 0; i < _messageDigests.length; i++) {
+            updateTasks[i] = new UpdateTask(_messageDigests[i], bytes, offset, length, null);
+        }
+        execute(updateTasks, length);
+    }
+
+    @Override
+    public void update(final ByteBuffer buffer) {
+        int length = buffer.remaining();
+        UpdateTask[] updateTasks = new UpdateTask[_messageDigests.length];
+        for (int i = 0; i < _messageDigests.length; i++) {
+            updateTasks[i] = new UpdateTask(_messageDigests[i], null, 0, 0, buffer.duplicate());
+        }
+        execute(updateTasks, length);
+        buffer.position(buffer.limit());
+    }
+
+    private void execute(final UpdateTask[] updateTasks, final int length) {
+        if (_executor == null || updateTasks.length < 2 || length < PARALLEL_UPDATE_THRESHOLD) {
+            for (UpdateTask updateTask : updateTasks) {
+                updateTask.run();
+            }
+            return;
+        }
+        List<FutureTask<Void>> futureTasks = new ArrayList<>(updateTasks.length - 1);
+        for (int i = 1; i < updateTasks.length; i++) {
+            FutureTask<Void> futureTask = new FutureTask<>(updateTasks[i], null);
+            futureTasks.add(futureTask);
+            try {
+                _executor.execute(futureTask);
+            } catch (RejectedExecutionException ex) {
+                futureTask.run();
+            }
+        }
+        updateTasks[0].run();
+        for (FutureTask<Void> futureTask : futureTasks) {
+            futureTask.run();
+        }
+        waitForAll(futureTasks);
+    }
+
+    private static void waitForAll(final List<FutureTask<Void>> futureTasks) {
+        boolean interrupted = false;
+        Throwable failure = null;
+        for (FutureTask<Void> futureTask : futureTasks) {
+            boolean done = false;
+            while (!done) {
+                try {
+                    futureTask.get();
+                    done = true;
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                } catch (ExecutionException ex) {
+                    failure = ex.getCause();
+                    done = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new HashIOException(new InterruptedIOException("Hash computation is interrupted"));
+        }
+    }
+
+    /**
+     * Task to feed the bytes to the message digest.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class UpdateTask implements Runnable {
+
+        private final MessageDigest _messageDigest;
+
+        private final byte[] _bytes;
+
+        private final int _offset;
+
+        private final int _length;
+
+        private final ByteBuffer _buffer;
+
+        UpdateTask(final MessageDigest messageDigest, final byte[] bytes, final int offset, final int length, final ByteBuffer buffer) {
+            super();
+            _messageDigest = messageDigest;
+            _bytes = bytes;
+            _offset = offset;
+            _length = length;
+            _buffer = buffer;
+        }
+
+        @Override
+        public void run() {
+            if (_buffer == null) {
+                _messageDigest.update(_bytes, _offset, _length);
+            } else {
+                _messageDigest.update(_buffer);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,248 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reader of the input stream, that fills the next buffer of the ring of buffers, while the bytes of
+ * the previous buffer are fed to the digest sink. The reader is executed by the executor, the bytes
+ * are fed to the digest sink by the calling thread. The buffers are reused, the stream is closed
+ * by the reader. If the executor does not start the reader, while the calling thread waits for the
+ * first buffer, then the reader is not executed, and the stream is read by the calling thread. If the
+ * reader or the calling thread is interrupted, then the hash computation fails.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class PipelinedStreamReader implements Callable<Void> {
+
+    static final int BUFFER_COUNT = 4;
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    static final long POLL_TIMEOUT = 100;
+
+    static final String INTERRUPTED_MESSAGE = "Hash computation is interrupted";
+
+    private static final Chunk END_OF_STREAM = new Chunk(new byte[0]);
+
+    private static final Chunk NOT_STARTED = new Chunk(new byte[0]);
+
+    private final InputStream _stream;
+
+    private final BlockingQueue<Chunk> _freeChunks;
+
+    private final BlockingQueue<Chunk> _filledChunks;
+
+    private final AtomicBoolean _started;
+
+    PipelinedStreamReader(final InputStream stream, final int bufferSize) {
+        super();
+        _stream = stream;
+        int chunkSize;
+        if (bufferSize == HashHelper.ADAPTIVE_BUFFER_SIZE) {
+            chunkSize = DEFAULT_BUFFER_SIZE;
+        } else {
+            chunkSize = bufferSize;
+        }
+        _freeChunks = new ArrayBlockingQueue<>(BUFFER_COUNT);
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            _freeChunks.add(new Chunk(new byte[chunkSize]));
+        }
+        _filledChunks = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+        _started = new AtomicBoolean(false);
+    }
+
+    @Override
+    public Void call() throws IOException {
+        if (!_started.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            try {
+                readChunks();
+            } finally {
+                _stream.close();
+            }
+        } finally {
+            _filledChunks.add(END_OF_STREAM);
+        }
+        return null;
+    }
+
+    private void readChunks() throws IOException {
+        while (true) {
+            Chunk chunk;
+            try {
+                chunk = _freeChunks.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw createInterruptedIOException(ex);
+            }
+            chunk._length = fillBuffer(chunk._buffer);
+            if (chunk._length > 0) {
+                _filledChunks.add(chunk);
+            }
+            if (chunk._length < chunk._buffer.length) {
+                return;
+            }
+        }
+    }
+
+    private int fillBuffer(final byte[] buffer) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            int read = _stream.read(buffer, length, buffer.length - length);
+            if (read <= 0) {
+                break;
+            }
+            length += read;
+        }
+        return length;
+    }
+
+    void updateDigestSink(final DigestSink digestSink, final Future<Void> future) {
+        boolean completed = false;
+        try {
+            Chunk chunk = takeFilledChunk(future);
+            if (chunk == NOT_STARTED) {
+                readStream(digestSink);
+            } else {
+                while (chunk != END_OF_STREAM) {
+                    digestSink.update(chunk._buffer, 0, chunk._length);
+                    _freeChunks.add(chunk);
+                    chunk = takeFilledChunk(future);
+                }
+                waitForReader(future);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                cancelReader(future);
+            }
+        }
+    }
+
+    private Chunk takeFilledChunk(final Future<Void> future) {
+        try {
+            while (true) {
+                Chunk chunk = _filledChunks.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (chunk != null) {
+                    return chunk;
+                }
+                if (_started.compareAndSet(false, true)) {
+                    return NOT_STARTED;
+                }
+                if (future.isDone()) {
+                    chunk = _filledChunks.poll();
+                    if (chunk == null) {
+                        return END_OF_STREAM;
+                    }
+                    return chunk;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new HashIOException(createInterruptedIOException(ex));
+        }
+    }
+
+    private void readStream(final DigestSink digestSink) {
+        try {
+            try {
+                byte[] buffer = _freeChunks.remove()._buffer;
+                int length;
+                do {
+                    length = fillBuffer(buffer);
+                    if (length > 0) {
+                        digestSink.update(buffer, 0, length);
+                    }
+                } while (length == buffer.length);
+            } finally {
+                _stream.close();
+            }
+        } catch (IOException ex) {
+            throw new HashIOException(ex);
+        }
+    }
+
+    private void waitForReader(final Future<Void> future) {
+        Throwable failure;
+        try {
+            future.get();
+            return;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new HashIOException(createInterruptedIOException(ex));
+        } catch (ExecutionException ex) {
+            failure = ex.getCause();
+        }
+        if (failure instanceof IOException) {
+            throw new HashIOException((IOException) failure);
+        }
+        throw new IllegalStateException(failure);
+    }
+
+    private void cancelReader(final Future<Void> future) {
+        future.cancel(true);
+        if (_started.compareAndSet(false, true)) {
+            try {
+                _stream.close();
+            } catch (IOException ex) {
+                throw new HashIOException(ex);
+            }
+        }
+    }
+
+    private static InterruptedIOException createInterruptedIOException(final InterruptedException cause) {
+        InterruptedIOException exception = new InterruptedIOException(INTERRUPTED_MESSAGE);
+        exception.initCause(cause);
+        return exception;
+    }
+
+    /**
+     * Buffer of the ring with the number of the read bytes.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class Chunk {
+
+        private final byte[] _buffer;
+
+        private int _length;
+
+        Chunk(final byte[] buffer) {
+            super();
+            _buffer = buffer;
+            _length = 0;
+        }
+
+    }
+
+}
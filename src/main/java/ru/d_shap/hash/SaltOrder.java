@@ -31,6 +31,11 @@ public enum SaltOrder {
         void addSalt(final Hash hash, final byte[] storedSalt, final byte[] fixedSalt) {
             hash.addSalt(storedSalt).addSalt(fixedSalt);
         }
+
+        @Override
+        void addSalt(final Hash hash, final byte[] storedSalt, final int offset, final int length, final byte[] fixedSalt, final int iterations) {
+            hash.addSalt(storedSalt, offset, length, fixedSalt, 0, fixedSalt.length, iterations);
+        }
     },
 
     FIXED_SALT_FIRST {
@@ -38,8 +43,15 @@ public enum SaltOrder {
         void addSalt(final Hash hash, final byte[] storedSalt, final byte[] fixedSalt) {
             hash.addSalt(fixedSalt).addSalt(storedSalt);
         }
+
+        @Override
+        void addSalt(final Hash hash, final byte[] storedSalt, final int offset, final int length, final byte[] fixedSalt, final int iterations) {
+            hash.addSalt(fixedSalt, 0, fixedSalt.length, storedSalt, offset, length, iterations);
+        }
     };
 
     abstract void addSalt(Hash hash, byte[] storedSalt, byte[] fixedSalt);
 
+    abstract void addSalt(Hash hash, byte[] storedSalt, int offset, int length, byte[] fixedSalt, int iterations);
+
 }
@@ -45,6 +45,21 @@ public enum SaltStoreType {
             System.arraycopy(bytes, 0, result, 0, bytes.length);
             return result;
         }
+
+        @Override
+        int getSaltOffset(final int length, final int saltLength) {
+            return 0;
+        }
+
+        @Override
+        int getHashOffset(final int length, final int saltLength) {
+            return 0;
+        }
+
+        @Override
+        int getIterations(final byte[] bytes, final int saltLength) {
+            return 1;
+        }
     },
 
     AT_THE_BEGINNING {
@@ -70,6 +85,21 @@ public enum SaltStoreType {
             System.arraycopy(bytes, saltLength, hash, 0, hashLength);
             return hash;
         }
+
+        @Override
+        int getSaltOffset(final int length, final int saltLength) {
+            return 0;
+        }
+
+        @Override
+        int getHashOffset(final int length, final int saltLength) {
+            return saltLength;
+        }
+
+        @Override
+        int getIterations(final byte[] bytes, final int saltLength) {
+            return readIterations(bytes, 0);
+        }
     },
 
     AT_THE_END {
@@ -95,12 +125,57 @@ public enum SaltStoreType {
             System.arraycopy(bytes, 0, hash, 0, hashLength);
             return hash;
         }
+
+        @Override
+        int getSaltOffset(final int length, final int saltLength) {
+            return length - saltLength;
+        }
+
+        @Override
+        int getHashOffset(final int length, final int saltLength) {
+            return 0;
+        }
+
+        @Override
+        int getIterations(final byte[] bytes, final int saltLength) {
+            return readIterations(bytes, bytes.length - saltLength);
+        }
     };
 
+    /**
+     * The number of bytes of the iteration count, stored before the salt bytes.
+     */
+    public static final int ITERATIONS_LENGTH = 4;
+
+    /**
+     * The default maximum of the iteration count, read from the stored hash.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 1_000_000;
+
     abstract byte[] addSaltBytes(byte[] hash, byte[] salt);
 
+    final byte[] addSaltBytes(final byte[] hash, final byte[] salt, final int iterations) {
+        byte[] iteratedSalt = new byte[ITERATIONS_LENGTH + salt.length];
+        iteratedSalt[0] = (byte) (iterations >>> 24);
+        iteratedSalt[1] = (byte) (iterations >>> 16);
+        iteratedSalt[2] = (byte) (iterations >>> 8);
+        iteratedSalt[3] = (byte) iterations;
+        System.arraycopy(salt, 0, iteratedSalt, ITERATIONS_LENGTH, salt.length);
+        return addSaltBytes(hash, iteratedSalt);
+    }
+
     abstract byte[] getSaltBytes(byte[] bytes, int saltLength);
 
     abstract byte[] getHashBytes(byte[] bytes, int saltLength);
 
+    abstract int getSaltOffset(int length, int saltLength);
+
+    abstract int getHashOffset(int length, int saltLength);
+
+    abstract int getIterations(byte[] bytes, int saltLength);
+
+    private static int readIterations(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 | bytes[offset + 3] & 0xFF;
+    }
+
 }
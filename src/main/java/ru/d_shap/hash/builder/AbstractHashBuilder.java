@@ -19,9 +19,14 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.hash.builder;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import ru.d_shap.hash.Hash;
 import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashFunction;
 import ru.d_shap.hash.HashHelper;
+import ru.d_shap.hash.SaltOrder;
 import ru.d_shap.hash.SaltStoreType;
 
 /**
@@ -35,11 +40,14 @@ abstract class AbstractHashBuilder<T extends AbstractHashBuilder<?>> {
 
     private String _algorithm;
 
+    private HashFunction _hashFunction;
+
     private byte[] _storedHash;
 
     AbstractHashBuilder() {
         super();
         _algorithm = HashAlgorithms.MD5;
+        _hashFunction = null;
         _storedHash = null;
     }
 
@@ -62,6 +70,37 @@ abstract class AbstractHashBuilder<T extends AbstractHashBuilder<?>> {
     @SuppressWarnings("unchecked")
     public final T setAlgorithm(final String algorithm) {
         _algorithm = algorithm;
+        _hashFunction = null;
+        return (T) this;
+    }
+
+    /**
+     * Get the hash function of the algorithm.
+     *
+     * @return the hash function of the algorithm.
+     */
+    public final HashFunction getHashFunction() {
+        if (_hashFunction == null) {
+            _hashFunction = HashFunction.getInstance(_algorithm);
+        }
+        return _hashFunction;
+    }
+
+    /**
+     * Set the hash function of the algorithm.
+     *
+     * @param hashFunction the hash function of the algorithm.
+     *
+     * @return current object for the chain call.
+     */
+    @SuppressWarnings("unchecked")
+    public final T setHashFunction(final HashFunction hashFunction) {
+        if (hashFunction == null) {
+            _algorithm = null;
+        } else {
+            _algorithm = hashFunction.getAlgorithm();
+        }
+        _hashFunction = hashFunction;
         return (T) this;
     }
 
@@ -127,6 +166,71 @@ abstract class AbstractHashBuilder<T extends AbstractHashBuilder<?>> {
         return HashHelper.getSaltBytes(_storedHash, saltStoreType, storedSaltLength);
     }
 
+    final byte[] getSaltFromStoredHash(final SaltStoreType saltStoreType, final int storedSaltLength, final int skipLength) {
+        int saltOffset = HashHelper.getSaltOffset(_storedHash, saltStoreType, storedSaltLength) + skipLength;
+        return Arrays.copyOfRange(_storedHash, saltOffset, saltOffset + storedSaltLength - skipLength);
+    }
+
+    final boolean isSaltFromStoredHash(final byte[] salt, final SaltStoreType saltStoreType, final int storedSaltLength, final int skipLength) {
+        if (salt.length != storedSaltLength - skipLength) {
+            return false;
+        }
+        int saltOffset = HashHelper.getSaltOffset(_storedHash, saltStoreType, storedSaltLength) + skipLength;
+        for (int i = 0; i < salt.length; i++) {
+            if (salt[i] != _storedHash[saltOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    final int getIterationsFromStoredHash(final SaltStoreType saltStoreType, final int storedSaltLength) {
+        return HashHelper.getIterations(_storedHash, saltStoreType, storedSaltLength);
+    }
+
+    final boolean isStoredIterationsValid(final SaltStoreType saltStoreType, final int storedSaltLength, final int maxIterations) {
+        int iterations = getIterationsFromStoredHash(saltStoreType, storedSaltLength);
+        return iterations >= 1 && iterations <= maxIterations;
+    }
+
+    final Hash addStoredSalt(final Hash hash, final SaltStoreType saltStoreType, final int storedSaltLength, final int skipLength, final int iterations) {
+        if (hash == null) {
+            throw new IllegalArgumentException("Hash is null");
+        }
+        int saltOffset = HashHelper.getSaltOffset(_storedHash, saltStoreType, storedSaltLength) + skipLength;
+        return hash.addSalt(_storedHash, saltOffset, storedSaltLength - skipLength, iterations);
+    }
+
+    final Hash addStoredSalt(final Hash hash, final SaltStoreType saltStoreType, final int storedSaltLength, final int skipLength, final byte[] fixedSalt, final SaltOrder saltOrder, final int iterations) {
+        int saltOffset = HashHelper.getSaltOffset(_storedHash, saltStoreType, storedSaltLength) + skipLength;
+        HashHelper.addSalt(hash, _storedHash, saltOffset, storedSaltLength - skipLength, fixedSalt, saltOrder, iterations);
+        return hash;
+    }
+
+    final boolean matchesStoredHash(final Hash hash, final SaltStoreType saltStoreType, final int storedSaltLength) {
+        if (hash == null) {
+            throw new IllegalArgumentException("Hash is null");
+        }
+        int hashOffset = HashHelper.getHashOffset(_storedHash, saltStoreType, storedSaltLength);
+        return hash.matches(_storedHash, hashOffset, _storedHash.length - storedSaltLength);
+    }
+
+    static int getByteArrayLength(final byte[] bytes) {
+        if (bytes == null) {
+            return 0;
+        } else {
+            return bytes.length;
+        }
+    }
+
+    static ByteBuffer duplicateBuffer(final ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        } else {
+            return buffer.duplicate();
+        }
+    }
+
     /**
      * Check if the current hash is valid.
      *
@@ -24,7 +24,7 @@ import ru.d_shap.hash.HashHelper;
 import ru.d_shap.hash.SaltStoreType;
 
 /**
- * Hash builder for the byte array.
+ * Hash builder for the range of the byte array.
  *
  * @author Dmitry Shapovalov
  */
@@ -32,27 +32,39 @@ final class ByteArrayHashWithSaltBuilder extends HashWithSaltBuilder {
 
     private final byte[] _bytes;
 
+    private final int _offset;
+
+    private final int _length;
+
     ByteArrayHashWithSaltBuilder(final byte[] bytes) {
+        this(bytes, 0, getByteArrayLength(bytes));
+    }
+
+    ByteArrayHashWithSaltBuilder(final byte[] bytes, final int offset, final int length) {
         super();
         _bytes = bytes;
+        _offset = offset;
+        _length = length;
     }
 
     @Override
     public byte[] getHash() {
-        Hash hash = addSalt(HashHelper.getHash(_bytes, getAlgorithm()));
+        Hash hash = addSalt(HashHelper.getHash(_bytes, _offset, _length, getSaltHashFunction()));
         return addSaltBytes(hash);
     }
 
     @Override
     public boolean isHashValid() {
         if (getSaltStoreType() == SaltStoreType.DO_NOT_STORE) {
-            return matches(addSalt(HashHelper.getHash(_bytes, getAlgorithm())));
+            return matches(addSalt(HashHelper.getHash(_bytes, _offset, _length, getSaltHashFunction())));
         } else {
-            Hash hash = HashHelper.getHash(_bytes, getAlgorithm());
-            int storedSaltLength = getStoredSaltLength(hash.getLength());
-            byte[] storedHash = getHashFromStoredHash(getSaltStoreType(), storedSaltLength);
-            byte[] storedSalt = getSaltFromStoredHash(getSaltStoreType(), storedSaltLength);
-            return hash.addSalt(storedSalt).matches(storedHash);
+            int storedSaltLength = getStoredSaltLength(getHashFunction().getDigestLength());
+            if (!isStoredIterationsValid(storedSaltLength)) {
+                return false;
+            }
+            Hash hash = HashHelper.getHash(_bytes, _offset, _length, getStoredSaltHashFunction(storedSaltLength));
+            addStoredSalt(hash, storedSaltLength);
+            return matchesStoredHash(hash, getSaltStoreType(), storedSaltLength);
         }
     }
 
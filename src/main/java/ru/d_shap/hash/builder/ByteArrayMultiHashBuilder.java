@@ -0,0 +1,52 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.builder;
+
+import java.util.concurrent.ExecutorService;
+
+import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashFunction;
+import ru.d_shap.hash.HashHelper;
+
+/**
+ * Hash builder for several hash algorithms for the byte array.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ByteArrayMultiHashBuilder extends MultiHashBuilder {
+
+    private final byte[] _bytes;
+
+    ByteArrayMultiHashBuilder(final byte[] bytes) {
+        super();
+        _bytes = bytes;
+    }
+
+    @Override
+    Hash[] getHashes(final HashFunction... hashFunctions) {
+        return HashHelper.getHashes(_bytes, hashFunctions);
+    }
+
+    @Override
+    Hash[] getHashes(final ExecutorService executor, final HashFunction... hashFunctions) {
+        return HashHelper.getHashes(_bytes, executor, hashFunctions);
+    }
+
+}
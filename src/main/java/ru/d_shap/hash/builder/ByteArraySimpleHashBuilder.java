@@ -22,7 +22,7 @@ package ru.d_shap.hash.builder;
 import ru.d_shap.hash.HashHelper;
 
 /**
- * Hash builder for the byte array.
+ * Hash builder for the range of the byte array.
  *
  * @author Dmitry Shapovalov
  */
@@ -30,19 +30,29 @@ final class ByteArraySimpleHashBuilder extends SimpleHashBuilder {
 
     private final byte[] _bytes;
 
+    private final int _offset;
+
+    private final int _length;
+
     ByteArraySimpleHashBuilder(final byte[] bytes) {
+        this(bytes, 0, getByteArrayLength(bytes));
+    }
+
+    ByteArraySimpleHashBuilder(final byte[] bytes, final int offset, final int length) {
         super();
         _bytes = bytes;
+        _offset = offset;
+        _length = length;
     }
 
     @Override
     public byte[] getHash() {
-        return HashHelper.getHash(_bytes, getAlgorithm()).getBytes();
+        return HashHelper.getHash(_bytes, _offset, _length, getHashFunction()).getBytes();
     }
 
     @Override
     public boolean isHashValid() {
-        return matches(HashHelper.getHash(_bytes, getAlgorithm()));
+        return matches(HashHelper.getHash(_bytes, _offset, _length, getHashFunction()));
     }
 
 }
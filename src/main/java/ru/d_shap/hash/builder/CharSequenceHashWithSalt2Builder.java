@@ -42,20 +42,22 @@ final class CharSequenceHashWithSalt2Builder extends HashWithSalt2Builder {
 
     @Override
     public byte[] getHash() {
-        Hash hash = addSalt(HashHelper.getHash(_charSequence, _encoding, getAlgorithm()));
+        Hash hash = addSalt(HashHelper.getHash(_charSequence, _encoding, getHashFunction()));
         return addSaltBytes(hash);
     }
 
     @Override
     public boolean isHashValid() {
         if (getSaltStoreType() == SaltStoreType.DO_NOT_STORE) {
-            return matches(addSalt(HashHelper.getHash(_charSequence, _encoding, getAlgorithm())));
+            return matches(addSalt(HashHelper.getHash(_charSequence, _encoding, getHashFunction())));
         } else {
-            Hash hash = HashHelper.getHash(_charSequence, _encoding, getAlgorithm());
-            int storedSaltLength = getStoredSaltLength(hash.getLength());
-            byte[] storedHash = getHashFromStoredHash(getSaltStoreType(), storedSaltLength);
-            byte[] storedSalt = getSaltFromStoredHash(getSaltStoreType(), storedSaltLength);
-            return addSalt(hash, storedSalt).matches(storedHash);
+            int storedSaltLength = getStoredSaltLength(getHashFunction().getDigestLength());
+            if (!isStoredIterationsValid(storedSaltLength)) {
+                return false;
+            }
+            Hash hash = HashHelper.getHash(_charSequence, _encoding, getHashFunction());
+            addStoredSalt(hash, storedSaltLength);
+            return matchesStoredHash(hash, getSaltStoreType(), storedSaltLength);
         }
     }
 
@@ -42,20 +42,22 @@ final class CharSequenceHashWithSaltBuilder extends HashWithSaltBuilder {
 
     @Override
     public byte[] getHash() {
-        Hash hash = addSalt(HashHelper.getHash(_charSequence, _encoding, getAlgorithm()));
+        Hash hash = addSalt(HashHelper.getHash(_charSequence, _encoding, getSaltHashFunction()));
         return addSaltBytes(hash);
     }
 
     @Override
     public boolean isHashValid() {
         if (getSaltStoreType() == SaltStoreType.DO_NOT_STORE) {
-            return matches(addSalt(HashHelper.getHash(_charSequence, _encoding, getAlgorithm())));
+            return matches(addSalt(HashHelper.getHash(_charSequence, _encoding, getSaltHashFunction())));
         } else {
-            Hash hash = HashHelper.getHash(_charSequence, _encoding, getAlgorithm());
-            int storedSaltLength = getStoredSaltLength(hash.getLength());
-            byte[] storedHash = getHashFromStoredHash(getSaltStoreType(), storedSaltLength);
-            byte[] storedSalt = getSaltFromStoredHash(getSaltStoreType(), storedSaltLength);
-            return hash.addSalt(storedSalt).matches(storedHash);
+            int storedSaltLength = getStoredSaltLength(getHashFunction().getDigestLength());
+            if (!isStoredIterationsValid(storedSaltLength)) {
+                return false;
+            }
+            Hash hash = HashHelper.getHash(_charSequence, _encoding, getStoredSaltHashFunction(storedSaltLength));
+            addStoredSalt(hash, storedSaltLength);
+            return matchesStoredHash(hash, getSaltStoreType(), storedSaltLength);
         }
     }
 
@@ -40,12 +40,12 @@ final class CharSequenceSimpleHashBuilder extends SimpleHashBuilder {
 
     @Override
     public byte[] getHash() {
-        return HashHelper.getHash(_charSequence, _encoding, getAlgorithm()).getBytes();
+        return HashHelper.getHash(_charSequence, _encoding, getHashFunction()).getBytes();
     }
 
     @Override
     public boolean isHashValid() {
-        return matches(HashHelper.getHash(_charSequence, _encoding, getAlgorithm()));
+        return matches(HashHelper.getHash(_charSequence, _encoding, getHashFunction()));
     }
 
 }
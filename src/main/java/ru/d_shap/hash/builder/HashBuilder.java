@@ -20,8 +20,12 @@
 package ru.d_shap.hash.builder;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
 
 import ru.d_shap.hash.DefaultEncoding;
+import ru.d_shap.hash.HashHelper;
 
 /**
  * Hash builder entry point.
@@ -45,6 +49,31 @@ public final class HashBuilder {
         return new ByteArraySimpleHashBuilder(bytes);
     }
 
+    /**
+     * Create simple hash builder for the range of the byte array.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     *
+     * @return the simple hash builder.
+     */
+    public static SimpleHashBuilder newSimpleHashBuilder(final byte[] bytes, final int offset, final int length) {
+        return new ByteArraySimpleHashBuilder(bytes, offset, length);
+    }
+
+    /**
+     * Create simple hash builder for the remaining bytes of the byte buffer. The position of the byte buffer
+     * is not changed.
+     *
+     * @param buffer the byte buffer.
+     *
+     * @return the simple hash builder.
+     */
+    public static SimpleHashBuilder newSimpleHashBuilder(final ByteBuffer buffer) {
+        return new ByteBufferSimpleHashBuilder(buffer);
+    }
+
     /**
      * Create simple hash builder.
      *
@@ -76,7 +105,44 @@ public final class HashBuilder {
      * @return the simple hash builder.
      */
     public static SimpleHashBuilder newSimpleHashBuilder(final InputStream stream) {
-        return new InputStreamSimpleHashBuilder(stream);
+        return newSimpleHashBuilder(stream, HashHelper.ADAPTIVE_BUFFER_SIZE);
+    }
+
+    /**
+     * Create simple hash builder.
+     *
+     * @param stream     the input stream.
+     * @param bufferSize the size of the buffer to read the input stream.
+     *
+     * @return the simple hash builder.
+     */
+    public static SimpleHashBuilder newSimpleHashBuilder(final InputStream stream, final int bufferSize) {
+        return new InputStreamSimpleHashBuilder(stream, bufferSize);
+    }
+
+    /**
+     * Create simple hash builder. The input stream is read by the task, submitted to the
+     * specified executor, while the previous buffer is hashed.
+     *
+     * @param stream     the input stream.
+     * @param bufferSize the size of the buffer to read the input stream.
+     * @param executor   the executor to read the input stream, or null to read the input stream in the calling thread.
+     *
+     * @return the simple hash builder.
+     */
+    public static SimpleHashBuilder newSimpleHashBuilder(final InputStream stream, final int bufferSize, final ExecutorService executor) {
+        return new InputStreamSimpleHashBuilder(stream, bufferSize, executor);
+    }
+
+    /**
+     * Create simple hash builder.
+     *
+     * @param path the file.
+     *
+     * @return the simple hash builder.
+     */
+    public static SimpleHashBuilder newSimpleHashBuilder(final Path path) {
+        return new PathSimpleHashBuilder(path);
     }
 
     /**
@@ -90,6 +156,31 @@ public final class HashBuilder {
         return new ByteArrayHashWithSaltBuilder(bytes);
     }
 
+    /**
+     * Create hash with the salt builder for the range of the byte array.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     *
+     * @return the hash with the salt builder.
+     */
+    public static HashWithSaltBuilder newHashWithSaltBuilder(final byte[] bytes, final int offset, final int length) {
+        return new ByteArrayHashWithSaltBuilder(bytes, offset, length);
+    }
+
+    /**
+     * Create hash with the salt builder for the remaining bytes of the byte buffer. The position of the byte buffer
+     * is not changed.
+     *
+     * @param buffer the byte buffer.
+     *
+     * @return the hash with the salt builder.
+     */
+    public static HashWithSaltBuilder newHashWithSaltBuilder(final ByteBuffer buffer) {
+        return new ByteBufferHashWithSaltBuilder(buffer);
+    }
+
     /**
      * Create hash with the salt builder.
      *
@@ -121,7 +212,44 @@ public final class HashBuilder {
      * @return the hash with the salt builder.
      */
     public static HashWithSaltBuilder newHashWithSaltBuilder(final InputStream stream) {
-        return new InputStreamHashWithSaltBuilder(stream);
+        return newHashWithSaltBuilder(stream, HashHelper.ADAPTIVE_BUFFER_SIZE);
+    }
+
+    /**
+     * Create hash with the salt builder.
+     *
+     * @param stream     the input stream.
+     * @param bufferSize the size of the buffer to read the input stream.
+     *
+     * @return the hash with the salt builder.
+     */
+    public static HashWithSaltBuilder newHashWithSaltBuilder(final InputStream stream, final int bufferSize) {
+        return new InputStreamHashWithSaltBuilder(stream, bufferSize);
+    }
+
+    /**
+     * Create hash with the salt builder. The input stream is read by the task, submitted to the
+     * specified executor, while the previous buffer is hashed.
+     *
+     * @param stream     the input stream.
+     * @param bufferSize the size of the buffer to read the input stream.
+     * @param executor   the executor to read the input stream, or null to read the input stream in the calling thread.
+     *
+     * @return the hash with the salt builder.
+     */
+    public static HashWithSaltBuilder newHashWithSaltBuilder(final InputStream stream, final int bufferSize, final ExecutorService executor) {
+        return new InputStreamHashWithSaltBuilder(stream, bufferSize, executor);
+    }
+
+    /**
+     * Create hash with the salt builder.
+     *
+     * @param path the file.
+     *
+     * @return the hash with the salt builder.
+     */
+    public static HashWithSaltBuilder newHashWithSaltBuilder(final Path path) {
+        return new PathHashWithSaltBuilder(path);
     }
 
     /**
@@ -135,6 +263,31 @@ public final class HashBuilder {
         return new ByteArrayHashWithSalt2Builder(bytes);
     }
 
+    /**
+     * Create hash with the stored salt and the fixed salt builder for the range of the byte array.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     *
+     * @return the hash with the stored salt and the fixed salt builder.
+     */
+    public static HashWithSalt2Builder newHashWithSalt2Builder(final byte[] bytes, final int offset, final int length) {
+        return new ByteArrayHashWithSalt2Builder(bytes, offset, length);
+    }
+
+    /**
+     * Create hash with the stored salt and the fixed salt builder for the remaining bytes of the byte buffer. The position of the byte buffer
+     * is not changed.
+     *
+     * @param buffer the byte buffer.
+     *
+     * @return the hash with the stored salt and the fixed salt builder.
+     */
+    public static HashWithSalt2Builder newHashWithSalt2Builder(final ByteBuffer buffer) {
+        return new ByteBufferHashWithSalt2Builder(buffer);
+    }
+
     /**
      * Create hash with the stored salt and the fixed salt builder.
      *
@@ -166,7 +319,77 @@ public final class HashBuilder {
      * @return the hash with the stored salt and the fixed salt builder.
      */
     public static HashWithSalt2Builder newHashWithSalt2Builder(final InputStream stream) {
-        return new InputStreamHashWithSalt2Builder(stream);
+        return newHashWithSalt2Builder(stream, HashHelper.ADAPTIVE_BUFFER_SIZE);
+    }
+
+    /**
+     * Create hash with the stored salt and the fixed salt builder.
+     *
+     * @param stream     the input stream.
+     * @param bufferSize the size of the buffer to read the input stream.
+     *
+     * @return the hash with the stored salt and the fixed salt builder.
+     */
+    public static HashWithSalt2Builder newHashWithSalt2Builder(final InputStream stream, final int bufferSize) {
+        return new InputStreamHashWithSalt2Builder(stream, bufferSize);
+    }
+
+    /**
+     * Create hash with the stored salt and the fixed salt builder. The input stream is read by the task, submitted to the
+     * specified executor, while the previous buffer is hashed.
+     *
+     * @param stream     the input stream.
+     * @param bufferSize the size of the buffer to read the input stream.
+     * @param executor   the executor to read the input stream, or null to read the input stream in the calling thread.
+     *
+     * @return the hash with the stored salt and the fixed salt builder.
+     */
+    public static HashWithSalt2Builder newHashWithSalt2Builder(final InputStream stream, final int bufferSize, final ExecutorService executor) {
+        return new InputStreamHashWithSalt2Builder(stream, bufferSize, executor);
+    }
+
+    /**
+     * Create hash with the stored salt and the fixed salt builder.
+     *
+     * @param path the file.
+     *
+     * @return the hash with the stored salt and the fixed salt builder.
+     */
+    public static HashWithSalt2Builder newHashWithSalt2Builder(final Path path) {
+        return new PathHashWithSalt2Builder(path);
+    }
+
+    /**
+     * Create hash builder for several hash algorithms.
+     *
+     * @param bytes the byte array.
+     *
+     * @return the hash builder for several hash algorithms.
+     */
+    public static MultiHashBuilder newMultiHashBuilder(final byte[] bytes) {
+        return new ByteArrayMultiHashBuilder(bytes);
+    }
+
+    /**
+     * Create hash builder for several hash algorithms.
+     *
+     * @param stream the input stream.
+     *
+     * @return the hash builder for several hash algorithms.
+     */
+    public static MultiHashBuilder newMultiHashBuilder(final InputStream stream) {
+        return new InputStreamMultiHashBuilder(stream);
+    }
+
+    /**
+     * Create hash builder for several hash algorithms.
+     *
+     * @param path the file.
+     *
+     * @return the hash builder for several hash algorithms.
+     */
+    public static MultiHashBuilder newMultiHashBuilder(final Path path) {
+        return new PathMultiHashBuilder(path);
     }
 
 }
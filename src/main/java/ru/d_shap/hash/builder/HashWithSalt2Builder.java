@@ -39,12 +39,21 @@ public abstract class HashWithSalt2Builder extends AbstractHashBuilder<HashWithS
 
     private SaltStoreType _saltStoreType;
 
+    private int _iterations;
+
+    private boolean _iterationsStored;
+
+    private int _maxIterations;
+
     HashWithSalt2Builder() {
         super();
         _storedSalt = null;
         _fixedSalt = null;
         _saltOrder = SaltOrder.STORED_SALT_FIRST;
         _saltStoreType = SaltStoreType.DO_NOT_STORE;
+        _iterations = 1;
+        _iterationsStored = false;
+        _maxIterations = SaltStoreType.DEFAULT_MAX_ITERATIONS;
     }
 
     /**
@@ -112,20 +121,28 @@ public abstract class HashWithSalt2Builder extends AbstractHashBuilder<HashWithS
     }
 
     final Hash addSalt(final Hash hash) {
-        HashHelper.addSalt(hash, _storedSalt, _fixedSalt, _saltOrder);
+        HashHelper.addSalt(hash, _storedSalt, _fixedSalt, _saltOrder, _iterations);
         return hash;
     }
 
-    final Hash addSalt(final Hash hash, final byte[] storedSalt) {
-        HashHelper.addSalt(hash, storedSalt, _fixedSalt, _saltOrder);
-        return hash;
+    final Hash addStoredSalt(final Hash hash, final int storedSaltLength) {
+        if (_iterationsStored) {
+            int iterations = getIterationsFromStoredHash(_saltStoreType, storedSaltLength);
+            return addStoredSalt(hash, _saltStoreType, storedSaltLength, SaltStoreType.ITERATIONS_LENGTH, _fixedSalt, _saltOrder, iterations);
+        } else {
+            return addStoredSalt(hash, _saltStoreType, storedSaltLength, 0, _fixedSalt, _saltOrder, _iterations);
+        }
     }
 
     final byte[] addSaltBytes(final Hash hash) {
         if (hash == null) {
             throw new IllegalArgumentException("Hash is null");
         }
-        return HashHelper.addSaltBytes(hash.getBytes(), _storedSalt, _saltStoreType);
+        if (_iterationsStored) {
+            return HashHelper.addSaltBytes(hash.getBytes(), _storedSalt, _iterations, _saltStoreType);
+        } else {
+            return HashHelper.addSaltBytes(hash.getBytes(), _storedSalt, _saltStoreType);
+        }
     }
 
     /**
@@ -170,4 +187,76 @@ public abstract class HashWithSalt2Builder extends AbstractHashBuilder<HashWithS
         return this;
     }
 
+    /**
+     * Get the number of iterations. Each iteration adds the stored salt and the fixed salt
+     * in the salt order.
+     *
+     * @return the number of iterations.
+     */
+    public final int getIterations() {
+        return _iterations;
+    }
+
+    /**
+     * Set the number of iterations. Each iteration adds the stored salt and the fixed salt
+     * in the salt order.
+     *
+     * @param iterations the number of iterations.
+     *
+     * @return current object for the chain call.
+     */
+    public final HashWithSalt2Builder setIterations(final int iterations) {
+        _iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Check if the number of iterations is stored before the stored salt bytes.
+     *
+     * @return true, if the number of iterations is stored before the stored salt bytes.
+     */
+    public final boolean isIterationsStored() {
+        return _iterationsStored;
+    }
+
+    /**
+     * Set if the number of iterations is stored before the stored salt bytes. If the number of iterations
+     * is stored, then it is read from the stored hash during the hash validation.
+     *
+     * @param iterationsStored true, if the number of iterations is stored before the stored salt bytes.
+     *
+     * @return current object for the chain call.
+     */
+    public final HashWithSalt2Builder setIterationsStored(final boolean iterationsStored) {
+        _iterationsStored = iterationsStored;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of iterations, read from the stored hash. If the stored number of iterations
+     * is less than 1 or greater than the maximum, then the stored hash is not valid.
+     *
+     * @return the maximum number of iterations.
+     */
+    public final int getMaxIterations() {
+        return _maxIterations;
+    }
+
+    /**
+     * Set the maximum number of iterations, read from the stored hash. If the stored number of iterations
+     * is less than 1 or greater than the maximum, then the stored hash is not valid.
+     *
+     * @param maxIterations the maximum number of iterations.
+     *
+     * @return current object for the chain call.
+     */
+    public final HashWithSalt2Builder setMaxIterations(final int maxIterations) {
+        _maxIterations = maxIterations;
+        return this;
+    }
+
+    final boolean isStoredIterationsValid(final int storedSaltLength) {
+        return !_iterationsStored || isStoredIterationsValid(_saltStoreType, storedSaltLength, _maxIterations);
+    }
+
 }
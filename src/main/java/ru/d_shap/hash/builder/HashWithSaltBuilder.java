@@ -19,12 +19,19 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.hash.builder;
 
+import java.util.Arrays;
+
 import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashFunction;
 import ru.d_shap.hash.HashHelper;
 import ru.d_shap.hash.SaltStoreType;
+import ru.d_shap.hash.engine.KeyedHashProvider;
 
 /**
- * Hash with the salt builder.
+ * Hash with the salt builder. If the algorithm supports the keyed hash (BLAKE2), then the salt is
+ * used as the key of the hash, so the first iteration is computed in the same pass as the hash. The
+ * rest of the iterations hash the current hash followed by the salt with the same key. The keyed hash
+ * function is kept by the builder and is reused while the algorithm and the salt are not changed.
  *
  * @author Dmitry Shapovalov
  */
@@ -34,10 +41,25 @@ public abstract class HashWithSaltBuilder extends AbstractHashBuilder<HashWithSa
 
     private SaltStoreType _saltStoreType;
 
+    private int _iterations;
+
+    private boolean _iterationsStored;
+
+    private int _maxIterations;
+
+    private HashFunction _keyedHashFunction;
+
+    private byte[] _key;
+
     HashWithSaltBuilder() {
         super();
         _salt = null;
         _saltStoreType = SaltStoreType.DO_NOT_STORE;
+        _iterations = 1;
+        _iterationsStored = false;
+        _maxIterations = SaltStoreType.DEFAULT_MAX_ITERATIONS;
+        _keyedHashFunction = null;
+        _key = null;
     }
 
     /**
@@ -72,19 +94,91 @@ public abstract class HashWithSaltBuilder extends AbstractHashBuilder<HashWithSa
         return this;
     }
 
+    final HashFunction getSaltHashFunction() {
+        if (_salt != null && isKeyedSalt(_salt.length)) {
+            if (!isKeyedHashFunctionCached() || !Arrays.equals(_key, _salt)) {
+                setKeyedHashFunction(_salt);
+            }
+            return _keyedHashFunction;
+        } else {
+            return getHashFunction();
+        }
+    }
+
     final Hash addSalt(final Hash hash) {
         if (hash == null) {
             throw new IllegalArgumentException("Hash is null");
         }
-        hash.addSalt(_salt);
+        if (_salt != null && isKeyedSalt(_salt.length)) {
+            if (_iterations != 1) {
+                hash.addSalt(_salt, _iterations - 1);
+            }
+        } else {
+            hash.addSalt(_salt, _iterations);
+        }
         return hash;
     }
 
+    final HashFunction getStoredSaltHashFunction(final int storedSaltLength) {
+        int skipLength = getStoredSaltSkipLength();
+        if (isKeyedSalt(storedSaltLength - skipLength)) {
+            if (!isKeyedHashFunctionCached() || !isSaltFromStoredHash(_key, _saltStoreType, storedSaltLength, skipLength)) {
+                setKeyedHashFunction(getSaltFromStoredHash(_saltStoreType, storedSaltLength, skipLength));
+            }
+            return _keyedHashFunction;
+        } else {
+            return getHashFunction();
+        }
+    }
+
+    final Hash addStoredSalt(final Hash hash, final int storedSaltLength) {
+        int skipLength = getStoredSaltSkipLength();
+        int iterations;
+        if (_iterationsStored) {
+            iterations = getIterationsFromStoredHash(_saltStoreType, storedSaltLength);
+        } else {
+            iterations = _iterations;
+        }
+        if (isKeyedSalt(storedSaltLength - skipLength)) {
+            if (iterations != 1) {
+                addStoredSalt(hash, _saltStoreType, storedSaltLength, skipLength, iterations - 1);
+            }
+            return hash;
+        } else {
+            return addStoredSalt(hash, _saltStoreType, storedSaltLength, skipLength, iterations);
+        }
+    }
+
+    private int getStoredSaltSkipLength() {
+        if (_iterationsStored) {
+            return SaltStoreType.ITERATIONS_LENGTH;
+        } else {
+            return 0;
+        }
+    }
+
+    private boolean isKeyedSalt(final int saltLength) {
+        return saltLength > 0 && KeyedHashProvider.isSupported(getAlgorithm(), saltLength);
+    }
+
+    private boolean isKeyedHashFunctionCached() {
+        return _keyedHashFunction != null && _keyedHashFunction.getAlgorithm().equals(getAlgorithm());
+    }
+
+    private void setKeyedHashFunction(final byte[] key) {
+        _keyedHashFunction = HashFunction.getKeyedInstance(getAlgorithm(), key);
+        _key = key;
+    }
+
     final byte[] addSaltBytes(final Hash hash) {
         if (hash == null) {
             throw new IllegalArgumentException("Hash is null");
         }
-        return HashHelper.addSaltBytes(hash.getBytes(), _salt, _saltStoreType);
+        if (_iterationsStored) {
+            return HashHelper.addSaltBytes(hash.getBytes(), _salt, _iterations, _saltStoreType);
+        } else {
+            return HashHelper.addSaltBytes(hash.getBytes(), _salt, _saltStoreType);
+        }
     }
 
     /**
@@ -108,4 +202,76 @@ public abstract class HashWithSaltBuilder extends AbstractHashBuilder<HashWithSa
         return this;
     }
 
+    /**
+     * Get the number of iterations. Each iteration computes the hash of the current hash bytes
+     * followed by the salt bytes.
+     *
+     * @return the number of iterations.
+     */
+    public final int getIterations() {
+        return _iterations;
+    }
+
+    /**
+     * Set the number of iterations. Each iteration computes the hash of the current hash bytes
+     * followed by the salt bytes.
+     *
+     * @param iterations the number of iterations.
+     *
+     * @return current object for the chain call.
+     */
+    public final HashWithSaltBuilder setIterations(final int iterations) {
+        _iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Check if the number of iterations is stored before the salt bytes.
+     *
+     * @return true, if the number of iterations is stored before the salt bytes.
+     */
+    public final boolean isIterationsStored() {
+        return _iterationsStored;
+    }
+
+    /**
+     * Set if the number of iterations is stored before the salt bytes. If the number of iterations
+     * is stored, then it is read from the stored hash during the hash validation.
+     *
+     * @param iterationsStored true, if the number of iterations is stored before the salt bytes.
+     *
+     * @return current object for the chain call.
+     */
+    public final HashWithSaltBuilder setIterationsStored(final boolean iterationsStored) {
+        _iterationsStored = iterationsStored;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of iterations, read from the stored hash. If the stored number of iterations
+     * is less than 1 or greater than the maximum, then the stored hash is not valid.
+     *
+     * @return the maximum number of iterations.
+     */
+    public final int getMaxIterations() {
+        return _maxIterations;
+    }
+
+    /**
+     * Set the maximum number of iterations, read from the stored hash. If the stored number of iterations
+     * is less than 1 or greater than the maximum, then the stored hash is not valid.
+     *
+     * @param maxIterations the maximum number of iterations.
+     *
+     * @return current object for the chain call.
+     */
+    public final HashWithSaltBuilder setMaxIterations(final int maxIterations) {
+        _maxIterations = maxIterations;
+        return this;
+    }
+
+    final boolean isStoredIterationsValid(final int storedSaltLength) {
+        return !_iterationsStored || isStoredIterationsValid(_saltStoreType, storedSaltLength, _maxIterations);
+    }
+
 }
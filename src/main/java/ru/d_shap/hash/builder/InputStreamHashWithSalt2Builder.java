@@ -20,6 +20,7 @@
 package ru.d_shap.hash.builder;
 
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
 
 import ru.d_shap.hash.Hash;
 import ru.d_shap.hash.HashHelper;
@@ -34,27 +35,51 @@ final class InputStreamHashWithSalt2Builder extends HashWithSalt2Builder {
 
     private final InputStream _stream;
 
+    private final int _bufferSize;
+
+    private final ExecutorService _executor;
+
     InputStreamHashWithSalt2Builder(final InputStream stream) {
+        this(stream, HashHelper.ADAPTIVE_BUFFER_SIZE);
+    }
+
+    InputStreamHashWithSalt2Builder(final InputStream stream, final int bufferSize) {
+        this(stream, bufferSize, null);
+    }
+
+    InputStreamHashWithSalt2Builder(final InputStream stream, final int bufferSize, final ExecutorService executor) {
         super();
         _stream = stream;
+        _bufferSize = bufferSize;
+        _executor = executor;
     }
 
     @Override
     public byte[] getHash() {
-        Hash hash = addSalt(HashHelper.getHash(_stream, getAlgorithm()));
+        Hash hash = addSalt(getStreamHash());
         return addSaltBytes(hash);
     }
 
     @Override
     public boolean isHashValid() {
         if (getSaltStoreType() == SaltStoreType.DO_NOT_STORE) {
-            return matches(addSalt(HashHelper.getHash(_stream, getAlgorithm())));
+            return matches(addSalt(getStreamHash()));
+        } else {
+            int storedSaltLength = getStoredSaltLength(getHashFunction().getDigestLength());
+            if (!isStoredIterationsValid(storedSaltLength)) {
+                return false;
+            }
+            Hash hash = getStreamHash();
+            addStoredSalt(hash, storedSaltLength);
+            return matchesStoredHash(hash, getSaltStoreType(), storedSaltLength);
+        }
+    }
+
+    private Hash getStreamHash() {
+        if (_executor == null) {
+            return HashHelper.getHash(_stream, _bufferSize, getHashFunction());
         } else {
-            Hash hash = HashHelper.getHash(_stream, getAlgorithm());
-            int storedSaltLength = getStoredSaltLength(hash.getLength());
-            byte[] storedHash = getHashFromStoredHash(getSaltStoreType(), storedSaltLength);
-            byte[] storedSalt = getSaltFromStoredHash(getSaltStoreType(), storedSaltLength);
-            return addSalt(hash, storedSalt).matches(storedHash);
+            return HashHelper.getHash(_stream, _bufferSize, _executor, getHashFunction());
         }
     }
 
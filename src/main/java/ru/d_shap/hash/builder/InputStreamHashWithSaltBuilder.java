@@ -20,8 +20,10 @@
 package ru.d_shap.hash.builder;
 
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
 
 import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashFunction;
 import ru.d_shap.hash.HashHelper;
 import ru.d_shap.hash.SaltStoreType;
 
@@ -34,27 +36,51 @@ final class InputStreamHashWithSaltBuilder extends HashWithSaltBuilder {
 
     private final InputStream _stream;
 
+    private final int _bufferSize;
+
+    private final ExecutorService _executor;
+
     InputStreamHashWithSaltBuilder(final InputStream stream) {
+        this(stream, HashHelper.ADAPTIVE_BUFFER_SIZE);
+    }
+
+    InputStreamHashWithSaltBuilder(final InputStream stream, final int bufferSize) {
+        this(stream, bufferSize, null);
+    }
+
+    InputStreamHashWithSaltBuilder(final InputStream stream, final int bufferSize, final ExecutorService executor) {
         super();
         _stream = stream;
+        _bufferSize = bufferSize;
+        _executor = executor;
     }
 
     @Override
     public byte[] getHash() {
-        Hash hash = addSalt(HashHelper.getHash(_stream, getAlgorithm()));
+        Hash hash = addSalt(getStreamHash(getSaltHashFunction()));
         return addSaltBytes(hash);
     }
 
     @Override
     public boolean isHashValid() {
         if (getSaltStoreType() == SaltStoreType.DO_NOT_STORE) {
-            return matches(addSalt(HashHelper.getHash(_stream, getAlgorithm())));
+            return matches(addSalt(getStreamHash(getSaltHashFunction())));
+        } else {
+            int storedSaltLength = getStoredSaltLength(getHashFunction().getDigestLength());
+            if (!isStoredIterationsValid(storedSaltLength)) {
+                return false;
+            }
+            Hash hash = getStreamHash(getStoredSaltHashFunction(storedSaltLength));
+            addStoredSalt(hash, storedSaltLength);
+            return matchesStoredHash(hash, getSaltStoreType(), storedSaltLength);
+        }
+    }
+
+    private Hash getStreamHash(final HashFunction hashFunction) {
+        if (_executor == null) {
+            return HashHelper.getHash(_stream, _bufferSize, hashFunction);
         } else {
-            Hash hash = HashHelper.getHash(_stream, getAlgorithm());
-            int storedSaltLength = getStoredSaltLength(hash.getLength());
-            byte[] storedHash = getHashFromStoredHash(getSaltStoreType(), storedSaltLength);
-            byte[] storedSalt = getSaltFromStoredHash(getSaltStoreType(), storedSaltLength);
-            return hash.addSalt(storedSalt).matches(storedHash);
+            return HashHelper.getHash(_stream, _bufferSize, _executor, hashFunction);
         }
     }
 
@@ -20,7 +20,9 @@
 package ru.d_shap.hash.builder;
 
 import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
 
+import ru.d_shap.hash.Hash;
 import ru.d_shap.hash.HashHelper;
 
 /**
@@ -32,19 +34,41 @@ final class InputStreamSimpleHashBuilder extends SimpleHashBuilder {
 
     private final InputStream _stream;
 
+    private final int _bufferSize;
+
+    private final ExecutorService _executor;
+
     InputStreamSimpleHashBuilder(final InputStream stream) {
+        this(stream, HashHelper.ADAPTIVE_BUFFER_SIZE);
+    }
+
+    InputStreamSimpleHashBuilder(final InputStream stream, final int bufferSize) {
+        this(stream, bufferSize, null);
+    }
+
+    InputStreamSimpleHashBuilder(final InputStream stream, final int bufferSize, final ExecutorService executor) {
         super();
         _stream = stream;
+        _bufferSize = bufferSize;
+        _executor = executor;
     }
 
     @Override
     public byte[] getHash() {
-        return HashHelper.getHash(_stream, getAlgorithm()).getBytes();
+        return getStreamHash().getBytes();
     }
 
     @Override
     public boolean isHashValid() {
-        return matches(HashHelper.getHash(_stream, getAlgorithm()));
+        return matches(getStreamHash());
+    }
+
+    private Hash getStreamHash() {
+        if (_executor == null) {
+            return HashHelper.getHash(_stream, _bufferSize, getHashFunction());
+        } else {
+            return HashHelper.getHash(_stream, _bufferSize, _executor, getHashFunction());
+        }
     }
 
 }
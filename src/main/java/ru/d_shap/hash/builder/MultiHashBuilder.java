@@ -0,0 +1,134 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.builder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashFunction;
+
+/**
+ * Hash builder for several hash algorithms at once. The source is read only once, and the bytes
+ * are fed to the message digests of all algorithms.
+ *
+ * @author Dmitry Shapovalov
+ */
+public abstract class MultiHashBuilder {
+
+    private final List<HashFunction> _hashFunctions;
+
+    private ExecutorService _executor;
+
+    MultiHashBuilder() {
+        super();
+        _hashFunctions = new ArrayList<>();
+        _executor = null;
+    }
+
+    /**
+     * Get the algorithm names.
+     *
+     * @return the algorithm names.
+     */
+    public final List<String> getAlgorithms() {
+        List<String> algorithms = new ArrayList<>(_hashFunctions.size());
+        for (HashFunction hashFunction : _hashFunctions) {
+            algorithms.add(hashFunction.getAlgorithm());
+        }
+        return algorithms;
+    }
+
+    /**
+     * Add the algorithm name.
+     *
+     * @param algorithm the algorithm name.
+     *
+     * @return current object for the chain call.
+     */
+    public final MultiHashBuilder addAlgorithm(final String algorithm) {
+        return addHashFunction(HashFunction.getInstance(algorithm));
+    }
+
+    /**
+     * Add the hash function of the algorithm.
+     *
+     * @param hashFunction the hash function of the algorithm.
+     *
+     * @return current object for the chain call.
+     */
+    public final MultiHashBuilder addHashFunction(final HashFunction hashFunction) {
+        if (hashFunction == null) {
+            throw new IllegalArgumentException("Hash function is null");
+        }
+        _hashFunctions.add(hashFunction);
+        return this;
+    }
+
+    /**
+     * Get the executor to feed the message digests in parallel.
+     *
+     * @return the executor to feed the message digests in parallel.
+     */
+    public final ExecutorService getExecutor() {
+        return _executor;
+    }
+
+    /**
+     * Set the executor to feed the message digests in parallel. If the executor is null, the
+     * message digests are fed in the calling thread.
+     *
+     * @param executor the executor to feed the message digests in parallel.
+     *
+     * @return current object for the chain call.
+     */
+    public final MultiHashBuilder setExecutor(final ExecutorService executor) {
+        _executor = executor;
+        return this;
+    }
+
+    /**
+     * Get the hash bytes for all algorithms.
+     *
+     * @return the hash bytes, mapped by the algorithm names in the order the algorithms are added.
+     */
+    public final Map<String, byte[]> getHashes() {
+        HashFunction[] hashFunctions = _hashFunctions.toArray(new HashFunction[0]);
+        Hash[] hashes;
+        if (_executor == null) {
+            hashes = getHashes(hashFunctions);
+        } else {
+            hashes = getHashes(_executor, hashFunctions);
+        }
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        for (int i = 0; i < hashFunctions.length; i++) {
+            result.put(hashFunctions[i].getAlgorithm(), hashes[i].getBytes());
+        }
+        return result;
+    }
+
+    abstract Hash[] getHashes(HashFunction... hashFunctions);
+
+    abstract Hash[] getHashes(ExecutorService executor, HashFunction... hashFunctions);
+
+}
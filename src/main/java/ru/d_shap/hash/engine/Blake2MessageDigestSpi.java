@@ -0,0 +1,193 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.util.Arrays;
+import java.util.Locale;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Base class of the message digest engines of the BLAKE2 algorithms (RFC 7693). The last block
+ * of the data is compressed with the finalization flag, so the engine keeps the full block until
+ * the next bytes are received. In the keyed mode the key, padded to the block size, is processed
+ * as the first block of the data.
+ *
+ * @author Dmitry Shapovalov
+ */
+abstract class Blake2MessageDigestSpi extends MessageDigestSpi {
+
+    static final byte[][] SIGMA = {
+        {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+        {14, 10, 4, 8, 9, 15, 13, 6, 1, 12, 0, 2, 11, 7, 5, 3},
+        {11, 8, 12, 0, 5, 2, 15, 13, 10, 14, 3, 6, 7, 1, 9, 4},
+        {7, 9, 3, 1, 13, 12, 11, 14, 2, 6, 5, 10, 4, 0, 15, 8},
+        {9, 0, 5, 7, 2, 4, 10, 15, 14, 1, 11, 12, 6, 8, 3, 13},
+        {2, 12, 6, 10, 0, 11, 8, 3, 4, 13, 7, 5, 15, 14, 1, 9},
+        {12, 5, 1, 15, 14, 13, 4, 10, 0, 7, 6, 3, 9, 2, 8, 11},
+        {13, 11, 7, 14, 12, 1, 3, 9, 5, 0, 15, 4, 8, 6, 2, 10},
+        {6, 15, 14, 9, 11, 3, 0, 8, 12, 2, 13, 7, 1, 4, 10, 5},
+        {10, 2, 8, 4, 7, 6, 1, 5, 15, 11, 9, 14, 3, 12, 13, 0},
+    };
+
+    private static final int BLAKE2B_MAX_KEY_LENGTH = 64;
+
+    private static final int BLAKE2S_MAX_KEY_LENGTH = 32;
+
+    private final int _digestLength;
+
+    private final byte[] _key;
+
+    private final byte[] _block;
+
+    private int _blockLength;
+
+    private long _length;
+
+    Blake2MessageDigestSpi(final int blockSize, final int digestLength, final byte[] key) {
+        super();
+        _digestLength = digestLength;
+        _key = Arrays.copyOf(key, key.length);
+        _block = new byte[blockSize];
+        resetBlock();
+    }
+
+    static Blake2MessageDigestSpi newInstance(final String algorithm, final byte[] key) {
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        if (HashAlgorithms.BLAKE2B_256.equals(name)) {
+            return new Blake2bMessageDigestSpi(32, key);
+        }
+        if (HashAlgorithms.BLAKE2B_512.equals(name)) {
+            return new Blake2bMessageDigestSpi(64, key);
+        }
+        if (HashAlgorithms.BLAKE2S_256.equals(name)) {
+            return new Blake2sMessageDigestSpi(32, key);
+        }
+        return null;
+    }
+
+    static int getMaxKeyLength(final String algorithm) {
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        if (HashAlgorithms.BLAKE2B_256.equals(name) || HashAlgorithms.BLAKE2B_512.equals(name)) {
+            return BLAKE2B_MAX_KEY_LENGTH;
+        }
+        if (HashAlgorithms.BLAKE2S_256.equals(name)) {
+            return BLAKE2S_MAX_KEY_LENGTH;
+        }
+        return 0;
+    }
+
+    final int getKeyLength() {
+        return _key.length;
+    }
+
+    @Override
+    protected final int engineGetDigestLength() {
+        return _digestLength;
+    }
+
+    @Override
+    protected final void engineUpdate(final byte input) {
+        if (_blockLength == _block.length) {
+            _length += _block.length;
+            compress(_block, 0, _length, false);
+            _blockLength = 0;
+        }
+        _block[_blockLength] = input;
+        _blockLength++;
+    }
+
+    @Override
+    protected final void engineUpdate(final byte[] input, final int offset, final int len) {
+        int currentOffset = offset;
+        int remaining = len;
+        while (remaining > 0) {
+            if (_blockLength == _block.length) {
+                _length += _block.length;
+                compress(_block, 0, _length, false);
+                _blockLength = 0;
+            }
+            if (_blockLength == 0 && remaining > _block.length) {
+                _length += _block.length;
+                compress(input, currentOffset, _length, false);
+                currentOffset += _block.length;
+                remaining -= _block.length;
+            } else {
+                int length = Math.min(remaining, _block.length - _blockLength);
+                System.arraycopy(input, currentOffset, _block, _blockLength, length);
+                _blockLength += length;
+                currentOffset += length;
+                remaining -= length;
+            }
+        }
+    }
+
+    @Override
+    protected final byte[] engineDigest() {
+        _length += _blockLength;
+        Arrays.fill(_block, _blockLength, _block.length, (byte) 0);
+        compress(_block, 0, _length, true);
+        byte[] digest = new byte[_digestLength];
+        writeDigest(digest);
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected final void engineReset() {
+        resetChainingValue();
+        resetBlock();
+    }
+
+    private void resetBlock() {
+        _length = 0L;
+        if (_key.length == 0) {
+            _blockLength = 0;
+        } else {
+            Arrays.fill(_block, (byte) 0);
+            System.arraycopy(_key, 0, _block, 0, _key.length);
+            _blockLength = _block.length;
+        }
+    }
+
+    /**
+     * Compress the block of bytes and update the chaining value.
+     *
+     * @param block  the bytes of the block.
+     * @param offset the offset of the first byte of the block.
+     * @param length the number of bytes, processed with this block.
+     * @param last   true if this is the last block.
+     */
+    abstract void compress(byte[] block, int offset, long length, boolean last);
+
+    /**
+     * Set the initial chaining value.
+     */
+    abstract void resetChainingValue();
+
+    /**
+     * Write the hash bytes, computed from the chaining value.
+     *
+     * @param digest the hash bytes.
+     */
+    abstract void writeDigest(byte[] digest);
+
+}
@@ -0,0 +1,47 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+import java.util.Arrays;
+
+/**
+ * Service of the BLAKE2 message digest engines. The service creates the engines with the specified key.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Blake2Service extends Provider.Service {
+
+    private static final String MESSAGE_DIGEST = "MessageDigest";
+
+    private final byte[] _key;
+
+    Blake2Service(final Provider provider, final String algorithm, final byte[] key) {
+        super(provider, MESSAGE_DIGEST, algorithm, Blake2MessageDigestSpi.class.getName(), null, null);
+        _key = Arrays.copyOf(key, key.length);
+    }
+
+    @Override
+    public MessageDigestSpi newInstance(final Object constructorParameter) {
+        return Blake2MessageDigestSpi.newInstance(getAlgorithm(), _key);
+    }
+
+}
@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+/**
+ * Message digest engine of the BLAKE2b algorithm (RFC 7693) with the 64 bits words.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Blake2bMessageDigestSpi extends Blake2MessageDigestSpi {
+
+    private static final int BLOCK_SIZE = 128;
+
+    private static final int ROUND_COUNT = 12;
+
+    private static final long[] INITIAL_VALUE = {
+        0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+        0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L,
+    };
+
+    private final long[] _chainingValue;
+
+    private final long[] _vector;
+
+    private final long[] _words;
+
+    Blake2bMessageDigestSpi(final int digestLength, final byte[] key) {
+        super(BLOCK_SIZE, digestLength, key);
+        _chainingValue = new long[8];
+        _vector = new long[16];
+        _words = new long[16];
+        initChainingValue();
+    }
+
+    @Override
+    void compress(final byte[] block, final int offset, final long length, final boolean last) {
+        long[] words = _words;
+        int position = offset;
+        for (int i = 0; i < 16; i++) {
+            words[i] = block[position] & 0xFFL | (block[position + 1] & 0xFFL) << 8 | (block[position + 2] & 0xFFL) << 16 | (block[position + 3] & 0xFFL) << 24
+                    | (block[position + 4] & 0xFFL) << 32 | (block[position + 5] & 0xFFL) << 40 | (block[position + 6] & 0xFFL) << 48 | (block[position + 7] & 0xFFL) << 56;
+            position += 8;
+        }
+        long[] vector = _vector;
+        System.arraycopy(_chainingValue, 0, vector, 0, 8);
+        System.arraycopy(INITIAL_VALUE, 0, vector, 8, 8);
+        vector[12] ^= length;
+        if (last) {
+            vector[14] = ~vector[14];
+        }
+        for (int round = 0; round < ROUND_COUNT; round++) {
+            byte[] sigma = SIGMA[round % SIGMA.length];
+            mix(vector, 0, 4, 8, 12, words[sigma[0]], words[sigma[1]]);
+            mix(vector, 1, 5, 9, 13, words[sigma[2]], words[sigma[3]]);
+            mix(vector, 2, 6, 10, 14, words[sigma[4]], words[sigma[5]]);
+            mix(vector, 3, 7, 11, 15, words[sigma[6]], words[sigma[7]]);
+            mix(vector, 0, 5, 10, 15, words[sigma[8]], words[sigma[9]]);
+            mix(vector, 1, 6, 11, 12, words[sigma[10]], words[sigma[11]]);
+            mix(vector, 2, 7, 8, 13, words[sigma[12]], words[sigma[13]]);
+            mix(vector, 3, 4, 9, 14, words[sigma[14]], words[sigma[15]]);
+        }
+        for (int i = 0; i < 8; i++) {
+            _chainingValue[i] ^= vector[i] ^ vector[i + 8];
+        }
+    }
+
+    @Override
+    void resetChainingValue() {
+        initChainingValue();
+    }
+
+    @Override
+    void writeDigest(final byte[] digest) {
+        for (int i = 0; i < digest.length; i++) {
+            digest[i] = (byte) (_chainingValue[i >> 3] >> ((i & 7) << 3));
+        }
+    }
+
+    private void initChainingValue() {
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+        _chainingValue[0] ^= 0x01010000L ^ getKeyLength() << 8 ^ engineGetDigestLength();
+    }
+
+    private static void mix(final long[] vector, final int indexA, final int indexB, final int indexC, final int indexD, final long wordX, final long wordY) {
+        long valueA = vector[indexA] + vector[indexB] + wordX;
+        long valueD = Long.rotateRight(vector[indexD] ^ valueA, 32);
+        long valueC = vector[indexC] + valueD;
+        long valueB = Long.rotateRight(vector[indexB] ^ valueC, 24);
+        valueA += valueB + wordY;
+        valueD = Long.rotateRight(valueD ^ valueA, 16);
+        valueC += valueD;
+        vector[indexA] = valueA;
+        vector[indexB] = Long.rotateRight(valueB ^ valueC, 63);
+        vector[indexC] = valueC;
+        vector[indexD] = valueD;
+    }
+
+}
@@ -0,0 +1,114 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+/**
+ * Message digest engine of the BLAKE2s algorithm (RFC 7693) with the 32 bits words.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Blake2sMessageDigestSpi extends Blake2MessageDigestSpi {
+
+    private static final int BLOCK_SIZE = 64;
+
+    private static final int ROUND_COUNT = 10;
+
+    private static final int[] INITIAL_VALUE = {
+        0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19,
+    };
+
+    private final int[] _chainingValue;
+
+    private final int[] _vector;
+
+    private final int[] _words;
+
+    Blake2sMessageDigestSpi(final int digestLength, final byte[] key) {
+        super(BLOCK_SIZE, digestLength, key);
+        _chainingValue = new int[8];
+        _vector = new int[16];
+        _words = new int[16];
+        initChainingValue();
+    }
+
+    @Override
+    void compress(final byte[] block, final int offset, final long length, final boolean last) {
+        int[] words = _words;
+        int position = offset;
+        for (int i = 0; i < 16; i++) {
+            words[i] = block[position] & 0xFF | (block[position + 1] & 0xFF) << 8 | (block[position + 2] & 0xFF) << 16 | block[position + 3] << 24;
+            position += 4;
+        }
+        int[] vector = _vector;
+        System.arraycopy(_chainingValue, 0, vector, 0, 8);
+        System.arraycopy(INITIAL_VALUE, 0, vector, 8, 8);
+        vector[12] ^= (int) length;
+        vector[13] ^= (int) (length >>> 32);
+        if (last) {
+            vector[14] = ~vector[14];
+        }
+        for (int round = 0; round < ROUND_COUNT; round++) {
+            byte[] sigma = SIGMA[round];
+            mix(vector, 0, 4, 8, 12, words[sigma[0]], words[sigma[1]]);
+            mix(vector, 1, 5, 9, 13, words[sigma[2]], words[sigma[3]]);
+            mix(vector, 2, 6, 10, 14, words[sigma[4]], words[sigma[5]]);
+            mix(vector, 3, 7, 11, 15, words[sigma[6]], words[sigma[7]]);
+            mix(vector, 0, 5, 10, 15, words[sigma[8]], words[sigma[9]]);
+            mix(vector, 1, 6, 11, 12, words[sigma[10]], words[sigma[11]]);
+            mix(vector, 2, 7, 8, 13, words[sigma[12]], words[sigma[13]]);
+            mix(vector, 3, 4, 9, 14, words[sigma[14]], words[sigma[15]]);
+        }
+        for (int i = 0; i < 8; i++) {
+            _chainingValue[i] ^= vector[i] ^ vector[i + 8];
+        }
+    }
+
+    @Override
+    void resetChainingValue() {
+        initChainingValue();
+    }
+
+    @Override
+    void writeDigest(final byte[] digest) {
+        for (int i = 0; i < digest.length; i++) {
+            digest[i] = (byte) (_chainingValue[i >> 2] >> ((i & 3) << 3));
+        }
+    }
+
+    private void initChainingValue() {
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+        _chainingValue[0] ^= 0x01010000 ^ getKeyLength() << 8 ^ engineGetDigestLength();
+    }
+
+    static void mix(final int[] vector, final int indexA, final int indexB, final int indexC, final int indexD, final int wordX, final int wordY) {
+        int valueA = vector[indexA] + vector[indexB] + wordX;
+        int valueD = Integer.rotateRight(vector[indexD] ^ valueA, 16);
+        int valueC = vector[indexC] + valueD;
+        int valueB = Integer.rotateRight(vector[indexB] ^ valueC, 12);
+        valueA += valueB + wordY;
+        valueD = Integer.rotateRight(valueD ^ valueA, 8);
+        valueC += valueD;
+        vector[indexA] = valueA;
+        vector[indexB] = Integer.rotateRight(valueB ^ valueC, 7);
+        vector[indexC] = valueC;
+        vector[indexD] = valueD;
+    }
+
+}
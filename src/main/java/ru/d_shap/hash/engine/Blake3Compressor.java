@@ -0,0 +1,204 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compression function of the BLAKE3 algorithm. The compressor computes the chaining values of the
+ * chunks, the parent nodes and the complete subtrees. The compressor is not thread safe, every
+ * thread should use the own copy of the compressor.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Blake3Compressor {
+
+    static final int BLOCK_LENGTH = 64;
+
+    static final int CHUNK_LENGTH = 1024;
+
+    static final int KEY_LENGTH = 32;
+
+    static final int CHUNK_START = 1;
+
+    static final int CHUNK_END = 2;
+
+    static final int PARENT = 4;
+
+    static final int ROOT = 8;
+
+    static final int KEYED_HASH = 16;
+
+    private static final int ROUND_COUNT = 7;
+
+    private static final int BLOCK_COUNT = CHUNK_LENGTH / BLOCK_LENGTH;
+
+    private static final int[] INITIAL_VALUE = {
+        0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19,
+    };
+
+    private static final byte[][] SCHEDULE = {
+        {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+        {2, 6, 3, 10, 7, 0, 4, 13, 1, 11, 12, 5, 9, 14, 15, 8},
+        {3, 4, 10, 12, 13, 2, 7, 14, 6, 5, 9, 0, 11, 15, 8, 1},
+        {10, 7, 12, 9, 14, 3, 13, 15, 4, 0, 11, 2, 5, 8, 1, 6},
+        {12, 13, 9, 11, 15, 10, 14, 8, 7, 2, 5, 3, 0, 1, 6, 4},
+        {9, 14, 11, 5, 8, 12, 15, 1, 13, 3, 0, 10, 2, 6, 4, 7},
+        {11, 15, 5, 0, 1, 9, 8, 6, 14, 10, 2, 12, 3, 4, 7, 13},
+    };
+
+    private final int[] _keyWords;
+
+    private final int _flags;
+
+    private final int[] _vector;
+
+    private final int[] _words;
+
+    Blake3Compressor(final byte[] key) {
+        super();
+        _keyWords = new int[8];
+        if (key.length == 0) {
+            System.arraycopy(INITIAL_VALUE, 0, _keyWords, 0, 8);
+            _flags = 0;
+        } else {
+            for (int i = 0; i < 8; i++) {
+                int position = i * 4;
+                _keyWords[i] = key[position] & 0xFF | (key[position + 1] & 0xFF) << 8 | (key[position + 2] & 0xFF) << 16 | key[position + 3] << 24;
+            }
+            _flags = KEYED_HASH;
+        }
+        _vector = new int[16];
+        _words = new int[16];
+    }
+
+    Blake3Compressor(final Blake3Compressor compressor) {
+        super();
+        _keyWords = compressor._keyWords;
+        _flags = compressor._flags;
+        _vector = new int[16];
+        _words = new int[16];
+    }
+
+    int[] getKeyWords() {
+        return _keyWords;
+    }
+
+    int getFlags() {
+        return _flags;
+    }
+
+    /**
+     * Get the result of the last compression: the chaining value in the first 8 words and the
+     * extended output in all 16 words.
+     *
+     * @return the result of the last compression.
+     */
+    int[] getVector() {
+        return _vector;
+    }
+
+    static void loadWords(final ByteBuffer buffer, final int position, final int[] words) {
+        for (int i = 0; i < 16; i++) {
+            words[i] = buffer.getInt(position + i * 4);
+        }
+    }
+
+    void compress(final int[] chainingValue, final int[] words, final long counter, final int blockLength, final int flags) {
+        int[] vector = _vector;
+        System.arraycopy(chainingValue, 0, vector, 0, 8);
+        System.arraycopy(INITIAL_VALUE, 0, vector, 8, 4);
+        vector[12] = (int) counter;
+        vector[13] = (int) (counter >>> 32);
+        vector[14] = blockLength;
+        vector[15] = flags;
+        for (int round = 0; round < ROUND_COUNT; round++) {
+            byte[] schedule = SCHEDULE[round];
+            Blake2sMessageDigestSpi.mix(vector, 0, 4, 8, 12, words[schedule[0]], words[schedule[1]]);
+            Blake2sMessageDigestSpi.mix(vector, 1, 5, 9, 13, words[schedule[2]], words[schedule[3]]);
+            Blake2sMessageDigestSpi.mix(vector, 2, 6, 10, 14, words[schedule[4]], words[schedule[5]]);
+            Blake2sMessageDigestSpi.mix(vector, 3, 7, 11, 15, words[schedule[6]], words[schedule[7]]);
+            Blake2sMessageDigestSpi.mix(vector, 0, 5, 10, 15, words[schedule[8]], words[schedule[9]]);
+            Blake2sMessageDigestSpi.mix(vector, 1, 6, 11, 12, words[schedule[10]], words[schedule[11]]);
+            Blake2sMessageDigestSpi.mix(vector, 2, 7, 8, 13, words[schedule[12]], words[schedule[13]]);
+            Blake2sMessageDigestSpi.mix(vector, 3, 4, 9, 14, words[schedule[14]], words[schedule[15]]);
+        }
+        for (int i = 0; i < 8; i++) {
+            vector[i] ^= vector[i + 8];
+            vector[i + 8] ^= chainingValue[i];
+        }
+    }
+
+    void compressBlock(final int[] chainingValue, final int[] words, final long counter, final int blockLength, final int flags) {
+        compress(chainingValue, words, counter, blockLength, flags);
+        System.arraycopy(_vector, 0, chainingValue, 0, 8);
+    }
+
+    void hashChunk(final ByteBuffer buffer, final int position, final long counter, final int[] chainingValue) {
+        System.arraycopy(_keyWords, 0, chainingValue, 0, 8);
+        for (int block = 0; block < BLOCK_COUNT; block++) {
+            loadWords(buffer, position + block * BLOCK_LENGTH, _words);
+            int flags = _flags;
+            if (block == 0) {
+                flags |= CHUNK_START;
+            }
+            if (block == BLOCK_COUNT - 1) {
+                flags |= CHUNK_END;
+            }
+            compressBlock(chainingValue, _words, counter, BLOCK_LENGTH, flags);
+        }
+    }
+
+    void hashParent(final int[] left, final int[] right, final int[] chainingValue) {
+        System.arraycopy(left, 0, _words, 0, 8);
+        System.arraycopy(right, 0, _words, 8, 8);
+        compress(_keyWords, _words, 0L, BLOCK_LENGTH, _flags | PARENT);
+        System.arraycopy(_vector, 0, chainingValue, 0, 8);
+    }
+
+    /**
+     * Compute the chaining value of the complete subtree. The subtree must contain the number of
+     * chunks, that is a power of 2.
+     *
+     * @param buffer   the little endian buffer with the data.
+     * @param position the position of the first byte of the subtree.
+     * @param length   the number of bytes of the subtree.
+     * @param counter  the counter of the first chunk of the subtree.
+     *
+     * @return the chaining value of the subtree.
+     */
+    int[] hashSubtree(final ByteBuffer buffer, final int position, final int length, final long counter) {
+        int chunkCount = length / CHUNK_LENGTH;
+        int[][] stack = new int[Integer.numberOfTrailingZeros(chunkCount) + 1][8];
+        int stackLength = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            hashChunk(buffer, position + i * CHUNK_LENGTH, counter + i, stack[stackLength]);
+            stackLength++;
+            int total = i + 1;
+            while ((total & 1) == 0) {
+                hashParent(stack[stackLength - 2], stack[stackLength - 1], stack[stackLength - 2]);
+                stackLength--;
+                total >>>= 1;
+            }
+        }
+        return stack[0];
+    }
+
+}
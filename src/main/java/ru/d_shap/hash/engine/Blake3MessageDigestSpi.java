@@ -0,0 +1,327 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigestSpi;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Message digest engine of the BLAKE3 algorithm. The data is split into chunks of 1 KiB, the chunks
+ * are combined into the binary tree. The complete subtrees of the large update are hashed in parallel
+ * in the fork/join pool, the small updates are hashed in the calling thread. The hash of any length
+ * (extendable output) and the keyed hash with the 32 bytes key are supported.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Blake3MessageDigestSpi extends MessageDigestSpi {
+
+    static final int MIN_TASK_LENGTH = 64 * 1024;
+
+    static final int MAX_TASK_COUNT = Integer.highestOneBit(TreeSha256MessageDigestSpi.FORK_JOIN_POOL.getParallelism()) * 4;
+
+    private static final Pattern ALGORITHM_PATTERN = Pattern.compile("BLAKE3-([1-9][0-9]{0,8})");
+
+    private static final int MAX_DEPTH = 54;
+
+    private final int _digestLength;
+
+    private final Blake3Compressor _compressor;
+
+    private final int[][] _chainingValueStack;
+
+    private int _chainingValueStackLength;
+
+    private final int[] _chunkChainingValue;
+
+    private long _chunkCounter;
+
+    private final byte[] _block;
+
+    private final ByteBuffer _blockBuffer;
+
+    private int _blockLength;
+
+    private int _blockCount;
+
+    private final int[] _chainingValue;
+
+    private final int[] _words;
+
+    private final int[] _outputChainingValue;
+
+    private final int[] _outputWords;
+
+    private long _outputCounter;
+
+    private int _outputBlockLength;
+
+    private int _outputFlags;
+
+    Blake3MessageDigestSpi(final int digestLength, final byte[] key) {
+        super();
+        _digestLength = digestLength;
+        _compressor = new Blake3Compressor(key);
+        _chainingValueStack = new int[MAX_DEPTH][8];
+        _chunkChainingValue = new int[8];
+        _block = new byte[Blake3Compressor.BLOCK_LENGTH];
+        _blockBuffer = ByteBuffer.wrap(_block).order(ByteOrder.LITTLE_ENDIAN);
+        _chainingValue = new int[8];
+        _words = new int[16];
+        _outputChainingValue = new int[8];
+        _outputWords = new int[16];
+        engineReset();
+    }
+
+    /**
+     * Get the hash length in bytes for the BLAKE3 algorithm name, for example 64 for BLAKE3-512.
+     *
+     * @param algorithm the algorithm name.
+     *
+     * @return the hash length in bytes or -1 if the name is not the BLAKE3 algorithm name.
+     */
+    static int getDigestLength(final String algorithm) {
+        Matcher matcher = ALGORITHM_PATTERN.matcher(algorithm.toUpperCase(Locale.ENGLISH));
+        if (!matcher.matches()) {
+            return -1;
+        }
+        int digestBits = Integer.parseInt(matcher.group(1));
+        if (digestBits % 8 != 0) {
+            return -1;
+        }
+        return digestBits / 8;
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return _digestLength;
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+        if (getChunkLength() == Blake3Compressor.CHUNK_LENGTH) {
+            pushChunk();
+        }
+        if (_blockLength == Blake3Compressor.BLOCK_LENGTH) {
+            compressChunkBlock();
+        }
+        _block[_blockLength] = input;
+        _blockLength++;
+        mergeChainingValueStack(_chunkCounter);
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        engineUpdate(ByteBuffer.wrap(input, offset, len));
+    }
+
+    @Override
+    protected void engineUpdate(final ByteBuffer input) {
+        ByteBuffer buffer = input.slice().order(ByteOrder.LITTLE_ENDIAN);
+        input.position(input.limit());
+        int position = 0;
+        int remaining = buffer.remaining();
+        int chunkLength = getChunkLength();
+        if (chunkLength > 0) {
+            int length = Math.min(Blake3Compressor.CHUNK_LENGTH - chunkLength, remaining);
+            updateChunk(buffer, position, length);
+            position += length;
+            remaining -= length;
+            if (remaining == 0) {
+                return;
+            }
+            pushChunk();
+        }
+        while (remaining > Blake3Compressor.CHUNK_LENGTH) {
+            int subtreeLength = Integer.highestOneBit(remaining);
+            long processedLength = _chunkCounter * Blake3Compressor.CHUNK_LENGTH;
+            while ((processedLength & subtreeLength - 1) != 0) {
+                subtreeLength >>>= 1;
+            }
+            if (subtreeLength == Blake3Compressor.CHUNK_LENGTH) {
+                _compressor.hashChunk(buffer, position, _chunkCounter, _chainingValue);
+                pushChainingValue(_chainingValue, _chunkCounter);
+            } else {
+                hashSubtree(buffer, position, subtreeLength);
+            }
+            _chunkCounter += subtreeLength / Blake3Compressor.CHUNK_LENGTH;
+            position += subtreeLength;
+            remaining -= subtreeLength;
+        }
+        if (remaining > 0) {
+            updateChunk(buffer, position, remaining);
+            mergeChainingValueStack(_chunkCounter);
+        }
+    }
+
+    private int getChunkLength() {
+        return _blockCount * Blake3Compressor.BLOCK_LENGTH + _blockLength;
+    }
+
+    private int getChunkFlags() {
+        if (_blockCount == 0) {
+            return _compressor.getFlags() | Blake3Compressor.CHUNK_START;
+        } else {
+            return _compressor.getFlags();
+        }
+    }
+
+    private void updateChunk(final ByteBuffer buffer, final int position, final int length) {
+        buffer.position(position);
+        int remaining = length;
+        while (remaining > 0) {
+            if (_blockLength == Blake3Compressor.BLOCK_LENGTH) {
+                compressChunkBlock();
+            }
+            int blockLength = Math.min(Blake3Compressor.BLOCK_LENGTH - _blockLength, remaining);
+            buffer.get(_block, _blockLength, blockLength);
+            _blockLength += blockLength;
+            remaining -= blockLength;
+        }
+    }
+
+    private void compressChunkBlock() {
+        Blake3Compressor.loadWords(_blockBuffer, 0, _words);
+        _compressor.compressBlock(_chunkChainingValue, _words, _chunkCounter, Blake3Compressor.BLOCK_LENGTH, getChunkFlags());
+        _blockCount++;
+        _blockLength = 0;
+    }
+
+    private void pushChunk() {
+        Blake3Compressor.loadWords(_blockBuffer, 0, _words);
+        System.arraycopy(_chunkChainingValue, 0, _chainingValue, 0, 8);
+        _compressor.compressBlock(_chainingValue, _words, _chunkCounter, Blake3Compressor.BLOCK_LENGTH, getChunkFlags() | Blake3Compressor.CHUNK_END);
+        pushChainingValue(_chainingValue, _chunkCounter);
+        resetChunk(_chunkCounter + 1);
+    }
+
+    private void resetChunk(final long chunkCounter) {
+        System.arraycopy(_compressor.getKeyWords(), 0, _chunkChainingValue, 0, 8);
+        _chunkCounter = chunkCounter;
+        _blockLength = 0;
+        _blockCount = 0;
+    }
+
+    private void pushChainingValue(final int[] chainingValue, final long chunkCounter) {
+        mergeChainingValueStack(chunkCounter);
+        System.arraycopy(chainingValue, 0, _chainingValueStack[_chainingValueStackLength], 0, 8);
+        _chainingValueStackLength++;
+    }
+
+    private void mergeChainingValueStack(final long chunkCount) {
+        int stackLength = Long.bitCount(chunkCount);
+        while (_chainingValueStackLength > stackLength) {
+            int[] left = _chainingValueStack[_chainingValueStackLength - 2];
+            _compressor.hashParent(left, _chainingValueStack[_chainingValueStackLength - 1], left);
+            _chainingValueStackLength--;
+        }
+    }
+
+    private void hashSubtree(final ByteBuffer buffer, final int position, final int length) {
+        int taskCount = Math.min(length / MIN_TASK_LENGTH, MAX_TASK_COUNT);
+        int partCount = Math.max(taskCount, 2);
+        int partLength = length / partCount;
+        long partChunkCount = partLength / Blake3Compressor.CHUNK_LENGTH;
+        int[][] chainingValues = new int[partCount][];
+        if (taskCount > 1) {
+            List<Blake3SubtreeTask> subtreeTasks = new ArrayList<>(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                Blake3SubtreeTask subtreeTask = new Blake3SubtreeTask(_compressor, buffer, position + i * partLength, partLength, _chunkCounter + i * partChunkCount);
+                subtreeTask.submit(TreeSha256MessageDigestSpi.FORK_JOIN_POOL);
+                subtreeTasks.add(subtreeTask);
+            }
+            for (int i = 0; i < taskCount; i++) {
+                chainingValues[i] = subtreeTasks.get(i).join();
+            }
+        } else {
+            chainingValues[0] = _compressor.hashSubtree(buffer, position, partLength, _chunkCounter);
+            chainingValues[1] = _compressor.hashSubtree(buffer, position + partLength, partLength, _chunkCounter + partChunkCount);
+        }
+        while (partCount > 2) {
+            partCount /= 2;
+            for (int i = 0; i < partCount; i++) {
+                _compressor.hashParent(chainingValues[i * 2], chainingValues[i * 2 + 1], chainingValues[i]);
+            }
+        }
+        pushChainingValue(chainingValues[0], _chunkCounter);
+        pushChainingValue(chainingValues[1], _chunkCounter + length / Blake3Compressor.CHUNK_LENGTH / 2);
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        Arrays.fill(_block, _blockLength, _block.length, (byte) 0);
+        Blake3Compressor.loadWords(_blockBuffer, 0, _outputWords);
+        System.arraycopy(_chunkChainingValue, 0, _outputChainingValue, 0, 8);
+        _outputCounter = _chunkCounter;
+        _outputBlockLength = _blockLength;
+        _outputFlags = getChunkFlags() | Blake3Compressor.CHUNK_END;
+        int stackLength = _chainingValueStackLength;
+        if (stackLength > 0 && getChunkLength() == 0) {
+            setParentOutput(_chainingValueStack[stackLength - 2], _chainingValueStack[stackLength - 1]);
+            stackLength -= 2;
+        }
+        while (stackLength > 0) {
+            stackLength--;
+            _compressor.compress(_outputChainingValue, _outputWords, _outputCounter, _outputBlockLength, _outputFlags);
+            setParentOutput(_chainingValueStack[stackLength], _compressor.getVector());
+        }
+        byte[] digest = new byte[_digestLength];
+        writeRootOutput(digest);
+        engineReset();
+        return digest;
+    }
+
+    private void setParentOutput(final int[] left, final int[] right) {
+        System.arraycopy(left, 0, _outputWords, 0, 8);
+        System.arraycopy(right, 0, _outputWords, 8, 8);
+        System.arraycopy(_compressor.getKeyWords(), 0, _outputChainingValue, 0, 8);
+        _outputCounter = 0L;
+        _outputBlockLength = Blake3Compressor.BLOCK_LENGTH;
+        _outputFlags = _compressor.getFlags() | Blake3Compressor.PARENT;
+    }
+
+    private void writeRootOutput(final byte[] digest) {
+        int position = 0;
+        long outputCounter = 0L;
+        while (position < digest.length) {
+            _compressor.compress(_outputChainingValue, _outputWords, outputCounter, _outputBlockLength, _outputFlags | Blake3Compressor.ROOT);
+            int[] vector = _compressor.getVector();
+            int length = Math.min(Blake3Compressor.BLOCK_LENGTH, digest.length - position);
+            for (int i = 0; i < length; i++) {
+                digest[position + i] = (byte) (vector[i >> 2] >> ((i & 3) << 3));
+            }
+            position += length;
+            outputCounter++;
+        }
+    }
+
+    @Override
+    protected void engineReset() {
+        _chainingValueStackLength = 0;
+        resetChunk(0L);
+    }
+
+}
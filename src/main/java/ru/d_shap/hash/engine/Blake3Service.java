@@ -0,0 +1,71 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+import java.util.Arrays;
+
+/**
+ * Service of the BLAKE3 message digest engines. The service creates the engines with the specified
+ * hash length and key.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Blake3Service extends Provider.Service {
+
+    private static final String MESSAGE_DIGEST = "MessageDigest";
+
+    private final int _digestLength;
+
+    private final byte[] _key;
+
+    Blake3Service(final Provider provider, final String algorithm, final int digestLength, final byte[] key) {
+        super(provider, MESSAGE_DIGEST, algorithm, Blake3MessageDigestSpi.class.getName(), null, null);
+        _digestLength = digestLength;
+        _key = Arrays.copyOf(key, key.length);
+    }
+
+    /**
+     * Create the service for the BLAKE3 algorithm with the hash length, specified in the algorithm
+     * name, and the key of the base service.
+     *
+     * @param baseService the base service.
+     * @param algorithm   the algorithm name.
+     *
+     * @return the service or null if the service can not be created.
+     */
+    static Provider.Service createService(final Provider.Service baseService, final String algorithm) {
+        if (!(baseService instanceof Blake3Service)) {
+            return null;
+        }
+        int digestLength = Blake3MessageDigestSpi.getDigestLength(algorithm);
+        if (digestLength <= 0) {
+            return null;
+        }
+        return new Blake3Service(baseService.getProvider(), algorithm, digestLength, ((Blake3Service) baseService)._key);
+    }
+
+    @Override
+    public MessageDigestSpi newInstance(final Object constructorParameter) {
+        return new Blake3MessageDigestSpi(_digestLength, _key);
+    }
+
+}
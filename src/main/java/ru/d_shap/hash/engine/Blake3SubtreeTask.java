@@ -0,0 +1,70 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Task to compute the chaining value of the complete subtree of the BLAKE3 hash.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Blake3SubtreeTask implements Callable<int[]> {
+
+    private final Blake3Compressor _compressor;
+
+    private final ByteBuffer _buffer;
+
+    private final int _position;
+
+    private final int _length;
+
+    private final long _counter;
+
+    private ForkJoinTask<int[]> _forkJoinTask;
+
+    Blake3SubtreeTask(final Blake3Compressor compressor, final ByteBuffer buffer, final int position, final int length, final long counter) {
+        super();
+        _compressor = new Blake3Compressor(compressor);
+        _buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        _position = position;
+        _length = length;
+        _counter = counter;
+        _forkJoinTask = null;
+    }
+
+    void submit(final ForkJoinPool forkJoinPool) {
+        _forkJoinTask = forkJoinPool.submit(this);
+    }
+
+    int[] join() {
+        return _forkJoinTask.join();
+    }
+
+    @Override
+    public int[] call() {
+        return _compressor.hashSubtree(_buffer, _position, _length, _counter);
+    }
+
+}
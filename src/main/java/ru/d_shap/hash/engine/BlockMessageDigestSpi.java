@@ -0,0 +1,238 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigestSpi;
+import java.util.Arrays;
+
+/**
+ * Base class of the message digest engines, that process the data by blocks and pad the last block
+ * with the length of the data (Merkle-Damgard construction). The intermediate state consists of
+ * the number of processed bytes, the bytes of the incomplete block and the chaining value, so
+ * the state can be exported and imported.
+ *
+ * @author Dmitry Shapovalov
+ */
+public abstract class BlockMessageDigestSpi extends MessageDigestSpi implements ResumableDigest {
+
+    private static final int LENGTH_FIELD_SIZE = 8;
+
+    private final String _algorithm;
+
+    private final int _digestLength;
+
+    private final int _chainingValueLength;
+
+    private final int _lengthFieldOffset;
+
+    private final ByteOrder _lengthByteOrder;
+
+    private final byte[] _block;
+
+    private int _blockLength;
+
+    private long _length;
+
+    /**
+     * Create new object.
+     *
+     * @param algorithm           the algorithm name.
+     * @param blockSize           the number of bytes in the block.
+     * @param digestLength        the number of the hash bytes.
+     * @param chainingValueLength the number of bytes of the chaining value.
+     * @param lengthFieldSize     the number of bytes of the length field in the last block.
+     * @param lengthByteOrder     the byte order of the length field in the last block.
+     */
+    protected BlockMessageDigestSpi(final String algorithm, final int blockSize, final int digestLength, final int chainingValueLength, final int lengthFieldSize, final ByteOrder lengthByteOrder) {
+        super();
+        _algorithm = algorithm;
+        _digestLength = digestLength;
+        _chainingValueLength = chainingValueLength;
+        _lengthFieldOffset = blockSize - lengthFieldSize;
+        _lengthByteOrder = lengthByteOrder;
+        _block = new byte[blockSize];
+        _blockLength = 0;
+        _length = 0L;
+    }
+
+    @Override
+    public final String getAlgorithm() {
+        return _algorithm;
+    }
+
+    @Override
+    public final long getLength() {
+        return _length;
+    }
+
+    @Override
+    public final void update(final byte[] bytes, final int offset, final int length) {
+        engineUpdate(bytes, offset, length);
+    }
+
+    @Override
+    public final void update(final ByteBuffer buffer) {
+        engineUpdate(buffer);
+    }
+
+    @Override
+    public final byte[] digest() {
+        return engineDigest();
+    }
+
+    @Override
+    public final byte[] getState() {
+        ByteBuffer state = ByteBuffer.allocate(LENGTH_FIELD_SIZE + _blockLength + _chainingValueLength);
+        state.putLong(_length);
+        state.put(_block, 0, _blockLength);
+        writeChainingValue(state);
+        return state.array();
+    }
+
+    @Override
+    public final void setState(final byte[] state) {
+        if (state == null) {
+            throw new IllegalArgumentException("Hash state is null");
+        }
+        if (state.length < LENGTH_FIELD_SIZE) {
+            throw new IllegalArgumentException("Wrong hash state");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(state);
+        long length = buffer.getLong();
+        if (length < 0) {
+            throw new IllegalArgumentException("Wrong hash state");
+        }
+        int blockLength = (int) (length % _block.length);
+        if (buffer.remaining() != blockLength + _chainingValueLength) {
+            throw new IllegalArgumentException("Wrong hash state");
+        }
+        _length = length;
+        _blockLength = blockLength;
+        buffer.get(_block, 0, blockLength);
+        readChainingValue(buffer);
+    }
+
+    @Override
+    protected final int engineGetDigestLength() {
+        return _digestLength;
+    }
+
+    @Override
+    protected final void engineUpdate(final byte input) {
+        _block[_blockLength] = input;
+        _blockLength++;
+        _length++;
+        if (_blockLength == _block.length) {
+            processBlock(_block, 0);
+            _blockLength = 0;
+        }
+    }
+
+    @Override
+    protected final void engineUpdate(final byte[] input, final int offset, final int len) {
+        int currentOffset = offset;
+        int remaining = len;
+        _length += len;
+        if (_blockLength > 0) {
+            int length = Math.min(remaining, _block.length - _blockLength);
+            System.arraycopy(input, currentOffset, _block, _blockLength, length);
+            _blockLength += length;
+            currentOffset += length;
+            remaining -= length;
+            if (_blockLength < _block.length) {
+                return;
+            }
+            processBlock(_block, 0);
+            _blockLength = 0;
+        }
+        while (remaining >= _block.length) {
+            processBlock(input, currentOffset);
+            currentOffset += _block.length;
+            remaining -= _block.length;
+        }
+        System.arraycopy(input, currentOffset, _block, 0, remaining);
+        _blockLength = remaining;
+    }
+
+    @Override
+    protected final byte[] engineDigest() {
+        long bitLength = _length << 3;
+        _block[_blockLength] = (byte) 0x80;
+        _blockLength++;
+        if (_blockLength > _lengthFieldOffset) {
+            Arrays.fill(_block, _blockLength, _block.length, (byte) 0);
+            processBlock(_block, 0);
+            _blockLength = 0;
+        }
+        Arrays.fill(_block, _blockLength, _block.length, (byte) 0);
+        ByteBuffer lengthField = ByteBuffer.wrap(_block, _block.length - LENGTH_FIELD_SIZE, LENGTH_FIELD_SIZE);
+        lengthField.order(_lengthByteOrder);
+        lengthField.putLong(bitLength);
+        processBlock(_block, 0);
+        byte[] digest = new byte[_digestLength];
+        writeDigest(digest);
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected final void engineReset() {
+        _blockLength = 0;
+        _length = 0L;
+        resetChainingValue();
+    }
+
+    /**
+     * Process the block of bytes and update the chaining value.
+     *
+     * @param block  the bytes of the block.
+     * @param offset the offset of the first byte of the block.
+     */
+    protected abstract void processBlock(byte[] block, int offset);
+
+    /**
+     * Set the initial chaining value.
+     */
+    protected abstract void resetChainingValue();
+
+    /**
+     * Write the chaining value to the intermediate state.
+     *
+     * @param state the intermediate state.
+     */
+    protected abstract void writeChainingValue(ByteBuffer state);
+
+    /**
+     * Read the chaining value from the intermediate state.
+     *
+     * @param state the intermediate state.
+     */
+    protected abstract void readChainingValue(ByteBuffer state);
+
+    /**
+     * Write the hash bytes, computed from the chaining value.
+     *
+     * @param digest the hash bytes.
+     */
+    protected abstract void writeDigest(byte[] digest);
+
+}
@@ -0,0 +1,120 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.util.Locale;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Message digest engine of the checksum algorithms. The engine delegates to the {@link Checksum}
+ * object, the hash is the 32 bits checksum value in the big-endian order. The CRC-32C checksum of
+ * the java runtime is used, if it is available, otherwise the checksum of the hash library is used.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ChecksumMessageDigestSpi extends MessageDigestSpi {
+
+    static final String CRC32C_CLASS_NAME = "java.util.zip.CRC32C";
+
+    private static final Class<?> CRC32C_CLASS = findClass(CRC32C_CLASS_NAME);
+
+    private static final int DIGEST_LENGTH = 4;
+
+    private final Checksum _checksum;
+
+    ChecksumMessageDigestSpi(final Checksum checksum) {
+        super();
+        _checksum = checksum;
+    }
+
+    static ChecksumMessageDigestSpi newInstance(final String algorithm) {
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        if (HashAlgorithms.CRC32.equals(name)) {
+            return new ChecksumMessageDigestSpi(new CRC32());
+        }
+        if (HashAlgorithms.CRC32C.equals(name)) {
+            return new ChecksumMessageDigestSpi(newCrc32c(CRC32C_CLASS));
+        }
+        if (HashAlgorithms.ADLER32.equals(name)) {
+            return new ChecksumMessageDigestSpi(new Adler32());
+        }
+        return null;
+    }
+
+    static Class<?> findClass(final String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException ex) {
+            return null;
+        }
+    }
+
+    static Checksum newCrc32c(final Class<?> checksumClass) {
+        if (checksumClass == null) {
+            return new Crc32cChecksum();
+        }
+        try {
+            return (Checksum) checksumClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException ex) {
+            return new Crc32cChecksum();
+        }
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return DIGEST_LENGTH;
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+        _checksum.update(input);
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        _checksum.update(input, offset, len);
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        long value = _checksum.getValue();
+        _checksum.reset();
+        byte[] digest = new byte[DIGEST_LENGTH];
+        for (int i = 0; i < DIGEST_LENGTH; i++) {
+            digest[i] = (byte) (value >> (DIGEST_LENGTH - 1 - i) * 8);
+        }
+        return digest;
+    }
+
+    @Override
+    protected void engineReset() {
+        _checksum.reset();
+    }
+
+    Checksum getChecksum() {
+        return _checksum;
+    }
+
+}
@@ -0,0 +1,43 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+
+/**
+ * Service of the checksum message digest engines.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ChecksumService extends Provider.Service {
+
+    private static final String MESSAGE_DIGEST = "MessageDigest";
+
+    ChecksumService(final Provider provider, final String algorithm) {
+        super(provider, MESSAGE_DIGEST, algorithm, ChecksumMessageDigestSpi.class.getName(), null, null);
+    }
+
+    @Override
+    public MessageDigestSpi newInstance(final Object constructorParameter) {
+        return ChecksumMessageDigestSpi.newInstance(getAlgorithm());
+    }
+
+}
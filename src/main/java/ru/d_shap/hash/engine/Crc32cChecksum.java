@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.util.zip.Checksum;
+
+/**
+ * CRC-32C (Castagnoli) checksum for the java versions without {@code java.util.zip.CRC32C}. The
+ * checksum is computed with the slicing-by-8 tables, so 8 bytes are processed at once.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Crc32cChecksum implements Checksum {
+
+    private static final int POLYNOMIAL = 0x82F63B78;
+
+    private static final int TABLE_SIZE = 256;
+
+    private static final int[] TABLES = createTables();
+
+    private int _crc;
+
+    Crc32cChecksum() {
+        super();
+        reset();
+    }
+
+    private static int[] createTables() {
+        int[] tables = new int[TABLE_SIZE * 8];
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            int crc = i;
+            for (int j = 0; j < 8; j++) {
+                if ((crc & 1) == 0) {
+                    crc >>>= 1;
+                } else {
+                    crc = crc >>> 1 ^ POLYNOMIAL;
+                }
+            }
+            tables[i] = crc;
+        }
+        for (int i = TABLE_SIZE; i < tables.length; i++) {
+            int crc = tables[i - TABLE_SIZE];
+            tables[i] = crc >>> 8 ^ tables[crc & 0xFF];
+        }
+        return tables;
+    }
+
+    @Override
+    public void update(final int value) {
+        _crc = _crc >>> 8 ^ TABLES[(_crc ^ value) & 0xFF];
+    }
+
+    @Override
+    public void update(final byte[] bytes, final int offset, final int length) {
+        int crc = _crc;
+        int position = offset;
+        int end = offset + length;
+        while (position <= end - 8) {
+            crc ^= bytes[position] & 0xFF | (bytes[position + 1] & 0xFF) << 8 | (bytes[position + 2] & 0xFF) << 16 | bytes[position + 3] << 24;
+            crc = TABLES[TABLE_SIZE * 7 + (crc & 0xFF)]
+                    ^ TABLES[TABLE_SIZE * 6 + (crc >>> 8 & 0xFF)]
+                    ^ TABLES[TABLE_SIZE * 5 + (crc >>> 16 & 0xFF)]
+                    ^ TABLES[TABLE_SIZE * 4 + (crc >>> 24)]
+                    ^ TABLES[TABLE_SIZE * 3 + (bytes[position + 4] & 0xFF)]
+                    ^ TABLES[TABLE_SIZE * 2 + (bytes[position + 5] & 0xFF)]
+                    ^ TABLES[TABLE_SIZE + (bytes[position + 6] & 0xFF)]
+                    ^ TABLES[bytes[position + 7] & 0xFF];
+            position += 8;
+        }
+        while (position < end) {
+            crc = crc >>> 8 ^ TABLES[(crc ^ bytes[position]) & 0xFF];
+            position++;
+        }
+        _crc = crc;
+    }
+
+    @Override
+    public long getValue() {
+        return ~_crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        _crc = -1;
+    }
+
+}
@@ -0,0 +1,134 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Security provider of the hash algorithms, implemented by the hash library. The provider is used
+ * by the hash library for the algorithms, not supported by the installed providers. The provider
+ * can also be installed with {@link java.security.Security#addProvider(Provider)}. The message digests
+ * of the standard algorithms, implemented by the provider, can export the intermediate state, see
+ * {@link ResumableDigest}. The SHAKE algorithms are provided for any hash length in bits, that is
+ * a multiple of 8, for example SHAKE128-384, the same is true for BLAKE3, for example BLAKE3-512.
+ * The non-cryptographic xxHash64 and XXH3 algorithms are provided with the zero seed. The CRC32, CRC32C
+ * and Adler32 checksums are provided as the message digests with the 32 bits hash. The keyed BLAKE2
+ * and BLAKE3 algorithms and the seeded xxHash64 and XXH3 algorithms are provided by {@link KeyedHashProvider}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashProvider extends Provider {
+
+    public static final String NAME = "DShapHash";
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE_DIGEST = "MessageDigest";
+
+    private static final Pattern SHAKE_PATTERN = Pattern.compile("SHAKE(128|256)-([1-9][0-9]{0,8})");
+
+    /**
+     * Create new object.
+     */
+    public HashProvider() {
+        super(NAME, 1.0, "Hash library provider");
+        put(MESSAGE_DIGEST + "." + HashAlgorithms.MD5, Md5MessageDigestSpi.class.getName());
+        put(MESSAGE_DIGEST + "." + HashAlgorithms.SHA1, Sha1MessageDigestSpi.class.getName());
+        put(MESSAGE_DIGEST + "." + HashAlgorithms.SHA256, Sha256MessageDigestSpi.class.getName());
+        put(MESSAGE_DIGEST + "." + HashAlgorithms.SHA384, Sha384MessageDigestSpi.class.getName());
+        put(MESSAGE_DIGEST + "." + HashAlgorithms.SHA512, Sha512MessageDigestSpi.class.getName());
+        put(MESSAGE_DIGEST + "." + HashAlgorithms.TREE_SHA256, TreeSha256MessageDigestSpi.class.getName());
+        putService(new KeccakService(this, HashAlgorithms.SHA3_224, 28, KeccakMessageDigestSpi.SHA3_PADDING, 28));
+        putService(new KeccakService(this, HashAlgorithms.SHA3_256, 32, KeccakMessageDigestSpi.SHA3_PADDING, 32));
+        putService(new KeccakService(this, HashAlgorithms.SHA3_384, 48, KeccakMessageDigestSpi.SHA3_PADDING, 48));
+        putService(new KeccakService(this, HashAlgorithms.SHA3_512, 64, KeccakMessageDigestSpi.SHA3_PADDING, 64));
+        putService(new KeccakService(this, HashAlgorithms.SHAKE128, 16, KeccakMessageDigestSpi.SHAKE_PADDING, 32));
+        putService(new KeccakService(this, HashAlgorithms.SHAKE256, 32, KeccakMessageDigestSpi.SHAKE_PADDING, 64));
+        putService(new Blake2Service(this, HashAlgorithms.BLAKE2B_256, new byte[0]));
+        putService(new Blake2Service(this, HashAlgorithms.BLAKE2B_512, new byte[0]));
+        putService(new Blake2Service(this, HashAlgorithms.BLAKE2S_256, new byte[0]));
+        putService(new Blake3Service(this, HashAlgorithms.BLAKE3, 32, new byte[0]));
+        putService(new XxHashService(this, HashAlgorithms.XXHASH64, 0L));
+        putService(new XxHashService(this, HashAlgorithms.XXH3_64, 0L));
+        putService(new XxHashService(this, HashAlgorithms.XXH3_128, 0L));
+        putService(new ChecksumService(this, HashAlgorithms.CRC32));
+        putService(new ChecksumService(this, HashAlgorithms.CRC32C));
+        putService(new ChecksumService(this, HashAlgorithms.ADLER32));
+    }
+
+    @Override
+    public Service getService(final String type, final String algorithm) {
+        Service service = super.getService(type, algorithm);
+        if (service == null && MESSAGE_DIGEST.equals(type)) {
+            service = createShakeService(algorithm);
+            if (service == null) {
+                service = Blake3Service.createService(super.getService(MESSAGE_DIGEST, HashAlgorithms.BLAKE3), algorithm);
+            }
+        }
+        return service;
+    }
+
+    private Service createShakeService(final String algorithm) {
+        Matcher matcher = SHAKE_PATTERN.matcher(algorithm.toUpperCase(Locale.ENGLISH));
+        if (!matcher.matches()) {
+            return null;
+        }
+        int digestBits = Integer.parseInt(matcher.group(2));
+        if (digestBits % 8 != 0) {
+            return null;
+        }
+        int securityLength = Integer.parseInt(matcher.group(1)) / 8;
+        return new KeccakService(this, algorithm, securityLength, KeccakMessageDigestSpi.SHAKE_PADDING, digestBits / 8);
+    }
+
+    /**
+     * Service of the SHA-3 and SHAKE message digest engines.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class KeccakService extends Service {
+
+        private final int _securityLength;
+
+        private final byte _padding;
+
+        private final int _digestLength;
+
+        KeccakService(final Provider provider, final String algorithm, final int securityLength, final byte padding, final int digestLength) {
+            super(provider, MESSAGE_DIGEST, algorithm, KeccakMessageDigestSpi.class.getName(), null, null);
+            _securityLength = securityLength;
+            _padding = padding;
+            _digestLength = digestLength;
+        }
+
+        @Override
+        public MessageDigestSpi newInstance(final Object constructorParameter) {
+            return new KeccakMessageDigestSpi(_securityLength, _padding, _digestLength);
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.util.Arrays;
+
+/**
+ * Message digest engine of the SHA-3 and SHAKE algorithms (FIPS 202). The engine is based on the
+ * Keccak-f[1600] permutation, the state of the permutation is processed as 25 lanes of 64 bits.
+ * The SHAKE algorithms produce the hash of the specified length.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class KeccakMessageDigestSpi extends MessageDigestSpi {
+
+    static final byte SHA3_PADDING = 0x06;
+
+    static final byte SHAKE_PADDING = 0x1F;
+
+    private static final int STATE_SIZE = 200;
+
+    private static final int LANE_COUNT = 25;
+
+    private static final int ROUND_COUNT = 24;
+
+    private static final long[] ROUND_CONSTANTS = {
+        0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+        0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+        0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+        0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+        0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+        0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L,
+    };
+
+    private static final int[] ROTATIONS = {
+        1, 3, 6, 10, 15, 21, 28, 36, 45, 55, 2, 14, 27, 41, 56, 8, 25, 43, 62, 18, 39, 61, 20, 44,
+    };
+
+    private static final int[] PERMUTATION = {
+        10, 7, 11, 17, 18, 3, 5, 16, 8, 21, 24, 4, 15, 23, 19, 13, 12, 2, 20, 14, 22, 9, 6, 1,
+    };
+
+    private final byte _padding;
+
+    private final int _digestLength;
+
+    private final long[] _lanes;
+
+    private final byte[] _block;
+
+    private int _blockLength;
+
+    KeccakMessageDigestSpi(final int securityLength, final byte padding, final int digestLength) {
+        super();
+        _padding = padding;
+        _digestLength = digestLength;
+        _lanes = new long[LANE_COUNT];
+        _block = new byte[STATE_SIZE - 2 * securityLength];
+        _blockLength = 0;
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return _digestLength;
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+        _block[_blockLength] = input;
+        _blockLength++;
+        if (_blockLength == _block.length) {
+            absorbBlock(_block, 0);
+            _blockLength = 0;
+        }
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        int currentOffset = offset;
+        int remaining = len;
+        if (_blockLength > 0) {
+            int length = Math.min(remaining, _block.length - _blockLength);
+            System.arraycopy(input, currentOffset, _block, _blockLength, length);
+            _blockLength += length;
+            currentOffset += length;
+            remaining -= length;
+            if (_blockLength < _block.length) {
+                return;
+            }
+            absorbBlock(_block, 0);
+            _blockLength = 0;
+        }
+        while (remaining >= _block.length) {
+            absorbBlock(input, currentOffset);
+            currentOffset += _block.length;
+            remaining -= _block.length;
+        }
+        System.arraycopy(input, currentOffset, _block, 0, remaining);
+        _blockLength = remaining;
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        Arrays.fill(_block, _blockLength, _block.length, (byte) 0);
+        _block[_blockLength] ^= _padding;
+        _block[_block.length - 1] ^= (byte) 0x80;
+        absorbBlock(_block, 0);
+        byte[] digest = new byte[_digestLength];
+        int position = squeezeBlock(digest, 0);
+        while (position < _digestLength) {
+            permute(_lanes);
+            position = squeezeBlock(digest, position);
+        }
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected void engineReset() {
+        Arrays.fill(_lanes, 0L);
+        _blockLength = 0;
+    }
+
+    private void absorbBlock(final byte[] block, final int offset) {
+        int position = offset;
+        for (int i = 0; i < _block.length >> 3; i++) {
+            _lanes[i] ^= block[position] & 0xFFL | (block[position + 1] & 0xFFL) << 8 | (block[position + 2] & 0xFFL) << 16 | (block[position + 3] & 0xFFL) << 24
+                    | (block[position + 4] & 0xFFL) << 32 | (block[position + 5] & 0xFFL) << 40 | (block[position + 6] & 0xFFL) << 48 | (block[position + 7] & 0xFFL) << 56;
+            position += 8;
+        }
+        permute(_lanes);
+    }
+
+    private int squeezeBlock(final byte[] digest, final int position) {
+        int length = Math.min(_block.length, digest.length - position);
+        for (int i = 0; i < length; i++) {
+            digest[position + i] = (byte) (_lanes[i >> 3] >>> ((i & 7) << 3));
+        }
+        return position + length;
+    }
+
+    private static void permute(final long[] lanes) {
+        for (int round = 0; round < ROUND_COUNT; round++) {
+            long column0 = lanes[0] ^ lanes[5] ^ lanes[10] ^ lanes[15] ^ lanes[20];
+            long column1 = lanes[1] ^ lanes[6] ^ lanes[11] ^ lanes[16] ^ lanes[21];
+            long column2 = lanes[2] ^ lanes[7] ^ lanes[12] ^ lanes[17] ^ lanes[22];
+            long column3 = lanes[3] ^ lanes[8] ^ lanes[13] ^ lanes[18] ^ lanes[23];
+            long column4 = lanes[4] ^ lanes[9] ^ lanes[14] ^ lanes[19] ^ lanes[24];
+            long theta0 = column4 ^ Long.rotateLeft(column1, 1);
+            long theta1 = column0 ^ Long.rotateLeft(column2, 1);
+            long theta2 = column1 ^ Long.rotateLeft(column3, 1);
+            long theta3 = column2 ^ Long.rotateLeft(column4, 1);
+            long theta4 = column3 ^ Long.rotateLeft(column0, 1);
+            for (int i = 0; i < LANE_COUNT; i += 5) {
+                lanes[i] ^= theta0;
+                lanes[i + 1] ^= theta1;
+                lanes[i + 2] ^= theta2;
+                lanes[i + 3] ^= theta3;
+                lanes[i + 4] ^= theta4;
+            }
+
+            long current = lanes[1];
+            for (int i = 0; i < PERMUTATION.length; i++) {
+                int index = PERMUTATION[i];
+                long next = lanes[index];
+                lanes[index] = Long.rotateLeft(current, ROTATIONS[i]);
+                current = next;
+            }
+
+            for (int i = 0; i < LANE_COUNT; i += 5) {
+                long lane0 = lanes[i];
+                long lane1 = lanes[i + 1];
+                long lane2 = lanes[i + 2];
+                long lane3 = lanes[i + 3];
+                long lane4 = lanes[i + 4];
+                lanes[i] = lane0 ^ ~lane1 & lane2;
+                lanes[i + 1] = lane1 ^ ~lane2 & lane3;
+                lanes[i + 2] = lane2 ^ ~lane3 & lane4;
+                lanes[i + 3] = lane3 ^ ~lane4 & lane0;
+                lanes[i + 4] = lane4 ^ ~lane0 & lane1;
+            }
+
+            lanes[0] ^= ROUND_CONSTANTS[round];
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.Provider;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Security provider of the keyed hash algorithms, implemented by the hash library. The message
+ * digests of the provider compute the hash with the key of the provider. The keyed mode is
+ * supported for the BLAKE2 algorithms and for the BLAKE3 algorithm with the 32 bytes key. The 8 bytes
+ * key is used as the big-endian seed of the xxHash64 and XXH3 algorithms. The provider is not intended
+ * to be installed, new provider is created for every key.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class KeyedHashProvider extends Provider {
+
+    public static final String NAME = "DShapKeyedHash";
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE_DIGEST = "MessageDigest";
+
+    /**
+     * Create new object.
+     *
+     * @param key the key.
+     */
+    public KeyedHashProvider(final byte[] key) {
+        super(NAME, 1.0, "Hash library keyed hash provider");
+        if (key == null) {
+            throw new IllegalArgumentException("Key is null");
+        }
+        putKeyedService(HashAlgorithms.BLAKE2B_256, key);
+        putKeyedService(HashAlgorithms.BLAKE2B_512, key);
+        putKeyedService(HashAlgorithms.BLAKE2S_256, key);
+        if (isSupported(HashAlgorithms.BLAKE3, key.length)) {
+            putService(new Blake3Service(this, HashAlgorithms.BLAKE3, 32, key));
+        }
+        if (key.length == XxHash.SEED_LENGTH) {
+            long seed = XxHashService.getSeed(key);
+            putService(new XxHashService(this, HashAlgorithms.XXHASH64, seed));
+            putService(new XxHashService(this, HashAlgorithms.XXH3_64, seed));
+            putService(new XxHashService(this, HashAlgorithms.XXH3_128, seed));
+        }
+    }
+
+    /**
+     * Check if the keyed hash of the specified algorithm is supported for the key of the specified length.
+     *
+     * @param algorithm the hash algorithm.
+     * @param keyLength the number of bytes of the key.
+     *
+     * @return true if the keyed hash is supported.
+     */
+    public static boolean isSupported(final String algorithm, final int keyLength) {
+        if (algorithm == null) {
+            return false;
+        }
+        if (Blake3MessageDigestSpi.getDigestLength(algorithm) > 0) {
+            return keyLength == Blake3Compressor.KEY_LENGTH;
+        }
+        if (XxHashService.isAlgorithm(algorithm)) {
+            return keyLength == XxHash.SEED_LENGTH;
+        }
+        int maxKeyLength = Blake2MessageDigestSpi.getMaxKeyLength(algorithm);
+        return keyLength >= 0 && keyLength <= maxKeyLength && maxKeyLength > 0;
+    }
+
+    @Override
+    public Service getService(final String type, final String algorithm) {
+        Service service = super.getService(type, algorithm);
+        if (service == null && MESSAGE_DIGEST.equals(type)) {
+            service = Blake3Service.createService(super.getService(MESSAGE_DIGEST, HashAlgorithms.BLAKE3), algorithm);
+        }
+        return service;
+    }
+
+    private void putKeyedService(final String algorithm, final byte[] key) {
+        if (isSupported(algorithm, key.length)) {
+            putService(new Blake2Service(this, algorithm, key));
+        }
+    }
+
+}
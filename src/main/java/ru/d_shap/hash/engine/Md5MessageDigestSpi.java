@@ -0,0 +1,130 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Message digest engine of the MD5 algorithm (RFC 1321) with the exportable intermediate state.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Md5MessageDigestSpi extends BlockMessageDigestSpi {
+
+    private static final int[] INITIAL_VALUE = {
+        0x67452301, 0xefcdab89, 0x98badcfe, 0x10325476,
+    };
+
+    private static final int[] SHIFTS = {
+        7, 12, 17, 22, 7, 12, 17, 22, 7, 12, 17, 22, 7, 12, 17, 22,
+        5, 9, 14, 20, 5, 9, 14, 20, 5, 9, 14, 20, 5, 9, 14, 20,
+        4, 11, 16, 23, 4, 11, 16, 23, 4, 11, 16, 23, 4, 11, 16, 23,
+        6, 10, 15, 21, 6, 10, 15, 21, 6, 10, 15, 21, 6, 10, 15, 21,
+    };
+
+    private static final int[] CONSTANTS = {
+        0xd76aa478, 0xe8c7b756, 0x242070db, 0xc1bdceee, 0xf57c0faf, 0x4787c62a, 0xa8304613, 0xfd469501,
+        0x698098d8, 0x8b44f7af, 0xffff5bb1, 0x895cd7be, 0x6b901122, 0xfd987193, 0xa679438e, 0x49b40821,
+        0xf61e2562, 0xc040b340, 0x265e5a51, 0xe9b6c7aa, 0xd62f105d, 0x02441453, 0xd8a1e681, 0xe7d3fbc8,
+        0x21e1cde6, 0xc33707d6, 0xf4d50d87, 0x455a14ed, 0xa9e3e905, 0xfcefa3f8, 0x676f02d9, 0x8d2a4c8a,
+        0xfffa3942, 0x8771f681, 0x6d9d6122, 0xfde5380c, 0xa4beea44, 0x4bdecfa9, 0xf6bb4b60, 0xbebfbc70,
+        0x289b7ec6, 0xeaa127fa, 0xd4ef3085, 0x04881d05, 0xd9d4d039, 0xe6db99e5, 0x1fa27cf8, 0xc4ac5665,
+        0xf4292244, 0x432aff97, 0xab9423a7, 0xfc93a039, 0x655b59c3, 0x8f0ccc92, 0xffeff47d, 0x85845dd1,
+        0x6fa87e4f, 0xfe2ce6e0, 0xa3014314, 0x4e0811a1, 0xf7537e82, 0xbd3af235, 0x2ad7d2bb, 0xeb86d391,
+    };
+
+    private final int[] _chainingValue;
+
+    private final int[] _words;
+
+    /**
+     * Create new object.
+     */
+    public Md5MessageDigestSpi() {
+        super(HashAlgorithms.MD5, 64, 16, 16, 8, ByteOrder.LITTLE_ENDIAN);
+        _chainingValue = new int[4];
+        _words = new int[16];
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+    }
+
+    @Override
+    protected void processBlock(final byte[] block, final int offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(block, offset, 64).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 16; i++) {
+            _words[i] = buffer.getInt();
+        }
+        int valueA = _chainingValue[0];
+        int valueB = _chainingValue[1];
+        int valueC = _chainingValue[2];
+        int valueD = _chainingValue[3];
+        for (int i = 0; i < 64; i++) {
+            int valueF;
+            int index;
+            if (i < 16) {
+                valueF = valueB & valueC | ~valueB & valueD;
+                index = i;
+            } else if (i < 32) {
+                valueF = valueD & valueB | ~valueD & valueC;
+                index = 5 * i + 1 & 15;
+            } else if (i < 48) {
+                valueF = valueB ^ valueC ^ valueD;
+                index = 3 * i + 5 & 15;
+            } else {
+                valueF = valueC ^ (valueB | ~valueD);
+                index = 7 * i & 15;
+            }
+            int temp = valueD;
+            valueD = valueC;
+            valueC = valueB;
+            valueB += Integer.rotateLeft(valueA + valueF + CONSTANTS[i] + _words[index], SHIFTS[i]);
+            valueA = temp;
+        }
+        _chainingValue[0] += valueA;
+        _chainingValue[1] += valueB;
+        _chainingValue[2] += valueC;
+        _chainingValue[3] += valueD;
+    }
+
+    @Override
+    protected void resetChainingValue() {
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+    }
+
+    @Override
+    protected void writeChainingValue(final ByteBuffer state) {
+        state.asIntBuffer().put(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 4);
+    }
+
+    @Override
+    protected void readChainingValue(final ByteBuffer state) {
+        state.asIntBuffer().get(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 4);
+    }
+
+    @Override
+    protected void writeDigest(final byte[] digest) {
+        ByteBuffer.wrap(digest).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(_chainingValue);
+    }
+
+}
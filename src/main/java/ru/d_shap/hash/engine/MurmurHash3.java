@@ -0,0 +1,398 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Non-cryptographic MurmurHash3 hash functions, the x86_32 and the x64_128 variants. This functions
+ * are intended for the hash tables and the sharding, not for the security. The methods of the class
+ * compute the hash of the byte array range, of the remaining bytes of the buffer or of the UTF-8 bytes
+ * of the char sequence and return the hash as the primitive values. The methods do not change the
+ * position of the buffer and do not allocate objects, the char sequence is encoded on the fly. The
+ * unpaired surrogate characters are encoded as the question mark, the same way as
+ * {@link String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MurmurHash3 {
+
+    private static final int C1_32 = 0xCC9E2D51;
+
+    private static final int C2_32 = 0x1B873593;
+
+    private static final long C1_128 = 0x87C37B91114253D5L;
+
+    private static final long C2_128 = 0x4CF5AD432745937FL;
+
+    private static final int BLOCK_LENGTH_32 = 4;
+
+    private static final int BLOCK_LENGTH_128 = 16;
+
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
+    private MurmurHash3() {
+        super();
+    }
+
+    /**
+     * Get the x86_32 hash of the byte array range.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @param seed   the seed of the hash.
+     *
+     * @return the hash.
+     */
+    public static int getHash32(final byte[] bytes, final int offset, final int length, final int seed) {
+        checkArguments(bytes, offset, length);
+        int hash = seed;
+        int end = offset + length - length % BLOCK_LENGTH_32;
+        for (int i = offset; i < end; i += BLOCK_LENGTH_32) {
+            hash = mixHash32(hash, readInt(bytes, i));
+        }
+        long tail = 0L;
+        for (int i = offset + length - 1; i >= end; i--) {
+            tail = tail << 8 | bytes[i] & 0xFF;
+        }
+        return finishHash32(hash, (int) tail, length);
+    }
+
+    /**
+     * Get the x86_32 hash of the remaining bytes of the buffer.
+     *
+     * @param buffer the buffer.
+     * @param seed   the seed of the hash.
+     *
+     * @return the hash.
+     */
+    public static int getHash32(final ByteBuffer buffer, final int seed) {
+        checkBuffer(buffer);
+        if (buffer.hasArray()) {
+            return getHash32(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed);
+        }
+        int hash = seed;
+        int length = buffer.remaining();
+        int end = buffer.position() + length - length % BLOCK_LENGTH_32;
+        for (int i = buffer.position(); i < end; i += BLOCK_LENGTH_32) {
+            hash = mixHash32(hash, readInt(buffer, i));
+        }
+        long tail = 0L;
+        for (int i = buffer.limit() - 1; i >= end; i--) {
+            tail = tail << 8 | buffer.get(i) & 0xFF;
+        }
+        return finishHash32(hash, (int) tail, length);
+    }
+
+    /**
+     * Get the x86_32 hash of the UTF-8 bytes of the char sequence.
+     *
+     * @param charSequence the char sequence.
+     * @param seed         the seed of the hash.
+     *
+     * @return the hash.
+     */
+    public static int getHash32(final CharSequence charSequence, final int seed) {
+        checkCharSequence(charSequence);
+        int hash = seed;
+        long pending = 0L;
+        int pendingBits = 0;
+        int length = 0;
+        int index = 0;
+        while (index < charSequence.length()) {
+            long encoded = encodeUtf8(charSequence, index);
+            int count = (int) (encoded >>> 32);
+            pending |= (encoded & INT_MASK) << pendingBits;
+            pendingBits += count * 8;
+            if (pendingBits >= 32) {
+                hash = mixHash32(hash, (int) pending);
+                pending >>>= 32;
+                pendingBits -= 32;
+            }
+            length += count;
+            index += getCharCount(count);
+        }
+        return finishHash32(hash, (int) pending, length);
+    }
+
+    /**
+     * Get the x64_128 hash of the byte array range. The first 64 bits of the hash are stored in the
+     * first element of the result array, the second 64 bits are stored in the second element.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @param seed   the seed of the hash.
+     * @param result the array to store the hash.
+     */
+    public static void getHash128(final byte[] bytes, final int offset, final int length, final int seed, final long[] result) {
+        checkArguments(bytes, offset, length);
+        checkResult(result);
+        resetHash128(result, seed);
+        int end = offset + length - length % BLOCK_LENGTH_128;
+        for (int i = offset; i < end; i += BLOCK_LENGTH_128) {
+            mixHash128(result, readLong(bytes, i), readLong(bytes, i + 8));
+        }
+        long tail1 = 0L;
+        long tail2 = 0L;
+        for (int i = offset + length - 1; i >= end; i--) {
+            if (i - end < 8) {
+                tail1 = tail1 << 8 | bytes[i] & 0xFFL;
+            } else {
+                tail2 = tail2 << 8 | bytes[i] & 0xFFL;
+            }
+        }
+        finishHash128(result, tail1, tail2, length);
+    }
+
+    /**
+     * Get the x64_128 hash of the remaining bytes of the buffer. The first 64 bits of the hash are
+     * stored in the first element of the result array, the second 64 bits are stored in the second
+     * element.
+     *
+     * @param buffer the buffer.
+     * @param seed   the seed of the hash.
+     * @param result the array to store the hash.
+     */
+    public static void getHash128(final ByteBuffer buffer, final int seed, final long[] result) {
+        checkBuffer(buffer);
+        if (buffer.hasArray()) {
+            getHash128(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed, result);
+            return;
+        }
+        checkResult(result);
+        resetHash128(result, seed);
+        int length = buffer.remaining();
+        int end = buffer.position() + length - length % BLOCK_LENGTH_128;
+        for (int i = buffer.position(); i < end; i += BLOCK_LENGTH_128) {
+            mixHash128(result, readLong(buffer, i), readLong(buffer, i + 8));
+        }
+        long tail1 = 0L;
+        long tail2 = 0L;
+        for (int i = buffer.limit() - 1; i >= end; i--) {
+            if (i - end < 8) {
+                tail1 = tail1 << 8 | buffer.get(i) & 0xFFL;
+            } else {
+                tail2 = tail2 << 8 | buffer.get(i) & 0xFFL;
+            }
+        }
+        finishHash128(result, tail1, tail2, length);
+    }
+
+    /**
+     * Get the x64_128 hash of the UTF-8 bytes of the char sequence. The first 64 bits of the hash are
+     * stored in the first element of the result array, the second 64 bits are stored in the second
+     * element.
+     *
+     * @param charSequence the char sequence.
+     * @param seed         the seed of the hash.
+     * @param result       the array to store the hash.
+     */
+    public static void getHash128(final CharSequence charSequence, final int seed, final long[] result) {
+        checkCharSequence(charSequence);
+        checkResult(result);
+        resetHash128(result, seed);
+        long block1 = 0L;
+        long block2 = 0L;
+        int blockLength = 0;
+        long length = 0L;
+        int index = 0;
+        while (index < charSequence.length()) {
+            long encoded = encodeUtf8(charSequence, index);
+            int count = (int) (encoded >>> 32);
+            for (int i = 0; i < count; i++) {
+                long value = encoded >>> i * 8 & 0xFFL;
+                if (blockLength < 8) {
+                    block1 |= value << blockLength * 8;
+                } else {
+                    block2 |= value << (blockLength - 8) * 8;
+                }
+                blockLength++;
+                if (blockLength == BLOCK_LENGTH_128) {
+                    mixHash128(result, block1, block2);
+                    block1 = 0L;
+                    block2 = 0L;
+                    blockLength = 0;
+                }
+            }
+            length += count;
+            index += getCharCount(count);
+        }
+        finishHash128(result, block1, block2, length);
+    }
+
+    private static void checkArguments(final byte[] bytes, final int offset, final int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Offset and length are not within [0; " + bytes.length + "]");
+        }
+    }
+
+    private static void checkBuffer(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Source byte buffer is null");
+        }
+    }
+
+    private static void checkCharSequence(final CharSequence charSequence) {
+        if (charSequence == null) {
+            throw new IllegalArgumentException("Source char sequence is null");
+        }
+    }
+
+    private static void checkResult(final long[] result) {
+        if (result == null) {
+            throw new IllegalArgumentException("Result array is null");
+        }
+        if (result.length < 2) {
+            throw new IllegalArgumentException("Result array length is less than 2");
+        }
+    }
+
+    private static int mixHash32(final int hash, final int block) {
+        int result = hash ^ mixBlock32(block);
+        result = Integer.rotateLeft(result, 13);
+        return result * 5 + 0xE6546B64;
+    }
+
+    private static int mixBlock32(final int block) {
+        return Integer.rotateLeft(block * C1_32, 15) * C2_32;
+    }
+
+    private static int finishHash32(final int hash, final int tail, final int length) {
+        int result = hash;
+        if (length % BLOCK_LENGTH_32 != 0) {
+            result ^= mixBlock32(tail);
+        }
+        result ^= length;
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        result ^= result >>> 16;
+        return result;
+    }
+
+    private static void resetHash128(final long[] result, final int seed) {
+        result[0] = seed & INT_MASK;
+        result[1] = seed & INT_MASK;
+    }
+
+    private static void mixHash128(final long[] result, final long block1, final long block2) {
+        long hash1 = result[0] ^ mixBlock128(block1, C1_128, 31, C2_128);
+        hash1 = Long.rotateLeft(hash1, 27) + result[1];
+        hash1 = hash1 * 5 + 0x52DCE729;
+        long hash2 = result[1] ^ mixBlock128(block2, C2_128, 33, C1_128);
+        hash2 = Long.rotateLeft(hash2, 31) + hash1;
+        result[0] = hash1;
+        result[1] = hash2 * 5 + 0x38495AB5;
+    }
+
+    private static long mixBlock128(final long block, final long multiplier1, final int distance, final long multiplier2) {
+        return Long.rotateLeft(block * multiplier1, distance) * multiplier2;
+    }
+
+    private static void finishHash128(final long[] result, final long tail1, final long tail2, final long length) {
+        long hash1 = result[0];
+        long hash2 = result[1];
+        int tailLength = (int) (length % BLOCK_LENGTH_128);
+        if (tailLength > 8) {
+            hash2 ^= mixBlock128(tail2, C2_128, 33, C1_128);
+        }
+        if (tailLength > 0) {
+            hash1 ^= mixBlock128(tail1, C1_128, 31, C2_128);
+        }
+        hash1 ^= length;
+        hash2 ^= length;
+        hash1 += hash2;
+        hash2 += hash1;
+        hash1 = finishBlock128(hash1);
+        hash2 = finishBlock128(hash2);
+        hash1 += hash2;
+        result[0] = hash1;
+        result[1] = hash2 + hash1;
+    }
+
+    private static long finishBlock128(final long hash) {
+        long result = hash;
+        result ^= result >>> 33;
+        result *= 0xFF51AFD7ED558CCDL;
+        result ^= result >>> 33;
+        result *= 0xC4CEB9FE1A85EC53L;
+        result ^= result >>> 33;
+        return result;
+    }
+
+    /**
+     * Encode the character at the specified index with UTF-8. The bytes are returned in the low 32 bits
+     * of the result, the first byte is the lowest one. The number of bytes is returned in the high 32 bits.
+     *
+     * @param charSequence the char sequence.
+     * @param index        the index of the character.
+     *
+     * @return the encoded bytes and the number of bytes.
+     */
+    private static long encodeUtf8(final CharSequence charSequence, final int index) {
+        char value = charSequence.charAt(index);
+        if (value < 0x80) {
+            return 1L << 32 | value;
+        }
+        if (value < 0x800) {
+            return 2L << 32 | (0x80 | value & 0x3F) << 8 | 0xC0 | value >>> 6;
+        }
+        if (!Character.isSurrogate(value)) {
+            return 3L << 32 | (0x80 | value & 0x3F) << 16 | (0x80 | value >>> 6 & 0x3F) << 8 | 0xE0 | value >>> 12;
+        }
+        if (Character.isHighSurrogate(value) && index + 1 < charSequence.length() && Character.isLowSurrogate(charSequence.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(value, charSequence.charAt(index + 1));
+            long bytes = (long) (0x80 | codePoint & 0x3F) << 24 | (0x80 | codePoint >>> 6 & 0x3F) << 16 | (0x80 | codePoint >>> 12 & 0x3F) << 8 | 0xF0 | codePoint >>> 18;
+            return 4L << 32 | bytes;
+        }
+        return 1L << 32 | '?';
+    }
+
+    private static int getCharCount(final int byteCount) {
+        if (byteCount == 4) {
+            return 2;
+        } else {
+            return 1;
+        }
+    }
+
+    private static int readInt(final byte[] bytes, final int offset) {
+        return bytes[offset] & 0xFF | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16 | bytes[offset + 3] << 24;
+    }
+
+    private static int readInt(final ByteBuffer buffer, final int index) {
+        return buffer.get(index) & 0xFF | (buffer.get(index + 1) & 0xFF) << 8 | (buffer.get(index + 2) & 0xFF) << 16 | buffer.get(index + 3) << 24;
+    }
+
+    private static long readLong(final byte[] bytes, final int offset) {
+        return XxHash.readLong(bytes, offset);
+    }
+
+    private static long readLong(final ByteBuffer buffer, final int index) {
+        return readInt(buffer, index) & INT_MASK | (long) readInt(buffer, index + 4) << 32;
+    }
+
+}
@@ -0,0 +1,86 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Message digest, that can export its intermediate state and resume the computation from the
+ * exported state later. The state can be stored, so the hash of the appended data can be computed
+ * without processing the data, processed before.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface ResumableDigest {
+
+    /**
+     * Get the algorithm name.
+     *
+     * @return the algorithm name.
+     */
+    String getAlgorithm();
+
+    /**
+     * Get the number of bytes, processed by the message digest.
+     *
+     * @return the number of bytes, processed by the message digest.
+     */
+    long getLength();
+
+    /**
+     * Update the message digest with the specified range of bytes.
+     *
+     * @param bytes  the specified bytes.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     */
+    void update(byte[] bytes, int offset, int length);
+
+    /**
+     * Update the message digest with the remaining bytes of the specified byte buffer. The position
+     * of the byte buffer is advanced to its limit.
+     *
+     * @param buffer the specified byte buffer.
+     */
+    void update(ByteBuffer buffer);
+
+    /**
+     * Complete the hash computation and reset the message digest.
+     *
+     * @return the hash bytes.
+     */
+    byte[] digest();
+
+    /**
+     * Export the intermediate state of the message digest.
+     *
+     * @return the intermediate state.
+     */
+    byte[] getState();
+
+    /**
+     * Import the intermediate state of the message digest, previously exported by the message
+     * digest of the same algorithm.
+     *
+     * @param state the intermediate state.
+     */
+    void setState(byte[] state);
+
+}
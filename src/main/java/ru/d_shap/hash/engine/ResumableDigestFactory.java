@@ -0,0 +1,79 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.util.Locale;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Factory of the resumable message digests. The resumable message digests are implemented for
+ * the MD5, SHA-1, SHA-256, SHA-384 and SHA-512 algorithms.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ResumableDigestFactory {
+
+    private ResumableDigestFactory() {
+        super();
+    }
+
+    /**
+     * Check if the resumable message digest is implemented for the specified algorithm.
+     *
+     * @param algorithm the hash algorithm.
+     *
+     * @return true if the resumable message digest is implemented for the specified algorithm.
+     */
+    public static boolean isSupported(final String algorithm) {
+        return newResumableDigest(algorithm) != null;
+    }
+
+    /**
+     * Create new resumable message digest for the specified algorithm.
+     *
+     * @param algorithm the hash algorithm.
+     *
+     * @return new resumable message digest, or null if the algorithm is not supported.
+     */
+    public static ResumableDigest newResumableDigest(final String algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm is null");
+        }
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        if (HashAlgorithms.MD5.equals(name)) {
+            return new Md5MessageDigestSpi();
+        }
+        if (HashAlgorithms.SHA1.equals(name)) {
+            return new Sha1MessageDigestSpi();
+        }
+        if (HashAlgorithms.SHA256.equals(name)) {
+            return new Sha256MessageDigestSpi();
+        }
+        if (HashAlgorithms.SHA384.equals(name)) {
+            return new Sha384MessageDigestSpi();
+        }
+        if (HashAlgorithms.SHA512.equals(name)) {
+            return new Sha512MessageDigestSpi();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,113 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Message digest engine of the SHA-1 algorithm (FIPS 180-4) with the exportable intermediate state.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Sha1MessageDigestSpi extends BlockMessageDigestSpi {
+
+    private static final int[] INITIAL_VALUE = {
+        0x67452301, 0xefcdab89, 0x98badcfe, 0x10325476, 0xc3d2e1f0,
+    };
+
+    private final int[] _chainingValue;
+
+    private final int[] _words;
+
+    /**
+     * Create new object.
+     */
+    public Sha1MessageDigestSpi() {
+        super(HashAlgorithms.SHA1, 64, 20, 20, 8, ByteOrder.BIG_ENDIAN);
+        _chainingValue = new int[5];
+        _words = new int[80];
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+    }
+
+    @Override
+    protected void processBlock(final byte[] block, final int offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(block, offset, 64);
+        for (int i = 0; i < 16; i++) {
+            _words[i] = buffer.getInt();
+        }
+        for (int i = 16; i < 80; i++) {
+            _words[i] = Integer.rotateLeft(_words[i - 3] ^ _words[i - 8] ^ _words[i - 14] ^ _words[i - 16], 1);
+        }
+        int valueA = _chainingValue[0];
+        int valueB = _chainingValue[1];
+        int valueC = _chainingValue[2];
+        int valueD = _chainingValue[3];
+        int valueE = _chainingValue[4];
+        for (int i = 0; i < 80; i++) {
+            int valueF;
+            if (i < 20) {
+                valueF = (valueB & valueC | ~valueB & valueD) + 0x5a827999;
+            } else if (i < 40) {
+                valueF = (valueB ^ valueC ^ valueD) + 0x6ed9eba1;
+            } else if (i < 60) {
+                valueF = (valueB & valueC | valueB & valueD | valueC & valueD) + 0x8f1bbcdc;
+            } else {
+                valueF = (valueB ^ valueC ^ valueD) + 0xca62c1d6;
+            }
+            int temp = Integer.rotateLeft(valueA, 5) + valueF + valueE + _words[i];
+            valueE = valueD;
+            valueD = valueC;
+            valueC = Integer.rotateLeft(valueB, 30);
+            valueB = valueA;
+            valueA = temp;
+        }
+        _chainingValue[0] += valueA;
+        _chainingValue[1] += valueB;
+        _chainingValue[2] += valueC;
+        _chainingValue[3] += valueD;
+        _chainingValue[4] += valueE;
+    }
+
+    @Override
+    protected void resetChainingValue() {
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+    }
+
+    @Override
+    protected void writeChainingValue(final ByteBuffer state) {
+        state.asIntBuffer().put(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 4);
+    }
+
+    @Override
+    protected void readChainingValue(final ByteBuffer state) {
+        state.asIntBuffer().get(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 4);
+    }
+
+    @Override
+    protected void writeDigest(final byte[] digest) {
+        ByteBuffer.wrap(digest).asIntBuffer().put(_chainingValue);
+    }
+
+}
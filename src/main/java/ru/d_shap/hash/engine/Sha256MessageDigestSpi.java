@@ -0,0 +1,148 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Message digest engine of the SHA-256 algorithm (FIPS 180-4) with the exportable intermediate state.
+ * The engine does not depend on the SHA-256 intrinsics of the JVM: the words of the block are loaded
+ * without the intermediate buffers, the rounds are unrolled by eight without the rotation of the working
+ * variables, and no objects are allocated for the block processing.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Sha256MessageDigestSpi extends BlockMessageDigestSpi {
+
+    private static final int[] INITIAL_VALUE = {
+        0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19,
+    };
+
+    private static final int[] CONSTANTS = {
+        0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+        0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+        0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+        0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+        0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+        0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+        0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+        0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2,
+    };
+
+    private final int[] _chainingValue;
+
+    private final int[] _words;
+
+    /**
+     * Create new object.
+     */
+    public Sha256MessageDigestSpi() {
+        super(HashAlgorithms.SHA256, 64, 32, 32, 8, ByteOrder.BIG_ENDIAN);
+        _chainingValue = new int[8];
+        _words = new int[64];
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+    }
+
+    @Override
+    protected void processBlock(final byte[] block, final int offset) {
+        int[] words = _words;
+        int position = offset;
+        for (int i = 0; i < 16; i++) {
+            words[i] = block[position] << 24 | (block[position + 1] & 0xFF) << 16 | (block[position + 2] & 0xFF) << 8 | block[position + 3] & 0xFF;
+            position += 4;
+        }
+        for (int i = 16; i < 64; i++) {
+            int word15 = words[i - 15];
+            int word2 = words[i - 2];
+            int s0 = Integer.rotateRight(word15, 7) ^ Integer.rotateRight(word15, 18) ^ word15 >>> 3;
+            int s1 = Integer.rotateRight(word2, 17) ^ Integer.rotateRight(word2, 19) ^ word2 >>> 10;
+            words[i] = words[i - 16] + s0 + words[i - 7] + s1;
+        }
+        int[] chainingValue = _chainingValue;
+        int valueA = chainingValue[0];
+        int valueB = chainingValue[1];
+        int valueC = chainingValue[2];
+        int valueD = chainingValue[3];
+        int valueE = chainingValue[4];
+        int valueF = chainingValue[5];
+        int valueG = chainingValue[6];
+        int valueH = chainingValue[7];
+        for (int i = 0; i < 64; i += 8) {
+            valueH += (Integer.rotateRight(valueE, 6) ^ Integer.rotateRight(valueE, 11) ^ Integer.rotateRight(valueE, 25)) + (valueG ^ valueE & (valueF ^ valueG)) + CONSTANTS[i] + words[i];
+            valueD += valueH;
+            valueH += (Integer.rotateRight(valueA, 2) ^ Integer.rotateRight(valueA, 13) ^ Integer.rotateRight(valueA, 22)) + (valueA & valueB | valueC & (valueA | valueB));
+            valueG += (Integer.rotateRight(valueD, 6) ^ Integer.rotateRight(valueD, 11) ^ Integer.rotateRight(valueD, 25)) + (valueF ^ valueD & (valueE ^ valueF)) + CONSTANTS[i + 1] + words[i + 1];
+            valueC += valueG;
+            valueG += (Integer.rotateRight(valueH, 2) ^ Integer.rotateRight(valueH, 13) ^ Integer.rotateRight(valueH, 22)) + (valueH & valueA | valueB & (valueH | valueA));
+            valueF += (Integer.rotateRight(valueC, 6) ^ Integer.rotateRight(valueC, 11) ^ Integer.rotateRight(valueC, 25)) + (valueE ^ valueC & (valueD ^ valueE)) + CONSTANTS[i + 2] + words[i + 2];
+            valueB += valueF;
+            valueF += (Integer.rotateRight(valueG, 2) ^ Integer.rotateRight(valueG, 13) ^ Integer.rotateRight(valueG, 22)) + (valueG & valueH | valueA & (valueG | valueH));
+            valueE += (Integer.rotateRight(valueB, 6) ^ Integer.rotateRight(valueB, 11) ^ Integer.rotateRight(valueB, 25)) + (valueD ^ valueB & (valueC ^ valueD)) + CONSTANTS[i + 3] + words[i + 3];
+            valueA += valueE;
+            valueE += (Integer.rotateRight(valueF, 2) ^ Integer.rotateRight(valueF, 13) ^ Integer.rotateRight(valueF, 22)) + (valueF & valueG | valueH & (valueF | valueG));
+            valueD += (Integer.rotateRight(valueA, 6) ^ Integer.rotateRight(valueA, 11) ^ Integer.rotateRight(valueA, 25)) + (valueC ^ valueA & (valueB ^ valueC)) + CONSTANTS[i + 4] + words[i + 4];
+            valueH += valueD;
+            valueD += (Integer.rotateRight(valueE, 2) ^ Integer.rotateRight(valueE, 13) ^ Integer.rotateRight(valueE, 22)) + (valueE & valueF | valueG & (valueE | valueF));
+            valueC += (Integer.rotateRight(valueH, 6) ^ Integer.rotateRight(valueH, 11) ^ Integer.rotateRight(valueH, 25)) + (valueB ^ valueH & (valueA ^ valueB)) + CONSTANTS[i + 5] + words[i + 5];
+            valueG += valueC;
+            valueC += (Integer.rotateRight(valueD, 2) ^ Integer.rotateRight(valueD, 13) ^ Integer.rotateRight(valueD, 22)) + (valueD & valueE | valueF & (valueD | valueE));
+            valueB += (Integer.rotateRight(valueG, 6) ^ Integer.rotateRight(valueG, 11) ^ Integer.rotateRight(valueG, 25)) + (valueA ^ valueG & (valueH ^ valueA)) + CONSTANTS[i + 6] + words[i + 6];
+            valueF += valueB;
+            valueB += (Integer.rotateRight(valueC, 2) ^ Integer.rotateRight(valueC, 13) ^ Integer.rotateRight(valueC, 22)) + (valueC & valueD | valueE & (valueC | valueD));
+            valueA += (Integer.rotateRight(valueF, 6) ^ Integer.rotateRight(valueF, 11) ^ Integer.rotateRight(valueF, 25)) + (valueH ^ valueF & (valueG ^ valueH)) + CONSTANTS[i + 7] + words[i + 7];
+            valueE += valueA;
+            valueA += (Integer.rotateRight(valueB, 2) ^ Integer.rotateRight(valueB, 13) ^ Integer.rotateRight(valueB, 22)) + (valueB & valueC | valueD & (valueB | valueC));
+        }
+        chainingValue[0] += valueA;
+        chainingValue[1] += valueB;
+        chainingValue[2] += valueC;
+        chainingValue[3] += valueD;
+        chainingValue[4] += valueE;
+        chainingValue[5] += valueF;
+        chainingValue[6] += valueG;
+        chainingValue[7] += valueH;
+    }
+
+    @Override
+    protected void resetChainingValue() {
+        System.arraycopy(INITIAL_VALUE, 0, _chainingValue, 0, INITIAL_VALUE.length);
+    }
+
+    @Override
+    protected void writeChainingValue(final ByteBuffer state) {
+        state.asIntBuffer().put(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 4);
+    }
+
+    @Override
+    protected void readChainingValue(final ByteBuffer state) {
+        state.asIntBuffer().get(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 4);
+    }
+
+    @Override
+    protected void writeDigest(final byte[] digest) {
+        ByteBuffer.wrap(digest).asIntBuffer().put(_chainingValue);
+    }
+
+}
@@ -0,0 +1,43 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Message digest engine of the SHA-384 algorithm (FIPS 180-4) with the exportable intermediate state.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Sha384MessageDigestSpi extends Sha512BaseMessageDigestSpi {
+
+    private static final long[] INITIAL_VALUE = {
+        0xcbbb9d5dc1059ed8L, 0x629a292a367cd507L, 0x9159015a3070dd17L, 0x152fecd8f70e5939L,
+        0x67332667ffc00b31L, 0x8eb44a8768581511L, 0xdb0c2e0d64f98fa7L, 0x47b5481dbefa4fa4L,
+    };
+
+    /**
+     * Create new object.
+     */
+    public Sha384MessageDigestSpi() {
+        super(HashAlgorithms.SHA384, 48, INITIAL_VALUE);
+    }
+
+}
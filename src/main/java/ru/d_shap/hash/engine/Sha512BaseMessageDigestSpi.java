@@ -0,0 +1,140 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Base class of the message digest engines of the SHA-512 family of algorithms (FIPS 180-4) with
+ * the exportable intermediate state. The algorithms differ in the initial chaining value and in the
+ * number of the hash bytes.
+ *
+ * @author Dmitry Shapovalov
+ */
+abstract class Sha512BaseMessageDigestSpi extends BlockMessageDigestSpi {
+
+    private static final long[] CONSTANTS = {
+        0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL,
+        0x3956c25bf348b538L, 0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L,
+        0xd807aa98a3030242L, 0x12835b0145706fbeL, 0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L,
+        0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L, 0xc19bf174cf692694L,
+        0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+        0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L,
+        0x983e5152ee66dfabL, 0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L,
+        0xc6e00bf33da88fc2L, 0xd5a79147930aa725L, 0x06ca6351e003826fL, 0x142929670a0e6e70L,
+        0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL, 0x53380d139d95b3dfL,
+        0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+        0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L,
+        0xd192e819d6ef5218L, 0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L,
+        0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L, 0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L,
+        0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L, 0x682e6ff3d6b2b8a3L,
+        0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+        0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL,
+        0xca273eceea26619cL, 0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L,
+        0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L, 0x113f9804bef90daeL, 0x1b710b35131c471bL,
+        0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL, 0x431d67c49c100d4cL,
+        0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L,
+    };
+
+    private final long[] _initialValue;
+
+    private final long[] _chainingValue;
+
+    private final long[] _words;
+
+    Sha512BaseMessageDigestSpi(final String algorithm, final int digestLength, final long[] initialValue) {
+        super(algorithm, 128, digestLength, 64, 16, ByteOrder.BIG_ENDIAN);
+        _initialValue = initialValue;
+        _chainingValue = new long[8];
+        _words = new long[80];
+        System.arraycopy(_initialValue, 0, _chainingValue, 0, _initialValue.length);
+    }
+
+    @Override
+    protected final void processBlock(final byte[] block, final int offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(block, offset, 128);
+        for (int i = 0; i < 16; i++) {
+            _words[i] = buffer.getLong();
+        }
+        for (int i = 16; i < 80; i++) {
+            long s0 = Long.rotateRight(_words[i - 15], 1) ^ Long.rotateRight(_words[i - 15], 8) ^ _words[i - 15] >>> 7;
+            long s1 = Long.rotateRight(_words[i - 2], 19) ^ Long.rotateRight(_words[i - 2], 61) ^ _words[i - 2] >>> 6;
+            _words[i] = _words[i - 16] + s0 + _words[i - 7] + s1;
+        }
+        long valueA = _chainingValue[0];
+        long valueB = _chainingValue[1];
+        long valueC = _chainingValue[2];
+        long valueD = _chainingValue[3];
+        long valueE = _chainingValue[4];
+        long valueF = _chainingValue[5];
+        long valueG = _chainingValue[6];
+        long valueH = _chainingValue[7];
+        for (int i = 0; i < 80; i++) {
+            long s1 = Long.rotateRight(valueE, 14) ^ Long.rotateRight(valueE, 18) ^ Long.rotateRight(valueE, 41);
+            long ch = valueE & valueF ^ ~valueE & valueG;
+            long temp1 = valueH + s1 + ch + CONSTANTS[i] + _words[i];
+            long s0 = Long.rotateRight(valueA, 28) ^ Long.rotateRight(valueA, 34) ^ Long.rotateRight(valueA, 39);
+            long maj = valueA & valueB ^ valueA & valueC ^ valueB & valueC;
+            long temp2 = s0 + maj;
+            valueH = valueG;
+            valueG = valueF;
+            valueF = valueE;
+            valueE = valueD + temp1;
+            valueD = valueC;
+            valueC = valueB;
+            valueB = valueA;
+            valueA = temp1 + temp2;
+        }
+        _chainingValue[0] += valueA;
+        _chainingValue[1] += valueB;
+        _chainingValue[2] += valueC;
+        _chainingValue[3] += valueD;
+        _chainingValue[4] += valueE;
+        _chainingValue[5] += valueF;
+        _chainingValue[6] += valueG;
+        _chainingValue[7] += valueH;
+    }
+
+    @Override
+    protected final void resetChainingValue() {
+        System.arraycopy(_initialValue, 0, _chainingValue, 0, _initialValue.length);
+    }
+
+    @Override
+    protected final void writeChainingValue(final ByteBuffer state) {
+        state.asLongBuffer().put(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 8);
+    }
+
+    @Override
+    protected final void readChainingValue(final ByteBuffer state) {
+        state.asLongBuffer().get(_chainingValue);
+        state.position(state.position() + _chainingValue.length * 8);
+    }
+
+    @Override
+    protected final void writeDigest(final byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.allocate(_chainingValue.length * 8);
+        buffer.asLongBuffer().put(_chainingValue);
+        buffer.get(digest);
+    }
+
+}
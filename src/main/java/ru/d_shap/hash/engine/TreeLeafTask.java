@@ -0,0 +1,73 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Task to compute the hash of the single leaf of the tree hash.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class TreeLeafTask implements Callable<byte[]> {
+
+    private final ByteBuffer _leaf;
+
+    private ForkJoinTask<byte[]> _forkJoinTask;
+
+    TreeLeafTask(final ByteBuffer leaf) {
+        super();
+        _leaf = leaf;
+        _forkJoinTask = null;
+    }
+
+    static byte[] hashLeaf(final ByteBuffer leaf) {
+        MessageDigest messageDigest = TreeSha256MessageDigestSpi.newMessageDigest();
+        messageDigest.update(TreeSha256MessageDigestSpi.LEAF_PREFIX);
+        messageDigest.update(leaf.duplicate());
+        return messageDigest.digest();
+    }
+
+    ByteBuffer getLeaf() {
+        return _leaf;
+    }
+
+    void submit(final ForkJoinPool forkJoinPool) {
+        _forkJoinTask = forkJoinPool.submit(this);
+    }
+
+    byte[] join() {
+        return _forkJoinTask.join();
+    }
+
+    void cancel() {
+        _forkJoinTask.cancel(false);
+    }
+
+    @Override
+    public byte[] call() {
+        return hashLeaf(_leaf);
+    }
+
+}
@@ -0,0 +1,233 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.MessageDigestSpi;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import ru.d_shap.hash.DigestFactory;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Message digest engine of the {@link HashAlgorithms#TREE_SHA256} tree hash. The data is split into
+ * leaves of {@link #LEAF_SIZE} bytes, the last leaf can be shorter. The hash of the leaf is
+ * SHA-256(0x00 || leaf), the hash of the node is SHA-256(0x01 || left || right), the node without the
+ * right child is promoted to the next level. The hash of the empty data is the hash of the empty leaf.
+ * The leaves are hashed in parallel in the fork/join pool: the whole leaves of the large update are
+ * hashed before the update returns, the leaves, collected from the small updates, are hashed in the
+ * background. The number of the leaves, hashed in the background, is limited. The reset cancels the
+ * leaves, hashed in the background, and releases the leaf buffers, so the idle pooled engine does
+ * not hold the memory.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TreeSha256MessageDigestSpi extends MessageDigestSpi {
+
+    public static final int LEAF_SIZE = 1024 * 1024;
+
+    static final byte LEAF_PREFIX = 0;
+
+    static final byte NODE_PREFIX = 1;
+
+    static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool();
+
+    private static final int DIGEST_LENGTH = 32;
+
+    static final int MAX_PENDING_LEAF_COUNT = FORK_JOIN_POOL.getParallelism() * 2;
+
+    private final Deque<TreeLeafTask> _pendingLeafTasks;
+
+    private final List<byte[]> _leafHashes;
+
+    private byte[] _leafBuffer;
+
+    private byte[] _spareLeafBuffer;
+
+    private int _leafLength;
+
+    /**
+     * Create new object.
+     */
+    public TreeSha256MessageDigestSpi() {
+        super();
+        _pendingLeafTasks = new ArrayDeque<>();
+        _leafHashes = new ArrayList<>();
+        _leafBuffer = null;
+        _spareLeafBuffer = null;
+        _leafLength = 0;
+    }
+
+    static MessageDigest newMessageDigest() {
+        return DigestFactory.getInstance(HashAlgorithms.SHA256).newMessageDigest();
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return DIGEST_LENGTH;
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+        ensureLeafBuffer();
+        _leafBuffer[_leafLength] = input;
+        _leafLength++;
+        if (_leafLength == LEAF_SIZE) {
+            submitLeaf();
+        }
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        engineUpdate(ByteBuffer.wrap(input, offset, len));
+    }
+
+    @Override
+    protected void engineUpdate(final ByteBuffer input) {
+        if (_leafLength > 0) {
+            fillLeaf(input);
+        }
+        int leafCount = input.remaining() / LEAF_SIZE;
+        if (leafCount > 0) {
+            hashLeaves(input, leafCount);
+        }
+        if (input.hasRemaining()) {
+            fillLeaf(input);
+        }
+    }
+
+    private void ensureLeafBuffer() {
+        if (_leafBuffer == null) {
+            _leafBuffer = new byte[LEAF_SIZE];
+        }
+    }
+
+    private void fillLeaf(final ByteBuffer input) {
+        ensureLeafBuffer();
+        int length = Math.min(input.remaining(), LEAF_SIZE - _leafLength);
+        input.get(_leafBuffer, _leafLength, length);
+        _leafLength += length;
+        if (_leafLength == LEAF_SIZE) {
+            submitLeaf();
+        }
+    }
+
+    private void submitLeaf() {
+        TreeLeafTask leafTask = new TreeLeafTask(ByteBuffer.wrap(_leafBuffer, 0, _leafLength));
+        leafTask.submit(FORK_JOIN_POOL);
+        _pendingLeafTasks.add(leafTask);
+        _leafBuffer = _spareLeafBuffer;
+        _spareLeafBuffer = null;
+        _leafLength = 0;
+        if (_pendingLeafTasks.size() > MAX_PENDING_LEAF_COUNT) {
+            joinPendingLeaf();
+        }
+    }
+
+    private void joinPendingLeaf() {
+        TreeLeafTask leafTask = _pendingLeafTasks.remove();
+        _leafHashes.add(leafTask.join());
+        _spareLeafBuffer = leafTask.getLeaf().array();
+    }
+
+    private void joinPendingLeaves() {
+        while (!_pendingLeafTasks.isEmpty()) {
+            joinPendingLeaf();
+        }
+    }
+
+    private void hashLeaves(final ByteBuffer input, final int leafCount) {
+        joinPendingLeaves();
+        int position = input.position();
+        List<TreeLeafTask> leafTasks = new ArrayList<>(leafCount);
+        for (int i = 0; i < leafCount; i++) {
+            ByteBuffer leaf = input.duplicate();
+            leaf.limit(position + LEAF_SIZE);
+            leaf.position(position);
+            TreeLeafTask leafTask = new TreeLeafTask(leaf);
+            leafTask.submit(FORK_JOIN_POOL);
+            leafTasks.add(leafTask);
+            position += LEAF_SIZE;
+        }
+        for (TreeLeafTask leafTask : leafTasks) {
+            _leafHashes.add(leafTask.join());
+        }
+        input.position(position);
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        joinPendingLeaves();
+        if (_leafLength > 0) {
+            _leafHashes.add(TreeLeafTask.hashLeaf(ByteBuffer.wrap(_leafBuffer, 0, _leafLength)));
+        } else if (_leafHashes.isEmpty()) {
+            _leafHashes.add(TreeLeafTask.hashLeaf(ByteBuffer.allocate(0)));
+        }
+        List<byte[]> level = _leafHashes;
+        while (level.size() > 1) {
+            level = getNextLevel(level);
+        }
+        byte[] result = level.get(0);
+        engineReset();
+        return result;
+    }
+
+    private List<byte[]> getNextLevel(final List<byte[]> level) {
+        int size = level.size();
+        List<byte[]> nextLevel = new ArrayList<>((size + 1) / 2);
+        MessageDigest messageDigest = newMessageDigest();
+        for (int i = 0; i + 1 < size; i += 2) {
+            messageDigest.update(NODE_PREFIX);
+            messageDigest.update(level.get(i));
+            messageDigest.update(level.get(i + 1));
+            nextLevel.add(messageDigest.digest());
+        }
+        if (size % 2 == 1) {
+            nextLevel.add(level.get(size - 1));
+        }
+        return nextLevel;
+    }
+
+    @Override
+    protected void engineReset() {
+        for (TreeLeafTask leafTask : _pendingLeafTasks) {
+            leafTask.cancel();
+        }
+        _pendingLeafTasks.clear();
+        _leafHashes.clear();
+        _leafBuffer = null;
+        _spareLeafBuffer = null;
+        _leafLength = 0;
+    }
+
+    int getPendingLeafCount() {
+        return _pendingLeafTasks.size();
+    }
+
+    boolean isLeafBufferAllocated() {
+        return _leafBuffer != null || _spareLeafBuffer != null;
+    }
+
+}
@@ -0,0 +1,689 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Non-cryptographic xxHash64 and XXH3 hash functions. This functions are intended for the integrity
+ * checks, the hash tables and the routing, not for the security. The methods of the class compute the
+ * hash of the byte array range or of the remaining bytes of the buffer and return the hash as the
+ * primitive values. The methods do not change the position of the buffer. The methods do not allocate
+ * objects for the byte arrays and the buffers, backed by the byte arrays. The same hash functions are
+ * provided as the message digests by {@link HashProvider}, the seeded message digests are provided by
+ * {@link KeyedHashProvider}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class XxHash {
+
+    static final int SEED_LENGTH = 8;
+
+    static final int XXH64_STRIPE_LENGTH = 32;
+
+    static final int STRIPE_LENGTH = 64;
+
+    static final int STRIPES_PER_BLOCK = 16;
+
+    static final int MIDSIZE_MAX_LENGTH = 240;
+
+    static final int SECRET_LAST_STRIPE_START = 121;
+
+    static final int SECRET_MERGE_LOW_START = 11;
+
+    static final int SECRET_MERGE_HIGH_START = 117;
+
+    static final long PRIME32_1 = 0x9E3779B1L;
+
+    static final long PRIME32_2 = 0x85EBCA77L;
+
+    static final long PRIME32_3 = 0xC2B2AE3DL;
+
+    static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+
+    static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+
+    static final long PRIME64_3 = 0x165667B19E3779F9L;
+
+    static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+
+    static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private static final long PRIME_MX1 = 0x165667919E3779F9L;
+
+    private static final long PRIME_MX2 = 0x9FB21C651E98DF25L;
+
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
+    private static final int SECRET_SCRAMBLE_START = 128;
+
+    private static final int SECRET_MIDSIZE_START = 3;
+
+    private static final int SECRET_MIDSIZE_LAST_START = 119;
+
+    private static final long[] SECRET = {
+        0xBE4BA423396CFEB8L, 0x1CAD21F72C81017CL, 0xDB979083E96DD4DEL, 0x1F67B3B7A4A44072L,
+        0x78E5C0CC4EE679CBL, 0x2172FFCC7DD05A82L, 0x8E2443F7744608B8L, 0x4C263A81E69035E0L,
+        0xCB00C391BB52283CL, 0xA32E531B8B65D088L, 0x4EF90DA297486471L, 0xD8ACDEA946EF1938L,
+        0x3F349CE33F76FAA8L, 0x1D4F0BC7C7BBDCF9L, 0x3159B4CD4BE0518AL, 0x647378D9C97E9FC8L,
+        0xC3EBD33483ACC5EAL, 0xEB6313FAFFA081C5L, 0x49DAF0B751DD0D17L, 0x9E68D429265516D3L,
+        0xFCA1477D58BE162BL, 0xCE31D07AD1B8F88FL, 0x280416958F3ACB45L, 0x7E404BBBCAFBD7AFL,
+    };
+
+    private XxHash() {
+        super();
+    }
+
+    /**
+     * Get the xxHash64 hash of the byte array range.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @param seed   the seed of the hash.
+     *
+     * @return the hash.
+     */
+    public static long getXxHash64(final byte[] bytes, final int offset, final int length, final long seed) {
+        checkArguments(bytes, offset, length);
+        return xxHash64(bytes, offset, length, seed);
+    }
+
+    /**
+     * Get the xxHash64 hash of the remaining bytes of the buffer.
+     *
+     * @param buffer the buffer.
+     * @param seed   the seed of the hash.
+     *
+     * @return the hash.
+     */
+    public static long getXxHash64(final ByteBuffer buffer, final long seed) {
+        checkBuffer(buffer);
+        if (buffer.hasArray()) {
+            return xxHash64(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed);
+        } else {
+            XxHash64MessageDigestSpi messageDigestSpi = new XxHash64MessageDigestSpi(seed);
+            messageDigestSpi.update(buffer.duplicate());
+            return messageDigestSpi.getHash();
+        }
+    }
+
+    /**
+     * Get the 64 bits XXH3 hash of the byte array range.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @param seed   the seed of the hash.
+     *
+     * @return the hash.
+     */
+    public static long getXxh3Hash64(final byte[] bytes, final int offset, final int length, final long seed) {
+        checkArguments(bytes, offset, length);
+        return xxh3Hash64(bytes, offset, length, seed);
+    }
+
+    /**
+     * Get the 64 bits XXH3 hash of the remaining bytes of the buffer.
+     *
+     * @param buffer the buffer.
+     * @param seed   the seed of the hash.
+     *
+     * @return the hash.
+     */
+    public static long getXxh3Hash64(final ByteBuffer buffer, final long seed) {
+        checkBuffer(buffer);
+        if (buffer.hasArray()) {
+            return xxh3Hash64(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed);
+        } else {
+            Xxh3MessageDigestSpi messageDigestSpi = new Xxh3MessageDigestSpi(SEED_LENGTH, seed);
+            messageDigestSpi.update(buffer.duplicate());
+            return messageDigestSpi.getHash64();
+        }
+    }
+
+    /**
+     * Get the 128 bits XXH3 hash of the byte array range. The low 64 bits of the hash are stored
+     * in the first element of the result array, the high 64 bits are stored in the second element.
+     *
+     * @param bytes  the byte array.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @param seed   the seed of the hash.
+     * @param result the array to store the hash.
+     */
+    public static void getXxh3Hash128(final byte[] bytes, final int offset, final int length, final long seed, final long[] result) {
+        checkArguments(bytes, offset, length);
+        checkResult(result);
+        xxh3Hash128(bytes, offset, length, seed, result);
+    }
+
+    /**
+     * Get the 128 bits XXH3 hash of the remaining bytes of the buffer. The low 64 bits of the hash
+     * are stored in the first element of the result array, the high 64 bits are stored in the second
+     * element.
+     *
+     * @param buffer the buffer.
+     * @param seed   the seed of the hash.
+     * @param result the array to store the hash.
+     */
+    public static void getXxh3Hash128(final ByteBuffer buffer, final long seed, final long[] result) {
+        checkBuffer(buffer);
+        checkResult(result);
+        if (buffer.hasArray()) {
+            xxh3Hash128(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), seed, result);
+        } else {
+            Xxh3MessageDigestSpi messageDigestSpi = new Xxh3MessageDigestSpi(SEED_LENGTH * 2, seed);
+            messageDigestSpi.update(buffer.duplicate());
+            messageDigestSpi.getHash128(result);
+        }
+    }
+
+    private static void checkArguments(final byte[] bytes, final int offset, final int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Source byte array is null");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Offset and length are not within [0; " + bytes.length + "]");
+        }
+    }
+
+    private static void checkBuffer(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Source byte buffer is null");
+        }
+    }
+
+    private static void checkResult(final long[] result) {
+        if (result == null) {
+            throw new IllegalArgumentException("Result array is null");
+        }
+        if (result.length < 2) {
+            throw new IllegalArgumentException("Result array length is less than 2");
+        }
+    }
+
+    static long xxHash64(final byte[] bytes, final int offset, final int length, final long seed) {
+        int position = offset;
+        int end = offset + length;
+        long hash;
+        if (length >= XXH64_STRIPE_LENGTH) {
+            long accumulator1 = seed + PRIME64_1 + PRIME64_2;
+            long accumulator2 = seed + PRIME64_2;
+            long accumulator3 = seed;
+            long accumulator4 = seed - PRIME64_1;
+            int limit = end - XXH64_STRIPE_LENGTH;
+            while (position <= limit) {
+                accumulator1 = round(accumulator1, readLong(bytes, position));
+                accumulator2 = round(accumulator2, readLong(bytes, position + 8));
+                accumulator3 = round(accumulator3, readLong(bytes, position + 16));
+                accumulator4 = round(accumulator4, readLong(bytes, position + 24));
+                position += XXH64_STRIPE_LENGTH;
+            }
+            hash = mergeXxHash64(accumulator1, accumulator2, accumulator3, accumulator4);
+        } else {
+            hash = seed + PRIME64_5;
+        }
+        return finishXxHash64(hash + length, bytes, position, end);
+    }
+
+    static long round(final long accumulator, final long value) {
+        return Long.rotateLeft(accumulator + value * PRIME64_2, 31) * PRIME64_1;
+    }
+
+    static long mergeXxHash64(final long accumulator1, final long accumulator2, final long accumulator3, final long accumulator4) {
+        long hash = Long.rotateLeft(accumulator1, 1) + Long.rotateLeft(accumulator2, 7) + Long.rotateLeft(accumulator3, 12) + Long.rotateLeft(accumulator4, 18);
+        hash = mergeRound(hash, accumulator1);
+        hash = mergeRound(hash, accumulator2);
+        hash = mergeRound(hash, accumulator3);
+        return mergeRound(hash, accumulator4);
+    }
+
+    private static long mergeRound(final long hash, final long accumulator) {
+        return (hash ^ round(0L, accumulator)) * PRIME64_1 + PRIME64_4;
+    }
+
+    static long finishXxHash64(final long hash, final byte[] bytes, final int offset, final int end) {
+        long result = hash;
+        int position = offset;
+        while (position + 8 <= end) {
+            result ^= round(0L, readLong(bytes, position));
+            result = Long.rotateLeft(result, 27) * PRIME64_1 + PRIME64_4;
+            position += 8;
+        }
+        if (position + 4 <= end) {
+            result ^= readInt(bytes, position) * PRIME64_1;
+            result = Long.rotateLeft(result, 23) * PRIME64_2 + PRIME64_3;
+            position += 4;
+        }
+        while (position < end) {
+            result ^= (bytes[position] & 0xFFL) * PRIME64_5;
+            result = Long.rotateLeft(result, 11) * PRIME64_1;
+            position++;
+        }
+        return avalancheXxHash64(result);
+    }
+
+    private static long avalancheXxHash64(final long hash) {
+        long result = hash;
+        result ^= result >>> 33;
+        result *= PRIME64_2;
+        result ^= result >>> 29;
+        result *= PRIME64_3;
+        result ^= result >>> 32;
+        return result;
+    }
+
+    static long xxh3Hash64(final byte[] bytes, final int offset, final int length, final long seed) {
+        if (length <= 16) {
+            return xxh3Hash64UpTo16(bytes, offset, length, seed);
+        }
+        if (length <= 128) {
+            return xxh3Hash64UpTo128(bytes, offset, length, seed);
+        }
+        if (length <= MIDSIZE_MAX_LENGTH) {
+            return xxh3Hash64UpTo240(bytes, offset, length, seed);
+        }
+        return xxh3HashLong(bytes, offset, length, seed, null);
+    }
+
+    private static long xxh3Hash64UpTo16(final byte[] bytes, final int offset, final int length, final long seed) {
+        if (length > 8) {
+            long bitflip1 = (getSecretLong(0L, 24) ^ getSecretLong(0L, 32)) + seed;
+            long bitflip2 = (getSecretLong(0L, 40) ^ getSecretLong(0L, 48)) - seed;
+            long low = readLong(bytes, offset) ^ bitflip1;
+            long high = readLong(bytes, offset + length - 8) ^ bitflip2;
+            long accumulator = length + Long.reverseBytes(low) + high + multiplyFold(low, high);
+            return avalanche(accumulator);
+        }
+        if (length >= 4) {
+            long currentSeed = seed ^ (Integer.reverseBytes((int) seed) & INT_MASK) << 32;
+            long input1 = readInt(bytes, offset);
+            long input2 = readInt(bytes, offset + length - 4);
+            long bitflip = (getSecretLong(0L, 8) ^ getSecretLong(0L, 16)) - currentSeed;
+            long keyed = (input2 + (input1 << 32)) ^ bitflip;
+            return rrmxmx(keyed, length);
+        }
+        if (length > 0) {
+            long bitflip = (getSecretInt(0) ^ getSecretInt(4)) + seed;
+            return avalancheXxHash64(combineBytes(bytes, offset, length) ^ bitflip);
+        }
+        return avalancheXxHash64(seed ^ getSecretLong(0L, 56) ^ getSecretLong(0L, 64));
+    }
+
+    private static long xxh3Hash64UpTo128(final byte[] bytes, final int offset, final int length, final long seed) {
+        long accumulator = length * PRIME64_1;
+        int end = offset + length;
+        if (length > 32) {
+            if (length > 64) {
+                if (length > 96) {
+                    accumulator += mix16(bytes, offset + 48, seed, 96);
+                    accumulator += mix16(bytes, end - 64, seed, 112);
+                }
+                accumulator += mix16(bytes, offset + 32, seed, 64);
+                accumulator += mix16(bytes, end - 48, seed, 80);
+            }
+            accumulator += mix16(bytes, offset + 16, seed, 32);
+            accumulator += mix16(bytes, end - 32, seed, 48);
+        }
+        accumulator += mix16(bytes, offset, seed, 0);
+        accumulator += mix16(bytes, end - 16, seed, 16);
+        return avalanche(accumulator);
+    }
+
+    private static long xxh3Hash64UpTo240(final byte[] bytes, final int offset, final int length, final long seed) {
+        long accumulator = length * PRIME64_1;
+        int rounds = length / 16;
+        for (int i = 0; i < 8; i++) {
+            accumulator += mix16(bytes, offset + 16 * i, seed, 16 * i);
+        }
+        accumulator = avalanche(accumulator);
+        for (int i = 8; i < rounds; i++) {
+            accumulator += mix16(bytes, offset + 16 * i, seed, 16 * (i - 8) + SECRET_MIDSIZE_START);
+        }
+        accumulator += mix16(bytes, offset + length - 16, seed, SECRET_MIDSIZE_LAST_START);
+        return avalanche(accumulator);
+    }
+
+    static void xxh3Hash128(final byte[] bytes, final int offset, final int length, final long seed, final long[] result) {
+        if (length <= 16) {
+            xxh3Hash128UpTo16(bytes, offset, length, seed, result);
+        } else if (length <= MIDSIZE_MAX_LENGTH) {
+            xxh3Hash128UpTo240(bytes, offset, length, seed, result);
+        } else {
+            xxh3HashLong(bytes, offset, length, seed, result);
+        }
+    }
+
+    private static void xxh3Hash128UpTo16(final byte[] bytes, final int offset, final int length, final long seed, final long[] result) {
+        if (length > 8) {
+            long bitflipLow = (getSecretLong(0L, 32) ^ getSecretLong(0L, 40)) - seed;
+            long bitflipHigh = (getSecretLong(0L, 48) ^ getSecretLong(0L, 56)) + seed;
+            long inputLow = readLong(bytes, offset);
+            long inputHigh = readLong(bytes, offset + length - 8);
+            long value = inputLow ^ inputHigh ^ bitflipLow;
+            long low = value * PRIME64_1 + ((long) (length - 1) << 54);
+            long high = multiplyHigh(value, PRIME64_1);
+            inputHigh ^= bitflipHigh;
+            high += inputHigh + (inputHigh & INT_MASK) * (PRIME32_2 - 1);
+            low ^= Long.reverseBytes(high);
+            result[0] = avalanche(low * PRIME64_2);
+            result[1] = avalanche(multiplyHigh(low, PRIME64_2) + high * PRIME64_2);
+        } else if (length >= 4) {
+            long currentSeed = seed ^ (Integer.reverseBytes((int) seed) & INT_MASK) << 32;
+            long inputLow = readInt(bytes, offset);
+            long inputHigh = readInt(bytes, offset + length - 4);
+            long bitflip = (getSecretLong(0L, 16) ^ getSecretLong(0L, 24)) + currentSeed;
+            long keyed = (inputLow + (inputHigh << 32)) ^ bitflip;
+            long multiplier = PRIME64_1 + ((long) length << 2);
+            long low = keyed * multiplier;
+            long high = multiplyHigh(keyed, multiplier);
+            high += low << 1;
+            low ^= high >>> 3;
+            low ^= low >>> 35;
+            low *= PRIME_MX2;
+            low ^= low >>> 28;
+            result[0] = low;
+            result[1] = avalanche(high);
+        } else if (length > 0) {
+            long combinedLow = combineBytes(bytes, offset, length);
+            long combinedHigh = Integer.rotateLeft(Integer.reverseBytes((int) combinedLow), 13) & INT_MASK;
+            long bitflipLow = (getSecretInt(0) ^ getSecretInt(4)) + seed;
+            long bitflipHigh = (getSecretInt(8) ^ getSecretInt(12)) - seed;
+            result[0] = avalancheXxHash64(combinedLow ^ bitflipLow);
+            result[1] = avalancheXxHash64(combinedHigh ^ bitflipHigh);
+        } else {
+            result[0] = avalancheXxHash64(seed ^ getSecretLong(0L, 64) ^ getSecretLong(0L, 72));
+            result[1] = avalancheXxHash64(seed ^ getSecretLong(0L, 80) ^ getSecretLong(0L, 88));
+        }
+    }
+
+    private static void xxh3Hash128UpTo240(final byte[] bytes, final int offset, final int length, final long seed, final long[] result) {
+        int end = offset + length;
+        result[0] = length * PRIME64_1;
+        result[1] = 0L;
+        if (length <= 128) {
+            if (length > 32) {
+                if (length > 64) {
+                    if (length > 96) {
+                        mix32(result, bytes, offset + 48, end - 64, seed, 96);
+                    }
+                    mix32(result, bytes, offset + 32, end - 48, seed, 64);
+                }
+                mix32(result, bytes, offset + 16, end - 32, seed, 32);
+            }
+            mix32(result, bytes, offset, end - 16, seed, 0);
+        } else {
+            int rounds = length / 32;
+            for (int i = 0; i < 4; i++) {
+                mix32(result, bytes, offset + 32 * i, offset + 32 * i + 16, seed, 32 * i);
+            }
+            result[0] = avalanche(result[0]);
+            result[1] = avalanche(result[1]);
+            for (int i = 4; i < rounds; i++) {
+                mix32(result, bytes, offset + 32 * i, offset + 32 * i + 16, seed, 32 * (i - 4) + SECRET_MIDSIZE_START);
+            }
+            mix32(result, bytes, end - 16, end - 32, -seed, SECRET_MIDSIZE_LAST_START - 16);
+        }
+        long low = result[0];
+        long high = result[1];
+        result[0] = avalanche(low + high);
+        result[1] = -avalanche(low * PRIME64_1 + high * PRIME64_4 + (length - seed) * PRIME64_2);
+    }
+
+    private static long combineBytes(final byte[] bytes, final int offset, final int length) {
+        long byte1 = bytes[offset] & 0xFFL;
+        long byte2 = bytes[offset + (length >> 1)] & 0xFFL;
+        long byte3 = bytes[offset + length - 1] & 0xFFL;
+        return byte1 << 16 | byte2 << 24 | byte3 | (long) length << 8;
+    }
+
+    private static long mix16(final byte[] bytes, final int offset, final long seed, final int secretIndex) {
+        long low = readLong(bytes, offset) ^ (getSecretLong(0L, secretIndex) + seed);
+        long high = readLong(bytes, offset + 8) ^ (getSecretLong(0L, secretIndex + 8) - seed);
+        return multiplyFold(low, high);
+    }
+
+    private static void mix32(final long[] accumulator, final byte[] bytes, final int offset1, final int offset2, final long seed, final int secretIndex) {
+        accumulator[0] += mix16(bytes, offset1, seed, secretIndex);
+        accumulator[0] ^= readLong(bytes, offset2) + readLong(bytes, offset2 + 8);
+        accumulator[1] += mix16(bytes, offset2, seed, secretIndex + 16);
+        accumulator[1] ^= readLong(bytes, offset1) + readLong(bytes, offset1 + 8);
+    }
+
+    private static long xxh3HashLong(final byte[] bytes, final int offset, final int length, final long seed, final long[] result) {
+        long accumulator0 = PRIME32_3;
+        long accumulator1 = PRIME64_1;
+        long accumulator2 = PRIME64_2;
+        long accumulator3 = PRIME64_3;
+        long accumulator4 = PRIME64_4;
+        long accumulator5 = PRIME32_2;
+        long accumulator6 = PRIME64_5;
+        long accumulator7 = PRIME32_1;
+        int stripes = (length - 1) / STRIPE_LENGTH;
+        int blockStripe = 0;
+        for (int i = 0; i <= stripes; i++) {
+            int position;
+            int secretIndex;
+            if (i < stripes) {
+                position = offset + i * STRIPE_LENGTH;
+                secretIndex = blockStripe * 8;
+            } else {
+                position = offset + length - STRIPE_LENGTH;
+                secretIndex = SECRET_LAST_STRIPE_START;
+            }
+            long value0 = readLong(bytes, position);
+            long value1 = readLong(bytes, position + 8);
+            long value2 = readLong(bytes, position + 16);
+            long value3 = readLong(bytes, position + 24);
+            long value4 = readLong(bytes, position + 32);
+            long value5 = readLong(bytes, position + 40);
+            long value6 = readLong(bytes, position + 48);
+            long value7 = readLong(bytes, position + 56);
+            accumulator0 += value1 + multiplyKey(value0, seed, secretIndex);
+            accumulator1 += value0 + multiplyKey(value1, seed, secretIndex + 8);
+            accumulator2 += value3 + multiplyKey(value2, seed, secretIndex + 16);
+            accumulator3 += value2 + multiplyKey(value3, seed, secretIndex + 24);
+            accumulator4 += value5 + multiplyKey(value4, seed, secretIndex + 32);
+            accumulator5 += value4 + multiplyKey(value5, seed, secretIndex + 40);
+            accumulator6 += value7 + multiplyKey(value6, seed, secretIndex + 48);
+            accumulator7 += value6 + multiplyKey(value7, seed, secretIndex + 56);
+            blockStripe++;
+            if (i < stripes && blockStripe == STRIPES_PER_BLOCK) {
+                blockStripe = 0;
+                accumulator0 = scrambleLane(accumulator0, seed, SECRET_SCRAMBLE_START);
+                accumulator1 = scrambleLane(accumulator1, seed, SECRET_SCRAMBLE_START + 8);
+                accumulator2 = scrambleLane(accumulator2, seed, SECRET_SCRAMBLE_START + 16);
+                accumulator3 = scrambleLane(accumulator3, seed, SECRET_SCRAMBLE_START + 24);
+                accumulator4 = scrambleLane(accumulator4, seed, SECRET_SCRAMBLE_START + 32);
+                accumulator5 = scrambleLane(accumulator5, seed, SECRET_SCRAMBLE_START + 40);
+                accumulator6 = scrambleLane(accumulator6, seed, SECRET_SCRAMBLE_START + 48);
+                accumulator7 = scrambleLane(accumulator7, seed, SECRET_SCRAMBLE_START + 56);
+            }
+        }
+        long low = length * PRIME64_1;
+        low += mergeLanes(accumulator0, accumulator1, seed, SECRET_MERGE_LOW_START);
+        low += mergeLanes(accumulator2, accumulator3, seed, SECRET_MERGE_LOW_START + 16);
+        low += mergeLanes(accumulator4, accumulator5, seed, SECRET_MERGE_LOW_START + 32);
+        low += mergeLanes(accumulator6, accumulator7, seed, SECRET_MERGE_LOW_START + 48);
+        low = avalanche(low);
+        if (result != null) {
+            long high = ~(length * PRIME64_2);
+            high += mergeLanes(accumulator0, accumulator1, seed, SECRET_MERGE_HIGH_START);
+            high += mergeLanes(accumulator2, accumulator3, seed, SECRET_MERGE_HIGH_START + 16);
+            high += mergeLanes(accumulator4, accumulator5, seed, SECRET_MERGE_HIGH_START + 32);
+            high += mergeLanes(accumulator6, accumulator7, seed, SECRET_MERGE_HIGH_START + 48);
+            result[0] = low;
+            result[1] = avalanche(high);
+        }
+        return low;
+    }
+
+    static void resetAccumulators(final long[] accumulators) {
+        accumulators[0] = PRIME32_3;
+        accumulators[1] = PRIME64_1;
+        accumulators[2] = PRIME64_2;
+        accumulators[3] = PRIME64_3;
+        accumulators[4] = PRIME64_4;
+        accumulators[5] = PRIME32_2;
+        accumulators[6] = PRIME64_5;
+        accumulators[7] = PRIME32_1;
+    }
+
+    static void accumulate(final long[] accumulators, final byte[] bytes, final int offset, final long seed, final int secretIndex, final int stripes) {
+        for (int i = 0; i < stripes; i++) {
+            accumulateStripe(accumulators, bytes, offset + i * STRIPE_LENGTH, seed, secretIndex + i * 8);
+        }
+    }
+
+    static void accumulateStripe(final long[] accumulators, final byte[] bytes, final int offset, final long seed, final int secretIndex) {
+        for (int i = 0; i < 8; i++) {
+            long value = readLong(bytes, offset + i * 8);
+            accumulators[i ^ 1] += value;
+            accumulators[i] += multiplyKey(value, seed, secretIndex + i * 8);
+        }
+    }
+
+    private static long multiplyKey(final long value, final long seed, final int secretIndex) {
+        long key = value ^ getSecretLong(seed, secretIndex);
+        return (key & INT_MASK) * (key >>> 32);
+    }
+
+    static void scramble(final long[] accumulators, final long seed) {
+        for (int i = 0; i < 8; i++) {
+            accumulators[i] = scrambleLane(accumulators[i], seed, SECRET_SCRAMBLE_START + i * 8);
+        }
+    }
+
+    private static long scrambleLane(final long accumulator, final long seed, final int secretIndex) {
+        long result = accumulator;
+        result ^= result >>> 47;
+        result ^= getSecretLong(seed, secretIndex);
+        return result * PRIME32_1;
+    }
+
+    static long mergeAccumulators(final long[] accumulators, final long seed, final int secretIndex, final long start) {
+        long result = start;
+        for (int i = 0; i < 4; i++) {
+            result += mergeLanes(accumulators[2 * i], accumulators[2 * i + 1], seed, secretIndex + 16 * i);
+        }
+        return avalanche(result);
+    }
+
+    static void mergeAccumulators(final long[] accumulators, final long seed, final long length, final long[] result) {
+        long low = mergeAccumulators(accumulators, seed, SECRET_MERGE_LOW_START, length * PRIME64_1);
+        long high = mergeAccumulators(accumulators, seed, SECRET_MERGE_HIGH_START, ~(length * PRIME64_2));
+        result[0] = low;
+        result[1] = high;
+    }
+
+    private static long mergeLanes(final long low, final long high, final long seed, final int secretIndex) {
+        return multiplyFold(low ^ getSecretLong(seed, secretIndex), high ^ getSecretLong(seed, secretIndex + 8));
+    }
+
+    private static long avalanche(final long hash) {
+        long result = hash;
+        result ^= result >>> 37;
+        result *= PRIME_MX1;
+        result ^= result >>> 32;
+        return result;
+    }
+
+    private static long rrmxmx(final long hash, final int length) {
+        long result = hash;
+        result ^= Long.rotateLeft(result, 49) ^ Long.rotateLeft(result, 24);
+        result *= PRIME_MX2;
+        result ^= (result >>> 35) + length;
+        result *= PRIME_MX2;
+        result ^= result >>> 28;
+        return result;
+    }
+
+    private static long multiplyFold(final long value1, final long value2) {
+        return value1 * value2 ^ multiplyHigh(value1, value2);
+    }
+
+    private static long multiplyHigh(final long value1, final long value2) {
+        long low1 = value1 & INT_MASK;
+        long high1 = value1 >>> 32;
+        long low2 = value2 & INT_MASK;
+        long high2 = value2 >>> 32;
+        long cross1 = high1 * low2;
+        long cross2 = low1 * high2;
+        long middle = (cross1 & INT_MASK) + (cross2 & INT_MASK) + (low1 * low2 >>> 32);
+        return high1 * high2 + (cross1 >>> 32) + (cross2 >>> 32) + (middle >>> 32);
+    }
+
+    /**
+     * Get 8 bytes of the secret as the little-endian value. The secret of the seeded hash of the long
+     * data is derived from the default secret with the seed, so the secret is computed on the fly and
+     * is never stored.
+     *
+     * @param seed        the seed of the hash.
+     * @param secretIndex the index of the first byte of the secret.
+     *
+     * @return the bytes of the secret.
+     */
+    private static long getSecretLong(final long seed, final int secretIndex) {
+        int wordIndex = secretIndex >> 3;
+        int shift = (secretIndex & 7) << 3;
+        long word = getSecretWord(seed, wordIndex);
+        if (shift == 0) {
+            return word;
+        }
+        return word >>> shift | getSecretWord(seed, wordIndex + 1) << 64 - shift;
+    }
+
+    private static long getSecretWord(final long seed, final int wordIndex) {
+        if ((wordIndex & 1) == 0) {
+            return SECRET[wordIndex] + seed;
+        } else {
+            return SECRET[wordIndex] - seed;
+        }
+    }
+
+    private static long getSecretInt(final int secretIndex) {
+        return getSecretLong(0L, secretIndex) & INT_MASK;
+    }
+
+    static long readLong(final byte[] bytes, final int offset) {
+        return bytes[offset] & 0xFFL
+                | (bytes[offset + 1] & 0xFFL) << 8
+                | (bytes[offset + 2] & 0xFFL) << 16
+                | (bytes[offset + 3] & 0xFFL) << 24
+                | (bytes[offset + 4] & 0xFFL) << 32
+                | (bytes[offset + 5] & 0xFFL) << 40
+                | (bytes[offset + 6] & 0xFFL) << 48
+                | (long) bytes[offset + 7] << 56;
+    }
+
+    private static long readInt(final byte[] bytes, final int offset) {
+        return bytes[offset] & 0xFFL
+                | (bytes[offset + 1] & 0xFFL) << 8
+                | (bytes[offset + 2] & 0xFFL) << 16
+                | (bytes[offset + 3] & 0xFFL) << 24;
+    }
+
+    static void writeLong(final long value, final byte[] bytes, final int offset) {
+        ByteBuffer.wrap(bytes, offset, SEED_LENGTH).order(ByteOrder.BIG_ENDIAN).putLong(value);
+    }
+
+}
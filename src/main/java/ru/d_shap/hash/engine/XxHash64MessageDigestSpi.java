@@ -0,0 +1,135 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigestSpi;
+
+/**
+ * Message digest engine of the xxHash64 algorithm. The hash is the 64 bits value, the bytes of the
+ * hash are in the big-endian order.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class XxHash64MessageDigestSpi extends MessageDigestSpi {
+
+    private final long _seed;
+
+    private final byte[] _stripe;
+
+    private int _stripeLength;
+
+    private long _length;
+
+    private long _accumulator1;
+
+    private long _accumulator2;
+
+    private long _accumulator3;
+
+    private long _accumulator4;
+
+    XxHash64MessageDigestSpi(final long seed) {
+        super();
+        _seed = seed;
+        _stripe = new byte[XxHash.XXH64_STRIPE_LENGTH];
+        engineReset();
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return XxHash.SEED_LENGTH;
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+        _stripe[_stripeLength] = input;
+        _stripeLength++;
+        _length++;
+        if (_stripeLength == _stripe.length) {
+            processStripe(_stripe, 0);
+            _stripeLength = 0;
+        }
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        _length += len;
+        int position = offset;
+        int end = offset + len;
+        if (_stripeLength > 0) {
+            int length = Math.min(len, _stripe.length - _stripeLength);
+            System.arraycopy(input, position, _stripe, _stripeLength, length);
+            _stripeLength += length;
+            position += length;
+            if (_stripeLength < _stripe.length) {
+                return;
+            }
+            processStripe(_stripe, 0);
+            _stripeLength = 0;
+        }
+        while (position <= end - _stripe.length) {
+            processStripe(input, position);
+            position += _stripe.length;
+        }
+        _stripeLength = end - position;
+        System.arraycopy(input, position, _stripe, 0, _stripeLength);
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        byte[] digest = new byte[XxHash.SEED_LENGTH];
+        XxHash.writeLong(getHash(), digest, 0);
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected void engineReset() {
+        _stripeLength = 0;
+        _length = 0L;
+        _accumulator1 = _seed + XxHash.PRIME64_1 + XxHash.PRIME64_2;
+        _accumulator2 = _seed + XxHash.PRIME64_2;
+        _accumulator3 = _seed;
+        _accumulator4 = _seed - XxHash.PRIME64_1;
+    }
+
+    void update(final ByteBuffer buffer) {
+        engineUpdate(buffer);
+    }
+
+    long getHash() {
+        long hash;
+        if (_length >= XxHash.XXH64_STRIPE_LENGTH) {
+            hash = XxHash.mergeXxHash64(_accumulator1, _accumulator2, _accumulator3, _accumulator4);
+        } else {
+            hash = _seed + XxHash.PRIME64_5;
+        }
+        return XxHash.finishXxHash64(hash + _length, _stripe, 0, _stripeLength);
+    }
+
+    private void processStripe(final byte[] bytes, final int offset) {
+        _accumulator1 = XxHash.round(_accumulator1, XxHash.readLong(bytes, offset));
+        _accumulator2 = XxHash.round(_accumulator2, XxHash.readLong(bytes, offset + 8));
+        _accumulator3 = XxHash.round(_accumulator3, XxHash.readLong(bytes, offset + 16));
+        _accumulator4 = XxHash.round(_accumulator4, XxHash.readLong(bytes, offset + 24));
+    }
+
+}
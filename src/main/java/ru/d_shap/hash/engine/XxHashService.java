@@ -0,0 +1,78 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+import java.util.Locale;
+
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Service of the xxHash64 and XXH3 message digest engines. The service creates the engines with the
+ * specified seed.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class XxHashService extends Provider.Service {
+
+    private static final String MESSAGE_DIGEST = "MessageDigest";
+
+    private final long _seed;
+
+    XxHashService(final Provider provider, final String algorithm, final long seed) {
+        super(provider, MESSAGE_DIGEST, algorithm, getClassName(algorithm), null, null);
+        _seed = seed;
+    }
+
+    static boolean isAlgorithm(final String algorithm) {
+        String name = algorithm.toUpperCase(Locale.ENGLISH);
+        return HashAlgorithms.XXHASH64.equals(name) || HashAlgorithms.XXH3_64.equals(name) || HashAlgorithms.XXH3_128.equals(name);
+    }
+
+    static long getSeed(final byte[] key) {
+        long seed = 0L;
+        for (byte value : key) {
+            seed = seed << 8 | value & 0xFFL;
+        }
+        return seed;
+    }
+
+    private static String getClassName(final String algorithm) {
+        if (HashAlgorithms.XXHASH64.equals(algorithm)) {
+            return XxHash64MessageDigestSpi.class.getName();
+        } else {
+            return Xxh3MessageDigestSpi.class.getName();
+        }
+    }
+
+    @Override
+    public MessageDigestSpi newInstance(final Object constructorParameter) {
+        String algorithm = getAlgorithm();
+        if (HashAlgorithms.XXHASH64.equals(algorithm)) {
+            return new XxHash64MessageDigestSpi(_seed);
+        }
+        if (HashAlgorithms.XXH3_64.equals(algorithm)) {
+            return new Xxh3MessageDigestSpi(XxHash.SEED_LENGTH, _seed);
+        }
+        return new Xxh3MessageDigestSpi(XxHash.SEED_LENGTH * 2, _seed);
+    }
+
+}
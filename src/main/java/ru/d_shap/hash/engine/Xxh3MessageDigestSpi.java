@@ -0,0 +1,177 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigestSpi;
+
+/**
+ * Message digest engine of the XXH3 algorithm with the 64 bits or the 128 bits hash. The bytes of the
+ * hash are in the big-endian order, the high 64 bits of the 128 bits hash come first. The data up to
+ * 240 bytes is kept in the buffer and is hashed at once, the longer data is accumulated by stripes.
+ * The last stripe of the data is always processed by the digest, so the buffer keeps the bytes of the
+ * previous stripe for the data, that ends right after the processed stripes.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class Xxh3MessageDigestSpi extends MessageDigestSpi {
+
+    private static final int BUFFER_STRIPES = 4;
+
+    private static final int BUFFER_LENGTH = XxHash.STRIPE_LENGTH * BUFFER_STRIPES;
+
+    private final int _digestLength;
+
+    private final long _seed;
+
+    private final long[] _accumulators;
+
+    private final byte[] _buffer;
+
+    private final byte[] _lastStripe;
+
+    private final byte[] _singleByte;
+
+    private int _bufferLength;
+
+    private int _stripeCount;
+
+    private long _length;
+
+    Xxh3MessageDigestSpi(final int digestLength, final long seed) {
+        super();
+        _digestLength = digestLength;
+        _seed = seed;
+        _accumulators = new long[8];
+        _buffer = new byte[BUFFER_LENGTH];
+        _lastStripe = new byte[XxHash.STRIPE_LENGTH];
+        _singleByte = new byte[1];
+        engineReset();
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return _digestLength;
+    }
+
+    @Override
+    protected void engineUpdate(final byte input) {
+        _singleByte[0] = input;
+        engineUpdate(_singleByte, 0, 1);
+    }
+
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        _length += len;
+        if (_bufferLength + len <= BUFFER_LENGTH) {
+            System.arraycopy(input, offset, _buffer, _bufferLength, len);
+            _bufferLength += len;
+            return;
+        }
+        int position = offset;
+        int end = offset + len;
+        if (_bufferLength > 0) {
+            int length = BUFFER_LENGTH - _bufferLength;
+            System.arraycopy(input, position, _buffer, _bufferLength, length);
+            position += length;
+            consumeStripes(_buffer, 0, BUFFER_STRIPES);
+            _bufferLength = 0;
+        }
+        if (end - position > BUFFER_LENGTH) {
+            do {
+                consumeStripes(input, position, BUFFER_STRIPES);
+                position += BUFFER_LENGTH;
+            } while (end - position > BUFFER_LENGTH);
+            System.arraycopy(input, position - XxHash.STRIPE_LENGTH, _buffer, BUFFER_LENGTH - XxHash.STRIPE_LENGTH, XxHash.STRIPE_LENGTH);
+        }
+        _bufferLength = end - position;
+        System.arraycopy(input, position, _buffer, 0, _bufferLength);
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        byte[] digest = new byte[_digestLength];
+        if (_digestLength == XxHash.SEED_LENGTH) {
+            XxHash.writeLong(getHash64(), digest, 0);
+        } else {
+            long[] result = new long[2];
+            getHash128(result);
+            XxHash.writeLong(result[1], digest, 0);
+            XxHash.writeLong(result[0], digest, XxHash.SEED_LENGTH);
+        }
+        engineReset();
+        return digest;
+    }
+
+    @Override
+    protected void engineReset() {
+        XxHash.resetAccumulators(_accumulators);
+        _bufferLength = 0;
+        _stripeCount = 0;
+        _length = 0L;
+    }
+
+    void update(final ByteBuffer buffer) {
+        engineUpdate(buffer);
+    }
+
+    long getHash64() {
+        if (_length <= XxHash.MIDSIZE_MAX_LENGTH) {
+            return XxHash.xxh3Hash64(_buffer, 0, (int) _length, _seed);
+        }
+        accumulateLastStripe();
+        return XxHash.mergeAccumulators(_accumulators, _seed, XxHash.SECRET_MERGE_LOW_START, _length * XxHash.PRIME64_1);
+    }
+
+    void getHash128(final long[] result) {
+        if (_length <= XxHash.MIDSIZE_MAX_LENGTH) {
+            XxHash.xxh3Hash128(_buffer, 0, (int) _length, _seed, result);
+        } else {
+            accumulateLastStripe();
+            XxHash.mergeAccumulators(_accumulators, _seed, _length, result);
+        }
+    }
+
+    private void accumulateLastStripe() {
+        if (_bufferLength >= XxHash.STRIPE_LENGTH) {
+            consumeStripes(_buffer, 0, (_bufferLength - 1) / XxHash.STRIPE_LENGTH);
+            XxHash.accumulateStripe(_accumulators, _buffer, _bufferLength - XxHash.STRIPE_LENGTH, _seed, XxHash.SECRET_LAST_STRIPE_START);
+        } else {
+            int catchUpLength = XxHash.STRIPE_LENGTH - _bufferLength;
+            System.arraycopy(_buffer, BUFFER_LENGTH - catchUpLength, _lastStripe, 0, catchUpLength);
+            System.arraycopy(_buffer, 0, _lastStripe, catchUpLength, _bufferLength);
+            XxHash.accumulateStripe(_accumulators, _lastStripe, 0, _seed, XxHash.SECRET_LAST_STRIPE_START);
+        }
+    }
+
+    private void consumeStripes(final byte[] bytes, final int offset, final int stripes) {
+        int stripesToBlockEnd = XxHash.STRIPES_PER_BLOCK - _stripeCount;
+        if (stripesToBlockEnd <= stripes) {
+            XxHash.accumulate(_accumulators, bytes, offset, _seed, _stripeCount * 8, stripesToBlockEnd);
+            XxHash.scramble(_accumulators, _seed);
+            _stripeCount = stripes - stripesToBlockEnd;
+            XxHash.accumulate(_accumulators, bytes, offset + stripesToBlockEnd * XxHash.STRIPE_LENGTH, _seed, 0, _stripeCount);
+        } else {
+            XxHash.accumulate(_accumulators, bytes, offset, _seed, _stripeCount * 8, stripes);
+            _stripeCount += stripes;
+        }
+    }
+
+}
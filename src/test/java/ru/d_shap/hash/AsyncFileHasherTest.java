@@ -0,0 +1,340 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileLock;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link AsyncFileHasher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class AsyncFileHasherTest {
+
+    private static final int NONE = -1;
+
+    /**
+     * Test class constructor.
+     */
+    public AsyncFileHasherTest() {
+        super();
+    }
+
+    /**
+     * {@link AsyncFileHasher} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void deferredReadTest() throws Exception {
+        DirectBufferPool bufferPool = new DirectBufferPool(2, 1024);
+        ScriptedFileChannel channel = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, false, NONE, NONE, false);
+        HashFuture<Object> result = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel, false, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result).start();
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(2);
+        Assertions.assertThat(channel.completeRead()).isTrue();
+        Assertions.assertThat(result.isDone()).isFalse();
+        Assertions.assertThat(channel.completeRead()).isTrue();
+        Assertions.assertThat(channel.completeRead()).isTrue();
+        Assertions.assertThat(channel.completeRead()).isTrue();
+        Assertions.assertThat(result.isDone()).isTrue();
+        Assertions.assertThat(channel.completeRead()).isFalse();
+        Assertions.assertThat(channel.getReadCount()).isEqualTo(4);
+        Assertions.assertThat(result.get().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(channel.isOpen()).isTrue();
+    }
+
+    /**
+     * {@link AsyncFileHasher} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void inlineReadTest() throws Exception {
+        DirectBufferPool bufferPool = new DirectBufferPool(2, 1024);
+        ScriptedFileChannel channel = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, NONE, NONE, false);
+        HashFuture<Object> result = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel, true, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result).start();
+        Assertions.assertThat(result.isDone()).isTrue();
+        Assertions.assertThat(channel.getReadCount()).isEqualTo(4);
+        Assertions.assertThat(result.get().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(channel.isOpen()).isFalse();
+
+        ScriptedFileChannel emptyChannel = new ScriptedFileChannel(new byte[0], true, NONE, NONE, false);
+        HashFuture<Object> emptyResult = new HashFuture<>(null, null);
+        new AsyncFileHasher(emptyChannel, true, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, emptyResult).start();
+        Assertions.assertThat(emptyResult.get().getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+    }
+
+    /**
+     * {@link AsyncFileHasher} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void readFailTest() throws Exception {
+        DirectBufferPool bufferPool = new DirectBufferPool(2, 1024);
+
+        ScriptedFileChannel channel1 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, 0, NONE, false);
+        HashFuture<Object> result1 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel1, true, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result1).start();
+        assertFailure(result1, IOException.class, "Read error");
+        Assertions.assertThat(channel1.isOpen()).isFalse();
+
+        ScriptedFileChannel channel2 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, 2, NONE, false);
+        HashFuture<Object> result2 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel2, false, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result2).start();
+        assertFailure(result2, IOException.class, "Read error");
+        Assertions.assertThat(channel2.getReadCount()).isEqualTo(3);
+        Assertions.assertThat(channel2.isOpen()).isTrue();
+
+        ScriptedFileChannel channel3 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, false, 1, NONE, false);
+        HashFuture<Object> result3 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel3, false, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result3).start();
+        Assertions.assertThat(channel3.completeRead()).isTrue();
+        Assertions.assertThat(result3.isDone()).isFalse();
+        Assertions.assertThat(channel3.completeRead()).isTrue();
+        assertFailure(result3, IOException.class, "Read error");
+
+        ScriptedFileChannel channel4 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, NONE, 0, false);
+        HashFuture<Object> result4 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel4, false, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result4).start();
+        assertFailure(result4, IllegalStateException.class, "Read exception");
+
+        ScriptedFileChannel channel5 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, NONE, 1, false);
+        HashFuture<Object> result5 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel5, false, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result5).start();
+        assertFailure(result5, IllegalStateException.class, "Read exception");
+
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+    }
+
+    /**
+     * {@link AsyncFileHasher} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void closeFailTest() throws Exception {
+        DirectBufferPool bufferPool = new DirectBufferPool(2, 1024);
+
+        ScriptedFileChannel channel1 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, NONE, NONE, true);
+        HashFuture<Object> result1 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel1, true, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result1).start();
+        assertFailure(result1, IOException.class, "Close error");
+
+        ScriptedFileChannel channel2 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, 1, NONE, true);
+        HashFuture<Object> result2 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel2, true, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result2).start();
+        assertFailure(result2, IOException.class, "Read error");
+
+        ScriptedFileChannel channel3 = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, true, NONE, NONE, true);
+        HashFuture<Object> result3 = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel3, false, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result3).start();
+        Assertions.assertThat(result3.get().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+    /**
+     * {@link AsyncFileHasher} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void cancelTest() throws Exception {
+        DirectBufferPool bufferPool = new DirectBufferPool(2, 1024);
+        ScriptedFileChannel channel = new ScriptedFileChannel(new byte[]{1, 2, 3, 4, 5}, false, NONE, NONE, false);
+        HashFuture<Object> result = new HashFuture<>(null, null);
+        new AsyncFileHasher(channel, true, HashFunction.getInstance(HashAlgorithms.MD5), bufferPool, result).start();
+        Assertions.assertThat(channel.completeRead()).isTrue();
+        Assertions.assertThat(result.cancel(true)).isTrue();
+        Assertions.assertThat(channel.completeRead()).isTrue();
+        Assertions.assertThat(channel.completeRead()).isFalse();
+        Assertions.assertThat(channel.getReadCount()).isEqualTo(2);
+        Assertions.assertThat(result.isCancelled()).isTrue();
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(channel.isOpen()).isFalse();
+    }
+
+    private static void assertFailure(final Future<Hash> result, final Class<?> failureClass, final String message) throws InterruptedException {
+        Assertions.assertThat(result.isDone()).isTrue();
+        try {
+            result.get();
+            Assertions.fail("AsyncFileHasher test fail");
+        } catch (ExecutionException ex) {
+            Assertions.assertThat(ex.getCause()).isInstanceOf(failureClass);
+            Assertions.assertThat(ex.getCause()).hasMessage(message);
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ScriptedFileChannel extends AsynchronousFileChannel {
+
+        private final byte[] _bytes;
+
+        private final boolean _inline;
+
+        private final int _failIndex;
+
+        private final int _throwIndex;
+
+        private final boolean _failClose;
+
+        private boolean _open;
+
+        private int _readCount;
+
+        private ByteBuffer _pendingBuffer;
+
+        private long _pendingPosition;
+
+        private Object _pendingAttachment;
+
+        private CompletionHandler<Integer, Object> _pendingHandler;
+
+        ScriptedFileChannel(final byte[] bytes, final boolean inline, final int failIndex, final int throwIndex, final boolean failClose) {
+            super();
+            _bytes = bytes;
+            _inline = inline;
+            _failIndex = failIndex;
+            _throwIndex = throwIndex;
+            _failClose = failClose;
+            _open = true;
+            _readCount = 0;
+        }
+
+        @Override
+        public long size() {
+            return _bytes.length;
+        }
+
+        @Override
+        public AsynchronousFileChannel truncate(final long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void force(final boolean metaData) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <A> void lock(final long position, final long size, final boolean shared, final A attachment, final CompletionHandler<FileLock, ? super A> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<FileLock> lock(final long position, final long size, final boolean shared) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileLock tryLock(final long position, final long size, final boolean shared) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A> void read(final ByteBuffer dst, final long position, final A attachment, final CompletionHandler<Integer, ? super A> handler) {
+            int index = _readCount;
+            _readCount++;
+            if (index == _throwIndex) {
+                throw new IllegalStateException("Read exception");
+            }
+            _pendingBuffer = dst;
+            _pendingPosition = position;
+            _pendingAttachment = attachment;
+            _pendingHandler = (CompletionHandler<Integer, Object>) handler;
+            if (_inline) {
+                completeRead();
+            }
+        }
+
+        @Override
+        public Future<Integer> read(final ByteBuffer dst, final long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <A> void write(final ByteBuffer src, final long position, final A attachment, final CompletionHandler<Integer, ? super A> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> write(final ByteBuffer src, final long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return _open;
+        }
+
+        @Override
+        public void close() throws IOException {
+            _open = false;
+            if (_failClose) {
+                throw new IOException("Close error");
+            }
+        }
+
+        int getReadCount() {
+            return _readCount;
+        }
+
+        boolean completeRead() {
+            if (_pendingHandler == null) {
+                return false;
+            }
+            CompletionHandler<Integer, Object> handler = _pendingHandler;
+            ByteBuffer buffer = _pendingBuffer;
+            int position = (int) _pendingPosition;
+            Object attachment = _pendingAttachment;
+            _pendingHandler = null;
+            if (_readCount - 1 == _failIndex) {
+                handler.failed(new IOException("Read error"), attachment);
+            } else if (position >= _bytes.length) {
+                handler.completed(-1, attachment);
+            } else {
+                int length = Math.min(buffer.remaining(), _bytes.length - position);
+                buffer.put(_bytes, position, length);
+                handler.completed(length, attachment);
+            }
+            return true;
+        }
+
+    }
+
+}
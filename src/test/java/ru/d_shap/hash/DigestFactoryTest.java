@@ -0,0 +1,283 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.security.MessageDigest;
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.engine.HashProvider;
+
+/**
+ * Tests for {@link DigestFactory}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DigestFactoryTest {
+
+    /**
+     * Test class constructor.
+     */
+    public DigestFactoryTest() {
+        super();
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getInstanceTest() {
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.MD5).getAlgorithm()).isEqualTo(HashAlgorithms.MD5);
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.SHA256).getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.MD5)).isSameAs(DigestFactory.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.SHA256)).isSameAs(DigestFactory.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.MD5)).isNotSameAs(DigestFactory.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.MD5).getMessageDigestPool()).isSameAs(DigestFactory.getInstance(HashAlgorithms.MD5).getMessageDigestPool());
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getNormalizedInstanceTest() {
+        Assertions.assertThat(DigestFactory.getInstance("sha-256").getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(DigestFactory.getInstance("sha-256")).isSameAs(DigestFactory.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(DigestFactory.getInstance("Sha-256")).isSameAs(DigestFactory.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(DigestFactory.getInstance("shake128-256")).isSameAs(DigestFactory.getInstance(HashAlgorithms.SHAKE128));
+        Assertions.assertThat(DigestFactory.getInstance("blake3-256")).isSameAs(DigestFactory.getInstance(HashAlgorithms.BLAKE3));
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getParameterizedInstanceTest() {
+        Assertions.assertThat(DigestFactory.getInstance("shake128-384").getAlgorithm()).isEqualTo("SHAKE128-384");
+        Assertions.assertThat(DigestFactory.getInstance("SHAKE128-384")).isNotSameAs(DigestFactory.getInstance("SHAKE128-384"));
+        Assertions.assertThat(DigestFactory.getInstance("SHAKE256-1024")).isNotSameAs(DigestFactory.getInstance("SHAKE256-1024"));
+        Assertions.assertThat(DigestFactory.getInstance("BLAKE3-512")).isNotSameAs(DigestFactory.getInstance("BLAKE3-512"));
+        Assertions.assertThat(DigestFactory.getInstance("BLAKE3-512").isCached()).isFalse();
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.MD5).isCached()).isTrue();
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getNullAlgorithmInstanceFailTest() {
+        try {
+            DigestFactory.getInstance(null);
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            DigestFactory.getInstance(null, new NonCloneableProvider());
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getWrongAlgorithmInstanceFailTest() {
+        try {
+            DigestFactory.getInstance("wrong algorithm");
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong algorithm name: wrong algorithm");
+        }
+        try {
+            DigestFactory.getInstance("wrong algorithm", new NonCloneableProvider());
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong algorithm name: wrong algorithm");
+        }
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getNullProviderInstanceFailTest() {
+        try {
+            DigestFactory.getInstance(HashAlgorithms.MD5, (Provider) null);
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Provider is null");
+        }
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getProviderNameInstanceTest() {
+        DigestFactory digestFactory1 = DigestFactory.getInstance(HashAlgorithms.SHA256, HashProvider.NAME);
+        Assertions.assertThat(digestFactory1.getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(digestFactory1.getProvider().getName()).isEqualTo(HashProvider.NAME);
+        Assertions.assertThat(digestFactory1.newMessageDigest().digest(new byte[]{97, 98, 99})).containsExactlyInOrder(-70, 120, 22, -65, -113, 1, -49, -22, 65, 65, 64, -34, 93, -82, 34, 35, -80, 3, 97, -93, -106, 23, 122, -100, -76, 16, -1, 97, -14, 0, 21, -83);
+        DigestFactory digestFactory2 = DigestFactory.getInstance(HashAlgorithms.SHA256, "SUN");
+        Assertions.assertThat(digestFactory2.getProvider().getName()).isEqualTo("SUN");
+        Assertions.assertThat(digestFactory2.newMessageDigest().digest(new byte[]{97, 98, 99})).containsExactlyInOrder(-70, 120, 22, -65, -113, 1, -49, -22, 65, 65, 64, -34, 93, -82, 34, 35, -80, 3, 97, -93, -106, 23, 122, -100, -76, 16, -1, 97, -14, 0, 21, -83);
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getProviderNameInstanceFailTest() {
+        try {
+            DigestFactory.getInstance(null, HashProvider.NAME);
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            DigestFactory.getInstance(HashAlgorithms.MD5, (String) null);
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Provider name is null");
+        }
+        try {
+            DigestFactory.getInstance(HashAlgorithms.MD5, "wrong provider");
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong provider name: wrong provider");
+        }
+        try {
+            DigestFactory.getInstance(HashAlgorithms.MD2, HashProvider.NAME);
+            Assertions.fail("DigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong algorithm name: MD2");
+        }
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void getProviderTest() {
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.MD5).getProvider().getName()).isEqualTo("SUN");
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.SHA512).getProvider().getName()).isEqualTo("SUN");
+        Provider provider = new NonCloneableProvider();
+        Assertions.assertThat(DigestFactory.getInstance(NonCloneableProvider.ALGORITHM, provider).getProvider()).isSameAs(provider);
+        Assertions.assertThat(DigestFactory.getInstance(NonCloneableProvider.ALGORITHM, provider)).isNotSameAs(DigestFactory.getInstance(NonCloneableProvider.ALGORITHM, provider));
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void newMessageDigestTest() {
+        DigestFactory digestFactory = DigestFactory.getInstance(HashAlgorithms.SHA1);
+        MessageDigest messageDigest1 = digestFactory.newMessageDigest();
+        MessageDigest messageDigest2 = digestFactory.newMessageDigest();
+        Assertions.assertThat(messageDigest1).isNotSameAs(messageDigest2);
+        Assertions.assertThat(messageDigest1.getAlgorithm()).isEqualTo(HashAlgorithms.SHA1);
+        Assertions.assertThat(messageDigest1.getProvider()).isSameAs(digestFactory.getProvider());
+        messageDigest1.update(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(messageDigest1.digest()).containsExactlyInOrder(17, -106, 106, -71, -64, -103, -8, -6, -66, -6, -59, 76, 8, -43, -66, 43, -40, -55, 3, -81);
+        Assertions.assertThat(digestFactory.newMessageDigest().digest()).containsExactlyInOrder(-38, 57, -93, -18, 94, 107, 75, 13, 50, 85, -65, -17, -107, 96, 24, -112, -81, -40, 7, 9);
+    }
+
+    /**
+     * {@link DigestFactory} class test.
+     */
+    @Test
+    public void newNonCloneableMessageDigestTest() {
+        DigestFactory digestFactory = DigestFactory.getInstance(NonCloneableProvider.ALGORITHM, new NonCloneableProvider());
+        MessageDigest messageDigest1 = digestFactory.newMessageDigest();
+        MessageDigest messageDigest2 = digestFactory.newMessageDigest();
+        Assertions.assertThat(messageDigest1).isNotSameAs(messageDigest2);
+        Assertions.assertThat(messageDigest1.getAlgorithm()).isEqualTo(NonCloneableProvider.ALGORITHM);
+        Assertions.assertThat(messageDigest2.getAlgorithm()).isEqualTo(NonCloneableProvider.ALGORITHM);
+
+        HashFunction hashFunction = HashFunction.getInstance(NonCloneableProvider.ALGORITHM, new NonCloneableProvider());
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, hashFunction).getBytes()).containsExactlyInOrder(5);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3}, hashFunction).addSalt(new byte[]{1, 2}).getBytes()).containsExactlyInOrder(3);
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class NonCloneableProvider extends Provider {
+
+        static final String ALGORITHM = "NON-CLONEABLE";
+
+        private static final long serialVersionUID = 1L;
+
+        NonCloneableProvider() {
+            super("NonCloneableProvider", 1.0, "Non-cloneable message digest provider");
+            put("MessageDigest." + ALGORITHM, NonCloneableMessageDigestSpi.class.getName());
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class NonCloneableMessageDigestSpi extends MessageDigestSpi {
+
+        private int _count;
+
+        /**
+         * Create new object.
+         */
+        public NonCloneableMessageDigestSpi() {
+            super();
+            _count = 0;
+        }
+
+        @Override
+        protected void engineUpdate(final byte input) {
+            _count++;
+        }
+
+        @Override
+        protected void engineUpdate(final byte[] input, final int offset, final int len) {
+            _count += len;
+        }
+
+        @Override
+        protected byte[] engineDigest() {
+            byte[] result = new byte[]{(byte) _count};
+            _count = 0;
+            return result;
+        }
+
+        @Override
+        protected void engineReset() {
+            _count = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,278 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link DigestingInputStream}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DigestingInputStreamTest {
+
+    /**
+     * Test class constructor.
+     */
+    public DigestingInputStreamTest() {
+        super();
+    }
+
+    /**
+     * {@link DigestingInputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void readTest() throws IOException {
+        DigestingInputStream stream1 = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5);
+        Assertions.assertThat(stream1.read()).isEqualTo(1);
+        Assertions.assertThat(stream1.read()).isEqualTo(2);
+        Assertions.assertThat(stream1.read()).isEqualTo(3);
+        Assertions.assertThat(stream1.read()).isEqualTo(4);
+        Assertions.assertThat(stream1.read()).isEqualTo(5);
+        Assertions.assertThat(stream1.isEndOfStream()).isFalse();
+        Assertions.assertThat(stream1.read()).isEqualTo(-1);
+        Assertions.assertThat(stream1.isEndOfStream()).isTrue();
+        Assertions.assertThat(stream1.getHash().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        DigestingInputStream stream2 = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashFunction.getInstance(HashAlgorithms.MD5));
+        byte[] bytes = new byte[10];
+        Assertions.assertThat(stream2.read(bytes, 1, 3)).isEqualTo(3);
+        Assertions.assertThat(stream2.read(bytes, 4, 0)).isEqualTo(0);
+        Assertions.assertThat(stream2.read(bytes)).isEqualTo(2);
+        Assertions.assertThat(stream2.isEndOfStream()).isFalse();
+        Assertions.assertThat(stream2.read(bytes)).isEqualTo(-1);
+        Assertions.assertThat(stream2.isEndOfStream()).isTrue();
+        Assertions.assertThat(bytes).containsExactlyInOrder(4, 5, 2, 3, 0, 0, 0, 0, 0, 0);
+        Assertions.assertThat(stream2.getHash().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        DigestingInputStream stream3 = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5);
+        Assertions.assertThat(stream3.read(new byte[2])).isEqualTo(2);
+        Assertions.assertThat(stream3.isEndOfStream()).isFalse();
+        Assertions.assertThat(stream3.getHash().getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2}, HashAlgorithms.MD5).getBytes());
+
+        DigestingInputStream stream4 = new DigestingInputStream(new ByteArrayInputStream(new byte[0]), HashAlgorithms.MD5);
+        Assertions.assertThat(stream4.read()).isEqualTo(-1);
+        Assertions.assertThat(stream4.getHash().getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+    }
+
+    /**
+     * {@link DigestingInputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void readAfterHashFailTest() throws IOException {
+        DigestingInputStream stream = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5);
+        Assertions.assertThat(stream.read()).isEqualTo(1);
+        Hash hash = stream.getHash();
+        Assertions.assertThat(stream.getHash()).isSameAs(hash);
+        try {
+            stream.read();
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        try {
+            stream.read(new byte[5], 0, 5);
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        try {
+            stream.skip(2);
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+    }
+
+    /**
+     * {@link DigestingInputStream} class test.
+     */
+    @Test
+    public void createFailTest() {
+        try {
+            new DigestingInputStream(null, HashAlgorithms.MD5);
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source stream is null");
+        }
+        try {
+            new DigestingInputStream(null, HashAlgorithms.MD5, true);
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source stream is null");
+        }
+        try {
+            new DigestingInputStream(null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source stream is null");
+        }
+        try {
+            new DigestingInputStream(new ByteArrayInputStream(new byte[0]), (String) null);
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            new DigestingInputStream(new ByteArrayInputStream(new byte[0]), (HashFunction) null);
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            new DigestingInputStream(new ByteArrayInputStream(new byte[0]), (HashFunction) null, true);
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link DigestingInputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void skipTest() throws IOException {
+        byte[] bytes = createBytes(20000);
+
+        DigestingInputStream stream1 = new DigestingInputStream(new ByteArrayInputStream(bytes), HashAlgorithms.MD5);
+        Assertions.assertThat(stream1.skip(0)).isEqualTo(0L);
+        Assertions.assertThat(stream1.skip(-1)).isEqualTo(0L);
+        Assertions.assertThat(stream1.skip(10000)).isEqualTo(10000L);
+        Assertions.assertThat(stream1.read()).isEqualTo(bytes[10000] & 0xFF);
+        Assertions.assertThat(stream1.skip(20000)).isEqualTo(9999L);
+        Assertions.assertThat(stream1.isEndOfStream()).isTrue();
+        Assertions.assertThat(stream1.skip(1)).isEqualTo(0L);
+        Assertions.assertThat(stream1.getHash().getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+    }
+
+    /**
+     * {@link DigestingInputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void markTest() throws IOException {
+        DigestingInputStream stream = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5);
+        Assertions.assertThat(stream.markSupported()).isFalse();
+        stream.mark(10);
+        Assertions.assertThat(stream.read()).isEqualTo(1);
+        try {
+            stream.reset();
+            Assertions.fail("DigestingInputStream test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(ex).hasMessage("Mark and reset are not supported");
+        }
+        Assertions.assertThat(stream.read()).isEqualTo(2);
+    }
+
+    /**
+     * {@link DigestingInputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void closeTest() throws IOException {
+        CloseCountInputStream underlyingStream1 = new CloseCountInputStream(new byte[]{1, 2, 3, 4, 5});
+        DigestingInputStream stream1 = new DigestingInputStream(underlyingStream1, HashAlgorithms.MD5);
+        stream1.close();
+        Assertions.assertThat(underlyingStream1.getCloseCount()).isEqualTo(0);
+
+        CloseCountInputStream underlyingStream2 = new CloseCountInputStream(new byte[]{1, 2, 3, 4, 5});
+        DigestingInputStream stream2 = new DigestingInputStream(underlyingStream2, HashAlgorithms.MD5, false);
+        stream2.close();
+        Assertions.assertThat(underlyingStream2.getCloseCount()).isEqualTo(0);
+
+        CloseCountInputStream underlyingStream3 = new CloseCountInputStream(new byte[]{1, 2, 3, 4, 5});
+        DigestingInputStream stream3 = new DigestingInputStream(underlyingStream3, HashFunction.getInstance(HashAlgorithms.MD5), true);
+        stream3.close();
+        Assertions.assertThat(underlyingStream3.getCloseCount()).isEqualTo(1);
+
+        CloseCountInputStream underlyingStream4 = new CloseCountInputStream(new byte[]{1, 2, 3, 4, 5});
+        try (InputStream stream4 = new DigestingInputStream(underlyingStream4, HashAlgorithms.MD5)) {
+            Assertions.assertThat(stream4.read(new byte[10])).isEqualTo(5);
+        }
+        Assertions.assertThat(underlyingStream4.getCloseCount()).isEqualTo(0);
+        Assertions.assertThat(underlyingStream4.read()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link DigestingInputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void isHashValidTest() throws IOException {
+        DigestingInputStream stream1 = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5);
+        Assertions.assertThat(stream1.skip(5)).isEqualTo(5L);
+        Assertions.assertThat(stream1.isHashValid(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104})).isTrue();
+        Assertions.assertThat(stream1.isHashValid(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 105})).isFalse();
+
+        DigestingInputStream stream2 = new DigestingInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5);
+        Assertions.assertThat(stream2.read(new byte[10])).isEqualTo(5);
+        Assertions.assertThat(stream2.getHash().addSalt(new byte[]{10, 11}).matches(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23})).isTrue();
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class CloseCountInputStream extends ByteArrayInputStream {
+
+        private int _closeCount;
+
+        CloseCountInputStream(final byte[] bytes) {
+            super(bytes);
+            _closeCount = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            _closeCount++;
+            super.close();
+        }
+
+        int getCloseCount() {
+            return _closeCount;
+        }
+
+    }
+
+}
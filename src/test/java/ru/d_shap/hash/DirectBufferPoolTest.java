@@ -0,0 +1,192 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link DirectBufferPool}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class DirectBufferPoolTest {
+
+    /**
+     * Test class constructor.
+     */
+    public DirectBufferPoolTest() {
+        super();
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void createTest() {
+        DirectBufferPool bufferPool = new DirectBufferPool(1024, 4096);
+        Assertions.assertThat(bufferPool.getBufferSize()).isEqualTo(1024);
+        Assertions.assertThat(bufferPool.getMaxMemory()).isEqualTo(4096L);
+        Assertions.assertThat(bufferPool.getAllocatedMemory()).isEqualTo(0L);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(0);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(bufferPool.getDegradedCount()).isEqualTo(0L);
+
+        Assertions.assertThat(new DirectBufferPool(1, 0).getBufferSize()).isEqualTo(1);
+        Assertions.assertThat(new DirectBufferPool(1, 0).getMaxMemory()).isEqualTo(0L);
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void createFailTest() {
+        try {
+            new DirectBufferPool(0, 4096);
+            Assertions.fail("DirectBufferPool test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Buffer size is less than 1");
+        }
+        try {
+            new DirectBufferPool(1024, -1);
+            Assertions.fail("DirectBufferPool test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Max memory is negative");
+        }
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void getDefaultInstanceTest() {
+        Assertions.assertThat(DirectBufferPool.getDefaultInstance()).isSameAs(DirectBufferPool.getDefaultInstance());
+        Assertions.assertThat(DirectBufferPool.getDefaultInstance().getBufferSize()).isEqualTo(DirectBufferPool.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void setMaxMemoryTest() {
+        DirectBufferPool bufferPool = new DirectBufferPool(1024, 4096);
+        bufferPool.setMaxMemory(8192);
+        Assertions.assertThat(bufferPool.getMaxMemory()).isEqualTo(8192L);
+        bufferPool.setMaxMemory(0);
+        Assertions.assertThat(bufferPool.getMaxMemory()).isEqualTo(0L);
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void setMaxMemoryFailTest() {
+        try {
+            new DirectBufferPool(1024, 4096).setMaxMemory(-1);
+            Assertions.fail("DirectBufferPool test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Max memory is negative");
+        }
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void acquireTest() {
+        DirectBufferPool bufferPool = new DirectBufferPool(1024, 2048);
+        ByteBuffer buffer1 = bufferPool.acquire();
+        ByteBuffer buffer2 = bufferPool.acquire();
+        Assertions.assertThat(buffer1.isDirect()).isTrue();
+        Assertions.assertThat(buffer1.capacity()).isEqualTo(1024);
+        Assertions.assertThat(buffer2.isDirect()).isTrue();
+        Assertions.assertThat(buffer2.capacity()).isEqualTo(1024);
+        Assertions.assertThat(buffer1).isNotSameAs(buffer2);
+        Assertions.assertThat(bufferPool.getAllocatedMemory()).isEqualTo(2048L);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(2);
+
+        buffer1.put((byte) 1);
+        bufferPool.release(buffer1);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(1);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(1);
+
+        ByteBuffer buffer3 = bufferPool.acquire();
+        Assertions.assertThat(buffer3).isSameAs(buffer1);
+        Assertions.assertThat(buffer3.position()).isEqualTo(0);
+        Assertions.assertThat(buffer3.remaining()).isEqualTo(1024);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(0);
+        Assertions.assertThat(bufferPool.getAllocatedMemory()).isEqualTo(2048L);
+
+        bufferPool.release(buffer2);
+        bufferPool.release(buffer3);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(2);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(bufferPool.getDegradedCount()).isEqualTo(0L);
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void acquireDegradedTest() {
+        DirectBufferPool bufferPool = new DirectBufferPool(8192, 10000);
+        ByteBuffer buffer1 = bufferPool.acquire();
+        ByteBuffer buffer2 = bufferPool.acquire();
+        Assertions.assertThat(buffer1.isDirect()).isTrue();
+        Assertions.assertThat(buffer1.capacity()).isEqualTo(8192);
+        Assertions.assertThat(buffer2.isDirect()).isFalse();
+        Assertions.assertThat(buffer2.capacity()).isEqualTo(DirectBufferPool.DEGRADED_BUFFER_SIZE);
+        Assertions.assertThat(bufferPool.getAllocatedMemory()).isEqualTo(8192L);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(2);
+        Assertions.assertThat(bufferPool.getDegradedCount()).isEqualTo(1L);
+
+        bufferPool.release(buffer2);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(0);
+        bufferPool.release(buffer1);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(1);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+
+        DirectBufferPool smallBufferPool = new DirectBufferPool(100, 0);
+        Assertions.assertThat(smallBufferPool.acquire().capacity()).isEqualTo(100);
+        Assertions.assertThat(smallBufferPool.getDegradedCount()).isEqualTo(1L);
+    }
+
+    /**
+     * {@link DirectBufferPool} class test.
+     */
+    @Test
+    public void releaseDecreasedMemoryTest() {
+        DirectBufferPool bufferPool = new DirectBufferPool(1024, 2048);
+        ByteBuffer buffer1 = bufferPool.acquire();
+        ByteBuffer buffer2 = bufferPool.acquire();
+        bufferPool.setMaxMemory(1024);
+        bufferPool.release(buffer1);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(0);
+        Assertions.assertThat(bufferPool.getAllocatedMemory()).isEqualTo(1024L);
+        bufferPool.release(buffer2);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(1);
+        Assertions.assertThat(bufferPool.getAllocatedMemory()).isEqualTo(1024L);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+    }
+
+}
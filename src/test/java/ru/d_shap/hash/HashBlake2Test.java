@@ -0,0 +1,147 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.builder.HashBuilder;
+import ru.d_shap.hash.engine.HashProvider;
+
+/**
+ * Tests for {@link HashAlgorithms}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashBlake2Test {
+
+    /**
+     * Test class constructor.
+     */
+    public HashBlake2Test() {
+        super();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void hashFunctionTest() {
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.BLAKE2B_256);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE2B_256);
+        Assertions.assertThat(hashFunction.getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(hashFunction.getBlockSize()).isEqualTo(128);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.BLAKE2B_512).getDigestLength()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.BLAKE2B_512).getBlockSize()).isEqualTo(128);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.BLAKE2S_256).getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.BLAKE2S_256).getBlockSize()).isEqualTo(64);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void simpleHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.BLAKE2B_256).getBytes()).containsExactlyInOrder(-5, -72, -47, -31, 116, -74, 38, 77, 63, -23, 117, -4, 97, 3, -30, -79, -90, 95, -80, -10, -126, 23, 114, 20, -42, 3, 93, 52, -56, -3, 38, 39);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.BLAKE2B_512).getBytes()).containsExactlyInOrder(103, 118, 127, 28, -85, 65, 85, 2, -36, -50, -20, -97, 9, -97, -72, 69, 57, -79, -57, 60, 94, -67, -49, -31, -69, -116, -89, 65, 30, 59, 108, -77, 62, 48, 79, 73, 34, 46, -38, -55, -67, -86, 116, 18, -98, -98, 19, -15, 31, 33, 91, -123, 96, -7, 8, 31, 14, -113, 31, -122, -111, 98, -65, 70);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.BLAKE2S_256).getBytes()).containsExactlyInOrder(113, 37, -110, 30, 6, 7, 23, 16, 53, 3, -112, -2, -112, 40, 86, -37, -22, 54, 106, 93, 111, 94, -30, 108, 24, -25, 65, 20, 58, -56, 0, 97);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void builderKeyedHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] salt = new byte[]{10, 20, 30, 40, 50};
+        byte[] hash = new byte[]{-57, -30, -118, 65, -51, 10, -66, -77, -19, 63, 81, -8, 34, -55, -86, -5, -85, -84, -10, -36, 28, 71, -108, -119, 39, 63, -38, -83, -103, -22, -12, -59};
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(ByteBuffer.wrap(original)).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setStoredHash(hash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2S_256).setSalt(salt).getHash()).containsExactlyInOrder(107, -46, 91, -53, -112, -104, 8, 67, -28, 81, 32, -10, -116, 105, 81, -48, -94, -114, -64, -8, 68, -24, -28, 29, 20, 97, -82, 27, -128, -114, 80, -64);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_512).setSalt(salt).getHash()).containsExactlyInOrder(-22, 113, -10, 53, 118, 54, -96, -93, 111, -29, 36, -62, 14, -96, -123, -31, 107, -121, -82, -4, -58, 74, -128, 53, -66, -73, -79, 2, 69, 14, 78, -105, -109, -79, -65, 101, 108, -115, 125, 84, 54, -100, -86, 8, -9, -87, 2, -76, 60, -2, 29, -84, -30, -63, 79, 125, 38, -102, -91, -100, 31, 7, -8, -109);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void builderKeyedHashIterationsTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] salt = new byte[]{10, 20, 30, 40, 50};
+        byte[] hash2 = new byte[]{78, -88, -49, -18, -45, -75, -6, 46, 77, 16, -120, -112, -51, -106, -24, -44, 87, -38, 5, 13, 12, -114, 58, 91, -17, -45, -88, 93, -97, 58, 59, -3};
+        byte[] hash3 = new byte[]{-106, 114, 92, 106, -73, 62, 61, 83, 93, -48, -88, 80, 101, -87, -77, 16, -66, -100, -86, 66, -53, 51, -22, -48, 124, -14, -89, 2, -57, 10, -70, -99};
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setIterations(2).getHash()).containsExactlyInOrder(hash2);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setIterations(3).getHash()).containsExactlyInOrder(hash3);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setIterations(3).setStoredHash(hash3).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setIterations(2).setStoredHash(hash3).isHashValid()).isFalse();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void builderKeyedHashStoredSaltTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] salt = new byte[]{10, 20, 30, 40, 50};
+        byte[] hash = new byte[]{-57, -30, -118, 65, -51, 10, -66, -77, -19, 63, 81, -8, 34, -55, -86, -5, -85, -84, -10, -36, 28, 71, -108, -119, 39, 63, -38, -83, -103, -22, -12, -59};
+
+        byte[] storedHash = HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash();
+        Assertions.assertThat(Arrays.copyOfRange(storedHash, 0, 5)).containsExactlyInOrder(salt);
+        Assertions.assertThat(Arrays.copyOfRange(storedHash, 5, storedHash.length)).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(storedHash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(ByteBuffer.wrap(original)).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(storedHash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(storedHash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(storedHash).isHashValid()).isFalse();
+
+        byte[] storedIterationsHash = HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setSaltStoreType(SaltStoreType.AT_THE_END).setIterations(3).setIterationsStored(true).getHash();
+        Assertions.assertThat(storedIterationsHash).hasLength(41);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_END).setIterationsStored(true).setStoredHash(storedIterationsHash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(storedIterationsHash).isHashValid()).isFalse();
+
+        byte[] storedOneIterationHash = HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setSaltStoreType(SaltStoreType.AT_THE_END).setIterationsStored(true).getHash();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_END).setIterationsStored(true).setStoredHash(storedOneIterationHash).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void builderLongSaltHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] salt = new byte[65];
+        for (int i = 0; i < salt.length; i++) {
+            salt[i] = (byte) i;
+        }
+        byte[] hash = new byte[]{-30, 104, 44, 39, -15, -41, -33, 121, 41, 78, 70, -41, -6, 11, -53, -1, -94, -35, -74, 44, 34, 72, -112, 66, 6, 7, 29, -106, -76, 106, 68, -70};
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.BLAKE2B_256).addSalt(salt).getBytes()).containsExactlyInOrder(hash);
+        byte[] storedHash = HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(salt).setSaltStoreType(SaltStoreType.AT_THE_END).getHash();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(storedHash).isHashValid()).isTrue();
+    }
+
+}
@@ -0,0 +1,123 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.builder.HashBuilder;
+import ru.d_shap.hash.engine.HashProvider;
+import ru.d_shap.hash.engine.KeyedHashProvider;
+
+/**
+ * Tests for {@link HashAlgorithms}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashBlake3Test {
+
+    /**
+     * Test class constructor.
+     */
+    public HashBlake3Test() {
+        super();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void hashFunctionTest() {
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.BLAKE3);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE3);
+        Assertions.assertThat(hashFunction.getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(hashFunction.getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+        Assertions.assertThat(HashFunction.getInstance("BLAKE3-512").getDigestLength()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance("BLAKE3-8").getDigestLength()).isEqualTo(1);
+        HashFunction keyedHashFunction = HashFunction.getKeyedInstance("BLAKE3-512", createBytes(32));
+        Assertions.assertThat(keyedHashFunction.getDigestLength()).isEqualTo(64);
+        Assertions.assertThat(keyedHashFunction.getDigestFactory().getProvider().getName()).isEqualTo(KeyedHashProvider.NAME);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void simpleHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.BLAKE3).getBytes()).containsExactlyInOrder(99, 15, 79, -94, 101, 44, 102, -20, 65, -112, 98, 58, -126, -101, -47, 122, 13, -122, 47, 95, 78, 106, 10, -28, -20, -27, -62, -97, 69, 75, -49, 124);
+        Assertions.assertThat(HashHelper.getHash(original, "BLAKE3-512").getBytes()).containsExactlyInOrder(99, 15, 79, -94, 101, 44, 102, -20, 65, -112, 98, 58, -126, -101, -47, 122, 13, -122, 47, 95, 78, 106, 10, -28, -20, -27, -62, -97, 69, 75, -49, 124, 43, 61, 34, 31, -80, -105, -52, -84, -11, 125, -112, -13, -18, -32, 41, 33, -69, 12, 78, 14, 34, 89, 55, -12, -44, -90, -9, 72, 101, 49, -76, 6);
+        Assertions.assertThat(HashHelper.getHash(original, HashFunction.getKeyedInstance(HashAlgorithms.BLAKE3, createBytes(32))).getBytes()).containsExactlyInOrder(65, -63, 45, -2, 117, -7, -113, 7, 81, -119, -18, 43, -102, -21, -51, -37, 102, 40, -79, -9, 25, 59, 103, 72, 11, -52, 81, 108, 41, -68, 72, -66);
+        Assertions.assertThat(HashHelper.getHash(original, HashFunction.getKeyedInstance("BLAKE3-512", createBytes(32))).getBytes()).containsExactlyInOrder(65, -63, 45, -2, 117, -7, -113, 7, 81, -119, -18, 43, -102, -21, -51, -37, 102, 40, -79, -9, 25, 59, 103, 72, 11, -52, 81, 108, 41, -68, 72, -66, 2, 96, -31, -122, -1, 31, 56, 104, -86, -76, -66, -122, 66, 96, 40, 118, -22, -6, 112, 94, 126, -113, 31, 6, 6, 77, -68, -14, -36, -22, 67, 71);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void builderHashTest() throws IOException {
+        byte[] original = createBytes(1049810);
+        Path path = Files.createTempFile("hash", ".tmp");
+        path.toFile().deleteOnExit();
+        Files.write(path, original);
+
+        byte[] hash = new byte[]{56, 103, -43, -75, -100, 94, 72, -35, -102, 125, -66, 45, -1, -77, -6, -124, -26, 50, 14, -18, -43, -110, -47, -95, -127, -59, 38, 90, -114, -25, -115, 102};
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm(HashAlgorithms.BLAKE3).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(ByteBuffer.wrap(original)).setAlgorithm(HashAlgorithms.BLAKE3).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.BLAKE3).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.BLAKE3).getHash()).containsExactlyInOrder(hash);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void builderKeyedHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] salt = createBytes(32);
+        byte[] hash = new byte[]{65, -63, 45, -2, 117, -7, -113, 7, 81, -119, -18, 43, -102, -21, -51, -37, 102, 40, -79, -9, 25, 59, 103, 72, 11, -52, 81, 108, 41, -68, 72, -66};
+        byte[] hash2 = new byte[]{-111, -20, -116, -62, 35, -11, -48, -31, 52, 75, -78, 66, -82, 107, 102, -92, 117, 48, -49, -33, -95, -24, -109, -37, 69, -93, 47, -37, 18, 89, 81, 93};
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE3).setSalt(salt).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE3).setSalt(salt).setIterations(2).getHash()).containsExactlyInOrder(hash2);
+        byte[] storedHash = HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE3).setSalt(salt).setSaltStoreType(SaltStoreType.AT_THE_END).getHash();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE3).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(storedHash).isHashValid()).isTrue();
+
+        byte[] shortSaltHash = new byte[]{-13, 9, -56, 19, -39, -79, 30, 10, 9, 86, 11, 53, 49, -123, -81, 51, 26, -127, 102, -91, -52, 116, -56, 75, -44, 46, -126, 61, 68, -83, -60, 90};
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.BLAKE3).setSalt(new byte[]{10, 20, 30, 40, 50}).getHash()).containsExactlyInOrder(shortSaltHash);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,136 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.builder.HashBuilder;
+import ru.d_shap.hash.engine.HashProvider;
+
+/**
+ * Tests for {@link HashAlgorithms}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashChecksumTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashChecksumTest() {
+        super();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void hashFunctionTest() {
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.CRC32C);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.CRC32C);
+        Assertions.assertThat(hashFunction.getDigestLength()).isEqualTo(4);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.CRC32).getDigestLength()).isEqualTo(4);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.ADLER32).getDigestLength()).isEqualTo(4);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void simpleHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.CRC32).getBytes()).containsExactlyInOrder(-59, -11, -66, 101);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.CRC32C).getBytes()).containsExactlyInOrder(-39, -5, -13, 81);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.ADLER32).getBytes()).containsExactlyInOrder(0, -36, 0, 46);
+        Assertions.assertThat(HashHelper.getHash("Hello, world!", HashAlgorithms.CRC32).getBytes()).containsExactlyInOrder(-21, -26, -58, -26);
+        Assertions.assertThat(HashHelper.getHash("Hello, world!", HashAlgorithms.CRC32C).getBytes()).containsExactlyInOrder(-56, -95, 6, -27);
+        Assertions.assertThat(HashHelper.getHash("Hello, world!", HashAlgorithms.ADLER32).getBytes()).containsExactlyInOrder(32, 94, 4, -118);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void builderHashTest() throws IOException {
+        byte[] original = createBytes(100000);
+        Path path = Files.createTempFile("hash", ".tmp");
+        path.toFile().deleteOnExit();
+        Files.write(path, original);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(original.length);
+        directBuffer.put(original);
+        directBuffer.flip();
+        byte[] paddedOriginal = new byte[original.length + 2];
+        System.arraycopy(original, 0, paddedOriginal, 1, original.length);
+
+        byte[] hash = new byte[]{-13, -53, 33, 11};
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm(HashAlgorithms.CRC32C).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(paddedOriginal, 1, original.length).setAlgorithm(HashAlgorithms.CRC32C).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(ByteBuffer.wrap(original)).setAlgorithm(HashAlgorithms.CRC32C).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(directBuffer).setAlgorithm(HashAlgorithms.CRC32C).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.CRC32C).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.CRC32C).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.CRC32).getHash()).containsExactlyInOrder(-110, -123, -120, 0);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.ADLER32).getHash()).containsExactlyInOrder(118, -11, -104, 15);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void builderHashValidTest() throws IOException {
+        byte[] original = createBytes(100000);
+        Path path = Files.createTempFile("hash", ".tmp");
+        path.toFile().deleteOnExit();
+        Files.write(path, original);
+
+        byte[] hash = new byte[]{-13, -53, 33, 11};
+        byte[] wrongHash = new byte[]{-13, -53, 33, 12};
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm(HashAlgorithms.CRC32C).setStoredHash(hash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(ByteBuffer.wrap(original)).setAlgorithm(HashAlgorithms.CRC32C).setStoredHash(hash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.CRC32C).setStoredHash(hash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.CRC32C).setStoredHash(hash).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.CRC32C).setStoredHash(wrongHash).isHashValid()).isFalse();
+
+        byte[] storedHash = HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.CRC32C).setSalt(new byte[]{10, 20, 30, 40, 50}).setSaltStoreType(SaltStoreType.AT_THE_END).getHash();
+        Assertions.assertThat(storedHash).hasLength(9);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(path).setAlgorithm(HashAlgorithms.CRC32C).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(storedHash).isHashValid()).isTrue();
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,531 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.engine.HashProvider;
+import ru.d_shap.hash.engine.KeyedHashProvider;
+
+/**
+ * Tests for {@link HashFunction}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashFunctionTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashFunctionTest() {
+        super();
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getInstanceTest() {
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).getAlgorithm()).isEqualTo(HashAlgorithms.MD5);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA256).getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5)).isSameAs(HashFunction.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA256)).isSameAs(HashFunction.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5)).isNotSameAs(HashFunction.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).getDigestFactory()).isSameAs(DigestFactory.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).getMessageDigestPool()).isSameAs(DigestFactory.getInstance(HashAlgorithms.MD5).getMessageDigestPool());
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getNormalizedInstanceTest() {
+        Assertions.assertThat(HashFunction.getInstance("sha-256").getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(HashFunction.getInstance("sha-256")).isSameAs(HashFunction.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(HashFunction.getInstance("Sha-256")).isSameAs(HashFunction.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(HashFunction.getInstance("shake128-256")).isSameAs(HashFunction.getInstance(HashAlgorithms.SHAKE128));
+        Assertions.assertThat(HashFunction.getInstance("blake3-256")).isSameAs(HashFunction.getInstance(HashAlgorithms.BLAKE3));
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getParameterizedInstanceTest() {
+        Assertions.assertThat(HashFunction.getInstance("shake128-384").getAlgorithm()).isEqualTo("SHAKE128-384");
+        Assertions.assertThat(HashFunction.getInstance("SHAKE128-384")).isNotSameAs(HashFunction.getInstance("SHAKE128-384"));
+        Assertions.assertThat(HashFunction.getInstance("SHAKE256-1024")).isNotSameAs(HashFunction.getInstance("SHAKE256-1024"));
+        Assertions.assertThat(HashFunction.getInstance("BLAKE3-512")).isNotSameAs(HashFunction.getInstance("BLAKE3-512"));
+        Assertions.assertThat(HashFunction.getInstance("BLAKE3-512").getDigestFactory().isCached()).isFalse();
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).getDigestFactory().isCached()).isTrue();
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getProviderInstanceTest() {
+        Provider provider = new BouncyCastleProvider();
+        HashFunction hashFunction = HashFunction.getInstance("GOST3411", provider);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo("GOST3411");
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider()).isSameAs(provider);
+        Assertions.assertThat(HashFunction.getInstance("GOST3411", provider)).isNotSameAs(hashFunction);
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getProviderNameInstanceTest() {
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.SHA256, HashProvider.NAME);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA256, HashProvider.NAME)).isNotSameAs(hashFunction);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, hashFunction).getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA256).getBytes());
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getKeyedInstanceTest() {
+        HashFunction hashFunction = HashFunction.getKeyedInstance(HashAlgorithms.BLAKE2S_256, new byte[]{10, 20, 30, 40, 50});
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE2S_256);
+        Assertions.assertThat(hashFunction.getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(hashFunction.getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(KeyedHashProvider.NAME);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, hashFunction).getBytes()).containsExactlyInOrder(107, -46, 91, -53, -112, -104, 8, 67, -28, 81, 32, -10, -116, 105, 81, -48, -94, -114, -64, -8, 68, -24, -28, 29, 20, 97, -82, 27, -128, -114, 80, -64);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, HashFunction.getKeyedInstance(HashAlgorithms.BLAKE2S_256, new byte[0])).getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, HashAlgorithms.BLAKE2S_256).getBytes());
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getKeyedInstanceFailTest() {
+        try {
+            HashFunction.getKeyedInstance(null, new byte[]{1, 2, 3});
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            HashFunction.getKeyedInstance(HashAlgorithms.BLAKE2B_256, null);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Key is null");
+        }
+        try {
+            HashFunction.getKeyedInstance(HashAlgorithms.SHA256, new byte[]{1, 2, 3});
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Keyed hash is not supported: SHA-256");
+        }
+        try {
+            HashFunction.getKeyedInstance(HashAlgorithms.BLAKE2S_256, new byte[33]);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Keyed hash is not supported: BLAKE2S-256");
+        }
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getNullAlgorithmInstanceFailTest() {
+        try {
+            HashFunction.getInstance(null);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            HashFunction.getInstance(null, new BouncyCastleProvider());
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getWrongAlgorithmInstanceFailTest() {
+        try {
+            HashFunction.getInstance("wrong algorithm");
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong algorithm name: wrong algorithm");
+        }
+        try {
+            HashFunction.getInstance("wrong algorithm", new BouncyCastleProvider());
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong algorithm name: wrong algorithm");
+        }
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getDigestLengthTest() {
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD2).getDigestLength()).isEqualTo(16);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).getDigestLength()).isEqualTo(16);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA1).getDigestLength()).isEqualTo(20);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA256).getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA384).getDigestLength()).isEqualTo(48);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA512).getDigestLength()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance("GOST3411", new BouncyCastleProvider()).getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(HashFunction.getInstance(UnknownLengthProvider.ALGORITHM, new UnknownLengthProvider()).getDigestLength()).isEqualTo(3);
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void getBlockSizeTest() {
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD2).getBlockSize()).isEqualTo(16);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA1).getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance("SHA-224").getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA256).getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance("sha-256").getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA384).getBlockSize()).isEqualTo(128);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA512).getBlockSize()).isEqualTo(128);
+        Assertions.assertThat(HashFunction.getInstance("SHA-512/224").getBlockSize()).isEqualTo(128);
+        Assertions.assertThat(HashFunction.getInstance("SHA-512/256").getBlockSize()).isEqualTo(128);
+        Assertions.assertThat(HashFunction.getInstance("SHA3-224").getBlockSize()).isEqualTo(144);
+        Assertions.assertThat(HashFunction.getInstance("SHA3-256").getBlockSize()).isEqualTo(136);
+        Assertions.assertThat(HashFunction.getInstance("SHA3-384").getBlockSize()).isEqualTo(104);
+        Assertions.assertThat(HashFunction.getInstance("SHA3-512").getBlockSize()).isEqualTo(72);
+        Assertions.assertThat(HashFunction.getInstance("GOST3411", new BouncyCastleProvider()).getBlockSize()).isEqualTo(0);
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void hashTest() {
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3, 4, 5})).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{15, 38, -17, 105})).containsExactlyInOrder(-101, 7, -89, 24, -27, 126, 87, -96, 29, 71, -91, 47, -77, 123, 22, 28);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3, 4, 5}, 0, 5)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{0, 1, 2, 3, 4, 5, 6}, 1, 5)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{0, 0, 15, 38, -17, 105}, 2, 4)).containsExactlyInOrder(-101, 7, -89, 24, -27, 126, 87, -96, 29, 71, -91, 47, -77, 123, 22, 28);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 3, 0)).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void hashNullByteArrayFailTest() {
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(null);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(null, 0, 0);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void hashWrongRangeFailTest() {
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, -1, 2);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 1, -1);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 2, 2);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 4, 0);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void hashToByteArrayTest() {
+        byte[] output = new byte[20];
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{0, 1, 2, 3, 4, 5, 6}, 1, 5, output, 2)).isEqualTo(16);
+        Assertions.assertThat(output).containsExactlyInOrder(0, 0, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104, 0, 0);
+        output = new byte[16];
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{15, 38, -17, 105}, 0, 4, output, 0)).isEqualTo(16);
+        Assertions.assertThat(output).containsExactlyInOrder(-101, 7, -89, 24, -27, 126, 87, -96, 29, 71, -91, 47, -77, 123, 22, 28);
+        output = new byte[4];
+        Assertions.assertThat(HashFunction.getInstance(UnknownLengthProvider.ALGORITHM, new UnknownLengthProvider()).hash(new byte[]{1, 2}, 0, 2, output, 1)).isEqualTo(3);
+        Assertions.assertThat(output).containsExactlyInOrder(0, 1, 2, 3);
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void hashToByteArrayFailTest() {
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(null, 0, 0, new byte[16], 0);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 2, 2, new byte[16], 0);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 0, 3, null, 0);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte array is null");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 0, 3, new byte[16], -1);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output offset is not within [0; 16]");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 0, 3, new byte[16], 17);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output offset is not within [0; 16]");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 0, 3, new byte[16], 1);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte array is too small");
+        }
+        try {
+            HashFunction.getInstance(FailingDigestProvider.ALGORITHM, new FailingDigestProvider()).hash(new byte[]{1, 2, 3}, 0, 3, new byte[3], 0);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte array is too small");
+            Assertions.assertThat(ex).hasCause(DigestException.class);
+        }
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void hashToByteBufferTest() {
+        ByteBuffer output = ByteBuffer.allocate(20);
+        output.position(2);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{0, 1, 2, 3, 4, 5, 6}, 1, 5, output)).isEqualTo(16);
+        Assertions.assertThat(output.position()).isEqualTo(18);
+        Assertions.assertThat(output.array()).containsExactlyInOrder(0, 0, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104, 0, 0);
+
+        byte[] bytes = new byte[20];
+        ByteBuffer wrapped = ByteBuffer.wrap(bytes, 3, 17).slice();
+        wrapped.position(1);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{15, 38, -17, 105}, 0, 4, wrapped)).isEqualTo(16);
+        Assertions.assertThat(wrapped.position()).isEqualTo(17);
+        Assertions.assertThat(bytes).containsExactlyInOrder(0, 0, 0, 0, -101, 7, -89, 24, -27, 126, 87, -96, 29, 71, -91, 47, -77, 123, 22, 28);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3, 4, 5}, 0, 5, direct)).isEqualTo(16);
+        Assertions.assertThat(direct.position()).isEqualTo(16);
+        direct.flip();
+        byte[] directBytes = new byte[16];
+        direct.get(directBytes);
+        Assertions.assertThat(directBytes).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+    /**
+     * {@link HashFunction} class test.
+     */
+    @Test
+    public void hashToByteBufferFailTest() {
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(null, 0, 0, ByteBuffer.allocate(16));
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 4, 0, ByteBuffer.allocate(16));
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 0, 3, (ByteBuffer) null);
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte buffer is null");
+        }
+        try {
+            HashFunction.getInstance(HashAlgorithms.MD5).hash(new byte[]{1, 2, 3}, 0, 3, ByteBuffer.allocate(15));
+            Assertions.fail("HashFunction test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte buffer is too small");
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class UnknownLengthProvider extends Provider {
+
+        static final String ALGORITHM = "UNKNOWN-LENGTH";
+
+        private static final long serialVersionUID = 1L;
+
+        UnknownLengthProvider() {
+            super("UnknownLengthProvider", 1.0, "Unknown length message digest provider");
+            put("MessageDigest." + ALGORITHM, UnknownLengthMessageDigestSpi.class.getName());
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class UnknownLengthMessageDigestSpi extends MessageDigestSpi {
+
+        /**
+         * Create new object.
+         */
+        public UnknownLengthMessageDigestSpi() {
+            super();
+        }
+
+        @Override
+        protected void engineUpdate(final byte input) {
+            // Ignore
+        }
+
+        @Override
+        protected void engineUpdate(final byte[] input, final int offset, final int len) {
+            // Ignore
+        }
+
+        @Override
+        protected byte[] engineDigest() {
+            return new byte[]{1, 2, 3};
+        }
+
+        @Override
+        protected void engineReset() {
+            // Ignore
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailingDigestProvider extends Provider {
+
+        static final String ALGORITHM = "FAILING-DIGEST";
+
+        private static final long serialVersionUID = 1L;
+
+        FailingDigestProvider() {
+            super("FailingDigestProvider", 1.0, "Failing digest message digest provider");
+            put("MessageDigest." + ALGORITHM, FailingDigestMessageDigestSpi.class.getName());
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class FailingDigestMessageDigestSpi extends MessageDigestSpi {
+
+        /**
+         * Create new object.
+         */
+        public FailingDigestMessageDigestSpi() {
+            super();
+        }
+
+        @Override
+        protected void engineUpdate(final byte input) {
+            // Ignore
+        }
+
+        @Override
+        protected void engineUpdate(final byte[] input, final int offset, final int len) {
+            // Ignore
+        }
+
+        @Override
+        protected byte[] engineDigest() {
+            return new byte[]{1, 2, 3};
+        }
+
+        @Override
+        protected int engineDigest(final byte[] buf, final int offset, final int len) throws DigestException {
+            throw new DigestException();
+        }
+
+        @Override
+        protected void engineReset() {
+            // Ignore
+        }
+
+    }
+
+}
@@ -0,0 +1,207 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.IOException;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link HashFuture}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashFutureTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashFutureTest() {
+        super();
+    }
+
+    /**
+     * {@link HashFuture} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void completeTest() throws Exception {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        HashFuture<Object> future1 = new HashFuture<>(null, null);
+        Assertions.assertThat(future1.isDone()).isFalse();
+        future1.complete(hash);
+        Assertions.assertThat(future1.isDone()).isTrue();
+        Assertions.assertThat(future1.isCancelled()).isFalse();
+        Assertions.assertThat(future1.get()).isSameAs(hash);
+        Assertions.assertThat(future1.get(1, TimeUnit.SECONDS)).isSameAs(hash);
+        future1.complete(HashHelper.getHash(new byte[0], HashAlgorithms.MD5));
+        future1.fail(new IOException());
+        Assertions.assertThat(future1.cancel(true)).isFalse();
+        Assertions.assertThat(future1.get()).isSameAs(hash);
+
+        ResultHandler handler = new ResultHandler();
+        HashFuture<String> future2 = new HashFuture<>(handler, "attachment");
+        future2.complete(hash);
+        future2.complete(HashHelper.getHash(new byte[0], HashAlgorithms.MD5));
+        Assertions.assertThat(future2.get()).isSameAs(hash);
+        Assertions.assertThat(handler.getHash()).isSameAs(hash);
+        Assertions.assertThat(handler.getFailure()).isNull();
+        Assertions.assertThat(handler.getAttachment()).isEqualTo("attachment");
+        Assertions.assertThat(handler.getCallCount()).isEqualTo(1);
+    }
+
+    /**
+     * {@link HashFuture} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void failTest() throws Exception {
+        IOException failure = new IOException("Read error");
+        HashFuture<Object> future1 = new HashFuture<>(null, null);
+        future1.fail(failure);
+        future1.fail(new IOException());
+        future1.complete(HashHelper.getHash(new byte[0], HashAlgorithms.MD5));
+        Assertions.assertThat(future1.isDone()).isTrue();
+        Assertions.assertThat(future1.isCancelled()).isFalse();
+        try {
+            future1.get();
+            Assertions.fail("HashFuture test fail");
+        } catch (ExecutionException ex) {
+            Assertions.assertThat(ex.getCause()).isSameAs(failure);
+        }
+        try {
+            future1.get(1, TimeUnit.SECONDS);
+            Assertions.fail("HashFuture test fail");
+        } catch (ExecutionException ex) {
+            Assertions.assertThat(ex.getCause()).isSameAs(failure);
+        }
+
+        ResultHandler handler = new ResultHandler();
+        HashFuture<String> future2 = new HashFuture<>(handler, "attachment");
+        future2.fail(failure);
+        future2.fail(new IOException());
+        Assertions.assertThat(handler.getHash()).isNull();
+        Assertions.assertThat(handler.getFailure()).isSameAs(failure);
+        Assertions.assertThat(handler.getAttachment()).isEqualTo("attachment");
+        Assertions.assertThat(handler.getCallCount()).isEqualTo(1);
+    }
+
+    /**
+     * {@link HashFuture} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void cancelTest() throws Exception {
+        ResultHandler handler = new ResultHandler();
+        HashFuture<String> future = new HashFuture<>(handler, "attachment");
+        Assertions.assertThat(future.cancel(false)).isTrue();
+        Assertions.assertThat(future.cancel(false)).isFalse();
+        future.complete(HashHelper.getHash(new byte[0], HashAlgorithms.MD5));
+        future.fail(new IOException());
+        Assertions.assertThat(future.isDone()).isTrue();
+        Assertions.assertThat(future.isCancelled()).isTrue();
+        Assertions.assertThat(handler.getCallCount()).isEqualTo(0);
+        try {
+            future.get();
+            Assertions.fail("HashFuture test fail");
+        } catch (CancellationException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link HashFuture} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void getTimeoutTest() throws Exception {
+        HashFuture<Object> future = new HashFuture<>(null, null);
+        try {
+            future.get(10, TimeUnit.MILLISECONDS);
+            Assertions.fail("HashFuture test fail");
+        } catch (TimeoutException ex) {
+            Assertions.assertThat(future.isDone()).isFalse();
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ResultHandler implements CompletionHandler<Hash, Object> {
+
+        private Hash _hash;
+
+        private Throwable _failure;
+
+        private Object _attachment;
+
+        private int _callCount;
+
+        ResultHandler() {
+            super();
+            _callCount = 0;
+        }
+
+        @Override
+        public void completed(final Hash result, final Object attachment) {
+            _hash = result;
+            _attachment = attachment;
+            _callCount++;
+        }
+
+        @Override
+        public void failed(final Throwable exc, final Object attachment) {
+            _failure = exc;
+            _attachment = attachment;
+            _callCount++;
+        }
+
+        Hash getHash() {
+            return _hash;
+        }
+
+        Throwable getFailure() {
+            return _failure;
+        }
+
+        Object getAttachment() {
+            return _attachment;
+        }
+
+        int getCallCount() {
+            return _callCount;
+        }
+
+    }
+
+}
@@ -22,6 +22,23 @@ package ru.d_shap.hash;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -77,7 +94,7 @@ public final class HashHelperTest {
     @Test
     public void getNullAlgorithmByteArrayHashFailTest() {
         try {
-            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, null);
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, (String) null);
             Assertions.fail("HashHelper test fail");
         } catch (IllegalArgumentException ex) {
             Assertions.assertThat(ex).hasMessage("Algorithm is null");
@@ -175,25 +192,25 @@ public final class HashHelperTest {
     @Test
     public void getNullAlgorithmCharSequenceHashFailTest() {
         try {
-            HashHelper.getHash("12345", null);
+            HashHelper.getHash("12345", (String) null);
             Assertions.fail("HashHelper test fail");
         } catch (IllegalArgumentException ex) {
             Assertions.assertThat(ex).hasMessage("Algorithm is null");
         }
         try {
-            HashHelper.getHash(new StringBuilder("12345"), null);
+            HashHelper.getHash(new StringBuilder("12345"), (String) null);
             Assertions.fail("HashHelper test fail");
         } catch (IllegalArgumentException ex) {
             Assertions.assertThat(ex).hasMessage("Algorithm is null");
         }
         try {
-            HashHelper.getHash("12345", "UTF-8", null);
+            HashHelper.getHash("12345", "UTF-8", (String) null);
             Assertions.fail("HashHelper test fail");
         } catch (IllegalArgumentException ex) {
             Assertions.assertThat(ex).hasMessage("Algorithm is null");
         }
         try {
-            HashHelper.getHash(new StringBuilder("12345"), "UTF-8", null);
+            HashHelper.getHash(new StringBuilder("12345"), "UTF-8", (String) null);
             Assertions.fail("HashHelper test fail");
         } catch (IllegalArgumentException ex) {
             Assertions.assertThat(ex).hasMessage("Algorithm is null");
@@ -282,7 +299,7 @@ public final class HashHelperTest {
     @Test
     public void getNullAlgorithmStreamHashFailTest() {
         try {
-            HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), null);
+            HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), (String) null);
             Assertions.fail("HashHelper test fail");
         } catch (IllegalArgumentException ex) {
             Assertions.assertThat(ex).hasMessage("Algorithm is null");
@@ -597,6 +614,1516 @@ public final class HashHelperTest {
         }
     }
 
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getByteArrayHashFunctionHashTest() {
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{15, 38, -17, 105}, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(-101, 7, -89, 24, -27, 126, 87, -96, 29, 71, -91, 47, -77, 123, 22, 28);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getNullByteArrayHashFunctionHashFailTest() {
+        try {
+            HashHelper.getHash((byte[]) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getNullHashFunctionByteArrayHashFailTest() {
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getCharSequenceHashFunctionHashTest() {
+        Assertions.assertThat(HashHelper.getHash("12345", HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(-126, 124, -53, 14, -22, -118, 112, 108, 76, 52, -95, 104, -111, -8, 78, 123);
+        Assertions.assertThat(HashHelper.getHash(new StringBuilder("12345"), HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(-126, 124, -53, 14, -22, -118, 112, 108, 76, 52, -95, 104, -111, -8, 78, 123);
+        Assertions.assertThat(HashHelper.getHash("abc", "UTF-8", HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(-112, 1, 80, -104, 60, -46, 79, -80, -42, -106, 63, 125, 40, -31, 127, 114);
+        Assertions.assertThat(HashHelper.getHash(new StringBuilder("abc"), "UTF-8", HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(-112, 1, 80, -104, 60, -46, 79, -80, -42, -106, 63, 125, 40, -31, 127, 114);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getNullCharSequenceHashFunctionHashFailTest() {
+        try {
+            HashHelper.getHash((CharSequence) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source char sequence is null");
+        }
+        try {
+            HashHelper.getHash("12345", null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source char sequence encoding is null");
+        }
+        try {
+            HashHelper.getHash("12345", "wrong encoding", HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong source char sequence encoding: wrong encoding");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getNullHashFunctionCharSequenceHashFailTest() {
+        try {
+            HashHelper.getHash("12345", (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            HashHelper.getHash("12345", "UTF-8", (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getStreamHashFunctionHashTest() {
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{15, 38, -17, 0, 105}), HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(-81, 85, 33, 121, -50, -12, 26, 12, 7, -71, -104, -96, -63, 15, 73, 98);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getNullStreamHashFunctionHashFailTest() {
+        try {
+            HashHelper.getHash((InputStream) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source stream is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getNullHashFunctionStreamHashFailTest() {
+        try {
+            HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getByteArrayRangeHashTest() {
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, 0, 5, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3}, 3, 0, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getByteArrayRangeHashFailTest() {
+        try {
+            HashHelper.getHash(null, 0, 0, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashHelper.getHash(null, 0, 0, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3}, 0, 3, (String) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3}, 0, 3, (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3}, -1, 2, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3}, 1, -1, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3}, 2, 2, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getByteBufferHashTest() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0, 1, 2, 3, 4, 5, 0});
+        buffer.position(1);
+        buffer.limit(6);
+        Assertions.assertThat(HashHelper.getHash(buffer, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(buffer.position()).isEqualTo(6);
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(5);
+        directBuffer.put(new byte[]{1, 2, 3, 4, 5});
+        directBuffer.flip();
+        Assertions.assertThat(HashHelper.getHash(directBuffer, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(directBuffer.position()).isEqualTo(5);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getByteBufferHashFailTest() {
+        try {
+            HashHelper.getHash((ByteBuffer) null, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte buffer is null");
+        }
+        try {
+            HashHelper.getHash((ByteBuffer) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte buffer is null");
+        }
+        try {
+            HashHelper.getHash(ByteBuffer.wrap(new byte[]{1, 2, 3}), (String) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            HashHelper.getHash(ByteBuffer.wrap(new byte[]{1, 2, 3}), (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void writeByteArrayHashTest() {
+        byte[] output = new byte[18];
+        Assertions.assertThat(HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5, output, 1)).isEqualTo(16);
+        Assertions.assertThat(output).containsExactlyInOrder(0, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104, 0);
+        output = new byte[16];
+        Assertions.assertThat(HashHelper.writeHash(new byte[]{15, 38, -17, 105}, HashFunction.getInstance(HashAlgorithms.MD5), output, 0)).isEqualTo(16);
+        Assertions.assertThat(output).containsExactlyInOrder(-101, 7, -89, 24, -27, 126, 87, -96, 29, 71, -91, 47, -77, 123, 22, 28);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void writeByteArrayHashFailTest() {
+        try {
+            HashHelper.writeHash(null, HashAlgorithms.MD5, new byte[16], 0);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashHelper.writeHash(null, HashFunction.getInstance(HashAlgorithms.MD5), new byte[16], 0);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, (String) null, new byte[16], 0);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, (HashFunction) null, new byte[16], 0);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5, new byte[15], 0);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte array is too small");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void writeByteBufferHashTest() {
+        ByteBuffer output = ByteBuffer.allocate(16);
+        Assertions.assertThat(HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5, output)).isEqualTo(16);
+        Assertions.assertThat(output.position()).isEqualTo(16);
+        Assertions.assertThat(output.array()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        output = ByteBuffer.allocate(16);
+        Assertions.assertThat(HashHelper.writeHash(new byte[]{15, 38, -17, 105}, HashFunction.getInstance(HashAlgorithms.MD5), output)).isEqualTo(16);
+        Assertions.assertThat(output.position()).isEqualTo(16);
+        Assertions.assertThat(output.array()).containsExactlyInOrder(-101, 7, -89, 24, -27, 126, 87, -96, 29, 71, -91, 47, -77, 123, 22, 28);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void writeByteBufferHashFailTest() {
+        try {
+            HashHelper.writeHash(null, HashAlgorithms.MD5, ByteBuffer.allocate(16));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashHelper.writeHash(null, HashFunction.getInstance(HashAlgorithms.MD5), ByteBuffer.allocate(16));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+        try {
+            HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, (String) null, ByteBuffer.allocate(16));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, (HashFunction) null, ByteBuffer.allocate(16));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            HashHelper.writeHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5, ByteBuffer.allocate(15));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte buffer is too small");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void addStoredSaltRangeTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        HashHelper.addSalt(hash, new byte[]{0, 10, 11, 0}, 1, 2, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(-122, 12, -120, 10, -103, 109, 69, 100, 64, 125, 79, 99, 25, -37, -87, -127);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void addStoredSaltRangeFailTest() {
+        try {
+            HashHelper.addSalt(null, new byte[]{10, 11}, 0, 2, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is null");
+        }
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), null, 0, 2, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Stored salt is null");
+        }
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), new byte[]{10, 11}, -1, 2, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 2]");
+        }
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), new byte[]{10, 11}, 1, -1, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 2]");
+        }
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), new byte[]{10, 11}, 1, 2, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 2]");
+        }
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), new byte[]{10, 11}, 0, 2, null, SaltOrder.STORED_SALT_FIRST);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Fixed salt is null");
+        }
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), new byte[]{10, 11}, 0, 2, new byte[]{20, 21}, null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt order is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getHashOffsetTest() {
+        Assertions.assertThat(HashHelper.getHashOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.DO_NOT_STORE, 2)).isEqualTo(0);
+        Assertions.assertThat(HashHelper.getHashOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_BEGINNING, 2)).isEqualTo(2);
+        Assertions.assertThat(HashHelper.getHashOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_END, 2)).isEqualTo(0);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getHashOffsetFailTest() {
+        try {
+            HashHelper.getHashOffset(null, SaltStoreType.AT_THE_BEGINNING, 2);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Byte array is null");
+        }
+        try {
+            HashHelper.getHashOffset(new byte[]{1, 2, 3, 4, 5}, null, 2);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt store type is null");
+        }
+        try {
+            HashHelper.getHashOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_BEGINNING, -1);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [0; 5)");
+        }
+        try {
+            HashHelper.getHashOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_BEGINNING, 5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [0; 5)");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getSaltOffsetTest() {
+        Assertions.assertThat(HashHelper.getSaltOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.DO_NOT_STORE, 2)).isEqualTo(0);
+        Assertions.assertThat(HashHelper.getSaltOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_BEGINNING, 2)).isEqualTo(0);
+        Assertions.assertThat(HashHelper.getSaltOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_END, 2)).isEqualTo(3);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getSaltOffsetFailTest() {
+        try {
+            HashHelper.getSaltOffset(null, SaltStoreType.AT_THE_BEGINNING, 2);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Byte array is null");
+        }
+        try {
+            HashHelper.getSaltOffset(new byte[]{1, 2, 3, 4, 5}, null, 2);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt store type is null");
+        }
+        try {
+            HashHelper.getSaltOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_BEGINNING, -1);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [0; 5)");
+        }
+        try {
+            HashHelper.getSaltOffset(new byte[]{1, 2, 3, 4, 5}, SaltStoreType.AT_THE_BEGINNING, 5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [0; 5)");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void addIteratedSaltTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        HashHelper.addSalt(hash, new byte[]{10, 11}, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+        HashHelper.addSalt(hash, new byte[]{10, 11}, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST);
+        Hash iteratedHash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        HashHelper.addSalt(iteratedHash, new byte[]{10, 11}, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST, 2);
+        Assertions.assertThat(iteratedHash.getBytes()).containsExactlyInOrder(hash.getBytes());
+        iteratedHash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        HashHelper.addSalt(iteratedHash, new byte[]{0, 10, 11}, 1, 2, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST, 2);
+        Assertions.assertThat(iteratedHash.getBytes()).containsExactlyInOrder(hash.getBytes());
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void addIteratedSaltFailTest() {
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), null, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST, 2);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Stored salt is null");
+        }
+        try {
+            HashHelper.addSalt(null, new byte[]{10, 11}, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST, 2);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is null");
+        }
+        try {
+            HashHelper.addSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), new byte[]{10, 11}, new byte[]{20, 21}, SaltOrder.STORED_SALT_FIRST, 0);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Iteration count is less than 1");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void addIteratedSaltBytesTest() {
+        Assertions.assertThat(HashHelper.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{4, 5}, 1000, SaltStoreType.DO_NOT_STORE)).containsExactlyInOrder(1, 2, 3);
+        Assertions.assertThat(HashHelper.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{4, 5}, 1000, SaltStoreType.AT_THE_BEGINNING)).containsExactlyInOrder(0, 0, 3, -24, 4, 5, 1, 2, 3);
+        Assertions.assertThat(HashHelper.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{4, 5}, 1000, SaltStoreType.AT_THE_END)).containsExactlyInOrder(1, 2, 3, 0, 0, 3, -24, 4, 5);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void addIteratedSaltBytesFailTest() {
+        try {
+            HashHelper.addSaltBytes(null, new byte[]{4, 5}, 1000, SaltStoreType.AT_THE_BEGINNING);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash byte array is null");
+        }
+        try {
+            HashHelper.addSaltBytes(new byte[]{1, 2, 3}, null, 1000, SaltStoreType.AT_THE_BEGINNING);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt byte array is null");
+        }
+        try {
+            HashHelper.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{4, 5}, 1000, null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt store type is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getIterationsTest() {
+        Assertions.assertThat(HashHelper.getIterations(new byte[]{0, 0, 3, -24, 4, 5, 1, 2, 3}, SaltStoreType.DO_NOT_STORE, 6)).isEqualTo(1);
+        Assertions.assertThat(HashHelper.getIterations(new byte[]{0, 0, 3, -24, 4, 5, 1, 2, 3}, SaltStoreType.AT_THE_BEGINNING, 6)).isEqualTo(1000);
+        Assertions.assertThat(HashHelper.getIterations(new byte[]{1, 2, 3, 0, 0, 3, -24, 4, 5}, SaltStoreType.AT_THE_END, 6)).isEqualTo(1000);
+        Assertions.assertThat(HashHelper.getIterations(new byte[]{0, 0, 3, -24, 1, 2, 3}, SaltStoreType.AT_THE_BEGINNING, 4)).isEqualTo(1000);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getIterationsFailTest() {
+        try {
+            HashHelper.getIterations(null, SaltStoreType.AT_THE_BEGINNING, 6);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Byte array is null");
+        }
+        try {
+            HashHelper.getIterations(new byte[]{0, 0, 3, -24, 4, 5, 1, 2, 3}, null, 6);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt store type is null");
+        }
+        try {
+            HashHelper.getIterations(new byte[]{0, 0, 3, -24, 4, 5, 1, 2, 3}, SaltStoreType.AT_THE_BEGINNING, 3);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [4; 9)");
+        }
+        try {
+            HashHelper.getIterations(new byte[]{0, 0, 3, -24, 4, 5, 1, 2, 3}, SaltStoreType.AT_THE_BEGINNING, 9);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [4; 9)");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getBufferSizeStreamHashTest() {
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 1, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 1024, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashHelper.ADAPTIVE_BUFFER_SIZE, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 3, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getBufferSizeStreamHashFailTest() {
+        try {
+            HashHelper.getHash((InputStream) null, 1024, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source stream is null");
+        }
+        try {
+            HashHelper.getHash((InputStream) null, 1024, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source stream is null");
+        }
+        try {
+            HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), -1, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Buffer size is negative");
+        }
+        try {
+            HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 1024, (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void adaptiveBufferStreamHashTest() {
+        byte[] bytes = new byte[3 * 1024 * 1024 + 5];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        byte[] hash = HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes();
+
+        ReadLengthInputStream adaptiveStream = new ReadLengthInputStream(bytes);
+        Assertions.assertThat(HashHelper.getHash(adaptiveStream, HashAlgorithms.SHA256).getBytes()).containsExactlyInOrder(hash);
+        Assertions.assertThat(adaptiveStream.getMinReadLength()).isEqualTo(8192);
+        Assertions.assertThat(adaptiveStream.getMaxReadLength()).isEqualTo(1024 * 1024);
+
+        ReadLengthInputStream fixedStream = new ReadLengthInputStream(bytes);
+        Assertions.assertThat(HashHelper.getHash(fixedStream, 4096, HashAlgorithms.SHA256).getBytes()).containsExactlyInOrder(hash);
+        Assertions.assertThat(fixedStream.getMinReadLength()).isEqualTo(4096);
+        Assertions.assertThat(fixedStream.getMaxReadLength()).isEqualTo(4096);
+
+        ReadLengthInputStream partialStream = new ReadLengthInputStream(bytes, 1000);
+        Assertions.assertThat(HashHelper.getHash(partialStream, HashAlgorithms.SHA256).getBytes()).containsExactlyInOrder(hash);
+        Assertions.assertThat(partialStream.getMinReadLength()).isEqualTo(8192);
+        Assertions.assertThat(partialStream.getMaxReadLength()).isEqualTo(8192);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getPipelinedStreamHashTest() {
+        byte[] bytes = createBytes(1024 * 1024 + 5);
+        byte[] hash = HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{}), 2, executor, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+
+            ReadLengthInputStream adaptiveStream = new ReadLengthInputStream(bytes);
+            Assertions.assertThat(HashHelper.getHash(adaptiveStream, HashHelper.ADAPTIVE_BUFFER_SIZE, executor, HashAlgorithms.SHA256).getBytes()).containsExactlyInOrder(hash);
+            Assertions.assertThat(adaptiveStream.getMaxReadLength()).isEqualTo(64 * 1024);
+
+            ReadLengthInputStream fixedStream = new ReadLengthInputStream(bytes);
+            Assertions.assertThat(HashHelper.getHash(fixedStream, 4096, executor, HashAlgorithms.SHA256).getBytes()).containsExactlyInOrder(hash);
+            Assertions.assertThat(fixedStream.getMaxReadLength()).isEqualTo(4096);
+
+            CloseStream stream = new CloseStream();
+            HashHelper.getHash(stream, 2, executor, HashAlgorithms.MD5);
+            Assertions.assertThat(stream.isClosed()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getRejectedPipelinedStreamHashTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        CloseStream stream = new CloseStream();
+        HashHelper.getHash(stream, 2, executor, HashAlgorithms.MD5);
+        Assertions.assertThat(stream.isClosed()).isTrue();
+        Assertions.assertThat(HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getPipelinedStreamHashFailTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            try {
+                HashHelper.getHash((InputStream) null, 1024, executor, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source stream is null");
+            }
+            try {
+                HashHelper.getHash((InputStream) null, 1024, executor, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source stream is null");
+            }
+            try {
+                HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), -1, executor, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Buffer size is negative");
+            }
+            try {
+                HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 1024, null, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            try {
+                HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 1024, executor, (String) null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Algorithm is null");
+            }
+            try {
+                HashHelper.getHash(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 1024, executor, (HashFunction) null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Hash function is null");
+            }
+            try {
+                HashHelper.getHash(new ErrorInputStream(), 1024, executor, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(ex).hasCause(IOException.class);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getPathHashTest() {
+        Assertions.assertThat(HashHelper.getHash(createFile(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(createFile(new byte[]{1, 2, 3, 4, 5}), HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(createFile(new byte[]{}), HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getPathHashFailTest() throws IOException {
+        try {
+            HashHelper.getHash((Path) null, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source path is null");
+        }
+        try {
+            HashHelper.getHash((Path) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source path is null");
+        }
+        try {
+            HashHelper.getHash(createFile(new byte[]{1, 2, 3, 4, 5}), (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+        Files.delete(path);
+        try {
+            HashHelper.getHash(path, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(ex).hasCause(NoSuchFileException.class);
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getLargePathHashTest() throws IOException {
+        Path path = createFile(new byte[]{});
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(64L * 1024 * 1024 + 3);
+            file.seek(64L * 1024 * 1024 - 2);
+            file.write(new byte[]{1, 2, 3, 4, 5});
+        }
+        try (InputStream stream = Files.newInputStream(path)) {
+            byte[] hash = HashHelper.getHash(stream, HashAlgorithms.SHA1).getBytes();
+            Assertions.assertThat(HashHelper.getHash(path, HashAlgorithms.SHA1).getBytes()).containsExactlyInOrder(hash);
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getFileChannelHashTest() throws IOException {
+        try (FileChannel channel = FileChannel.open(createFile(new byte[]{1, 2, 3, 4, 5}), StandardOpenOption.READ)) {
+            channel.position(2);
+            Assertions.assertThat(HashHelper.getHash(channel, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashHelper.getHash(channel, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(channel.position()).isEqualTo(2L);
+            Assertions.assertThat(channel.isOpen()).isTrue();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getFileChannelHashFailTest() throws IOException {
+        try {
+            HashHelper.getHash((FileChannel) null, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source file channel is null");
+        }
+        try {
+            HashHelper.getHash((FileChannel) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source file channel is null");
+        }
+        try (FileChannel channel = FileChannel.open(createFile(new byte[]{1, 2, 3, 4, 5}), StandardOpenOption.READ)) {
+            HashHelper.getHash(channel, (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        FileChannel channel = FileChannel.open(createFile(new byte[]{1, 2, 3, 4, 5}), StandardOpenOption.READ);
+        channel.close();
+        try {
+            HashHelper.getHash(channel, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(ex).hasCause(ClosedChannelException.class);
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getChannelHashTest() {
+        Assertions.assertThat(HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})), HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})), HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{})), HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+
+        DirectBufferPool bufferPool = new DirectBufferPool(2, 2);
+        Assertions.assertThat(HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})), bufferPool, HashAlgorithms.MD5).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(bufferPool.getAllocatedMemory()).isEqualTo(2L);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(1);
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(bufferPool.getDegradedCount()).isEqualTo(0L);
+
+        DirectBufferPool degradedBufferPool = new DirectBufferPool(3, 0);
+        Assertions.assertThat(HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})), degradedBufferPool, HashFunction.getInstance(HashAlgorithms.MD5)).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(degradedBufferPool.getAllocatedMemory()).isEqualTo(0L);
+        Assertions.assertThat(degradedBufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(degradedBufferPool.getDegradedCount()).isEqualTo(1L);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getChannelHashFailTest() {
+        try {
+            HashHelper.getHash((ReadableByteChannel) null, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source channel is null");
+        }
+        try {
+            HashHelper.getHash((ReadableByteChannel) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source channel is null");
+        }
+        try {
+            HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})), null, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Buffer pool is null");
+        }
+        try {
+            HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})), null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Buffer pool is null");
+        }
+        try {
+            HashHelper.getHash(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})), (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        DirectBufferPool bufferPool = new DirectBufferPool(16, 16);
+        try {
+            HashHelper.getHash(Channels.newChannel(new ErrorInputStream()), bufferPool, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(ex).hasCause(IOException.class);
+        }
+        Assertions.assertThat(bufferPool.getAcquiredCount()).isEqualTo(0);
+        Assertions.assertThat(bufferPool.getIdleCount()).isEqualTo(1);
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void getPathHashAsyncTest() throws Exception {
+        byte[] bytes = createBytes(300000);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Assertions.assertThat(HashHelper.getHashAsync(createFile(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5, executor).get().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashHelper.getHashAsync(createFile(new byte[]{1, 2, 3, 4, 5}), HashFunction.getInstance(HashAlgorithms.MD5), executor).get().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashHelper.getHashAsync(createFile(new byte[]{}), HashAlgorithms.MD5, executor).get().getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+            Assertions.assertThat(HashHelper.getHashAsync(createFile(bytes), HashAlgorithms.SHA256, executor).get().getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+
+            LatchHandler handler1 = new LatchHandler();
+            HashHelper.getHashAsync(createFile(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5, executor, "attachment", handler1);
+            Assertions.assertThat(handler1.await().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(handler1.getAttachment()).isEqualTo("attachment");
+
+            LatchHandler handler2 = new LatchHandler();
+            HashHelper.getHashAsync(createFile(bytes), HashFunction.getInstance(HashAlgorithms.SHA256), executor, null, handler2);
+            Assertions.assertThat(handler2.await().getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+            Assertions.assertThat(handler2.getAttachment()).isNull();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void getPathHashAsyncFailTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            try {
+                HashHelper.getHashAsync((Path) null, HashAlgorithms.MD5, executor);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source path is null");
+            }
+            try {
+                HashHelper.getHashAsync((Path) null, HashFunction.getInstance(HashAlgorithms.MD5), executor);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source path is null");
+            }
+            try {
+                HashHelper.getHashAsync((Path) null, HashAlgorithms.MD5, executor, null, new LatchHandler());
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source path is null");
+            }
+            try {
+                HashHelper.getHashAsync(createFile(new byte[]{1, 2, 3, 4, 5}), (HashFunction) null, executor);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Hash function is null");
+            }
+            try {
+                HashHelper.getHashAsync(createFile(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5, null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            try {
+                HashHelper.getHashAsync(createFile(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5, executor, null, null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Completion handler is null");
+            }
+
+            Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+            Files.delete(path);
+            try {
+                HashHelper.getHashAsync(path, HashAlgorithms.MD5, executor).get();
+                Assertions.fail("HashHelper test fail");
+            } catch (ExecutionException ex) {
+                Assertions.assertThat(ex.getCause()).isInstanceOf(NoSuchFileException.class);
+            }
+            LatchHandler handler = new LatchHandler();
+            HashHelper.getHashAsync(path, HashAlgorithms.MD5, executor, null, handler);
+            Assertions.assertThat(handler.await()).isNull();
+            Assertions.assertThat(handler.getFailure()).isInstanceOf(NoSuchFileException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void getFileChannelHashAsyncTest() throws Exception {
+        try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(createFile(new byte[]{1, 2, 3, 4, 5}), StandardOpenOption.READ)) {
+            Assertions.assertThat(HashHelper.getHashAsync(channel, HashAlgorithms.MD5).get().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashHelper.getHashAsync(channel, HashFunction.getInstance(HashAlgorithms.MD5)).get().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+            LatchHandler handler1 = new LatchHandler();
+            HashHelper.getHashAsync(channel, HashAlgorithms.MD5, "attachment", handler1);
+            Assertions.assertThat(handler1.await().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(handler1.getAttachment()).isEqualTo("attachment");
+
+            LatchHandler handler2 = new LatchHandler();
+            HashHelper.getHashAsync(channel, HashFunction.getInstance(HashAlgorithms.MD5), null, handler2);
+            Assertions.assertThat(handler2.await().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(channel.isOpen()).isTrue();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void getFileChannelHashAsyncFailTest() throws Exception {
+        try {
+            HashHelper.getHashAsync((AsynchronousFileChannel) null, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source file channel is null");
+        }
+        try {
+            HashHelper.getHashAsync((AsynchronousFileChannel) null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source file channel is null");
+        }
+        try {
+            HashHelper.getHashAsync((AsynchronousFileChannel) null, HashAlgorithms.MD5, null, new LatchHandler());
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source file channel is null");
+        }
+        try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(createFile(new byte[]{1, 2, 3, 4, 5}), StandardOpenOption.READ)) {
+            try {
+                HashHelper.getHashAsync(channel, (HashFunction) null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Hash function is null");
+            }
+            try {
+                HashHelper.getHashAsync(channel, HashAlgorithms.MD5, null, null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Completion handler is null");
+            }
+        }
+        AsynchronousFileChannel closedChannel = AsynchronousFileChannel.open(createFile(new byte[]{1, 2, 3, 4, 5}), StandardOpenOption.READ);
+        closedChannel.close();
+        try {
+            HashHelper.getHashAsync(closedChannel, HashAlgorithms.MD5).get();
+            Assertions.fail("HashHelper test fail");
+        } catch (ExecutionException ex) {
+            Assertions.assertThat(ex.getCause()).isInstanceOf(ClosedChannelException.class);
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getBytesHashesTest() {
+        Hash[] hashes1 = HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5, HashAlgorithms.SHA1);
+        Assertions.assertThat(hashes1.length).isEqualTo(2);
+        Assertions.assertThat(hashes1[0].getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(hashes1[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+
+        Hash[] hashes2 = HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, HashFunction.getInstance(HashAlgorithms.SHA1), HashFunction.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(hashes2[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+        Assertions.assertThat(hashes2[1].getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        Assertions.assertThat(HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, new String[0]).length).isEqualTo(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            byte[] bytes = createBytes(200000);
+            Hash[] hashes3 = HashHelper.getHashes(bytes, executor, HashAlgorithms.MD5, HashAlgorithms.SHA256);
+            Assertions.assertThat(hashes3[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+            Assertions.assertThat(hashes3[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+
+            Hash[] hashes4 = HashHelper.getHashes(bytes, executor, HashFunction.getInstance(HashAlgorithms.MD5), HashFunction.getInstance(HashAlgorithms.SHA256));
+            Assertions.assertThat(hashes4[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+            Assertions.assertThat(hashes4[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getBytesHashesFailTest() {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            try {
+                HashHelper.getHashes((byte[]) null, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source byte array is null");
+            }
+            try {
+                HashHelper.getHashes((byte[]) null, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source byte array is null");
+            }
+            try {
+                HashHelper.getHashes((byte[]) null, executor, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source byte array is null");
+            }
+            try {
+                HashHelper.getHashes((byte[]) null, executor, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source byte array is null");
+            }
+            try {
+                HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, (ExecutorService) null, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            try {
+                HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, (ExecutorService) null, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            try {
+                HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, (String[]) null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Algorithms is null");
+            }
+            try {
+                HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5, null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Algorithm is null");
+            }
+            try {
+                HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, (HashFunction[]) null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Hash functions is null");
+            }
+            try {
+                HashHelper.getHashes(new byte[]{1, 2, 3, 4, 5}, HashFunction.getInstance(HashAlgorithms.MD5), null);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Hash function is null");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getStreamHashesTest() {
+        Hash[] hashes1 = HashHelper.getHashes(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5, HashAlgorithms.SHA1);
+        Assertions.assertThat(hashes1[0].getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(hashes1[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+
+        Hash[] hashes2 = HashHelper.getHashes(new ByteArrayInputStream(new byte[]{}), HashFunction.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(hashes2[0].getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            byte[] bytes = createBytes(3000000);
+            Hash[] hashes3 = HashHelper.getHashes(new ByteArrayInputStream(bytes), executor, HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256);
+            Assertions.assertThat(hashes3[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+            Assertions.assertThat(hashes3[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA1).getBytes());
+            Assertions.assertThat(hashes3[2].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+
+            Hash[] hashes4 = HashHelper.getHashes(new ByteArrayInputStream(bytes), executor, HashFunction.getInstance(HashAlgorithms.SHA256));
+            Assertions.assertThat(hashes4[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+        } finally {
+            executor.shutdown();
+        }
+
+        CloseStream stream = new CloseStream();
+        HashHelper.getHashes(stream, HashAlgorithms.MD5);
+        Assertions.assertThat(stream.isClosed()).isTrue();
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getStreamHashesFailTest() {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            try {
+                HashHelper.getHashes((InputStream) null, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source stream is null");
+            }
+            try {
+                HashHelper.getHashes((InputStream) null, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source stream is null");
+            }
+            try {
+                HashHelper.getHashes((InputStream) null, executor, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source stream is null");
+            }
+            try {
+                HashHelper.getHashes((InputStream) null, executor, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source stream is null");
+            }
+            try {
+                HashHelper.getHashes(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), (ExecutorService) null, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            try {
+                HashHelper.getHashes(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), (ExecutorService) null, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            try {
+                HashHelper.getHashes(new ErrorInputStream(), HashAlgorithms.MD5, HashAlgorithms.SHA1);
+                Assertions.fail("HashHelper test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(ex).hasCause(IOException.class);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     */
+    @Test
+    public void getPathHashesTest() {
+        Hash[] hashes1 = HashHelper.getHashes(createFile(new byte[]{1, 2, 3, 4, 5}), HashAlgorithms.MD5, HashAlgorithms.SHA1);
+        Assertions.assertThat(hashes1[0].getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(hashes1[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+
+        Hash[] hashes2 = HashHelper.getHashes(createFile(new byte[]{}), HashFunction.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(hashes2[0].getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            byte[] bytes = createBytes(300000);
+            Hash[] hashes3 = HashHelper.getHashes(createFile(bytes), executor, HashAlgorithms.MD5, HashAlgorithms.SHA256);
+            Assertions.assertThat(hashes3[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+            Assertions.assertThat(hashes3[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+
+            Hash[] hashes4 = HashHelper.getHashes(createFile(bytes), executor, HashFunction.getInstance(HashAlgorithms.SHA256), HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.assertThat(hashes4[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+            Assertions.assertThat(hashes4[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void getPathHashesFailTest() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            try {
+                HashHelper.getHashes((Path) null, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source path is null");
+            }
+            try {
+                HashHelper.getHashes((Path) null, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source path is null");
+            }
+            try {
+                HashHelper.getHashes((Path) null, executor, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source path is null");
+            }
+            try {
+                HashHelper.getHashes((Path) null, executor, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Source path is null");
+            }
+            try {
+                HashHelper.getHashes(createFile(new byte[]{1, 2, 3, 4, 5}), (ExecutorService) null, HashAlgorithms.MD5);
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            try {
+                HashHelper.getHashes(createFile(new byte[]{1, 2, 3, 4, 5}), (ExecutorService) null, HashFunction.getInstance(HashAlgorithms.MD5));
+                Assertions.fail("HashHelper test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("Executor is null");
+            }
+            Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+            Files.delete(path);
+            try {
+                HashHelper.getHashes(path, HashAlgorithms.MD5, HashAlgorithms.SHA1);
+                Assertions.fail("HashHelper test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(ex).hasCause(NoSuchFileException.class);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void getHashStateTest() throws IOException {
+        byte[] bytes = createBytes(1000);
+        Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+        HashState hashState1 = HashHelper.getHashState(path, HashAlgorithms.MD5);
+        Assertions.assertThat(hashState1.getAlgorithm()).isEqualTo(HashAlgorithms.MD5);
+        Assertions.assertThat(hashState1.getOffset()).isEqualTo(5L);
+        Assertions.assertThat(HashHelper.resumeHash(path, hashState1).getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        Files.write(path, bytes, StandardOpenOption.APPEND);
+        HashState hashState2 = HashState.fromBytes(hashState1.getBytes());
+        Assertions.assertThat(HashHelper.resumeHash(path, hashState2).getBytes()).containsExactlyInOrder(HashHelper.getHash(path, HashAlgorithms.MD5).getBytes());
+        HashState hashState3 = HashHelper.resumeHashState(path, hashState2);
+        Assertions.assertThat(hashState3.getOffset()).isEqualTo(1005L);
+
+        Files.write(path, bytes, StandardOpenOption.APPEND);
+        Assertions.assertThat(HashHelper.resumeHash(path, hashState3).getBytes()).containsExactlyInOrder(HashHelper.getHash(path, HashAlgorithms.MD5).getBytes());
+        Assertions.assertThat(HashHelper.resumeHash(path, hashState2).getBytes()).containsExactlyInOrder(HashHelper.getHash(path, HashAlgorithms.MD5).getBytes());
+
+        Path emptyPath = createFile(new byte[]{});
+        HashState hashState4 = HashHelper.getHashState(emptyPath, HashFunction.getInstance(HashAlgorithms.SHA256));
+        Assertions.assertThat(hashState4.getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(hashState4.getOffset()).isEqualTo(0L);
+        Files.write(emptyPath, bytes, StandardOpenOption.APPEND);
+        Assertions.assertThat(HashHelper.resumeHash(emptyPath, hashState4).getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+        Assertions.assertThat(HashHelper.resumeHash(emptyPath, hashState4).matches(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes())).isTrue();
+    }
+
+    /**
+     * {@link HashHelper} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void getHashStateFailTest() throws IOException {
+        Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+        HashState hashState = HashHelper.getHashState(path, HashAlgorithms.SHA1);
+        try {
+            HashHelper.getHashState(null, HashAlgorithms.MD5);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source path is null");
+        }
+        try {
+            HashHelper.getHashState(null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source path is null");
+        }
+        try {
+            HashHelper.getHashState(path, (HashFunction) null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            HashHelper.getHashState(path, HashAlgorithms.MD2);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Resumable hash is not supported: MD2");
+        }
+        try {
+            HashHelper.resumeHash(null, hashState);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source path is null");
+        }
+        try {
+            HashHelper.resumeHash(path, null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash state is null");
+        }
+        try {
+            HashHelper.resumeHashState(null, hashState);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source path is null");
+        }
+        try {
+            HashHelper.resumeHashState(path, null);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash state is null");
+        }
+        try {
+            HashHelper.resumeHash(path, new HashState(HashAlgorithms.MD2, 0L, new byte[0]));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Resumable hash is not supported: MD2");
+        }
+        try {
+            HashHelper.resumeHash(path, new HashState(hashState.getAlgorithm(), 4L, hashState.getState()));
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state");
+        }
+        try {
+            HashHelper.resumeHash(createFile(new byte[]{1, 2, 3}), hashState);
+            Assertions.fail("HashHelper test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("File is shorter than the hash state offset");
+        }
+        Files.delete(path);
+        try {
+            HashHelper.resumeHash(path, hashState);
+            Assertions.fail("HashHelper test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(ex).hasCause(NoSuchFileException.class);
+        }
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+    private static Path createFile(final byte[] bytes) {
+        try {
+            Path path = Files.createTempFile("hash", ".tmp");
+            path.toFile().deleteOnExit();
+            Files.write(path, bytes);
+            return path;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
     /**
      * Test class.
      *
@@ -646,4 +2173,94 @@ public final class HashHelperTest {
 
     }
 
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReadLengthInputStream extends ByteArrayInputStream {
+
+        private final int _maxChunkLength;
+
+        private int _minReadLength;
+
+        private int _maxReadLength;
+
+        ReadLengthInputStream(final byte[] bytes) {
+            this(bytes, Integer.MAX_VALUE);
+        }
+
+        ReadLengthInputStream(final byte[] bytes, final int maxChunkLength) {
+            super(bytes);
+            _maxChunkLength = maxChunkLength;
+            _minReadLength = Integer.MAX_VALUE;
+            _maxReadLength = 0;
+        }
+
+        @Override
+        public synchronized int read(final byte[] bytes, final int offset, final int length) {
+            _minReadLength = Math.min(_minReadLength, length);
+            _maxReadLength = Math.max(_maxReadLength, length);
+            return super.read(bytes, offset, Math.min(length, _maxChunkLength));
+        }
+
+        int getMinReadLength() {
+            return _minReadLength;
+        }
+
+        int getMaxReadLength() {
+            return _maxReadLength;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class LatchHandler implements CompletionHandler<Hash, Object> {
+
+        private final CountDownLatch _latch;
+
+        private Hash _hash;
+
+        private Throwable _failure;
+
+        private Object _attachment;
+
+        LatchHandler() {
+            super();
+            _latch = new CountDownLatch(1);
+        }
+
+        @Override
+        public void completed(final Hash result, final Object attachment) {
+            _hash = result;
+            _attachment = attachment;
+            _latch.countDown();
+        }
+
+        @Override
+        public void failed(final Throwable exc, final Object attachment) {
+            _failure = exc;
+            _attachment = attachment;
+            _latch.countDown();
+        }
+
+        Hash await() throws InterruptedException {
+            Assertions.assertThat(_latch.await(10, TimeUnit.SECONDS)).isTrue();
+            return _hash;
+        }
+
+        Throwable getFailure() {
+            return _failure;
+        }
+
+        Object getAttachment() {
+            return _attachment;
+        }
+
+    }
+
 }
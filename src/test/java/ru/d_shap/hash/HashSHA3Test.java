@@ -0,0 +1,73 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.builder.HashBuilder;
+import ru.d_shap.hash.engine.HashProvider;
+
+/**
+ * Tests for {@link HashAlgorithms}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashSHA3Test {
+
+    /**
+     * Test class constructor.
+     */
+    public HashSHA3Test() {
+        super();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void hashFunctionTest() {
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA3_224).getDigestLength()).isEqualTo(28);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA3_256).getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA3_384).getDigestLength()).isEqualTo(48);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA3_512).getDigestLength()).isEqualTo(64);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.SHA3_256).getBlockSize()).isEqualTo(136);
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.SHA3_256, HashProvider.NAME);
+        Assertions.assertThat(hashFunction.getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(hashFunction.getBlockSize()).isEqualTo(136);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void simpleHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] hash256 = new byte[]{-64, 24, -126, 50, 25, 14, 4, 39, -4, -100, -57, -123, -105, 34, 28, 118, -57, -103, 82, -122, 96, -120, -101, -42, -50, 31, 53, 99, 20, -113, -8, 77};
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.SHA3_256).getBytes()).containsExactlyInOrder(hash256);
+        Assertions.assertThat(HashHelper.getHash(original, HashFunction.getInstance(HashAlgorithms.SHA3_256, HashProvider.NAME)).getBytes()).containsExactlyInOrder(hash256);
+        byte[] hash512 = new byte[]{-108, 41, -4, 31, -105, 114, -52, 29, -128, 57, -2, 117, -52, 27, 3, 60, -42, 15, 14, -60, -6, -50, 15, -118, 81, 77, 37, -80, 100, -101, -88, -91, -107, 75, 108, 122, 65, -52, 54, -105, -91, 109, -77, -1, 50, 20, 117, -66, 31, -95, 75, 112, -57, -21, 120, -2, -58, -50, 98, -37, -4, 84, -55, -45};
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.SHA3_512).getBytes()).containsExactlyInOrder(hash512);
+        Assertions.assertThat(HashHelper.getHash(original, HashFunction.getInstance(HashAlgorithms.SHA3_512, HashProvider.NAME)).getBytes()).containsExactlyInOrder(hash512);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm(HashAlgorithms.SHA3_256).getHash()).containsExactlyInOrder(hash256);
+    }
+
+}
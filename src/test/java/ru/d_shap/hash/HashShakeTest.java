@@ -0,0 +1,108 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.builder.HashBuilder;
+import ru.d_shap.hash.engine.HashProvider;
+
+/**
+ * Tests for {@link HashAlgorithms}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashShakeTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashShakeTest() {
+        super();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void hashFunctionTest() {
+        HashFunction hashFunction128 = HashFunction.getInstance(HashAlgorithms.SHAKE128);
+        Assertions.assertThat(hashFunction128.getAlgorithm()).isEqualTo(HashAlgorithms.SHAKE128);
+        Assertions.assertThat(hashFunction128.getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(hashFunction128.getBlockSize()).isEqualTo(168);
+        Assertions.assertThat(hashFunction128.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+        HashFunction hashFunction256 = HashFunction.getInstance(HashAlgorithms.SHAKE256);
+        Assertions.assertThat(hashFunction256.getDigestLength()).isEqualTo(64);
+        Assertions.assertThat(hashFunction256.getBlockSize()).isEqualTo(136);
+        Assertions.assertThat(HashFunction.getInstance("SHAKE256-1024").getDigestLength()).isEqualTo(128);
+        Assertions.assertThat(HashFunction.getInstance("SHAKE128-8").getDigestLength()).isEqualTo(1);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void simpleHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        Hash hash128 = HashHelper.getHash(original, HashAlgorithms.SHAKE128);
+        Assertions.assertThat(hash128.getLength()).isEqualTo(32);
+        Assertions.assertThat(hash128.getBytes()).containsExactlyInOrder(-125, -21, 119, 105, 103, -106, 17, 33, -112, 3, 56, 51, 5, 15, -67, 87, -58, -74, 120, -41, 98, 5, 62, -109, 28, -105, -115, -100, 21, -122, -75, -60);
+        Hash hash256 = HashHelper.getHash(original, HashAlgorithms.SHAKE256);
+        Assertions.assertThat(hash256.getLength()).isEqualTo(64);
+        Assertions.assertThat(hash256.getBytes()).containsExactlyInOrder(87, 25, -60, -5, -125, 81, -79, 31, 9, 24, 21, 88, 42, 51, -53, 95, 124, -85, -95, 116, -14, -35, 116, 41, -45, 41, -125, -125, -26, 122, -14, 5, -120, -50, 73, 103, -93, -122, 127, 109, 127, -34, 96, 3, 54, -79, 65, -120, -37, -88, -15, 75, -103, -103, 112, 34, 51, -107, -27, 61, -23, -48, -110, -123);
+        Hash longHash256 = HashHelper.getHash(original, "SHAKE256-1024");
+        Assertions.assertThat(longHash256.getLength()).isEqualTo(128);
+        byte[] longHashBytes = longHash256.getBytes();
+        Assertions.assertThat(longHashBytes).hasLength(128);
+        Assertions.assertThat(longHashBytes[0]).isEqualTo((byte) 87);
+        Assertions.assertThat(longHashBytes[127]).isEqualTo((byte) -27);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void saltHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] salt = new byte[]{10, 11};
+        byte[] hash = new byte[]{84, -35, -117, 63, -4, -5, 102, -114, 114, 88, 54, 15, -108, 80, 71, -4, -61, -50, 29, -43, 12, -12, 70, -58, 16, 24, 5, 37, -117, 76, -81, 115};
+        Hash saltHash = HashHelper.getHash(original, HashAlgorithms.SHAKE128).addSalt(salt);
+        Assertions.assertThat(saltHash.getLength()).isEqualTo(32);
+        Assertions.assertThat(saltHash.getBytes()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.SHAKE256).addSalt(salt).getLength()).isEqualTo(64);
+        Assertions.assertThat(HashHelper.getHash(original, "SHAKE128-1024").addSalt(salt).getLength()).isEqualTo(128);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void builderHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] hash = new byte[]{-125, -21, 119, 105, 103, -106, 17, 33, -112, 3, 56, 51, 5, 15, -67, 87, -58, -74, 120, -41, 98, 5, 62, -109, 28, -105, -115, -100, 21, -122, -75, -60};
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm(HashAlgorithms.SHAKE128).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.SHAKE128).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm("SHAKE256-2048").getHash()).hasLength(256);
+    }
+
+}
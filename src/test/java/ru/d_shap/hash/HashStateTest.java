@@ -0,0 +1,124 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link HashState}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashStateTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashStateTest() {
+        super();
+    }
+
+    /**
+     * {@link HashState} class test.
+     */
+    @Test
+    public void getBytesTest() {
+        HashState hashState = new HashState(HashAlgorithms.MD5, 258L, new byte[]{1, 2, 3});
+        Assertions.assertThat(hashState.getAlgorithm()).isEqualTo(HashAlgorithms.MD5);
+        Assertions.assertThat(hashState.getOffset()).isEqualTo(258L);
+        Assertions.assertThat(hashState.getState()).containsExactlyInOrder(1, 2, 3);
+        Assertions.assertThat(hashState.getBytes()).containsExactlyInOrder(1, 0, 3, 77, 68, 53, 0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 0, 3, 1, 2, 3);
+    }
+
+    /**
+     * {@link HashState} class test.
+     */
+    @Test
+    public void fromBytesTest() {
+        HashState hashState = HashState.fromBytes(new HashState(HashAlgorithms.SHA256, 1000L, new byte[]{5, 6}).getBytes());
+        Assertions.assertThat(hashState.getAlgorithm()).isEqualTo(HashAlgorithms.SHA256);
+        Assertions.assertThat(hashState.getOffset()).isEqualTo(1000L);
+        Assertions.assertThat(hashState.getState()).containsExactlyInOrder(5, 6);
+    }
+
+    /**
+     * {@link HashState} class test.
+     */
+    @Test
+    public void fromBytesFailTest() {
+        try {
+            HashState.fromBytes(null);
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash state bytes is null");
+        }
+        try {
+            HashState.fromBytes(new byte[]{2, 0, 3, 77, 68, 53, 0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 0, 3, 1, 2, 3});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+        try {
+            HashState.fromBytes(new byte[]{1, 0, 3, 77, 68, 53, 0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 0, 3, 1, 2, 3, 4});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+        try {
+            HashState.fromBytes(new byte[]{1, 0, 3, 77, 68, 53, -1, 0, 0, 0, 0, 0, 1, 2, 0, 0, 0, 3, 1, 2, 3});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+        try {
+            HashState.fromBytes(new byte[]{1, 0, 3, 77, 68, 53, 0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 0, 3, 1, 2});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+        try {
+            HashState.fromBytes(new byte[]{1, -1, -1});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+        try {
+            HashState.fromBytes(new byte[]{1, 0, 3, 77, 68, 53, 0, 0, 0, 0, 0, 0, 1, 2, 127, -1, -1, -1, 1, 2, 3});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+        try {
+            HashState.fromBytes(new byte[]{1, 0, 3, 77, 68, 53, 0, 0, 0, 0, 0, 0, 1, 2, -1, -1, -1, -1, 1, 2, 3});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+        try {
+            HashState.fromBytes(new byte[]{});
+            Assertions.fail("HashState test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state bytes");
+        }
+    }
+
+}
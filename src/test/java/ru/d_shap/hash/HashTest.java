@@ -19,6 +19,11 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.hash;
 
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+
 import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
@@ -172,6 +177,85 @@ public final class HashTest {
         Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
     }
 
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void writeToByteArrayTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        byte[] output = new byte[18];
+        Assertions.assertThat(hash.writeTo(output, 1)).isEqualTo(16);
+        Assertions.assertThat(output).containsExactlyInOrder(0, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104, 0);
+        output = new byte[16];
+        Assertions.assertThat(hash.writeTo(output, 0)).isEqualTo(16);
+        Assertions.assertThat(output).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void writeToByteArrayFailTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        try {
+            hash.writeTo(null, 0);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte array is null");
+        }
+        try {
+            hash.writeTo(new byte[16], -1);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output offset is not within [0; 16]");
+        }
+        try {
+            hash.writeTo(new byte[16], 17);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output offset is not within [0; 16]");
+        }
+        try {
+            hash.writeTo(new byte[16], 1);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte array is too small");
+        }
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void writeToByteBufferTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        ByteBuffer output = ByteBuffer.allocate(18);
+        output.position(1);
+        Assertions.assertThat(hash.writeTo(output)).isEqualTo(16);
+        Assertions.assertThat(output.position()).isEqualTo(17);
+        Assertions.assertThat(output.array()).containsExactlyInOrder(0, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104, 0);
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void writeToByteBufferFailTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        try {
+            hash.writeTo(null);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte buffer is null");
+        }
+        try {
+            hash.writeTo(ByteBuffer.allocate(15));
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Output byte buffer is too small");
+        }
+    }
+
     /**
      * {@link Hash} class test.
      */
@@ -196,4 +280,219 @@ public final class HashTest {
         }
     }
 
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void addByteArrayRangeSaltTest() {
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{49, 50, 51}, 0, 3).getBytes()).containsExactlyInOrder(18, -111, 64, 32, 30, -51, 42, -70, 95, -77, 69, -34, 100, 100, 27, -115);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{0, 49, 50, 51, 0}, 1, 3).getBytes()).containsExactlyInOrder(18, -111, 64, 32, 30, -51, 42, -70, 95, -77, 69, -34, 100, 100, 27, -115);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{1, 2, 3}, 3, 0).getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{}).getBytes());
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void addByteArrayRangeSaltFailTest() {
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(null, 0, 0);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt byte array is null");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{1, 2, 3}, -1, 2);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{1, 2, 3}, 1, -1);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{1, 2, 3}, 2, 2);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void matchesRangeTest() {
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}, 0, 16)).isTrue();
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{10, 11, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}, 2, 16)).isTrue();
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104, 10, 11}, 0, 16)).isTrue();
+
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104, 10, 11}, 0, 18)).isFalse();
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{10, 11, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}, 1, 16)).isFalse();
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{10, 11, 124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 105}, 2, 16)).isFalse();
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{10, 11, 125, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}, 2, 16)).isFalse();
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void matchesRangeFailTest() {
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(null, 0, 0);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash byte array is null");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{1, 2, 3}, -1, 2);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{1, 2, 3}, 1, -1);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).matches(new byte[]{1, 2, 3}, 2, 2);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 3]");
+        }
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void addIteratedSaltTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        hash.addSalt(new byte[]{49, 50, 51}).addSalt(new byte[]{49, 50, 51}).addSalt(new byte[]{49, 50, 51});
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{49, 50, 51}, 1).getBytes()).containsExactlyInOrder(18, -111, 64, 32, 30, -51, 42, -70, 95, -77, 69, -34, 100, 100, 27, -115);
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{49, 50, 51}, 3).getBytes()).containsExactlyInOrder(hash.getBytes());
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{0, 49, 50, 51, 0}, 1, 3, 3).getBytes()).containsExactlyInOrder(hash.getBytes());
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{49, 50, 51}, 3).addSalt(new byte[]{49, 50, 51}, 2).getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{49, 50, 51}, 5).getBytes());
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void addIteratedSaltFailTest() {
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(null, 2);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt byte array is null");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{1, 2, 3}, 0);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Iteration count is less than 1");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{1, 2, 3}, 0, 3, -1);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Iteration count is less than 1");
+        }
+        try {
+            HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{1, 2, 3}, 0, 3, new byte[]{4, 5}, 0, 2, 0);
+            Assertions.fail("Hash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Iteration count is less than 1");
+        }
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void addIteratedTwoSaltsTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        hash.addSalt(new byte[]{10, 11}).addSalt(new byte[]{20, 21}).addSalt(new byte[]{10, 11}).addSalt(new byte[]{20, 21});
+        Assertions.assertThat(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{0, 10, 11}, 1, 2, new byte[]{20, 21, 0}, 0, 2, 2).getBytes()).containsExactlyInOrder(hash.getBytes());
+    }
+
+    /**
+     * {@link Hash} class test.
+     */
+    @Test
+    public void addSaltDigestFailTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashFunction.getInstance(FailingDigestProvider.ALGORITHM, new FailingDigestProvider()));
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(1, 2, 3);
+        try {
+            hash.addSalt(new byte[]{1, 2, 3});
+            Assertions.fail("Hash test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasCause(DigestException.class);
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailingDigestProvider extends Provider {
+
+        static final String ALGORITHM = "FAILING-DIGEST";
+
+        private static final long serialVersionUID = 1L;
+
+        FailingDigestProvider() {
+            super("FailingDigestProvider", 1.0, "Failing digest message digest provider");
+            put("MessageDigest." + ALGORITHM, FailingDigestMessageDigestSpi.class.getName());
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class FailingDigestMessageDigestSpi extends MessageDigestSpi {
+
+        /**
+         * Create new object.
+         */
+        public FailingDigestMessageDigestSpi() {
+            super();
+        }
+
+        @Override
+        protected void engineUpdate(final byte input) {
+            // Ignore
+        }
+
+        @Override
+        protected void engineUpdate(final byte[] input, final int offset, final int len) {
+            // Ignore
+        }
+
+        @Override
+        protected byte[] engineDigest() {
+            return new byte[]{1, 2, 3};
+        }
+
+        @Override
+        protected int engineDigest(final byte[] buf, final int offset, final int len) throws DigestException {
+            throw new DigestException();
+        }
+
+        @Override
+        protected void engineReset() {
+            // Ignore
+        }
+
+    }
+
 }
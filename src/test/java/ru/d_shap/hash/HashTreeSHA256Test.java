@@ -0,0 +1,91 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.builder.HashBuilder;
+import ru.d_shap.hash.engine.HashProvider;
+
+/**
+ * Tests for {@link HashAlgorithms}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashTreeSHA256Test {
+
+    /**
+     * Test class constructor.
+     */
+    public HashTreeSHA256Test() {
+        super();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void hashFunctionTest() {
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.TREE_SHA256);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.TREE_SHA256);
+        Assertions.assertThat(hashFunction.getDigestLength()).isEqualTo(32);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void simpleHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] hash = HashHelper.getHash(original, HashAlgorithms.TREE_SHA256).getBytes();
+        Assertions.assertThat(hash).containsExactlyInOrder(-77, 67, -84, -49, 91, -89, 127, -22, 61, -103, 21, 117, -100, -33, -33, -75, 39, 93, -73, -45, 2, 54, 100, -8, -77, -36, -83, 21, -43, 20, -82, -52);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.TREE_SHA256).matches(hash)).isTrue();
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.SHA256).matches(hash)).isFalse();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void builderHashTest() throws IOException {
+        byte[] original = new byte[3 * 1024 * 1024];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = (byte) (i * 31 + 7);
+        }
+        Path path = Files.createTempFile("hash", ".tmp");
+        path.toFile().deleteOnExit();
+        Files.write(path, original);
+
+        byte[] hash = new byte[]{-21, -31, 110, 80, 42, -114, -75, 35, 40, 65, -40, -97, -35, 110, 113, 21, -55, 61, -127, -8, 101, 82, 116, 98, 4, -53, 89, -20, -34, 107, 48, -111};
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm(HashAlgorithms.TREE_SHA256).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.TREE_SHA256).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.TREE_SHA256).getHash()).containsExactlyInOrder(hash);
+    }
+
+}
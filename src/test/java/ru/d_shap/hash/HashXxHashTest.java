@@ -0,0 +1,124 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.builder.HashBuilder;
+import ru.d_shap.hash.engine.HashProvider;
+import ru.d_shap.hash.engine.KeyedHashProvider;
+
+/**
+ * Tests for {@link HashAlgorithms}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashXxHashTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashXxHashTest() {
+        super();
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void hashFunctionTest() {
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.XXH3_128);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.XXH3_128);
+        Assertions.assertThat(hashFunction.getDigestLength()).isEqualTo(16);
+        Assertions.assertThat(hashFunction.getBlockSize()).isEqualTo(64);
+        Assertions.assertThat(hashFunction.getDigestFactory().getProvider().getName()).isEqualTo(HashProvider.NAME);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.XXHASH64).getDigestLength()).isEqualTo(8);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.XXHASH64).getBlockSize()).isEqualTo(32);
+        Assertions.assertThat(HashFunction.getInstance(HashAlgorithms.XXH3_64).getDigestLength()).isEqualTo(8);
+        HashFunction seededHashFunction = HashFunction.getKeyedInstance(HashAlgorithms.XXH3_64, createBytes(8));
+        Assertions.assertThat(seededHashFunction.getDigestLength()).isEqualTo(8);
+        Assertions.assertThat(seededHashFunction.getDigestFactory().getProvider().getName()).isEqualTo(KeyedHashProvider.NAME);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void simpleHashTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.XXHASH64).getBytes()).containsExactlyInOrder(-26, 15, 75, -12, 103, -18, -36, -18);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.XXH3_64).getBytes()).containsExactlyInOrder(-128, -25, -16, 122, 8, -107, -43, 109);
+        Assertions.assertThat(HashHelper.getHash(original, HashAlgorithms.XXH3_128).getBytes()).containsExactlyInOrder(-16, 109, -91, 10, 51, -115, 125, -27, 1, -30, -87, -111, -29, -3, -41, 37);
+        Assertions.assertThat(HashHelper.getHash(original, HashFunction.getKeyedInstance(HashAlgorithms.XXH3_128, createBytes(8))).getBytes()).containsExactlyInOrder(113, 125, 77, -95, -44, 92, 80, 31, -78, 88, -8, -30, 103, 127, -108, 54);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void builderHashTest() throws IOException {
+        byte[] original = createBytes(16385);
+        Path path = Files.createTempFile("hash", ".tmp");
+        path.toFile().deleteOnExit();
+        Files.write(path, original);
+
+        byte[] hash = new byte[]{70, 85, -72, 30, 55, -43, -100, -76, 44, -116, -21, 123, -108, -61, -70, -80};
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(original).setAlgorithm(HashAlgorithms.XXH3_128).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(ByteBuffer.wrap(original)).setAlgorithm(HashAlgorithms.XXH3_128).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(original)).setAlgorithm(HashAlgorithms.XXH3_128).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.XXH3_128).getHash()).containsExactlyInOrder(hash);
+    }
+
+    /**
+     * {@link HashAlgorithms} class test.
+     */
+    @Test
+    public void builderSeedTest() {
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] salt = createBytes(8);
+        byte[] hash = new byte[]{57, -84, -19, 32, -45, -2, 109, 104};
+        byte[] hash2 = new byte[]{-55, -114, -42, 11, -98, -11, 75, 120};
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.XXH3_64).setSalt(salt).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.XXH3_64).setSalt(salt).setIterations(2).getHash()).containsExactlyInOrder(hash2);
+        byte[] storedHash = HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.XXH3_64).setSalt(salt).setSaltStoreType(SaltStoreType.AT_THE_END).getHash();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.XXH3_64).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(storedHash).isHashValid()).isTrue();
+
+        byte[] shortSaltHash = new byte[]{33, 93, 75, 32, 10, 99, 63, -73};
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(original).setAlgorithm(HashAlgorithms.XXH3_64).setSalt(new byte[]{10, 20, 30, 40, 50}).getHash()).containsExactlyInOrder(shortSaltHash);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,301 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link HashingByteChannel}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashingByteChannelTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashingByteChannelTest() {
+        super();
+    }
+
+    /**
+     * {@link HashingByteChannel} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeTest() throws IOException {
+        HashingByteChannel channel1 = new HashingByteChannel(HashAlgorithms.MD5);
+        ByteBuffer buffer1 = ByteBuffer.wrap(new byte[]{0, 1, 2, 3, 0});
+        buffer1.position(1);
+        buffer1.limit(4);
+        Assertions.assertThat(channel1.write(buffer1)).isEqualTo(3);
+        Assertions.assertThat(buffer1.remaining()).isEqualTo(0);
+        ByteBuffer buffer2 = ByteBuffer.allocateDirect(2);
+        buffer2.put(new byte[]{4, 5});
+        buffer2.flip();
+        Assertions.assertThat(channel1.write(buffer2)).isEqualTo(2);
+        Assertions.assertThat(channel1.write(ByteBuffer.allocate(0))).isEqualTo(0);
+        Assertions.assertThat(channel1.getHash().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        HashingByteChannel channel2 = new HashingByteChannel(HashFunction.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(channel2.getHash().getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+    }
+
+    /**
+     * {@link HashingByteChannel} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void teeWriteTest() throws IOException {
+        ByteArrayOutputStream downstream1 = new ByteArrayOutputStream();
+        HashingByteChannel channel1 = new HashingByteChannel(Channels.newChannel(downstream1), HashAlgorithms.MD5);
+        Assertions.assertThat(channel1.write(ByteBuffer.wrap(new byte[]{1, 2, 3}))).isEqualTo(3);
+        Assertions.assertThat(channel1.write(ByteBuffer.wrap(new byte[]{4, 5}))).isEqualTo(2);
+        Assertions.assertThat(downstream1.toByteArray()).containsExactlyInOrder(1, 2, 3, 4, 5);
+        Assertions.assertThat(channel1.getHash().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        PartialWriteChannel downstream2 = new PartialWriteChannel(2);
+        HashingByteChannel channel2 = new HashingByteChannel(downstream2, HashFunction.getInstance(HashAlgorithms.MD5));
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(channel2.write(buffer)).isEqualTo(2);
+        Assertions.assertThat(buffer.position()).isEqualTo(2);
+        Assertions.assertThat(channel2.write(buffer)).isEqualTo(2);
+        Assertions.assertThat(channel2.write(buffer)).isEqualTo(1);
+        Assertions.assertThat(channel2.write(buffer)).isEqualTo(0);
+        Assertions.assertThat(downstream2.toByteArray()).containsExactlyInOrder(1, 2, 3, 4, 5);
+        Assertions.assertThat(channel2.isHashValid(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104})).isTrue();
+        Assertions.assertThat(channel2.isHashValid(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 105})).isFalse();
+    }
+
+    /**
+     * {@link HashingByteChannel} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void transferToTest() throws IOException {
+        byte[] bytes = createBytes(100000);
+        Path sourcePath = createFile(bytes);
+
+        try (FileChannel source = FileChannel.open(sourcePath, StandardOpenOption.READ)) {
+            HashingByteChannel channel = new HashingByteChannel(HashAlgorithms.MD5);
+            long position = 0;
+            while (position < source.size()) {
+                position += source.transferTo(position, source.size() - position, channel);
+            }
+            Assertions.assertThat(channel.getHash().getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+        }
+
+        Path targetPath = createFile(new byte[0]);
+        try (FileChannel source = FileChannel.open(sourcePath, StandardOpenOption.READ); FileChannel target = FileChannel.open(targetPath, StandardOpenOption.WRITE)) {
+            HashingByteChannel channel = new HashingByteChannel(target, HashAlgorithms.MD5);
+            long position = 0;
+            while (position < source.size()) {
+                position += source.transferTo(position, source.size() - position, channel);
+            }
+            Assertions.assertThat(channel.getHash().getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+        }
+        Assertions.assertThat(Files.readAllBytes(targetPath)).containsExactlyInOrder(bytes);
+    }
+
+    /**
+     * {@link HashingByteChannel} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeFailTest() throws IOException {
+        ByteArrayOutputStream downstream1 = new ByteArrayOutputStream();
+        HashingByteChannel channel1 = new HashingByteChannel(Channels.newChannel(downstream1), HashAlgorithms.MD5);
+        Assertions.assertThat(channel1.write(ByteBuffer.wrap(new byte[]{1}))).isEqualTo(1);
+        Hash hash = channel1.getHash();
+        Assertions.assertThat(channel1.getHash()).isSameAs(hash);
+        try {
+            channel1.write(ByteBuffer.wrap(new byte[]{2}));
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        Assertions.assertThat(downstream1.toByteArray()).containsExactlyInOrder(1);
+
+        HashingByteChannel channel2 = new HashingByteChannel(HashAlgorithms.MD5);
+        channel2.close();
+        try {
+            channel2.write(ByteBuffer.wrap(new byte[]{2}));
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (ClosedChannelException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    /**
+     * {@link HashingByteChannel} class test.
+     */
+    @Test
+    public void createFailTest() {
+        try {
+            new HashingByteChannel((String) null);
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            new HashingByteChannel((HashFunction) null);
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            new HashingByteChannel(null, HashAlgorithms.MD5);
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Target channel is null");
+        }
+        try {
+            new HashingByteChannel(null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Target channel is null");
+        }
+        try {
+            new HashingByteChannel(new PartialWriteChannel(1), (String) null);
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            new HashingByteChannel(new PartialWriteChannel(1), (HashFunction) null, true);
+            Assertions.fail("HashingByteChannel test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link HashingByteChannel} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void closeTest() throws IOException {
+        PartialWriteChannel downstream1 = new PartialWriteChannel(1);
+        HashingByteChannel channel1 = new HashingByteChannel(downstream1, HashAlgorithms.MD5);
+        Assertions.assertThat(channel1.isOpen()).isTrue();
+        channel1.close();
+        Assertions.assertThat(channel1.isOpen()).isFalse();
+        Assertions.assertThat(downstream1.isOpen()).isTrue();
+
+        PartialWriteChannel downstream2 = new PartialWriteChannel(1);
+        HashingByteChannel channel2 = new HashingByteChannel(downstream2, HashAlgorithms.MD5, false);
+        channel2.close();
+        Assertions.assertThat(channel2.isOpen()).isFalse();
+        Assertions.assertThat(downstream2.isOpen()).isTrue();
+
+        PartialWriteChannel downstream3 = new PartialWriteChannel(1);
+        HashingByteChannel channel3 = new HashingByteChannel(downstream3, HashFunction.getInstance(HashAlgorithms.MD5), true);
+        channel3.close();
+        Assertions.assertThat(channel3.isOpen()).isFalse();
+        Assertions.assertThat(downstream3.isOpen()).isFalse();
+
+        HashingByteChannel channel4 = new HashingByteChannel(HashAlgorithms.MD5);
+        channel4.close();
+        Assertions.assertThat(channel4.isOpen()).isFalse();
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+    private static Path createFile(final byte[] bytes) {
+        try {
+            Path path = Files.createTempFile("hash", ".tmp");
+            path.toFile().deleteOnExit();
+            Files.write(path, bytes);
+            return path;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class PartialWriteChannel implements WritableByteChannel {
+
+        private final int _maxChunkLength;
+
+        private final ByteArrayOutputStream _stream;
+
+        private boolean _open;
+
+        PartialWriteChannel(final int maxChunkLength) {
+            super();
+            _maxChunkLength = maxChunkLength;
+            _stream = new ByteArrayOutputStream();
+            _open = true;
+        }
+
+        @Override
+        public int write(final ByteBuffer buffer) {
+            int length = Math.min(buffer.remaining(), _maxChunkLength);
+            for (int i = 0; i < length; i++) {
+                _stream.write(buffer.get());
+            }
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return _open;
+        }
+
+        @Override
+        public void close() {
+            _open = false;
+        }
+
+        byte[] toByteArray() {
+            return _stream.toByteArray();
+        }
+
+    }
+
+}
@@ -0,0 +1,232 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link HashingOutputStream}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashingOutputStreamTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashingOutputStreamTest() {
+        super();
+    }
+
+    /**
+     * {@link HashingOutputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeTest() throws IOException {
+        HashingOutputStream stream1 = new HashingOutputStream(HashAlgorithms.MD5);
+        stream1.write(1);
+        stream1.write(new byte[]{0, 2, 3, 0}, 1, 2);
+        stream1.write(new byte[]{4, 5});
+        stream1.flush();
+        Assertions.assertThat(stream1.getHash().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        HashingOutputStream stream2 = new HashingOutputStream(HashFunction.getInstance(HashAlgorithms.MD5));
+        stream2.close();
+        Assertions.assertThat(stream2.getHash().getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+
+        HashingOutputStream stream3 = new HashingOutputStream(HashAlgorithms.MD5);
+        stream3.write(new byte[]{1, 2});
+        Assertions.assertThat(stream3.getHash().getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2}, HashAlgorithms.MD5).getBytes());
+    }
+
+    /**
+     * {@link HashingOutputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void teeWriteTest() throws IOException {
+        ByteArrayOutputStream downstream1 = new ByteArrayOutputStream();
+        HashingOutputStream stream1 = new HashingOutputStream(downstream1, HashAlgorithms.MD5);
+        stream1.write(1);
+        stream1.write(new byte[]{0, 2, 3, 0}, 1, 2);
+        stream1.write(new byte[]{4, 5});
+        Assertions.assertThat(downstream1.toByteArray()).containsExactlyInOrder(1, 2, 3, 4, 5);
+        Assertions.assertThat(stream1.getHash().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+
+        ByteArrayOutputStream downstream2 = new ByteArrayOutputStream();
+        HashingOutputStream stream2 = new HashingOutputStream(downstream2, HashFunction.getInstance(HashAlgorithms.MD5));
+        stream2.write(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(downstream2.toByteArray()).containsExactlyInOrder(1, 2, 3, 4, 5);
+        Assertions.assertThat(stream2.isHashValid(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104})).isTrue();
+        Assertions.assertThat(stream2.isHashValid(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 105})).isFalse();
+    }
+
+    /**
+     * {@link HashingOutputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void writeAfterHashFailTest() throws IOException {
+        ByteArrayOutputStream downstream = new ByteArrayOutputStream();
+        HashingOutputStream stream = new HashingOutputStream(downstream, HashAlgorithms.MD5);
+        stream.write(1);
+        Hash hash = stream.getHash();
+        Assertions.assertThat(stream.getHash()).isSameAs(hash);
+        try {
+            stream.write(2);
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        try {
+            stream.write(new byte[]{2, 3}, 0, 2);
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        Assertions.assertThat(downstream.toByteArray()).containsExactlyInOrder(1);
+    }
+
+    /**
+     * {@link HashingOutputStream} class test.
+     */
+    @Test
+    public void createFailTest() {
+        try {
+            new HashingOutputStream((String) null);
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            new HashingOutputStream((HashFunction) null);
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+        try {
+            new HashingOutputStream(null, HashAlgorithms.MD5);
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Target stream is null");
+        }
+        try {
+            new HashingOutputStream(null, HashFunction.getInstance(HashAlgorithms.MD5));
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Target stream is null");
+        }
+        try {
+            new HashingOutputStream(new ByteArrayOutputStream(), (String) null);
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            new HashingOutputStream(new ByteArrayOutputStream(), (HashFunction) null, true);
+            Assertions.fail("HashingOutputStream test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link HashingOutputStream} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void closeTest() throws IOException {
+        CloseCountOutputStream downstream1 = new CloseCountOutputStream();
+        HashingOutputStream stream1 = new HashingOutputStream(downstream1, HashAlgorithms.MD5);
+        stream1.close();
+        Assertions.assertThat(downstream1.getFlushCount()).isEqualTo(1);
+        Assertions.assertThat(downstream1.getCloseCount()).isEqualTo(0);
+
+        CloseCountOutputStream downstream2 = new CloseCountOutputStream();
+        HashingOutputStream stream2 = new HashingOutputStream(downstream2, HashAlgorithms.MD5, false);
+        stream2.flush();
+        stream2.close();
+        Assertions.assertThat(downstream2.getFlushCount()).isEqualTo(2);
+        Assertions.assertThat(downstream2.getCloseCount()).isEqualTo(0);
+
+        CloseCountOutputStream downstream3 = new CloseCountOutputStream();
+        HashingOutputStream stream3 = new HashingOutputStream(downstream3, HashFunction.getInstance(HashAlgorithms.MD5), true);
+        stream3.close();
+        Assertions.assertThat(downstream3.getCloseCount()).isEqualTo(1);
+
+        CloseCountOutputStream downstream4 = new CloseCountOutputStream();
+        try (OutputStream stream4 = new HashingOutputStream(downstream4, HashAlgorithms.MD5)) {
+            stream4.write(new byte[]{1, 2, 3, 4, 5});
+        }
+        Assertions.assertThat(downstream4.getCloseCount()).isEqualTo(0);
+        Assertions.assertThat(downstream4.toByteArray()).containsExactlyInOrder(1, 2, 3, 4, 5);
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class CloseCountOutputStream extends ByteArrayOutputStream {
+
+        private int _flushCount;
+
+        private int _closeCount;
+
+        CloseCountOutputStream() {
+            super();
+            _flushCount = 0;
+            _closeCount = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            _flushCount++;
+            super.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            _closeCount++;
+            super.close();
+        }
+
+        int getFlushCount() {
+            return _flushCount;
+        }
+
+        int getCloseCount() {
+            return _closeCount;
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link IncrementalHash}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class IncrementalHashTest {
+
+    /**
+     * Test class constructor.
+     */
+    public IncrementalHashTest() {
+        super();
+    }
+
+    /**
+     * {@link IncrementalHash} class test.
+     */
+    @Test
+    public void updateTest() {
+        IncrementalHash incrementalHash = new IncrementalHash(HashFunction.getInstance(HashAlgorithms.MD5));
+        incrementalHash.update((byte) 1);
+        incrementalHash.update(new byte[]{0, 2, 3, 0}, 1, 2);
+        incrementalHash.update(ByteBuffer.wrap(new byte[]{4, 5}));
+        Assertions.assertThat(incrementalHash.getHash().getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+    /**
+     * {@link IncrementalHash} class test.
+     */
+    @Test
+    public void getHashTest() {
+        HashFunction hashFunction = HashFunction.getInstance(HashAlgorithms.MD5);
+        IncrementalHash incrementalHash = new IncrementalHash(hashFunction);
+        int idleCount = hashFunction.getMessageDigestPool().getIdleCount();
+        Hash hash = incrementalHash.getHash();
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+        Assertions.assertThat(incrementalHash.getHash()).isSameAs(hash);
+        Assertions.assertThat(hashFunction.getMessageDigestPool().getIdleCount()).isGreaterThanOrEqualTo(Math.min(idleCount + 1, MessageDigestPool.MAX_IDLE_COUNT));
+    }
+
+    /**
+     * {@link IncrementalHash} class test.
+     */
+    @Test
+    public void updateFailTest() {
+        IncrementalHash incrementalHash = new IncrementalHash(HashFunction.getInstance(HashAlgorithms.MD5));
+        incrementalHash.checkHashNotComputed();
+        incrementalHash.getHash();
+        try {
+            incrementalHash.checkHashNotComputed();
+            Assertions.fail("IncrementalHash test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        try {
+            incrementalHash.update((byte) 1);
+            Assertions.fail("IncrementalHash test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        try {
+            incrementalHash.update(new byte[]{1}, 0, 1);
+            Assertions.fail("IncrementalHash test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+        try {
+            incrementalHash.update(ByteBuffer.wrap(new byte[]{1}));
+            Assertions.fail("IncrementalHash test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is already computed");
+        }
+    }
+
+    /**
+     * {@link IncrementalHash} class test.
+     */
+    @Test
+    public void createFailTest() {
+        try {
+            new IncrementalHash(null);
+            Assertions.fail("IncrementalHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link MappedBufferCleaner}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MappedBufferCleanerTest {
+
+    /**
+     * Test class constructor.
+     */
+    public MappedBufferCleanerTest() {
+        super();
+    }
+
+    /**
+     * {@link MappedBufferCleaner} class test.
+     */
+    @Test
+    public void getInstanceTest() {
+        Assertions.assertThat(MappedBufferCleaner.getInstance()).isNotNull();
+        Assertions.assertThat(MappedBufferCleaner.getInstance()).isSameAs(MappedBufferCleaner.getInstance());
+        Assertions.assertThat(MappedBufferCleaner.getInstance().isSupported()).isTrue();
+    }
+
+    /**
+     * {@link MappedBufferCleaner} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void cleanTest() throws IOException {
+        Path path = Files.createTempFile("hash", ".tmp");
+        path.toFile().deleteOnExit();
+        Files.write(path, new byte[]{1, 2, 3, 4, 5});
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Assertions.assertThat(buffer.get(4)).isEqualTo((byte) 5);
+            Assertions.assertThat(MappedBufferCleaner.getInstance().clean(buffer.duplicate())).isFalse();
+            Assertions.assertThat(MappedBufferCleaner.getInstance().clean(buffer)).isTrue();
+        }
+        Files.delete(path);
+        Assertions.assertThat(Files.exists(path)).isFalse();
+    }
+
+    /**
+     * {@link MappedBufferCleaner} class test.
+     */
+    @Test
+    public void cleanHeapBufferTest() {
+        Assertions.assertThat(MappedBufferCleaner.getInstance().clean(ByteBuffer.allocate(10))).isFalse();
+    }
+
+    /**
+     * {@link MappedBufferCleaner} class test.
+     */
+    @Test
+    public void notSupportedTest() {
+        MappedBufferCleaner cleaner1 = MappedBufferCleaner.newInstance("ru.d_shap.hash.WrongUnsafe");
+        Assertions.assertThat(cleaner1.isSupported()).isFalse();
+        Assertions.assertThat(cleaner1.clean(ByteBuffer.allocateDirect(10))).isFalse();
+
+        MappedBufferCleaner cleaner2 = MappedBufferCleaner.newInstance(String.class.getName());
+        Assertions.assertThat(cleaner2.isSupported()).isFalse();
+        Assertions.assertThat(cleaner2.clean(ByteBuffer.allocateDirect(10))).isFalse();
+
+        MappedBufferCleaner cleaner3 = MappedBufferCleaner.newInstance(WrongUnsafe.class.getName());
+        Assertions.assertThat(cleaner3.isSupported()).isFalse();
+        Assertions.assertThat(cleaner3.clean(ByteBuffer.allocateDirect(10))).isFalse();
+
+        MappedBufferCleaner cleaner4 = MappedBufferCleaner.newInstance(MappedBufferCleaner.UNSAFE_CLASS_NAME);
+        Assertions.assertThat(cleaner4.isSupported()).isTrue();
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class WrongUnsafe {
+
+        /**
+         * Create new object.
+         */
+        public WrongUnsafe() {
+            super();
+        }
+
+        /**
+         * Test method.
+         *
+         * @param buffer the buffer.
+         */
+        public void invokeCleaner(final ByteBuffer buffer) {
+            buffer.clear();
+        }
+
+    }
+
+}
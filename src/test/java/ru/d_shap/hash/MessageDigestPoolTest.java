@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link MessageDigestPool}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MessageDigestPoolTest {
+
+    /**
+     * Test class constructor.
+     */
+    public MessageDigestPoolTest() {
+        super();
+    }
+
+    /**
+     * {@link MessageDigestPool} class test.
+     */
+    @Test
+    public void getDigestFactoryTest() {
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.MD5).getMessageDigestPool().getDigestFactory()).isSameAs(DigestFactory.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(DigestFactory.getInstance(HashAlgorithms.SHA256).getMessageDigestPool().getDigestFactory()).isSameAs(DigestFactory.getInstance(HashAlgorithms.SHA256));
+    }
+
+    /**
+     * {@link MessageDigestPool} class test.
+     */
+    @Test
+    public void acquireTest() {
+        MessageDigestPool messageDigestPool = DigestFactory.getInstance(HashAlgorithms.SHA1).getMessageDigestPool();
+        MessageDigest messageDigest1 = messageDigestPool.acquire();
+        MessageDigest messageDigest2 = messageDigestPool.acquire();
+        Assertions.assertThat(messageDigest1).isNotSameAs(messageDigest2);
+        Assertions.assertThat(messageDigest1.getAlgorithm()).isEqualTo(HashAlgorithms.SHA1);
+        Assertions.assertThat(messageDigest2.getAlgorithm()).isEqualTo(HashAlgorithms.SHA1);
+        messageDigestPool.release(messageDigest1);
+        messageDigestPool.release(messageDigest2);
+    }
+
+    /**
+     * {@link MessageDigestPool} class test.
+     */
+    @Test
+    public void releaseResetTest() {
+        MessageDigestPool messageDigestPool = DigestFactory.getInstance(HashAlgorithms.MD5).getMessageDigestPool();
+        List<MessageDigest> messageDigests = new ArrayList<>();
+        for (int i = 0; i < MessageDigestPool.MAX_IDLE_COUNT; i++) {
+            MessageDigest messageDigest = messageDigestPool.acquire();
+            messageDigest.update(new byte[]{1, 2, 3, 4, 5});
+            messageDigests.add(messageDigest);
+        }
+        for (MessageDigest messageDigest : messageDigests) {
+            messageDigestPool.release(messageDigest);
+        }
+        for (int i = 0; i < MessageDigestPool.MAX_IDLE_COUNT; i++) {
+            MessageDigest messageDigest = messageDigestPool.acquire();
+            Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+            messageDigestPool.release(messageDigest);
+        }
+    }
+
+    /**
+     * {@link MessageDigestPool} class test.
+     */
+    @Test
+    public void releaseMaxIdleCountTest() {
+        MessageDigestPool messageDigestPool = DigestFactory.getInstance(HashAlgorithms.SHA384).getMessageDigestPool();
+        List<MessageDigest> messageDigests = new ArrayList<>();
+        for (int i = 0; i < MessageDigestPool.MAX_IDLE_COUNT + 2; i++) {
+            messageDigests.add(messageDigestPool.acquire());
+        }
+        Assertions.assertThat(messageDigestPool.getIdleCount()).isEqualTo(0);
+        for (MessageDigest messageDigest : messageDigests) {
+            messageDigestPool.release(messageDigest);
+        }
+        Assertions.assertThat(messageDigestPool.getIdleCount()).isEqualTo(MessageDigestPool.MAX_IDLE_COUNT);
+    }
+
+    /**
+     * {@link MessageDigestPool} class test.
+     */
+    @Test
+    public void hashDoesNotHoldMessageDigestTest() {
+        MessageDigestPool messageDigestPool = DigestFactory.getInstance(HashAlgorithms.SHA512).getMessageDigestPool();
+        List<MessageDigest> messageDigests = new ArrayList<>();
+        for (int i = 0; i < MessageDigestPool.MAX_IDLE_COUNT; i++) {
+            messageDigests.add(messageDigestPool.acquire());
+        }
+        for (MessageDigest messageDigest : messageDigests) {
+            messageDigestPool.release(messageDigest);
+        }
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA512);
+        Assertions.assertThat(messageDigestPool.getIdleCount()).isEqualTo(MessageDigestPool.MAX_IDLE_COUNT);
+        hash.addSalt(new byte[]{1, 2, 3});
+        Assertions.assertThat(messageDigestPool.getIdleCount()).isEqualTo(MessageDigestPool.MAX_IDLE_COUNT);
+    }
+
+}
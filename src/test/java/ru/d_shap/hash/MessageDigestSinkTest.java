@@ -0,0 +1,59 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link MessageDigestSink}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MessageDigestSinkTest {
+
+    /**
+     * Test class constructor.
+     */
+    public MessageDigestSinkTest() {
+        super();
+    }
+
+    /**
+     * {@link MessageDigestSink} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void updateTest() throws Exception {
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.MD5);
+        MessageDigestSink digestSink = new MessageDigestSink(messageDigest);
+        digestSink.update(new byte[]{0, 1, 2, 3, 0}, 1, 3);
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{4, 5});
+        digestSink.update(buffer);
+        Assertions.assertThat(buffer.remaining()).isEqualTo(0);
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+}
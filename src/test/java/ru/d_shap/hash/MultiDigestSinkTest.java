@@ -0,0 +1,488 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigestSpi;
+import java.security.Provider;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link MultiDigestSink}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MultiDigestSinkTest {
+
+    private static final CountDownLatch STARTED_LATCH = new CountDownLatch(1);
+
+    private static final CountDownLatch RELEASE_LATCH = new CountDownLatch(1);
+
+    /**
+     * Test class constructor.
+     */
+    public MultiDigestSinkTest() {
+        super();
+    }
+
+    /**
+     * {@link MultiDigestSink} class test.
+     */
+    @Test
+    public void updateTest() {
+        MultiDigestSink digestSink = new MultiDigestSink(createHashFunctions(HashAlgorithms.MD5, HashAlgorithms.SHA1), null);
+        try {
+            digestSink.update(new byte[]{0, 1, 2, 3, 0}, 1, 3);
+            digestSink.update(ByteBuffer.wrap(new byte[]{4, 5}));
+            Hash[] hashes = digestSink.getHashes();
+            Assertions.assertThat(hashes.length).isEqualTo(2);
+            Assertions.assertThat(hashes[0].getBytes()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(hashes[1].getBytes()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+        } finally {
+            digestSink.release();
+        }
+
+        MultiDigestSink emptyDigestSink = new MultiDigestSink(createHashFunctions(), null);
+        try {
+            emptyDigestSink.update(new byte[]{1, 2, 3, 4, 5}, 0, 5);
+            Assertions.assertThat(emptyDigestSink.getHashes().length).isEqualTo(0);
+        } finally {
+            emptyDigestSink.release();
+        }
+    }
+
+    /**
+     * {@link MultiDigestSink} class test.
+     */
+    @Test
+    public void parallelUpdateTest() {
+        byte[] bytes = createBytes(MultiDigestSink.PARALLEL_UPDATE_THRESHOLD * 3);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiDigestSink digestSink = new MultiDigestSink(createHashFunctions(HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256), executor);
+            try {
+                digestSink.update(new byte[]{1, 2, 3}, 0, 3);
+                digestSink.update(bytes, 0, bytes.length);
+                ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+                buffer.put(bytes);
+                buffer.flip();
+                digestSink.update(buffer);
+                Assertions.assertThat(buffer.position()).isEqualTo(bytes.length);
+                assertHashes(digestSink.getHashes(), new byte[]{1, 2, 3}, bytes, bytes);
+            } finally {
+                digestSink.release();
+            }
+
+            MultiDigestSink singleDigestSink = new MultiDigestSink(createHashFunctions(HashAlgorithms.SHA256), executor);
+            try {
+                singleDigestSink.update(bytes, 0, bytes.length);
+                Assertions.assertThat(singleDigestSink.getHashes()[0].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+            } finally {
+                singleDigestSink.release();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link MultiDigestSink} class test.
+     */
+    @Test
+    public void rejectedUpdateTest() {
+        byte[] bytes = createBytes(MultiDigestSink.PARALLEL_UPDATE_THRESHOLD * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        executor.shutdown();
+        MultiDigestSink digestSink = new MultiDigestSink(createHashFunctions(HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256), executor);
+        try {
+            digestSink.update(bytes, 0, bytes.length);
+            assertHashes(digestSink.getHashes(), bytes);
+        } finally {
+            digestSink.release();
+        }
+    }
+
+    /**
+     * {@link MultiDigestSink} class test.
+     */
+    @Test
+    public void notStartedUpdateTest() {
+        byte[] bytes = createBytes(MultiDigestSink.PARALLEL_UPDATE_THRESHOLD * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.submit(new LatchTask(latch));
+            MultiDigestSink digestSink = new MultiDigestSink(createHashFunctions(HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256), executor);
+            try {
+                digestSink.update(bytes, 0, bytes.length);
+                digestSink.update(ByteBuffer.wrap(bytes));
+                assertHashes(digestSink.getHashes(), bytes, bytes);
+            } finally {
+                digestSink.release();
+            }
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link MultiDigestSink} class test.
+     */
+    @Test
+    public void interruptedUpdateTest() {
+        byte[] bytes = createBytes(MultiDigestSink.PARALLEL_UPDATE_THRESHOLD * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.submit(new LatchTask(latch));
+            MultiDigestSink digestSink = new MultiDigestSink(createHashFunctions(HashAlgorithms.MD5, HashAlgorithms.SHA1), executor);
+            try {
+                Thread.currentThread().interrupt();
+                digestSink.update(bytes, 0, bytes.length);
+                Assertions.fail("MultiDigestSink test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(Thread.interrupted()).isTrue();
+                Assertions.assertThat(ex).hasCause(InterruptedIOException.class);
+            } finally {
+                digestSink.release();
+            }
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link MultiDigestSink} class test.
+     *
+     * @throws InterruptedException interrupted exception.
+     */
+    @Test
+    public void interruptedWaitUpdateTest() throws InterruptedException {
+        byte[] bytes = createBytes(MultiDigestSink.PARALLEL_UPDATE_THRESHOLD);
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            HashFunction[] hashFunctions = new HashFunction[]{HashFunction.getInstance(InterruptingUpdateProvider.ALGORITHM, new InterruptingUpdateProvider()), HashFunction.getInstance(BlockingUpdateProvider.ALGORITHM, new BlockingUpdateProvider())};
+            Thread releaseThread = new Thread(new ReleaseTask(RELEASE_LATCH));
+            MultiDigestSink digestSink = new MultiDigestSink(hashFunctions, executor);
+            try {
+                releaseThread.start();
+                digestSink.update(bytes, 0, bytes.length);
+                Assertions.fail("MultiDigestSink test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(Thread.interrupted()).isTrue();
+                Assertions.assertThat(ex).hasCause(InterruptedIOException.class);
+            } finally {
+                digestSink.release();
+            }
+            releaseThread.join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link MultiDigestSink} class test.
+     */
+    @Test
+    public void parallelUpdateFailTest() {
+        byte[] bytes = createBytes(MultiDigestSink.PARALLEL_UPDATE_THRESHOLD);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            HashFunction[] hashFunctions = new HashFunction[]{HashFunction.getInstance(HashAlgorithms.MD5), HashFunction.getInstance(FailingUpdateProvider.ALGORITHM, new FailingUpdateProvider())};
+            MultiDigestSink digestSink = new MultiDigestSink(hashFunctions, executor);
+            try {
+                digestSink.update(bytes, 0, bytes.length);
+                Assertions.fail("MultiDigestSink test fail");
+            } catch (IllegalStateException ex) {
+                Assertions.assertThat(ex).hasCause(UnsupportedOperationException.class);
+            } finally {
+                digestSink.release();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static HashFunction[] createHashFunctions(final String... algorithms) {
+        HashFunction[] hashFunctions = new HashFunction[algorithms.length];
+        for (int i = 0; i < algorithms.length; i++) {
+            hashFunctions[i] = HashFunction.getInstance(algorithms[i]);
+        }
+        return hashFunctions;
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+    private static void assertHashes(final Hash[] hashes, final byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, bytes, offset, part.length);
+            offset += part.length;
+        }
+        String[] algorithms = new String[]{HashAlgorithms.MD5, HashAlgorithms.SHA1, HashAlgorithms.SHA256};
+        for (int i = 0; i < hashes.length; i++) {
+            Assertions.assertThat(hashes[i].getBytes()).containsExactlyInOrder(HashHelper.getHash(bytes, algorithms[i]).getBytes());
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class LatchTask implements Runnable {
+
+        private final CountDownLatch _latch;
+
+        LatchTask(final CountDownLatch latch) {
+            super();
+            _latch = latch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                _latch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReleaseTask implements Runnable {
+
+        private final CountDownLatch _latch;
+
+        ReleaseTask(final CountDownLatch latch) {
+            super();
+            _latch = latch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            _latch.countDown();
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailingUpdateProvider extends Provider {
+
+        static final String ALGORITHM = "FAILING-UPDATE";
+
+        private static final long serialVersionUID = 1L;
+
+        FailingUpdateProvider() {
+            super("FailingUpdateProvider", 1.0, "Failing update message digest provider");
+            put("MessageDigest." + ALGORITHM, FailingUpdateMessageDigestSpi.class.getName());
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class FailingUpdateMessageDigestSpi extends MessageDigestSpi {
+
+        /**
+         * Create new object.
+         */
+        public FailingUpdateMessageDigestSpi() {
+            super();
+        }
+
+        @Override
+        protected void engineUpdate(final byte input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void engineUpdate(final byte[] input, final int offset, final int len) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected byte[] engineDigest() {
+            return new byte[]{1, 2, 3};
+        }
+
+        @Override
+        protected void engineReset() {
+            // Ignore
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class InterruptingUpdateProvider extends Provider {
+
+        static final String ALGORITHM = "INTERRUPTING-UPDATE";
+
+        private static final long serialVersionUID = 1L;
+
+        InterruptingUpdateProvider() {
+            super("InterruptingUpdateProvider", 1.0, "Interrupting update message digest provider");
+            put("MessageDigest." + ALGORITHM, InterruptingUpdateMessageDigestSpi.class.getName());
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class InterruptingUpdateMessageDigestSpi extends MessageDigestSpi {
+
+        /**
+         * Create new object.
+         */
+        public InterruptingUpdateMessageDigestSpi() {
+            super();
+        }
+
+        @Override
+        protected void engineUpdate(final byte input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void engineUpdate(final byte[] input, final int offset, final int len) {
+            try {
+                STARTED_LATCH.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            Thread.currentThread().interrupt();
+        }
+
+        @Override
+        protected byte[] engineDigest() {
+            return new byte[]{1, 2, 3};
+        }
+
+        @Override
+        protected void engineReset() {
+            // Ignore
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class BlockingUpdateProvider extends Provider {
+
+        static final String ALGORITHM = "BLOCKING-UPDATE";
+
+        private static final long serialVersionUID = 1L;
+
+        BlockingUpdateProvider() {
+            super("BlockingUpdateProvider", 1.0, "Blocking update message digest provider");
+            put("MessageDigest." + ALGORITHM, BlockingUpdateMessageDigestSpi.class.getName());
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    public static final class BlockingUpdateMessageDigestSpi extends MessageDigestSpi {
+
+        /**
+         * Create new object.
+         */
+        public BlockingUpdateMessageDigestSpi() {
+            super();
+        }
+
+        @Override
+        protected void engineUpdate(final byte input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void engineUpdate(final byte[] input, final int offset, final int len) {
+            STARTED_LATCH.countDown();
+            try {
+                RELEASE_LATCH.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        protected byte[] engineDigest() {
+            return new byte[]{1, 2, 3};
+        }
+
+        @Override
+        protected void engineReset() {
+            // Ignore
+        }
+
+    }
+
+}
@@ -0,0 +1,693 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link PipelinedStreamReader}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class PipelinedStreamReaderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public PipelinedStreamReaderTest() {
+        super();
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     */
+    @Test
+    public void updateDigestSinkTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThat(getHash(new byte[]{1, 2, 3, 4, 5}, 2, executor)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(getHash(new byte[]{1, 2, 3, 4, 5}, 5, executor)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(getHash(new byte[]{1, 2, 3, 4, 5}, HashHelper.ADAPTIVE_BUFFER_SIZE, executor)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(getHash(new byte[]{}, 2, executor)).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+
+            byte[] bytes = createBytes(PipelinedStreamReader.DEFAULT_BUFFER_SIZE * PipelinedStreamReader.BUFFER_COUNT * 3 + 5);
+            byte[] hash = HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes();
+            Assertions.assertThat(getHash(bytes, HashHelper.ADAPTIVE_BUFFER_SIZE, executor)).containsExactlyInOrder(hash);
+            Assertions.assertThat(getHash(bytes, 1000, executor)).containsExactlyInOrder(hash);
+            Assertions.assertThat(getHash(new PartialInputStream(bytes), 1000, executor)).containsExactlyInOrder(hash);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws Exception exception in test.
+     */
+    @Test
+    public void notStartedTest() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.execute(new LatchTask(latch));
+            MessageDigest messageDigest = HashFunction.getInstance(HashAlgorithms.MD5).getDigestFactory().newMessageDigest();
+            EndlessInputStream stream = new EndlessInputStream(5);
+            PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(stream, 2);
+            Future<Void> future = executor.submit(pipelinedStreamReader);
+            pipelinedStreamReader.updateDigestSink(new MessageDigestSink(messageDigest), future);
+            Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 1, 1, 1, 1}, HashAlgorithms.MD5).getBytes());
+            Assertions.assertThat(stream.awaitClose()).isTrue();
+            Assertions.assertThat(future.isDone()).isFalse();
+
+            executor.execute(new LatchTask(latch));
+            Assertions.assertThat(getHash(new byte[]{1, 2, 3, 4}, 2, executor)).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4}, HashAlgorithms.MD5).getBytes());
+            Assertions.assertThat(getHash(new byte[]{}, 2, executor)).containsExactlyInOrder(-44, 29, -116, -39, -113, 0, -78, 4, -23, -128, 9, -104, -20, -8, 66, 126);
+            try {
+                getHash(new ErrorInputStream(true, false), 2, executor);
+                Assertions.fail("PipelinedStreamReader test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(ex).toCause().hasMessage("read fail");
+            }
+
+            latch.countDown();
+            Assertions.assertThat(future.get()).isNull();
+            Assertions.assertThat(stream.getCloseCount()).isEqualTo(1);
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void interruptedTest() throws IOException {
+        PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2);
+        pipelinedStreamReader.call();
+        MessageDigest messageDigest = HashFunction.getInstance(HashAlgorithms.MD5).getDigestFactory().newMessageDigest();
+        Thread.currentThread().interrupt();
+        try {
+            pipelinedStreamReader.updateDigestSink(new MessageDigestSink(messageDigest), new InterruptedFuture());
+            Assertions.fail("PipelinedStreamReader test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+            Assertions.assertThat(ex).hasCause(InterruptedIOException.class);
+            Assertions.assertThat(ex).toCause().hasMessage(PipelinedStreamReader.INTERRUPTED_MESSAGE);
+        }
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void interruptedWaitTest() throws IOException {
+        PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2);
+        pipelinedStreamReader.call();
+        MessageDigest messageDigest = HashFunction.getInstance(HashAlgorithms.MD5).getDigestFactory().newMessageDigest();
+        try {
+            pipelinedStreamReader.updateDigestSink(new MessageDigestSink(messageDigest), new InterruptedFuture());
+            Assertions.fail("PipelinedStreamReader test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+            Assertions.assertThat(ex).hasCause(InterruptedIOException.class);
+        }
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void interruptedNotStartedTest() throws InterruptedException {
+        EndlessInputStream stream = new EndlessInputStream(-1);
+        PipelinedStreamReader pipelinedStreamReader1 = new PipelinedStreamReader(stream, 2);
+        FutureTask<Void> future = new FutureTask<>(pipelinedStreamReader1);
+        Thread.currentThread().interrupt();
+        try {
+            pipelinedStreamReader1.updateDigestSink(new FailingDigestSink(), future);
+            Assertions.fail("PipelinedStreamReader test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+            Assertions.assertThat(ex).hasCause(InterruptedIOException.class);
+        }
+        Assertions.assertThat(future.isCancelled()).isTrue();
+        Assertions.assertThat(stream.awaitClose()).isTrue();
+
+        PipelinedStreamReader pipelinedStreamReader2 = new PipelinedStreamReader(new ErrorInputStream(false, true), 2);
+        Thread.currentThread().interrupt();
+        try {
+            pipelinedStreamReader2.updateDigestSink(new FailingDigestSink(), new FutureTask<>(pipelinedStreamReader2));
+            Assertions.fail("PipelinedStreamReader test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+            Assertions.assertThat(ex).toCause().hasMessage("close fail");
+        }
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void readerInterruptedTest() throws InterruptedException {
+        EndlessInputStream stream = new EndlessInputStream(-1);
+        PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(stream, 2);
+        Thread.currentThread().interrupt();
+        try {
+            pipelinedStreamReader.call();
+            Assertions.fail("PipelinedStreamReader test fail");
+        } catch (IOException ex) {
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+            Assertions.assertThat(ex).isInstanceOf(InterruptedIOException.class);
+        }
+        Assertions.assertThat(stream.awaitClose()).isTrue();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Thread shutdownThread = new Thread(new ShutdownTask(executor));
+        shutdownThread.start();
+        try {
+            getHash(new EndlessInputStream(-1), 2, executor);
+            Assertions.fail("PipelinedStreamReader test fail");
+        } catch (HashIOException ex) {
+            Assertions.assertThat(ex).hasCause(InterruptedIOException.class);
+        }
+        shutdownThread.join();
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void cancelledReaderTest() throws InterruptedException {
+        BlockingInputStream stream = new BlockingInputStream(new byte[]{1, 2, 3, 4, 5});
+        PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(stream, 2);
+        Thread readerThread = new Thread(new ReaderTask(pipelinedStreamReader));
+        readerThread.start();
+        try {
+            stream.awaitRead();
+            pipelinedStreamReader.updateDigestSink(new FailingDigestSink(), new ReaderFuture(null, null, 1));
+            Assertions.fail("PipelinedStreamReader test fail");
+        } catch (CancellationException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        } finally {
+            stream.release();
+        }
+        readerThread.join();
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void slowReaderTest() throws InterruptedException {
+        BlockingInputStream stream = new BlockingInputStream(new byte[]{1, 2, 3, 4, 5});
+        PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(stream, 2);
+        Thread readerThread = new Thread(new ReaderTask(pipelinedStreamReader));
+        readerThread.start();
+        stream.awaitRead();
+        MessageDigest messageDigest = HashFunction.getInstance(HashAlgorithms.MD5).getDigestFactory().newMessageDigest();
+        pipelinedStreamReader.updateDigestSink(new MessageDigestSink(messageDigest), new ReaderFuture(stream, readerThread, 2));
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).getBytes());
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     */
+    @Test
+    public void readFailTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            try {
+                getHash(new ErrorInputStream(true, false), 2, executor);
+                Assertions.fail("PipelinedStreamReader test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(ex).hasCause(IOException.class);
+                Assertions.assertThat(ex).toCause().hasMessage("read fail");
+            }
+            try {
+                getHash(new ErrorInputStream(false, true), 2, executor);
+                Assertions.fail("PipelinedStreamReader test fail");
+            } catch (HashIOException ex) {
+                Assertions.assertThat(ex).hasCause(IOException.class);
+                Assertions.assertThat(ex).toCause().hasMessage("close fail");
+            }
+            try {
+                getHash(new RuntimeErrorInputStream(), 2, executor);
+                Assertions.fail("PipelinedStreamReader test fail");
+            } catch (IllegalStateException ex) {
+                Assertions.assertThat(ex).hasCause(UnsupportedOperationException.class);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedStreamReader} class test.
+     *
+     * @throws InterruptedException exception in test.
+     */
+    @Test
+    public void digestSinkFailTest() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            EndlessInputStream stream = new EndlessInputStream();
+            PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(stream, 2);
+            Future<Void> future = executor.submit(pipelinedStreamReader);
+            try {
+                pipelinedStreamReader.updateDigestSink(new FailingDigestSink(), future);
+                Assertions.fail("PipelinedStreamReader test fail");
+            } catch (UnsupportedOperationException ex) {
+                Assertions.assertThat(ex).hasMessage("update fail");
+            }
+            Assertions.assertThat(future.isCancelled()).isTrue();
+            Assertions.assertThat(stream.awaitClose()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] getHash(final byte[] bytes, final int bufferSize, final ExecutorService executor) {
+        return getHash(new ByteArrayInputStream(bytes), bufferSize, executor);
+    }
+
+    private static byte[] getHash(final InputStream stream, final int bufferSize, final ExecutorService executor) {
+        MessageDigest messageDigest = HashFunction.getInstance(HashAlgorithms.MD5).getDigestFactory().newMessageDigest();
+        PipelinedStreamReader pipelinedStreamReader = new PipelinedStreamReader(stream, bufferSize);
+        pipelinedStreamReader.updateDigestSink(new MessageDigestSink(messageDigest), executor.submit(pipelinedStreamReader));
+        return messageDigest.digest();
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class PartialInputStream extends ByteArrayInputStream {
+
+        PartialInputStream(final byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(final byte[] bytes, final int offset, final int length) {
+            return super.read(bytes, offset, Math.min(length, 7));
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ErrorInputStream extends InputStream {
+
+        private final boolean _readFail;
+
+        private final boolean _closeFail;
+
+        ErrorInputStream(final boolean readFail, final boolean closeFail) {
+            super();
+            _readFail = readFail;
+            _closeFail = closeFail;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (_readFail) {
+                throw new IOException("read fail");
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (_closeFail) {
+                throw new IOException("close fail");
+            }
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RuntimeErrorInputStream extends InputStream {
+
+        RuntimeErrorInputStream() {
+            super();
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException("read fail");
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class EndlessInputStream extends InputStream {
+
+        private final CountDownLatch _closeLatch;
+
+        private final AtomicInteger _closeCount;
+
+        private int _length;
+
+        EndlessInputStream() {
+            this(-1);
+        }
+
+        EndlessInputStream(final int length) {
+            super();
+            _closeLatch = new CountDownLatch(1);
+            _closeCount = new AtomicInteger(0);
+            _length = length;
+        }
+
+        @Override
+        public int read() {
+            if (_length == 0) {
+                return -1;
+            }
+            if (_length > 0) {
+                _length--;
+            }
+            return 1;
+        }
+
+        @Override
+        public void close() {
+            _closeCount.incrementAndGet();
+            _closeLatch.countDown();
+        }
+
+        boolean awaitClose() throws InterruptedException {
+            return _closeLatch.await(10, TimeUnit.SECONDS);
+        }
+
+        int getCloseCount() {
+            return _closeCount.get();
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class BlockingInputStream extends ByteArrayInputStream {
+
+        private final CountDownLatch _readLatch;
+
+        private final CountDownLatch _releaseLatch;
+
+        BlockingInputStream(final byte[] bytes) {
+            super(bytes);
+            _readLatch = new CountDownLatch(1);
+            _releaseLatch = new CountDownLatch(1);
+        }
+
+        @Override
+        public synchronized int read(final byte[] bytes, final int offset, final int length) {
+            _readLatch.countDown();
+            try {
+                _releaseLatch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return super.read(bytes, offset, length);
+        }
+
+        void awaitRead() throws InterruptedException {
+            _readLatch.await();
+        }
+
+        void release() {
+            _releaseLatch.countDown();
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReaderTask implements Runnable {
+
+        private final PipelinedStreamReader _pipelinedStreamReader;
+
+        ReaderTask(final PipelinedStreamReader pipelinedStreamReader) {
+            super();
+            _pipelinedStreamReader = pipelinedStreamReader;
+        }
+
+        @Override
+        public void run() {
+            try {
+                _pipelinedStreamReader.call();
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class LatchTask implements Runnable {
+
+        private final CountDownLatch _latch;
+
+        LatchTask(final CountDownLatch latch) {
+            super();
+            _latch = latch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                _latch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ShutdownTask implements Runnable {
+
+        private final ExecutorService _executor;
+
+        ShutdownTask(final ExecutorService executor) {
+            super();
+            _executor = executor;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            _executor.shutdownNow();
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailingDigestSink implements DigestSink {
+
+        FailingDigestSink() {
+            super();
+        }
+
+        @Override
+        public void update(final byte[] bytes, final int offset, final int length) {
+            throw new UnsupportedOperationException("update fail");
+        }
+
+        @Override
+        public void update(final ByteBuffer buffer) {
+            throw new UnsupportedOperationException("update fail");
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class InterruptedFuture implements Future<Void> {
+
+        InterruptedFuture() {
+            super();
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDone() {
+            return true;
+        }
+
+        @Override
+        public Void get() throws InterruptedException {
+            throw new InterruptedException();
+        }
+
+        @Override
+        public Void get(final long timeout, final TimeUnit unit) {
+            return null;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReaderFuture implements Future<Void> {
+
+        private final BlockingInputStream _stream;
+
+        private final Thread _readerThread;
+
+        private int _doneCount;
+
+        ReaderFuture(final BlockingInputStream stream, final Thread readerThread, final int doneCount) {
+            super();
+            _stream = stream;
+            _readerThread = readerThread;
+            _doneCount = doneCount;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return _stream == null;
+        }
+
+        @Override
+        public boolean isDone() {
+            _doneCount--;
+            if (_doneCount > 0) {
+                return false;
+            }
+            if (_stream != null) {
+                _stream.release();
+                try {
+                    _readerThread.join();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Void get() {
+            if (_stream == null) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public Void get(final long timeout, final TimeUnit unit) {
+            return null;
+        }
+
+    }
+
+}
@@ -129,4 +129,48 @@ public final class SaltOrderTest {
         SaltOrder.FIXED_SALT_FIRST.addSalt(hash, storedSalt, null);
     }
 
+    /**
+     * {@link SaltOrder} class test.
+     */
+    @Test
+    public void storedSaltRangeFirstTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        byte[] storedSalt = new byte[]{1, 10, 11, 2};
+        byte[] fixedSalt = new byte[]{21, 22};
+        SaltOrder.STORED_SALT_FIRST.addSalt(hash, storedSalt, 1, 2, fixedSalt, 1);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(126, 35, 24, 110, 18, -4, 100, 98, 114, -28, -85, 35, 91, -7, -17, 73);
+    }
+
+    /**
+     * {@link SaltOrder} class test.
+     */
+    @Test
+    public void fixedSaltFirstRangeTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        byte[] storedSalt = new byte[]{1, 10, 11, 2};
+        byte[] fixedSalt = new byte[]{21, 22};
+        SaltOrder.FIXED_SALT_FIRST.addSalt(hash, storedSalt, 1, 2, fixedSalt, 1);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(-69, -67, -64, 87, -124, -113, -70, 9, 28, -65, 100, 55, -42, -46, 77, 99);
+    }
+
+    /**
+     * {@link SaltOrder} class test.
+     */
+    @Test
+    public void iteratedSaltTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        SaltOrder.STORED_SALT_FIRST.addSalt(hash, new byte[]{10, 11}, new byte[]{21, 22});
+        SaltOrder.STORED_SALT_FIRST.addSalt(hash, new byte[]{10, 11}, new byte[]{21, 22});
+        Hash iteratedHash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        SaltOrder.STORED_SALT_FIRST.addSalt(iteratedHash, new byte[]{10, 11}, 0, 2, new byte[]{21, 22}, 2);
+        Assertions.assertThat(iteratedHash.getBytes()).containsExactlyInOrder(hash.getBytes());
+
+        hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        SaltOrder.FIXED_SALT_FIRST.addSalt(hash, new byte[]{10, 11}, new byte[]{21, 22});
+        SaltOrder.FIXED_SALT_FIRST.addSalt(hash, new byte[]{10, 11}, new byte[]{21, 22});
+        iteratedHash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        SaltOrder.FIXED_SALT_FIRST.addSalt(iteratedHash, new byte[]{10, 11}, 0, 2, new byte[]{21, 22}, 2);
+        Assertions.assertThat(iteratedHash.getBytes()).containsExactlyInOrder(hash.getBytes());
+    }
+
 }
@@ -247,4 +247,66 @@ public final class SaltStoreTypeTest {
         SaltStoreType.AT_THE_END.getHashBytes(new byte[]{1, 2, 3, 4, 5, 6}, -1);
     }
 
+    /**
+     * {@link SaltStoreType} class test.
+     */
+    @Test
+    public void getOffsetDoNotStoreTest() {
+        Assertions.assertThat(SaltStoreType.DO_NOT_STORE.getSaltOffset(18, 2)).isEqualTo(0);
+        Assertions.assertThat(SaltStoreType.DO_NOT_STORE.getHashOffset(18, 2)).isEqualTo(0);
+    }
+
+    /**
+     * {@link SaltStoreType} class test.
+     */
+    @Test
+    public void getOffsetAtTheBeginningTest() {
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.getSaltOffset(18, 2)).isEqualTo(0);
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.getHashOffset(18, 2)).isEqualTo(2);
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.getSaltOffset(18, 0)).isEqualTo(0);
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.getHashOffset(18, 0)).isEqualTo(0);
+    }
+
+    /**
+     * {@link SaltStoreType} class test.
+     */
+    @Test
+    public void getOffsetAtTheEndTest() {
+        Assertions.assertThat(SaltStoreType.AT_THE_END.getSaltOffset(18, 2)).isEqualTo(16);
+        Assertions.assertThat(SaltStoreType.AT_THE_END.getHashOffset(18, 2)).isEqualTo(0);
+        Assertions.assertThat(SaltStoreType.AT_THE_END.getSaltOffset(18, 0)).isEqualTo(18);
+        Assertions.assertThat(SaltStoreType.AT_THE_END.getHashOffset(18, 0)).isEqualTo(0);
+    }
+
+    /**
+     * {@link SaltStoreType} class test.
+     */
+    @Test
+    public void iterationsLengthTest() {
+        Assertions.assertThat(SaltStoreType.ITERATIONS_LENGTH).isEqualTo(4);
+    }
+
+    /**
+     * {@link SaltStoreType} class test.
+     */
+    @Test
+    public void addIteratedSaltBytesTest() {
+        Assertions.assertThat(SaltStoreType.DO_NOT_STORE.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{4, 5}, 1000)).containsExactlyInOrder(1, 2, 3);
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{4, 5}, 1000)).containsExactlyInOrder(0, 0, 3, -24, 4, 5, 1, 2, 3);
+        Assertions.assertThat(SaltStoreType.AT_THE_END.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{4, 5}, 1000)).containsExactlyInOrder(1, 2, 3, 0, 0, 3, -24, 4, 5);
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.addSaltBytes(new byte[]{1, 2, 3}, new byte[]{}, 0x7F10FF01)).containsExactlyInOrder(127, 16, -1, 1, 1, 2, 3);
+    }
+
+    /**
+     * {@link SaltStoreType} class test.
+     */
+    @Test
+    public void getIterationsTest() {
+        Assertions.assertThat(SaltStoreType.DO_NOT_STORE.getIterations(new byte[]{1, 2, 3}, 6)).isEqualTo(1);
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.getIterations(new byte[]{0, 0, 3, -24, 4, 5, 1, 2, 3}, 6)).isEqualTo(1000);
+        Assertions.assertThat(SaltStoreType.AT_THE_END.getIterations(new byte[]{1, 2, 3, 0, 0, 3, -24, 4, 5}, 6)).isEqualTo(1000);
+        Assertions.assertThat(SaltStoreType.AT_THE_BEGINNING.getIterations(new byte[]{127, 16, -1, 1, 1, 2, 3}, 4)).isEqualTo(0x7F10FF01);
+        Assertions.assertThat(SaltStoreType.AT_THE_END.getIterations(new byte[]{1, 2, 3, 127, 16, -1, 1}, 4)).isEqualTo(0x7F10FF01);
+    }
+
 }
@@ -213,88 +213,6 @@ public final class ByteArrayHashWithSalt2BuilderTest {
         }
     }
 
-    /**
-     * {@link ByteArrayHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addStoredSaltTest() {
-        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
-
-        ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
-        builder.setFixedSalt(new byte[]{100, 101, 102});
-        builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-        builder.addSalt(hash, new byte[]{10, 11});
-        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(95, 120, -45, -63, 46, 32, -100, 115, -48, -65, -69, 71, 12, -90, 79, -31);
-    }
-
-    /**
-     * {@link ByteArrayHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullHashStoredSaltTest() {
-        try {
-            ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(null, new byte[]{10, 11});
-            Assertions.fail("ByteArrayHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Hash is null");
-        }
-    }
-
-    /**
-     * {@link ByteArrayHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullStoredSaltStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(hash, null);
-            Assertions.fail("ByteArrayHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Stored salt is null");
-        }
-    }
-
-    /**
-     * {@link ByteArrayHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullFixedSaltStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
-            builder.setFixedSalt(null);
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(hash, new byte[]{10, 11});
-            Assertions.fail("ByteArrayHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Fixed salt is null");
-        }
-    }
-
-    /**
-     * {@link ByteArrayHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullSaltOrderStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(null);
-            builder.addSalt(hash, new byte[]{10, 11});
-            Assertions.fail("ByteArrayHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Salt order is null");
-        }
-    }
-
     /**
      * {@link ByteArrayHashWithSalt2Builder} class test.
      */
@@ -422,6 +340,76 @@ public final class ByteArrayHashWithSalt2BuilderTest {
         Assertions.assertThat(builder.getSaltStoreType()).isNull();
     }
 
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void getRangeHashTest() {
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}, 0, 5).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).getHash()).containsExactlyInOrder(90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{0, 0, 1, 2, 3, 4, 5, 0}, 2, 5).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).getHash()).containsExactlyInOrder(90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{0, 0, 1, 2, 3, 4, 5, 0}, 2, 5).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setStoredHash(new byte[]{90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void getWrongRangeHashFailTest() {
+        try {
+            new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}, 3, 3).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).getHash();
+            Assertions.fail("ByteArrayHashWithSalt2Builder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 5]");
+        }
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void addStoredSaltRangeTest() {
+        ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
+        builder.setFixedSalt(new byte[]{20, 30, 40});
+        builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
+        builder.setSaltStoreType(SaltStoreType.AT_THE_BEGINNING);
+        builder.setStoredHash(new byte[]{10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71});
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        Assertions.assertThat(builder.addStoredSalt(hash, 2)).isSameAs(hash);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+
+        builder.setSaltStoreType(SaltStoreType.AT_THE_END);
+        builder.setStoredHash(new byte[]{90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71, 10, 11});
+        hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        Assertions.assertThat(builder.addStoredSalt(hash, 2)).isSameAs(hash);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void addStoredSaltRangeFailTest() {
+        try {
+            ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
+            builder.setFixedSalt(new byte[]{20, 30, 40});
+            builder.setSaltStoreType(SaltStoreType.AT_THE_BEGINNING);
+            builder.setStoredHash(new byte[]{10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71});
+            builder.addStoredSalt(null, 2);
+            Assertions.fail("ByteArrayHashWithSalt2Builder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is null");
+        }
+        try {
+            ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
+            builder.setSaltStoreType(SaltStoreType.AT_THE_BEGINNING);
+            builder.setStoredHash(new byte[]{10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71});
+            builder.addStoredSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), 2);
+            Assertions.fail("ByteArrayHashWithSalt2Builder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Fixed salt is null");
+        }
+    }
+
     /**
      * {@link ByteArrayHashWithSalt2Builder} class test.
      */
@@ -765,4 +753,109 @@ public final class ByteArrayHashWithSalt2BuilderTest {
         }
     }
 
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void getMaxIterationsTest() {
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(null).getMaxIterations()).isEqualTo(SaltStoreType.DEFAULT_MAX_ITERATIONS);
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(null).setMaxIterations(1000).getMaxIterations()).isEqualTo(1000);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void setMaxIterationsTest() {
+        ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
+        Assertions.assertThat(builder.setMaxIterations(5)).isSameAs(builder);
+        Assertions.assertThat(builder.getMaxIterations()).isEqualTo(5);
+        builder.setMaxIterations(7);
+        Assertions.assertThat(builder.getMaxIterations()).isEqualTo(7);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void isWrongStoredIterationsHashValidTest() {
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 0, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{-1, -1, -1, -1, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setMaxIterations(2).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void getIterationsTest() {
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(null).getIterations()).isEqualTo(1);
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(null).setIterations(1000).getIterations()).isEqualTo(1000);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void setIterationsTest() {
+        ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
+        Assertions.assertThat(builder.setIterations(5)).isSameAs(builder);
+        Assertions.assertThat(builder.getIterations()).isEqualTo(5);
+        builder.setIterations(7);
+        Assertions.assertThat(builder.getIterations()).isEqualTo(7);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void isIterationsStoredTest() {
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(null).isIterationsStored()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(null).setIterationsStored(true).isIterationsStored()).isTrue();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void setIterationsStoredTest() {
+        ByteArrayHashWithSalt2Builder builder = new ByteArrayHashWithSalt2Builder(null);
+        Assertions.assertThat(builder.setIterationsStored(true)).isSameAs(builder);
+        Assertions.assertThat(builder.isIterationsStored()).isTrue();
+        builder.setIterationsStored(false);
+        Assertions.assertThat(builder.isIterationsStored()).isFalse();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void getIteratedHashTest() {
+        Hash iteratedHash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        HashHelper.addSalt(iteratedHash, new byte[]{10, 11}, new byte[]{20, 30, 40}, SaltOrder.STORED_SALT_FIRST, 3);
+        byte[] hash = iteratedHash.getBytes();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(3).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(3).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(HashHelper.addSaltBytes(hash, new byte[]{10, 11}, SaltStoreType.AT_THE_BEGINNING));
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(3).setIterationsStored(true).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(3).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_BEGINNING));
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(3).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).getHash()).containsExactlyInOrder(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END));
+    }
+
+    /**
+     * {@link ByteArrayHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void isIteratedHashValidTest() {
+        Hash iteratedHash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        HashHelper.addSalt(iteratedHash, new byte[]{10, 11}, new byte[]{20, 30, 40}, SaltOrder.STORED_SALT_FIRST, 3);
+        byte[] hash = iteratedHash.getBytes();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(3).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(hash).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(2).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(hash).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(3).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterations(2).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 2, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
 }
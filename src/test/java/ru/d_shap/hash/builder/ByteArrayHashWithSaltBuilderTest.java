@@ -24,6 +24,7 @@ import org.junit.Test;
 import ru.d_shap.assertions.Assertions;
 import ru.d_shap.hash.Hash;
 import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashFunction;
 import ru.d_shap.hash.HashHelper;
 import ru.d_shap.hash.SaltStoreType;
 
@@ -83,6 +84,48 @@ public final class ByteArrayHashWithSaltBuilderTest {
         Assertions.assertThat(salt2).containsExactlyInOrder(salt);
     }
 
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getSaltHashFunctionTest() {
+        HashWithSaltBuilder builder = HashBuilder.newHashWithSaltBuilder(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(new byte[]{4, 5, 6});
+        HashFunction hashFunction = builder.getSaltHashFunction();
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE2B_256);
+        Assertions.assertThat(hashFunction).isNotSameAs(HashFunction.getInstance(HashAlgorithms.BLAKE2B_256));
+        Assertions.assertThat(builder.getSaltHashFunction()).isSameAs(hashFunction);
+        Assertions.assertThat(builder.setSalt(new byte[]{4, 5, 6}).getSaltHashFunction()).isSameAs(hashFunction);
+        Assertions.assertThat(builder.setSalt(new byte[]{4, 5, 7}).getSaltHashFunction()).isNotSameAs(hashFunction);
+        hashFunction = builder.getSaltHashFunction();
+        Assertions.assertThat(builder.setAlgorithm(HashAlgorithms.BLAKE2S_256).getSaltHashFunction()).isNotSameAs(hashFunction);
+        Assertions.assertThat(builder.getSaltHashFunction().getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE2S_256);
+        Assertions.assertThat(builder.setSalt(new byte[0]).getSaltHashFunction()).isSameAs(HashFunction.getInstance(HashAlgorithms.BLAKE2S_256));
+        Assertions.assertThat(builder.setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{4, 5, 6}).getSaltHashFunction()).isSameAs(HashFunction.getInstance(HashAlgorithms.MD5));
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getStoredSaltHashFunctionTest() {
+        byte[] storedHash1 = HashBuilder.newHashWithSaltBuilder(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(new byte[]{4, 5, 6}).setSaltStoreType(SaltStoreType.AT_THE_END).getHash();
+        byte[] storedHash2 = HashBuilder.newHashWithSaltBuilder(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSalt(new byte[]{4, 5, 7}).setSaltStoreType(SaltStoreType.AT_THE_END).getHash();
+        HashWithSaltBuilder builder = HashBuilder.newHashWithSaltBuilder(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.BLAKE2B_256).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(storedHash1);
+        HashFunction hashFunction = builder.getStoredSaltHashFunction(3);
+        Assertions.assertThat(hashFunction.getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE2B_256);
+        Assertions.assertThat(builder.getStoredSaltHashFunction(3)).isSameAs(hashFunction);
+        Assertions.assertThat(builder.setSalt(new byte[]{4, 5, 6}).getSaltHashFunction()).isSameAs(hashFunction);
+        Assertions.assertThat(builder.isHashValid()).isTrue();
+        Assertions.assertThat(builder.getStoredSaltHashFunction(4)).isNotSameAs(hashFunction);
+        hashFunction = builder.getStoredSaltHashFunction(3);
+        Assertions.assertThat(builder.setStoredHash(storedHash2).getStoredSaltHashFunction(3)).isNotSameAs(hashFunction);
+        Assertions.assertThat(builder.isHashValid()).isTrue();
+        hashFunction = builder.getStoredSaltHashFunction(3);
+        Assertions.assertThat(builder.setAlgorithm(HashAlgorithms.BLAKE2S_256).getStoredSaltHashFunction(3)).isNotSameAs(hashFunction);
+        Assertions.assertThat(builder.getStoredSaltHashFunction(3).getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE2S_256);
+        Assertions.assertThat(builder.getStoredSaltHashFunction(0)).isSameAs(HashFunction.getInstance(HashAlgorithms.BLAKE2S_256));
+    }
+
     /**
      * {@link ByteArrayHashWithSaltBuilder} class test.
      */
@@ -224,6 +267,107 @@ public final class ByteArrayHashWithSaltBuilderTest {
         Assertions.assertThat(builder.getSaltStoreType()).isNull();
     }
 
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getRangeHashTest() {
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}, 0, 5).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{0, 0, 1, 2, 3, 4, 5, 0}, 2, 5).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{0, 0, 1, 2, 3, 4, 5, 0}, 2, 5).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getWrongRangeHashFailTest() {
+        try {
+            new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}, 3, 3).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash();
+            Assertions.fail("ByteArrayHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 5]");
+        }
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addStoredSaltTest() {
+        ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+        builder.setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23});
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        Assertions.assertThat(builder.addStoredSalt(hash, SaltStoreType.AT_THE_BEGINNING, 2, 0, 1)).isSameAs(hash);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+
+        builder.setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23, 10, 11});
+        hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5);
+        Assertions.assertThat(builder.addStoredSalt(hash, SaltStoreType.AT_THE_END, 2, 0, 1)).isSameAs(hash);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addStoredSaltFailTest() {
+        try {
+            ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+            builder.setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23});
+            builder.addStoredSalt(null, SaltStoreType.AT_THE_BEGINNING, 2, 0, 1);
+            Assertions.fail("ByteArrayHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is null");
+        }
+        try {
+            ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+            builder.setStoredHash(new byte[]{10, 11});
+            builder.addStoredSalt(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), SaltStoreType.AT_THE_BEGINNING, 2, 0, 1);
+            Assertions.fail("ByteArrayHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [0; 2)");
+        }
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void matchesStoredHashTest() {
+        ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{10, 11});
+        builder.setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23});
+        Assertions.assertThat(builder.matchesStoredHash(hash, SaltStoreType.AT_THE_BEGINNING, 2)).isTrue();
+        Assertions.assertThat(builder.matchesStoredHash(hash, SaltStoreType.AT_THE_END, 2)).isFalse();
+        builder.setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23, 10, 11});
+        Assertions.assertThat(builder.matchesStoredHash(hash, SaltStoreType.AT_THE_END, 2)).isTrue();
+        Assertions.assertThat(builder.matchesStoredHash(hash, SaltStoreType.AT_THE_BEGINNING, 2)).isFalse();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void matchesStoredHashFailTest() {
+        try {
+            ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+            builder.setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23});
+            builder.matchesStoredHash(null, SaltStoreType.AT_THE_BEGINNING, 2);
+            Assertions.fail("ByteArrayHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is null");
+        }
+        try {
+            ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+            builder.setStoredHash(new byte[]{10, 11});
+            builder.matchesStoredHash(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5), SaltStoreType.AT_THE_BEGINNING, 2);
+            Assertions.fail("ByteArrayHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [0; 2)");
+        }
+    }
+
     /**
      * {@link ByteArrayHashWithSaltBuilder} class test.
      */
@@ -470,4 +614,119 @@ public final class ByteArrayHashWithSaltBuilderTest {
         }
     }
 
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getMaxIterationsTest() {
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(null).getMaxIterations()).isEqualTo(SaltStoreType.DEFAULT_MAX_ITERATIONS);
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(null).setMaxIterations(1000).getMaxIterations()).isEqualTo(1000);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void setMaxIterationsTest() {
+        ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+        Assertions.assertThat(builder.setMaxIterations(5)).isSameAs(builder);
+        Assertions.assertThat(builder.getMaxIterations()).isEqualTo(5);
+        builder.setMaxIterations(7);
+        Assertions.assertThat(builder.getMaxIterations()).isEqualTo(7);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isWrongStoredIterationsHashValidTest() {
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 0, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{-1, -1, -1, -1, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setMaxIterations(2).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getIterationsTest() {
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(null).getIterations()).isEqualTo(1);
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(null).setIterations(1000).getIterations()).isEqualTo(1000);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void setIterationsTest() {
+        ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+        Assertions.assertThat(builder.setIterations(5)).isSameAs(builder);
+        Assertions.assertThat(builder.getIterations()).isEqualTo(5);
+        builder.setIterations(7);
+        Assertions.assertThat(builder.getIterations()).isEqualTo(7);
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isIterationsStoredTest() {
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(null).isIterationsStored()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(null).setIterationsStored(true).isIterationsStored()).isTrue();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void setIterationsStoredTest() {
+        ByteArrayHashWithSaltBuilder builder = new ByteArrayHashWithSaltBuilder(null);
+        Assertions.assertThat(builder.setIterationsStored(true)).isSameAs(builder);
+        Assertions.assertThat(builder.isIterationsStored()).isTrue();
+        builder.setIterationsStored(false);
+        Assertions.assertThat(builder.isIterationsStored()).isFalse();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getIteratedHashTest() {
+        byte[] hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{10, 11}, 3).getBytes();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setIterations(3).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setIterations(3).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(HashHelper.addSaltBytes(hash, new byte[]{10, 11}, SaltStoreType.AT_THE_BEGINNING));
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setIterations(3).setIterationsStored(true).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(hash);
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setIterations(3).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_BEGINNING));
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setIterations(3).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).getHash()).containsExactlyInOrder(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END));
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isIteratedHashValidTest() {
+        byte[] hash = HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.MD5).addSalt(new byte[]{10, 11}, 3).getBytes();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setIterations(3).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(hash).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setIterations(2).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(hash).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterations(3).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterations(2).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setMaxIterations(3).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(hash, new byte[]{0, 0, 0, 2, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
+    /**
+     * {@link ByteArrayHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isIteratedHashValidFailTest() {
+        try {
+            new ByteArrayHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{0, 0, 3, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25}).isHashValid();
+            Assertions.fail("ByteArrayHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [4; 19)");
+        }
+    }
+
 }
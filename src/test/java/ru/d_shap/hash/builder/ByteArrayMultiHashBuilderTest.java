@@ -0,0 +1,140 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.builder;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashFunction;
+import ru.d_shap.hash.HashHelper;
+
+/**
+ * Tests for {@link ByteArrayMultiHashBuilder}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ByteArrayMultiHashBuilderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ByteArrayMultiHashBuilderTest() {
+        super();
+    }
+
+    /**
+     * {@link ByteArrayMultiHashBuilder} class test.
+     */
+    @Test
+    public void getAlgorithmsTest() {
+        Assertions.assertThat(new ByteArrayMultiHashBuilder(null).getAlgorithms()).containsExactlyInOrder();
+        Assertions.assertThat(new ByteArrayMultiHashBuilder(null).addAlgorithm(HashAlgorithms.MD5).getAlgorithms()).containsExactlyInOrder(HashAlgorithms.MD5);
+        Assertions.assertThat(new ByteArrayMultiHashBuilder(null).addAlgorithm(HashAlgorithms.MD5).addHashFunction(HashFunction.getInstance(HashAlgorithms.SHA1)).getAlgorithms()).containsExactlyInOrder(HashAlgorithms.MD5, HashAlgorithms.SHA1);
+    }
+
+    /**
+     * {@link ByteArrayMultiHashBuilder} class test.
+     */
+    @Test
+    public void addAlgorithmFailTest() {
+        try {
+            new ByteArrayMultiHashBuilder(null).addAlgorithm(null);
+            Assertions.fail("ByteArrayMultiHashBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            new ByteArrayMultiHashBuilder(null).addHashFunction(null);
+            Assertions.fail("ByteArrayMultiHashBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash function is null");
+        }
+    }
+
+    /**
+     * {@link ByteArrayMultiHashBuilder} class test.
+     */
+    @Test
+    public void setExecutorTest() {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            ByteArrayMultiHashBuilder builder = new ByteArrayMultiHashBuilder(null);
+            Assertions.assertThat(builder.getExecutor()).isNull();
+            Assertions.assertThat(builder.setExecutor(executor)).isSameAs(builder);
+            Assertions.assertThat(builder.getExecutor()).isSameAs(executor);
+            builder.setExecutor(null);
+            Assertions.assertThat(builder.getExecutor()).isNull();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link ByteArrayMultiHashBuilder} class test.
+     */
+    @Test
+    public void getHashesTest() {
+        Map<String, byte[]> hashes1 = new ByteArrayMultiHashBuilder(new byte[]{1, 2, 3, 4, 5}).addAlgorithm(HashAlgorithms.SHA1).addAlgorithm(HashAlgorithms.MD5).getHashes();
+        Assertions.assertThat(new ArrayList<>(hashes1.keySet())).containsExactlyInOrder(HashAlgorithms.SHA1, HashAlgorithms.MD5);
+        Assertions.assertThat(hashes1.get(HashAlgorithms.MD5)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(hashes1.get(HashAlgorithms.SHA1)).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+
+        Assertions.assertThat(new ByteArrayMultiHashBuilder(new byte[]{1, 2, 3, 4, 5}).getHashes()).isEmpty();
+
+        byte[] bytes = createBytes(200000);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Map<String, byte[]> hashes2 = new ByteArrayMultiHashBuilder(bytes).addAlgorithm(HashAlgorithms.MD5).addAlgorithm(HashAlgorithms.SHA256).setExecutor(executor).getHashes();
+            Assertions.assertThat(new ArrayList<>(hashes2.keySet())).containsExactlyInOrder(HashAlgorithms.MD5, HashAlgorithms.SHA256);
+            Assertions.assertThat(hashes2.get(HashAlgorithms.MD5)).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.MD5).getBytes());
+            Assertions.assertThat(hashes2.get(HashAlgorithms.SHA256)).containsExactlyInOrder(HashHelper.getHash(bytes, HashAlgorithms.SHA256).getBytes());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@link ByteArrayMultiHashBuilder} class test.
+     */
+    @Test
+    public void getNullSourceHashesFailTest() {
+        try {
+            new ByteArrayMultiHashBuilder(null).addAlgorithm(HashAlgorithms.MD5).getHashes();
+            Assertions.fail("ByteArrayMultiHashBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -24,6 +24,7 @@ import org.junit.Test;
 import ru.d_shap.assertions.Assertions;
 import ru.d_shap.hash.Hash;
 import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashFunction;
 import ru.d_shap.hash.HashHelper;
 import ru.d_shap.hash.SaltStoreType;
 
@@ -64,6 +65,45 @@ public final class ByteArraySimpleHashBuilderTest {
         Assertions.assertThat(builder.getAlgorithm()).isNull();
     }
 
+    /**
+     * {@link ByteArraySimpleHashBuilder} class test.
+     */
+    @Test
+    public void getHashFunctionTest() {
+        ByteArraySimpleHashBuilder builder = new ByteArraySimpleHashBuilder(null);
+        Assertions.assertThat(builder.getHashFunction()).isSameAs(HashFunction.getInstance(HashAlgorithms.MD5));
+        Assertions.assertThat(builder.getHashFunction()).isSameAs(HashFunction.getInstance(HashAlgorithms.MD5));
+        builder.setAlgorithm(HashAlgorithms.SHA256);
+        Assertions.assertThat(builder.getHashFunction()).isSameAs(HashFunction.getInstance(HashAlgorithms.SHA256));
+        builder.setAlgorithm(null);
+        try {
+            builder.getHashFunction();
+            Assertions.fail("ByteArraySimpleHashBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+    }
+
+    /**
+     * {@link ByteArraySimpleHashBuilder} class test.
+     */
+    @Test
+    public void setHashFunctionTest() {
+        ByteArraySimpleHashBuilder builder = new ByteArraySimpleHashBuilder(new byte[]{1, 2, 3, 4, 5});
+        builder.setHashFunction(HashFunction.getInstance(HashAlgorithms.SHA1));
+        Assertions.assertThat(builder.getAlgorithm()).isEqualTo(HashAlgorithms.SHA1);
+        Assertions.assertThat(builder.getHashFunction()).isSameAs(HashFunction.getInstance(HashAlgorithms.SHA1));
+        Assertions.assertThat(builder.getHash()).containsExactlyInOrder(17, -106, 106, -71, -64, -103, -8, -6, -66, -6, -59, 76, 8, -43, -66, 43, -40, -55, 3, -81);
+        builder.setHashFunction(null);
+        Assertions.assertThat(builder.getAlgorithm()).isNull();
+        try {
+            builder.getHash();
+            Assertions.fail("ByteArraySimpleHashBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+    }
+
     /**
      * {@link ByteArraySimpleHashBuilder} class test.
      */
@@ -236,6 +276,29 @@ public final class ByteArraySimpleHashBuilderTest {
         }
     }
 
+    /**
+     * {@link ByteArraySimpleHashBuilder} class test.
+     */
+    @Test
+    public void getRangeHashTest() {
+        Assertions.assertThat(new ByteArraySimpleHashBuilder(new byte[]{1, 2, 3, 4, 5}, 0, 5).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(new ByteArraySimpleHashBuilder(new byte[]{0, 0, 1, 2, 3, 4, 5, 0}, 2, 5).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(new ByteArraySimpleHashBuilder(new byte[]{0, 0, 1, 2, 3, 4, 5, 0}, 2, 5).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link ByteArraySimpleHashBuilder} class test.
+     */
+    @Test
+    public void getWrongRangeHashFailTest() {
+        try {
+            new ByteArraySimpleHashBuilder(new byte[]{1, 2, 3, 4, 5}, 3, 3).setAlgorithm(HashAlgorithms.MD5).getHash();
+            Assertions.fail("ByteArraySimpleHashBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 5]");
+        }
+    }
+
     /**
      * {@link ByteArraySimpleHashBuilder} class test.
      */
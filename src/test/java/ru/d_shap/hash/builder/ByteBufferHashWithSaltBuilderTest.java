@@ -0,0 +1,515 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.builder;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.Hash;
+import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashHelper;
+import ru.d_shap.hash.SaltStoreType;
+
+/**
+ * Tests for {@link ByteBufferHashWithSaltBuilder}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ByteBufferHashWithSaltBuilderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ByteBufferHashWithSaltBuilderTest() {
+        super();
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getSaltTest() {
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(null).getSalt()).isNull();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(null).setSalt(new byte[]{1, 2, 3}).getSalt()).containsExactlyInOrder(1, 2, 3);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void setSaltTest() {
+        ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+        builder.setSalt(new byte[]{1, 2, 3});
+        Assertions.assertThat(builder.getSalt()).containsExactlyInOrder(1, 2, 3);
+        builder.setSalt(new byte[]{10, 11});
+        Assertions.assertThat(builder.getSalt()).containsExactlyInOrder(10, 11);
+        builder.setSalt(new byte[]{});
+        Assertions.assertThat(builder.getSalt()).containsExactlyInOrder();
+        builder.setSalt(null);
+        Assertions.assertThat(builder.getSalt()).isNull();
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void saltDifferentTest() {
+        ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+        byte[] salt = new byte[]{1, 2, 3};
+        builder.setSalt(salt);
+        byte[] salt1 = builder.getSalt();
+        byte[] salt2 = builder.getSalt();
+        Assertions.assertThat(salt1).isNotSameAs(salt);
+        Assertions.assertThat(salt2).isNotSameAs(salt);
+        Assertions.assertThat(salt1).isNotSameAs(salt2);
+        Assertions.assertThat(salt1).containsExactlyInOrder(salt);
+        Assertions.assertThat(salt2).containsExactlyInOrder(salt);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addSaltTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
+
+        ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+        builder.setSalt(new byte[]{10, 11});
+        builder.addSalt(hash);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(29, -66, 31, 50, 105, -4, 117, 85, -40, 2, -105, 71, 90, 90, -16, -99);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addNullHashSaltFailTest() {
+        try {
+            ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+            builder.setSalt(new byte[]{10, 11});
+            builder.addSalt(null);
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addNullSaltFailTest() {
+        try {
+            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
+            ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+            builder.setSalt(null);
+            builder.addSalt(hash);
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt byte array is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addSaltBytesTest() {
+        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
+        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
+
+        ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+        builder.setSalt(new byte[]{0, 0, 0});
+        Assertions.assertThat(builder.addSaltBytes(hash)).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
+
+        builder.setSaltStoreType(SaltStoreType.AT_THE_BEGINNING);
+        Assertions.assertThat(builder.addSaltBytes(hash)).containsExactlyInOrder(0, 0, 0, 82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
+
+        builder.setSaltStoreType(SaltStoreType.AT_THE_END);
+        Assertions.assertThat(builder.addSaltBytes(hash)).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84, 0, 0, 0);
+
+        builder.setSaltStoreType(SaltStoreType.DO_NOT_STORE);
+        Assertions.assertThat(builder.addSaltBytes(hash)).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addNullHashSaltBytesFailTest() {
+        try {
+            ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+            builder.setSalt(new byte[]{0, 0, 0});
+            builder.setSaltStoreType(SaltStoreType.AT_THE_BEGINNING);
+            builder.addSaltBytes(null);
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addNullSaltBytesFailTest() {
+        try {
+            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
+            ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+            builder.setSalt(null);
+            builder.setSaltStoreType(SaltStoreType.AT_THE_BEGINNING);
+            builder.addSaltBytes(hash);
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt byte array is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void addNullSaltStoreTypeSaltBytesFailTest() {
+        try {
+            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
+            ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+            builder.setSalt(new byte[]{0, 0, 0});
+            builder.setSaltStoreType(null);
+            builder.addSaltBytes(hash);
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt store type is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getSaltStoreTypeTest() {
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(null).getSaltStoreType()).isEqualTo(SaltStoreType.DO_NOT_STORE);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(null).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getSaltStoreType()).isEqualTo(SaltStoreType.AT_THE_BEGINNING);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(null).setSaltStoreType(SaltStoreType.AT_THE_END).getSaltStoreType()).isEqualTo(SaltStoreType.AT_THE_END);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(null).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getSaltStoreType()).isEqualTo(SaltStoreType.DO_NOT_STORE);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void setSaltStoreTypeTest() {
+        ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(null);
+        Assertions.assertThat(builder.getSaltStoreType()).isEqualTo(SaltStoreType.DO_NOT_STORE);
+        builder.setSaltStoreType(SaltStoreType.AT_THE_BEGINNING);
+        Assertions.assertThat(builder.getSaltStoreType()).isEqualTo(SaltStoreType.AT_THE_BEGINNING);
+        builder.setSaltStoreType(null);
+        Assertions.assertThat(builder.getSaltStoreType()).isNull();
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void bufferPositionUnchangedTest() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0, 0, 1, 2, 3, 4, 5, 0});
+        buffer.position(2);
+        buffer.limit(7);
+        ByteBufferHashWithSaltBuilder builder = new ByteBufferHashWithSaltBuilder(buffer);
+        buffer.position(0);
+        Assertions.assertThat(builder.setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(builder.getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(builder.setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+        Assertions.assertThat(buffer.position()).isEqualTo(0);
+        Assertions.assertThat(buffer.limit()).isEqualTo(7);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getDirectBufferHashTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(5);
+        buffer.put(new byte[]{1, 2, 3, 4, 5});
+        buffer.flip();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(buffer).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(buffer).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+        Assertions.assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getHashTest() {
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59);
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(1, 2, 3, -2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(1, 2, 4, -68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(2, 3, 38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(1, 2, 3, -8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(1, 2, 4, 101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59);
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).getHash()).containsExactlyInOrder(-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95, 1, 2, 3);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).getHash()).containsExactlyInOrder(-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125, 1, 2, 4);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).getHash()).containsExactlyInOrder(38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100, 2, 3);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).getHash()).containsExactlyInOrder(-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44, 1, 2, 3);
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).getHash()).containsExactlyInOrder(101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59, 1, 2, 4);
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getNullHashFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(null).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte buffer is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getNullSaltHashFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(null).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt byte array is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getNullAlgorithmHashFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(null).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getWrongAlgorithmHashFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm("wrong algorithm").setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong algorithm name: wrong algorithm");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getNullSaltStoreTypeHashFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(null).getHash();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt store type is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isHashValidTest() {
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 2}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -96}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -126}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{2, 2}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -101}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 2}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 43}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setSalt(new byte[]{1, 2, 4}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 58}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 3, -2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 2, -2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 3, -2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -96}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 4, -68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 3, -68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 4, -68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -126}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{2, 3, 38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{2, 2, 38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{2, 3, 38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -101}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 3, -8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 2, -8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 3, -8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 43}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 4, 101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 3, 101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 4, 101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 58}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95, 1, 2, 3}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95, 1, 2, 2}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -96, 1, 2, 3}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125, 1, 2, 4}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -125, 1, 2, 3}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-68, -46, 106, 56, -92, 71, -121, -8, -111, -24, -113, 106, 67, 111, 98, -126, 1, 2, 4}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100, 2, 3}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -100, 2, 2}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{38, -19, 127, 116, -118, 11, -127, 102, -115, -2, -16, 53, 38, -22, -26, -101, 2, 3}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44, 1, 2, 3}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 44, 1, 2, 2}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{-8, 125, 3, -95, 17, -82, 3, 100, -52, 60, -78, 67, -63, 33, 58, 43, 1, 2, 3}).isHashValid()).isFalse();
+
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59, 1, 2, 4}).isHashValid()).isTrue();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 59, 1, 2, 3}).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 6})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(new byte[]{101, -59, 51, -74, 107, -56, -95, -20, 58, -53, 114, 33, -9, 18, 42, 58, 1, 2, 4}).isHashValid()).isFalse();
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isNullHashValidFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(null).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte buffer is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isNullSaltHashValidFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(null).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt byte array is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isNullAlgorithmHashValidFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(null).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isWrongAlgorithmHashValidFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm("wrong algorithm").setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong algorithm name: wrong algorithm");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isNullSaltStoreTypeHashValidFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(null).setStoredHash(new byte[]{-2, 88, 67, -50, -104, -116, 105, 22, -83, 109, 34, 41, 79, 5, 43, -95}).isHashValid();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt store type is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isNullStoredHashHashValidFailTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setSalt(new byte[]{1, 2, 3}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(null).isHashValid();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash byte array is null");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isWrongStoredHashLengthHashValidTest() {
+        try {
+            new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{1, 2, 3, 4, 5, 6}).isHashValid();
+            Assertions.fail("ByteBufferHashWithSaltBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Salt length is not within [0; 6)");
+        }
+    }
+
+    /**
+     * {@link ByteBufferHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isWrongStoredIterationsHashValidTest() {
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 0, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{-1, -1, -1, -1, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+        Assertions.assertThat(new ByteBufferHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setMaxIterations(2).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
+}
@@ -213,88 +213,6 @@ public final class CharSequenceHashWithSalt2BuilderTest {
         }
     }
 
-    /**
-     * {@link CharSequenceHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addStoredSaltTest() {
-        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
-
-        CharSequenceHashWithSalt2Builder builder = new CharSequenceHashWithSalt2Builder(null, null);
-        builder.setFixedSalt(new byte[]{100, 101, 102});
-        builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-        builder.addSalt(hash, new byte[]{10, 11});
-        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(95, 120, -45, -63, 46, 32, -100, 115, -48, -65, -69, 71, 12, -90, 79, -31);
-    }
-
-    /**
-     * {@link CharSequenceHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullHashStoredSaltTest() {
-        try {
-            CharSequenceHashWithSalt2Builder builder = new CharSequenceHashWithSalt2Builder(null, null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(null, new byte[]{10, 11});
-            Assertions.fail("CharSequenceHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Hash is null");
-        }
-    }
-
-    /**
-     * {@link CharSequenceHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullStoredSaltStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            CharSequenceHashWithSalt2Builder builder = new CharSequenceHashWithSalt2Builder(null, null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(hash, null);
-            Assertions.fail("CharSequenceHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Stored salt is null");
-        }
-    }
-
-    /**
-     * {@link CharSequenceHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullFixedSaltStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            CharSequenceHashWithSalt2Builder builder = new CharSequenceHashWithSalt2Builder(null, null);
-            builder.setFixedSalt(null);
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(hash, new byte[]{10, 11});
-            Assertions.fail("CharSequenceHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Fixed salt is null");
-        }
-    }
-
-    /**
-     * {@link CharSequenceHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullSaltOrderStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            CharSequenceHashWithSalt2Builder builder = new CharSequenceHashWithSalt2Builder(null, null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(null);
-            builder.addSalt(hash, new byte[]{10, 11});
-            Assertions.fail("CharSequenceHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Salt order is null");
-        }
-    }
-
     /**
      * {@link CharSequenceHashWithSalt2Builder} class test.
      */
@@ -817,4 +735,14 @@ public final class CharSequenceHashWithSalt2BuilderTest {
         }
     }
 
+    /**
+     * {@link CharSequenceHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void isWrongStoredIterationsHashValidTest() {
+        Assertions.assertThat(new CharSequenceHashWithSalt2Builder("12345", "UTF-8").setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 0, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new CharSequenceHashWithSalt2Builder("12345", "UTF-8").setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{-1, -1, -1, -1, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+        Assertions.assertThat(new CharSequenceHashWithSalt2Builder("12345", "UTF-8").setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setMaxIterations(2).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
 }
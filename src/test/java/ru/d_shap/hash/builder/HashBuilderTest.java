@@ -20,11 +20,20 @@
 package ru.d_shap.hash.builder;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
 import ru.d_shap.hash.HashAlgorithms;
+import ru.d_shap.hash.HashHelper;
 import ru.d_shap.hash.SaltOrder;
 import ru.d_shap.hash.SaltStoreType;
 
@@ -59,6 +68,24 @@ public final class HashBuilderTest {
         Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
     }
 
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newByteArrayRangeSimpleHashBuilderTest() {
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newByteBufferSimpleHashBuilderTest() {
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
+    }
+
     /**
      * {@link HashBuilder} class test.
      */
@@ -77,6 +104,18 @@ public final class HashBuilderTest {
     public void newInputStreamSimpleHashBuilderTest() {
         Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
         Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newPathSimpleHashBuilderTest() {
+        Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(HashBuilder.newSimpleHashBuilder(path).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
     }
 
     /**
@@ -91,6 +130,24 @@ public final class HashBuilderTest {
         Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
     }
 
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newByteArrayRangeHashWithSaltBuilderTest() {
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newByteBufferHashWithSaltBuilderTest() {
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+    }
+
     /**
      * {@link HashBuilder} class test.
      */
@@ -117,6 +174,21 @@ public final class HashBuilderTest {
 
         Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
         Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newPathHashWithSaltBuilderTest() {
+        Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(path).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(path).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(path).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).getHash()).containsExactlyInOrder(10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+        Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(path).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
     }
 
     /**
@@ -131,6 +203,24 @@ public final class HashBuilderTest {
         Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new byte[]{1, 2, 3, 4, 5}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setStoredHash(new byte[]{10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
     }
 
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newByteArrayRangeHashWithSalt2BuilderTest() {
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).getHash()).containsExactlyInOrder(90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new byte[]{0, 1, 2, 3, 4, 5, 0}, 1, 5).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setStoredHash(new byte[]{90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newByteBufferHashWithSalt2BuilderTest() {
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).getHash()).containsExactlyInOrder(90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setStoredHash(new byte[]{90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
+    }
+
     /**
      * {@link HashBuilder} class test.
      */
@@ -157,6 +247,83 @@ public final class HashBuilderTest {
 
         Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).getHash()).containsExactlyInOrder(10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
         Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setStoredHash(new byte[]{10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).getHash()).containsExactlyInOrder(10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setStoredHash(new byte[]{10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newPathHashWithSalt2BuilderTest() {
+        Path path = createFile(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(path).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).getHash()).containsExactlyInOrder(90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(path).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{20, 30, 40}).setStoredHash(new byte[]{90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
+
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(path).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).getHash()).containsExactlyInOrder(10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71);
+        Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(path).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setFixedSalt(new byte[]{20, 30, 40}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setStoredHash(new byte[]{10, 11, 90, 49, 37, 101, -5, 53, 107, 124, -39, 10, -6, -123, 67, -119, 18, -71}).isHashValid()).isTrue();
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newByteArrayMultiHashBuilderTest() {
+        Map<String, byte[]> hashes = HashBuilder.newMultiHashBuilder(new byte[]{1, 2, 3, 4, 5}).addAlgorithm(HashAlgorithms.MD5).addAlgorithm(HashAlgorithms.SHA1).getHashes();
+        Assertions.assertThat(new ArrayList<>(hashes.keySet())).containsExactlyInOrder(HashAlgorithms.MD5, HashAlgorithms.SHA1);
+        Assertions.assertThat(hashes.get(HashAlgorithms.MD5)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(hashes.get(HashAlgorithms.SHA1)).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newInputStreamMultiHashBuilderTest() {
+        Map<String, byte[]> hashes = HashBuilder.newMultiHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).addAlgorithm(HashAlgorithms.MD5).addAlgorithm(HashAlgorithms.SHA1).getHashes();
+        Assertions.assertThat(new ArrayList<>(hashes.keySet())).containsExactlyInOrder(HashAlgorithms.MD5, HashAlgorithms.SHA1);
+        Assertions.assertThat(hashes.get(HashAlgorithms.MD5)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(hashes.get(HashAlgorithms.SHA1)).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newPathMultiHashBuilderTest() {
+        Map<String, byte[]> hashes = HashBuilder.newMultiHashBuilder(createFile(new byte[]{1, 2, 3, 4, 5})).addAlgorithm(HashAlgorithms.MD5).addAlgorithm(HashAlgorithms.SHA1).getHashes();
+        Assertions.assertThat(new ArrayList<>(hashes.keySet())).containsExactlyInOrder(HashAlgorithms.MD5, HashAlgorithms.SHA1);
+        Assertions.assertThat(hashes.get(HashAlgorithms.MD5)).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+        Assertions.assertThat(hashes.get(HashAlgorithms.SHA1)).containsExactlyInOrder(HashHelper.getHash(new byte[]{1, 2, 3, 4, 5}, HashAlgorithms.SHA1).getBytes());
+    }
+
+    /**
+     * {@link HashBuilder} class test.
+     */
+    @Test
+    public void newPipelinedInputStreamHashBuilderTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashBuilder.newSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, null).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+            Assertions.assertThat(HashBuilder.newHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, null).setAlgorithm(HashAlgorithms.MD5).setSalt(new byte[]{10, 11}).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+            Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{100, 101, 102}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).getHash()).containsExactlyInOrder(57, -18, 39, 38, 65, -20, 93, -36, -128, 110, 117, -30, 53, -12, -126, -92);
+            Assertions.assertThat(HashBuilder.newHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, null).setAlgorithm(HashAlgorithms.MD5).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{100, 101, 102}).setSaltOrder(SaltOrder.STORED_SALT_FIRST).getHash()).containsExactlyInOrder(57, -18, 39, 38, 65, -20, 93, -36, -128, 110, 117, -30, 53, -12, -126, -92);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Path createFile(final byte[] bytes) {
+        try {
+            Path path = Files.createTempFile("hash", ".tmp");
+            path.toFile().deleteOnExit();
+            Files.write(path, bytes);
+            return path;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 
 }
@@ -20,6 +20,8 @@
 package ru.d_shap.hash.builder;
 
 import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
@@ -215,88 +217,6 @@ public final class InputStreamHashWithSalt2BuilderTest {
         }
     }
 
-    /**
-     * {@link InputStreamHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addStoredSaltTest() {
-        Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(82, -119, -33, 115, 125, -11, 115, 38, -4, -35, 34, 89, 122, -5, 31, -84);
-
-        InputStreamHashWithSalt2Builder builder = new InputStreamHashWithSalt2Builder(null);
-        builder.setFixedSalt(new byte[]{100, 101, 102});
-        builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-        builder.addSalt(hash, new byte[]{10, 11});
-        Assertions.assertThat(hash.getBytes()).containsExactlyInOrder(95, 120, -45, -63, 46, 32, -100, 115, -48, -65, -69, 71, 12, -90, 79, -31);
-    }
-
-    /**
-     * {@link InputStreamHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullHashStoredSaltTest() {
-        try {
-            InputStreamHashWithSalt2Builder builder = new InputStreamHashWithSalt2Builder(null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(null, new byte[]{10, 11});
-            Assertions.fail("InputStreamHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Hash is null");
-        }
-    }
-
-    /**
-     * {@link InputStreamHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullStoredSaltStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            InputStreamHashWithSalt2Builder builder = new InputStreamHashWithSalt2Builder(null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(hash, null);
-            Assertions.fail("InputStreamHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Stored salt is null");
-        }
-    }
-
-    /**
-     * {@link InputStreamHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullFixedSaltStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            InputStreamHashWithSalt2Builder builder = new InputStreamHashWithSalt2Builder(null);
-            builder.setFixedSalt(null);
-            builder.setSaltOrder(SaltOrder.STORED_SALT_FIRST);
-            builder.addSalt(hash, new byte[]{10, 11});
-            Assertions.fail("InputStreamHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Fixed salt is null");
-        }
-    }
-
-    /**
-     * {@link InputStreamHashWithSalt2Builder} class test.
-     */
-    @Test
-    public void addNullSaltOrderStoredSaltTest() {
-        try {
-            Hash hash = HashHelper.getHash(new byte[]{1, 2, 3}, HashAlgorithms.MD5);
-            InputStreamHashWithSalt2Builder builder = new InputStreamHashWithSalt2Builder(null);
-            builder.setFixedSalt(new byte[]{100, 101, 102});
-            builder.setSaltOrder(null);
-            builder.addSalt(hash, new byte[]{10, 11});
-            Assertions.fail("InputStreamHashWithSalt2Builder test fail");
-        } catch (IllegalArgumentException ex) {
-            Assertions.assertThat(ex).hasMessage("Salt order is null");
-        }
-    }
-
     /**
      * {@link InputStreamHashWithSalt2Builder} class test.
      */
@@ -767,4 +687,29 @@ public final class InputStreamHashWithSalt2BuilderTest {
         }
     }
 
+    /**
+     * {@link InputStreamHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void isWrongStoredIterationsHashValidTest() {
+        Assertions.assertThat(new InputStreamHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 0, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new InputStreamHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{-1, -1, -1, -1, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+        Assertions.assertThat(new InputStreamHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setMaxIterations(2).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
+    /**
+     * {@link InputStreamHashWithSalt2Builder} class test.
+     */
+    @Test
+    public void getPipelinedHashTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThat(new InputStreamHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{100, 101, 102}).setAlgorithm(HashAlgorithms.MD5).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(57, -18, 39, 38, 65, -20, 93, -36, -128, 110, 117, -30, 53, -12, -126, -92);
+            Assertions.assertThat(new InputStreamHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{100, 101, 102}).setAlgorithm(HashAlgorithms.MD5).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{57, -18, 39, 38, 65, -20, 93, -36, -128, 110, 117, -30, 53, -12, -126, -92}).isHashValid()).isTrue();
+            Assertions.assertThat(new InputStreamHashWithSalt2Builder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setStoredSalt(new byte[]{10, 11}).setFixedSalt(new byte[]{100, 101, 102}).setAlgorithm(HashAlgorithms.MD5).setSaltOrder(SaltOrder.STORED_SALT_FIRST).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{10, 11, 57, -18, 39, 38, 65, -20, 93, -36, -128, 110, 117, -30, 53, -12, -126, -92}).isHashValid()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
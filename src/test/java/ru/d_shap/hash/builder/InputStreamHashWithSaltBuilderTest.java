@@ -20,6 +20,8 @@
 package ru.d_shap.hash.builder;
 
 import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
@@ -474,4 +476,29 @@ public final class InputStreamHashWithSaltBuilderTest {
         }
     }
 
+    /**
+     * {@link InputStreamHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void isWrongStoredIterationsHashValidTest() {
+        Assertions.assertThat(new InputStreamHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 0, 10, 11}, SaltStoreType.AT_THE_BEGINNING)).isHashValid()).isFalse();
+        Assertions.assertThat(new InputStreamHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{-1, -1, -1, -1, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+        Assertions.assertThat(new InputStreamHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})).setAlgorithm(HashAlgorithms.MD5).setIterationsStored(true).setMaxIterations(2).setSaltStoreType(SaltStoreType.AT_THE_END).setStoredHash(HashHelper.addSaltBytes(new byte[16], new byte[]{0, 0, 0, 3, 10, 11}, SaltStoreType.AT_THE_END)).isHashValid()).isFalse();
+    }
+
+    /**
+     * {@link InputStreamHashWithSaltBuilder} class test.
+     */
+    @Test
+    public void getPipelinedHashTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThat(new InputStreamHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setSalt(new byte[]{10, 11}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).getHash()).containsExactlyInOrder(-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23);
+            Assertions.assertThat(new InputStreamHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setSalt(new byte[]{10, 11}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.DO_NOT_STORE).setStoredHash(new byte[]{-125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+            Assertions.assertThat(new InputStreamHashWithSaltBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setSalt(new byte[]{10, 11}).setAlgorithm(HashAlgorithms.MD5).setSaltStoreType(SaltStoreType.AT_THE_BEGINNING).setStoredHash(new byte[]{10, 11, -125, -55, 98, 99, -96, 6, -52, 4, 25, 56, -88, -22, 69, -121, -101, -23}).isHashValid()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
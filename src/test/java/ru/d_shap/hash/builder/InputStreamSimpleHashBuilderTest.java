@@ -20,6 +20,8 @@
 package ru.d_shap.hash.builder;
 
 import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
@@ -358,4 +360,19 @@ public final class InputStreamSimpleHashBuilderTest {
         }
     }
 
+    /**
+     * {@link InputStreamSimpleHashBuilder} class test.
+     */
+    @Test
+    public void getPipelinedHashTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThat(new InputStreamSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setAlgorithm(HashAlgorithms.MD5).getHash()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+            Assertions.assertThat(new InputStreamSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), 2, executor).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isTrue();
+            Assertions.assertThat(new InputStreamSimpleHashBuilder(new ByteArrayInputStream(new byte[]{1, 2, 3, 6, 5}), 2, executor).setAlgorithm(HashAlgorithms.MD5).setStoredHash(new byte[]{124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104}).isHashValid()).isFalse();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,140 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link Blake2MessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Blake2MessageDigestSpiTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Blake2MessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link Blake2MessageDigestSpi} class test.
+     */
+    @Test
+    public void blake2bTest() {
+        Blake2MessageDigestSpi messageDigestSpi256 = Blake2MessageDigestSpi.newInstance(HashAlgorithms.BLAKE2B_256, new byte[0]);
+        Assertions.assertThat(messageDigestSpi256).isInstanceOf(Blake2bMessageDigestSpi.class);
+        Assertions.assertThat(messageDigestSpi256.engineGetDigestLength()).isEqualTo(32);
+        messageDigestSpi256.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi256.engineDigest()).containsExactlyInOrder(-67, -35, -127, 60, 99, 66, 57, 114, 49, 113, -17, 63, -18, -104, 87, -101, -108, -106, 78, 59, -79, -53, 62, 66, 114, 98, -56, -64, 104, -43, 35, 25);
+
+        Blake2MessageDigestSpi messageDigestSpi512 = Blake2MessageDigestSpi.newInstance(HashAlgorithms.BLAKE2B_512, new byte[0]);
+        Assertions.assertThat(messageDigestSpi512.engineGetDigestLength()).isEqualTo(64);
+        messageDigestSpi512.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi512.engineDigest()).containsExactlyInOrder(-70, -128, -91, 63, -104, 28, 77, 13, 106, 39, -105, -74, -97, 18, -10, -23, 76, 33, 47, 20, 104, 90, -60, -73, 75, 18, -69, 111, -37, -1, -94, -47, 125, -121, -59, 57, 42, -85, 121, 45, -62, 82, -43, -34, 69, 51, -52, -107, 24, -45, -118, -88, -37, -15, -110, 90, -71, 35, -122, -19, -44, 0, -103, 35);
+        messageDigestSpi512.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi512.engineDigest()).containsExactlyInOrder(-70, -128, -91, 63, -104, 28, 77, 13, 106, 39, -105, -74, -97, 18, -10, -23, 76, 33, 47, 20, 104, 90, -60, -73, 75, 18, -69, 111, -37, -1, -94, -47, 125, -121, -59, 57, 42, -85, 121, 45, -62, 82, -43, -34, 69, 51, -52, -107, 24, -45, -118, -88, -37, -15, -110, 90, -71, 35, -122, -19, -44, 0, -103, 35);
+    }
+
+    /**
+     * {@link Blake2MessageDigestSpi} class test.
+     */
+    @Test
+    public void blake2sTest() {
+        Blake2MessageDigestSpi messageDigestSpi = Blake2MessageDigestSpi.newInstance("blake2s-256", new byte[0]);
+        Assertions.assertThat(messageDigestSpi).isInstanceOf(Blake2sMessageDigestSpi.class);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(32);
+        messageDigestSpi.engineUpdate((byte) 97);
+        messageDigestSpi.engineUpdate((byte) 98);
+        messageDigestSpi.engineUpdate((byte) 99);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(80, -116, 94, -116, 50, 124, 20, -30, -31, -89, 43, -93, 78, -21, 69, 47, 55, 69, -117, 32, -98, -42, 58, 41, 77, -103, -101, 76, -122, 103, 89, -126);
+    }
+
+    /**
+     * {@link Blake2MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        compare(HashAlgorithms.BLAKE2B_256, 0, 128, 41, 19, 63, 89, -98, -97, -40, 49, 113, 99, 4, -55, 122, -19, -73, 110, 58, -10, -102, 60, 32, 13, 8, 15, -14, 126, -54, -119, -27, -83, 63, -25);
+        compare(HashAlgorithms.BLAKE2B_256, 16, 128, -95, -45, 30, 127, -22, 13, -20, -103, -114, -40, -77, 90, 106, -53, 12, -60, -125, -47, 100, 127, -118, -117, -94, -60, -47, 67, 47, -110, -107, -57, 1, 112);
+        compare(HashAlgorithms.BLAKE2B_256, 64, 128, -55, 43, -20, -104, -60, 41, 114, 41, -55, -21, 79, -102, -124, 103, 53, 52, -12, -111, -103, -90, 3, -34, -96, 116, -110, 13, -5, -91, 8, 61, -46, -76);
+        compare(HashAlgorithms.BLAKE2B_512, 0, 128, 81, 49, 2, -105, 53, -15, 37, 52, 116, -114, -92, -98, -25, 16, 25, 5, 98, -5, 121, -86, -118, -11, -107, 68, -99, -56, 97, -110, -101, -9, 12, -90);
+        compare(HashAlgorithms.BLAKE2B_512, 16, 128, 118, 117, -22, -96, -43, 109, -121, 123, 68, 12, 35, -65, 114, 30, -20, -75, -123, -37, 51, -100, 20, 67, 114, 124, -42, -49, -105, -46, -68, -56, -95, -108);
+        compare(HashAlgorithms.BLAKE2B_512, 64, 128, 8, 116, -21, -91, -10, 40, -42, 56, -1, -91, 19, -127, 20, -2, -109, 41, 23, 18, 126, 33, 20, -30, 35, 120, -43, -104, 111, -53, -112, -13, -112, -17);
+        compare(HashAlgorithms.BLAKE2S_256, 0, 64, 16, 50, 88, -98, 53, 17, -83, -105, -86, -118, -81, 48, -93, -86, -81, 18, 66, -83, -40, 70, -20, -57, 59, -40, -48, 58, -32, -76, -76, -9, -19, -30);
+        compare(HashAlgorithms.BLAKE2S_256, 16, 64, -56, 119, 53, 12, -37, -123, 68, -70, -103, -102, -74, -68, -78, 34, 82, -49, -33, 53, 63, 75, 46, 31, 29, 60, -97, 25, 125, -31, 38, -64, 25, -41);
+        compare(HashAlgorithms.BLAKE2S_256, 32, 64, -31, 70, 62, -95, 113, 122, 78, -65, -11, 3, -73, -88, -73, 125, -63, 87, -88, 5, 69, 52, -80, -25, -61, 66, 12, 118, 8, -19, -46, -54, -5, 46);
+    }
+
+    /**
+     * {@link Blake2MessageDigestSpi} class test.
+     */
+    @Test
+    public void keyLengthTest() {
+        Assertions.assertThat(Blake2MessageDigestSpi.getMaxKeyLength(HashAlgorithms.BLAKE2B_256)).isEqualTo(64);
+        Assertions.assertThat(Blake2MessageDigestSpi.getMaxKeyLength(HashAlgorithms.BLAKE2B_512)).isEqualTo(64);
+        Assertions.assertThat(Blake2MessageDigestSpi.getMaxKeyLength("blake2s-256")).isEqualTo(32);
+        Assertions.assertThat(Blake2MessageDigestSpi.getMaxKeyLength(HashAlgorithms.SHA256)).isEqualTo(0);
+        Assertions.assertThat(Blake2MessageDigestSpi.newInstance(HashAlgorithms.BLAKE2B_256, new byte[]{1, 2, 3}).getKeyLength()).isEqualTo(3);
+        Assertions.assertThat(Blake2MessageDigestSpi.newInstance(HashAlgorithms.SHA256, new byte[0])).isNull();
+    }
+
+    private static void compare(final String algorithm, final int keyLength, final int blockSize, final int... expected) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        Blake2MessageDigestSpi messageDigestSpi = Blake2MessageDigestSpi.newInstance(algorithm, createBytes(keyLength));
+        for (int length = 0; length <= blockSize * 3; length++) {
+            byte[] bytes = createBytes(length);
+
+            messageDigestSpi.engineUpdate(bytes, 0, length);
+            byte[] digest = messageDigestSpi.engineDigest();
+            messageDigest.update(digest);
+
+            for (byte value : bytes) {
+                messageDigestSpi.engineUpdate(value);
+            }
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+
+            int third = length / 3;
+            messageDigestSpi.engineUpdate(bytes, 0, third);
+            messageDigestSpi.engineUpdate(bytes, third, third);
+            messageDigestSpi.engineUpdate(bytes, third * 2, length - third * 2);
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,154 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link Blake3MessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Blake3MessageDigestSpiTest {
+
+    private static final int[] LENGTHS = {4096, 4097, 8193, 131072, 132101, 1049810};
+
+    /**
+     * Test class constructor.
+     */
+    public Blake3MessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link Blake3MessageDigestSpi} class test.
+     */
+    @Test
+    public void blake3Test() {
+        Blake3MessageDigestSpi messageDigestSpi = new Blake3MessageDigestSpi(32, new byte[0]);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(32);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(-81, 19, 73, -71, -11, -7, -95, -90, -96, 64, 77, -22, 54, -36, -55, 73, -101, -53, 37, -55, -83, -63, 18, -73, -52, -102, -109, -54, -28, 31, 50, 98);
+        messageDigestSpi.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(100, 55, -77, -84, 56, 70, 81, 51, -1, -74, 59, 117, 39, 58, -115, -75, 72, -59, 88, 70, 93, 121, -37, 3, -3, 53, -100, 108, -43, -67, -99, -123);
+        messageDigestSpi.engineUpdate((byte) 0);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(45, 58, -34, -33, -15, 27, 97, -15, 76, -120, 110, 53, -81, -96, 54, 115, 109, -51, -121, -89, 77, 39, -75, -63, 81, 2, 37, -48, -11, -110, -30, 19);
+    }
+
+    /**
+     * {@link Blake3MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        compare(new Blake3MessageDigestSpi(32, new byte[0]), -64, 127, 62, -43, -69, 80, -120, -61, 118, 19, 85, -58, -91, -57, -119, 109, 21, -5, 115, 121, -18, -25, -100, -47, 63, -36, 62, 0, -33, -39, 99, 21);
+        compare(new Blake3MessageDigestSpi(32, createBytes(32)), -95, -70, -8, -92, 23, 109, -93, -5, -35, 123, 38, 27, 126, 106, 58, 35, 15, -64, -98, 18, -5, -112, -106, -113, -32, 107, 55, 58, 101, -62, 22, -42);
+        compare(new Blake3MessageDigestSpi(100, new byte[0]), 44, -43, -34, 126, 2, -28, 39, 63, -61, -82, -53, 37, 115, 116, 41, 61, -42, 1, -58, 109, 105, -87, 61, -25, 8, 66, -94, 46, 95, 57, 12, 82);
+    }
+
+    /**
+     * {@link Blake3MessageDigestSpi} class test.
+     */
+    @Test
+    public void parallelTest() {
+        byte[] bytes = createBytes(1049810);
+        byte[] expected = new byte[]{56, 103, -43, -75, -100, 94, 72, -35, -102, 125, -66, 45, -1, -77, -6, -124, -26, 50, 14, -18, -43, -110, -47, -95, -127, -59, 38, 90, -114, -25, -115, 102};
+        Blake3MessageDigestSpi messageDigestSpi = new Blake3MessageDigestSpi(32, new byte[0]);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        messageDigestSpi.engineUpdate(buffer);
+        Assertions.assertThat(buffer.remaining()).isEqualTo(0);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(expected);
+
+        messageDigestSpi.engineUpdate(bytes, 0, 1000);
+        messageDigestSpi.engineUpdate(bytes, 1000, 300000);
+        messageDigestSpi.engineUpdate(bytes, 301000, 1024);
+        messageDigestSpi.engineUpdate(bytes, 302024, bytes.length - 302024);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(expected);
+
+        Blake3MessageDigestSpi keyedMessageDigestSpi = new Blake3MessageDigestSpi(32, createBytes(32));
+        keyedMessageDigestSpi.engineUpdate(bytes, 0, bytes.length);
+        Assertions.assertThat(keyedMessageDigestSpi.engineDigest()).containsExactlyInOrder(56, 60, -90, -71, 39, -76, -103, -45, -99, -61, -17, -17, 54, 19, -114, -47, -108, 87, -24, -32, 118, 9, -98, 40, 40, 59, 83, 124, -19, 107, -62, 42);
+    }
+
+    /**
+     * {@link Blake3MessageDigestSpi} class test.
+     */
+    @Test
+    public void getDigestLengthTest() {
+        Assertions.assertThat(Blake3MessageDigestSpi.getDigestLength(HashAlgorithms.BLAKE3)).isEqualTo(32);
+        Assertions.assertThat(Blake3MessageDigestSpi.getDigestLength("blake3-1024")).isEqualTo(128);
+        Assertions.assertThat(Blake3MessageDigestSpi.getDigestLength("BLAKE3-8")).isEqualTo(1);
+        Assertions.assertThat(Blake3MessageDigestSpi.getDigestLength("BLAKE3-12")).isEqualTo(-1);
+        Assertions.assertThat(Blake3MessageDigestSpi.getDigestLength("BLAKE3-0")).isEqualTo(-1);
+        Assertions.assertThat(Blake3MessageDigestSpi.getDigestLength("BLAKE3")).isEqualTo(-1);
+        Assertions.assertThat(Blake3MessageDigestSpi.getDigestLength(HashAlgorithms.SHA256)).isEqualTo(-1);
+    }
+
+    private static void compare(final Blake3MessageDigestSpi messageDigestSpi, final int... expected) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        for (int length = 0; length < 2100; length++) {
+            compare(messageDigestSpi, messageDigest, length, true);
+        }
+        for (int length : LENGTHS) {
+            compare(messageDigestSpi, messageDigest, length, false);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+    }
+
+    private static void compare(final Blake3MessageDigestSpi messageDigestSpi, final MessageDigest messageDigest, final int length, final boolean byteUpdate) {
+        byte[] bytes = createBytes(length);
+
+        messageDigestSpi.engineUpdate(bytes, 0, length);
+        byte[] digest = messageDigestSpi.engineDigest();
+        messageDigest.update(digest);
+
+        if (byteUpdate) {
+            for (byte value : bytes) {
+                messageDigestSpi.engineUpdate(value);
+            }
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+        }
+
+        int third = length / 3;
+        messageDigestSpi.engineUpdate(bytes, 0, third);
+        messageDigestSpi.engineUpdate(bytes, third, third);
+        messageDigestSpi.engineUpdate(bytes, third * 2, length - third * 2);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
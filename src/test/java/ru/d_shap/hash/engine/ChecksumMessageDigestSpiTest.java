@@ -0,0 +1,105 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.util.zip.Checksum;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link ChecksumMessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ChecksumMessageDigestSpiTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ChecksumMessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link ChecksumMessageDigestSpi} class test.
+     */
+    @Test
+    public void crc32Test() {
+        ChecksumMessageDigestSpi messageDigestSpi = ChecksumMessageDigestSpi.newInstance(HashAlgorithms.CRC32);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(4);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(0, 0, 0, 0);
+        messageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(-59, -11, -66, 101);
+        for (byte value : new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}) {
+            messageDigestSpi.engineUpdate(value);
+        }
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(-59, -11, -66, 101);
+    }
+
+    /**
+     * {@link ChecksumMessageDigestSpi} class test.
+     */
+    @Test
+    public void crc32cTest() {
+        ChecksumMessageDigestSpi messageDigestSpi = ChecksumMessageDigestSpi.newInstance("crc32c");
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(4);
+        messageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(-39, -5, -13, 81);
+
+        ChecksumMessageDigestSpi libraryMessageDigestSpi = new ChecksumMessageDigestSpi(new Crc32cChecksum());
+        libraryMessageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(libraryMessageDigestSpi.engineDigest()).containsExactlyInOrder(-39, -5, -13, 81);
+    }
+
+    /**
+     * {@link ChecksumMessageDigestSpi} class test.
+     */
+    @Test
+    public void adler32Test() {
+        ChecksumMessageDigestSpi messageDigestSpi = ChecksumMessageDigestSpi.newInstance(HashAlgorithms.ADLER32);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(4);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(0, 0, 0, 1);
+        messageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        messageDigestSpi.engineReset();
+        messageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(0, -36, 0, 46);
+    }
+
+    /**
+     * {@link ChecksumMessageDigestSpi} class test.
+     */
+    @Test
+    public void newInstanceTest() {
+        Assertions.assertThat(ChecksumMessageDigestSpi.newInstance(HashAlgorithms.SHA256)).isNull();
+        Assertions.assertThat(ChecksumMessageDigestSpi.findClass("wrong.Checksum")).isNull();
+        Assertions.assertThat(ChecksumMessageDigestSpi.newCrc32c(null)).isInstanceOf(Crc32cChecksum.class);
+        Assertions.assertThat(ChecksumMessageDigestSpi.newCrc32c(Integer.class)).isInstanceOf(Crc32cChecksum.class);
+        Class<?> checksumClass = ChecksumMessageDigestSpi.findClass(ChecksumMessageDigestSpi.CRC32C_CLASS_NAME);
+        if (checksumClass != null) {
+            Checksum checksum = ChecksumMessageDigestSpi.newCrc32c(checksumClass);
+            Assertions.assertThat(checksum.getClass().getName()).isEqualTo(ChecksumMessageDigestSpi.CRC32C_CLASS_NAME);
+            Assertions.assertThat(ChecksumMessageDigestSpi.newInstance(HashAlgorithms.CRC32C).getChecksum().getClass().getName()).isEqualTo(ChecksumMessageDigestSpi.CRC32C_CLASS_NAME);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Crc32cChecksum}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Crc32cChecksumTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Crc32cChecksumTest() {
+        super();
+    }
+
+    /**
+     * {@link Crc32cChecksum} class test.
+     */
+    @Test
+    public void checkValueTest() {
+        Crc32cChecksum checksum = new Crc32cChecksum();
+        Assertions.assertThat(checksum.getValue()).isEqualTo(0L);
+        byte[] bytes = "123456789".getBytes(StandardCharsets.US_ASCII);
+        checksum.update(bytes, 0, bytes.length);
+        Assertions.assertThat(checksum.getValue()).isEqualTo(0xE3069283L);
+        checksum.reset();
+        for (byte value : bytes) {
+            checksum.update(value);
+        }
+        Assertions.assertThat(checksum.getValue()).isEqualTo(0xE3069283L);
+    }
+
+    /**
+     * {@link Crc32cChecksum} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        Crc32cChecksum checksum = new Crc32cChecksum();
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        for (int length = 0; length < 300; length++) {
+            byte[] bytes = createBytes(length);
+            checksum.reset();
+            checksum.update(bytes, 0, length);
+            long value = checksum.getValue();
+            messageDigest.update(new byte[]{(byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value});
+
+            checksum.reset();
+            int third = length / 3;
+            checksum.update(bytes, 0, third);
+            checksum.update(bytes, third, third);
+            checksum.update(bytes, third * 2, length - third * 2);
+            Assertions.assertThat(checksum.getValue()).isEqualTo(value);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(11, -106, -119, 44, -54, -39, -24, -101, -62, 47, -109, 100, 29, -48, 124, 41, 60, 60, -58, -27, 122, 9, -99, -119, 91, 70, 75, -123, 103, -29, 98, -99);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
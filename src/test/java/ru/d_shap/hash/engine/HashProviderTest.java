@@ -0,0 +1,148 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link HashProvider}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class HashProviderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public HashProviderTest() {
+        super();
+    }
+
+    /**
+     * {@link HashProvider} class test.
+     */
+    @Test
+    public void providerTest() {
+        Provider provider = new HashProvider();
+        Assertions.assertThat(provider.getName()).isEqualTo(HashProvider.NAME);
+        Assertions.assertThat(provider.getInfo()).isEqualTo("Hash library provider");
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.MD5).getClassName()).isEqualTo(Md5MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA1).getClassName()).isEqualTo(Sha1MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA256).getClassName()).isEqualTo(Sha256MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA384).getClassName()).isEqualTo(Sha384MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA512).getClassName()).isEqualTo(Sha512MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.TREE_SHA256).getClassName()).isEqualTo(TreeSha256MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA3_224).getClassName()).isEqualTo(KeccakMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA3_256).getClassName()).isEqualTo(KeccakMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA3_384).getClassName()).isEqualTo(KeccakMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA3_512).getClassName()).isEqualTo(KeccakMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHAKE128).getClassName()).isEqualTo(KeccakMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHAKE256).getClassName()).isEqualTo(KeccakMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2B_256).getClassName()).isEqualTo(Blake2MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2B_512).getClassName()).isEqualTo(Blake2MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2S_256).getClassName()).isEqualTo(Blake2MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE3).getClassName()).isEqualTo(Blake3MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.XXHASH64).getClassName()).isEqualTo(XxHash64MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.XXH3_64).getClassName()).isEqualTo(Xxh3MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.XXH3_128).getClassName()).isEqualTo(Xxh3MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.CRC32).getClassName()).isEqualTo(ChecksumMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.CRC32C).getClassName()).isEqualTo(ChecksumMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.ADLER32).getClassName()).isEqualTo(ChecksumMessageDigestSpi.class.getName());
+    }
+
+    /**
+     * {@link HashProvider} class test.
+     */
+    @Test
+    public void shakeServiceTest() {
+        Provider provider = new HashProvider();
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE128-8").getAlgorithm()).isEqualTo("SHAKE128-8");
+        Assertions.assertThat(provider.getService("MessageDigest", "shake256-1024").getAlgorithm()).isEqualTo("shake256-1024");
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE128-1024").getClassName()).isEqualTo(KeccakMessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE128-1024").getProvider()).isSameAs(provider);
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE128-12")).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE128-0")).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE128-")).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE512-256")).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", "SHAKE128-256x")).isNull();
+        Assertions.assertThat(provider.getService("Cipher", "SHAKE128-256")).isNull();
+        Assertions.assertThat(provider.getService("Cipher", "SHAKE128-1024")).isNull();
+    }
+
+    /**
+     * {@link HashProvider} class test.
+     */
+    @Test
+    public void blake3ServiceTest() {
+        Provider provider = new HashProvider();
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-512").getAlgorithm()).isEqualTo("BLAKE3-512");
+        Assertions.assertThat(provider.getService("MessageDigest", "blake3-1024").getClassName()).isEqualTo(Blake3MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-1024").getProvider()).isSameAs(provider);
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-12")).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-")).isNull();
+        Assertions.assertThat(provider.getService("Cipher", "BLAKE3-512")).isNull();
+    }
+
+    /**
+     * {@link HashProvider} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void messageDigestTest() throws NoSuchAlgorithmException {
+        Provider provider = new HashProvider();
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.TREE_SHA256, provider);
+        Assertions.assertThat(messageDigest.getAlgorithm()).isEqualTo(HashAlgorithms.TREE_SHA256);
+        Assertions.assertThat(messageDigest.getProvider()).isSameAs(provider);
+        Assertions.assertThat(messageDigest.getDigestLength()).isEqualTo(32);
+        messageDigest.update(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(23, -24, -115, -79, -121, -81, -42, 44, 22, -27, -34, -65, 62, 101, 39, -51, 0, 107, -64, 18, -68, -112, -75, 26, -127, 12, -40, 12, 45, 81, 31, 67);
+    }
+
+    /**
+     * {@link HashProvider} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void shakeMessageDigestTest() throws NoSuchAlgorithmException {
+        Provider provider = new HashProvider();
+        MessageDigest messageDigest = MessageDigest.getInstance("SHAKE128-64", provider);
+        Assertions.assertThat(messageDigest.getAlgorithm()).isEqualTo("SHAKE128-64");
+        Assertions.assertThat(messageDigest.getProvider()).isSameAs(provider);
+        Assertions.assertThat(messageDigest.getDigestLength()).isEqualTo(8);
+        messageDigest.update(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-79, -22, -44, 113, -119, -47, -87, 88);
+        try {
+            MessageDigest.getInstance("SHAKE128-63", provider);
+            Assertions.fail("HashProvider test fail");
+        } catch (NoSuchAlgorithmException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+}
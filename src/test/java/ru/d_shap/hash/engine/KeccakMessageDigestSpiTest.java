@@ -0,0 +1,132 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link KeccakMessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class KeccakMessageDigestSpiTest {
+
+    /**
+     * Test class constructor.
+     */
+    public KeccakMessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link KeccakMessageDigestSpi} class test.
+     */
+    @Test
+    public void sha3Test() {
+        KeccakMessageDigestSpi messageDigestSpi = new KeccakMessageDigestSpi(32, KeccakMessageDigestSpi.SHA3_PADDING, 32);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(32);
+        messageDigestSpi.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(58, -104, 93, -89, 79, -30, 37, -78, 4, 92, 23, 45, 107, -45, -112, -67, -123, 95, 8, 110, 62, -99, 82, 91, 70, -65, -30, 69, 17, 67, 21, 50);
+        messageDigestSpi.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(58, -104, 93, -89, 79, -30, 37, -78, 4, 92, 23, 45, 107, -45, -112, -67, -123, 95, 8, 110, 62, -99, 82, 91, 70, -65, -30, 69, 17, 67, 21, 50);
+    }
+
+    /**
+     * {@link KeccakMessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        compare(HashAlgorithms.SHA3_224, 28, 144);
+        compare(HashAlgorithms.SHA3_256, 32, 136);
+        compare(HashAlgorithms.SHA3_384, 48, 104);
+        compare(HashAlgorithms.SHA3_512, 64, 72);
+    }
+
+    /**
+     * {@link KeccakMessageDigestSpi} class test.
+     */
+    @Test
+    public void shakeTest() {
+        KeccakMessageDigestSpi messageDigestSpi128 = new KeccakMessageDigestSpi(16, KeccakMessageDigestSpi.SHAKE_PADDING, 32);
+        messageDigestSpi128.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        byte[] hash128 = messageDigestSpi128.engineDigest();
+        Assertions.assertThat(hash128).containsExactlyInOrder(88, -127, 9, 45, -40, 24, -65, 92, -8, -93, -35, -73, -109, -5, -53, -89, 64, -105, -43, -59, 38, -90, -45, 95, -105, -72, 51, 81, -108, 15, 44, -56);
+
+        KeccakMessageDigestSpi messageDigestSpi256 = new KeccakMessageDigestSpi(32, KeccakMessageDigestSpi.SHAKE_PADDING, 64);
+        messageDigestSpi256.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        byte[] hash256 = messageDigestSpi256.engineDigest();
+        Assertions.assertThat(hash256).containsExactlyInOrder(72, 51, 102, 96, 19, 96, -88, 119, 28, 104, 99, 8, 12, -60, 17, 77, -115, -76, 69, 48, -8, -15, -31, -18, 79, -108, -22, 55, -25, -117, 87, 57, -43, -95, 91, -17, 24, 106, 83, -122, -57, 87, 68, -64, 82, 126, 31, -86, -97, -121, 38, -28, 98, -95, 42, 79, -21, 6, -67, -120, 1, -25, 81, -28);
+
+        KeccakMessageDigestSpi longMessageDigestSpi128 = new KeccakMessageDigestSpi(16, KeccakMessageDigestSpi.SHAKE_PADDING, 400);
+        longMessageDigestSpi128.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        byte[] longHash128 = longMessageDigestSpi128.engineDigest();
+        Assertions.assertThat(longHash128).hasLength(400);
+        Assertions.assertThat(Arrays.copyOfRange(longHash128, 0, 32)).containsExactlyInOrder(hash128);
+        Assertions.assertThat(Arrays.copyOfRange(longHash128, 392, 400)).containsExactlyInOrder(43, -59, -100, 97, 20, -67, -41, 69);
+
+        KeccakMessageDigestSpi longMessageDigestSpi256 = new KeccakMessageDigestSpi(32, KeccakMessageDigestSpi.SHAKE_PADDING, 400);
+        longMessageDigestSpi256.engineUpdate(new byte[]{97, 98, 99}, 0, 3);
+        byte[] longHash256 = longMessageDigestSpi256.engineDigest();
+        Assertions.assertThat(longHash256).hasLength(400);
+        Assertions.assertThat(Arrays.copyOfRange(longHash256, 0, 64)).containsExactlyInOrder(hash256);
+        Assertions.assertThat(Arrays.copyOfRange(longHash256, 392, 400)).containsExactlyInOrder(71, -24, 34, -4, 116, -59, -41, 16);
+    }
+
+    private static void compare(final String algorithm, final int digestLength, final int rate) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
+        KeccakMessageDigestSpi messageDigestSpi = new KeccakMessageDigestSpi(digestLength, KeccakMessageDigestSpi.SHA3_PADDING, digestLength);
+        for (int length = 0; length <= rate * 3; length++) {
+            byte[] bytes = createBytes(length);
+            byte[] expected = messageDigest.digest(bytes);
+
+            messageDigestSpi.engineUpdate(bytes, 0, length);
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(expected);
+
+            for (byte value : bytes) {
+                messageDigestSpi.engineUpdate(value);
+            }
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(expected);
+
+            int third = length / 3;
+            messageDigestSpi.engineUpdate(bytes, 0, third);
+            messageDigestSpi.engineUpdate(bytes, third, third);
+            messageDigestSpi.engineUpdate(bytes, third * 2, length - third * 2);
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(expected);
+        }
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,149 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link KeyedHashProvider}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class KeyedHashProviderTest {
+
+    /**
+     * Test class constructor.
+     */
+    public KeyedHashProviderTest() {
+        super();
+    }
+
+    /**
+     * {@link KeyedHashProvider} class test.
+     */
+    @Test
+    public void providerTest() {
+        Provider provider = new KeyedHashProvider(new byte[33]);
+        Assertions.assertThat(provider.getName()).isEqualTo(KeyedHashProvider.NAME);
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2B_256).getClassName()).isEqualTo(Blake2MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2B_512).getClassName()).isEqualTo(Blake2MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2S_256)).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.SHA256)).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE3)).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-512")).isNull();
+        Assertions.assertThat(new KeyedHashProvider(new byte[65]).getService("MessageDigest", HashAlgorithms.BLAKE2B_256)).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.XXH3_64)).isNull();
+    }
+
+    /**
+     * {@link KeyedHashProvider} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void xxHashProviderTest() throws NoSuchAlgorithmException {
+        Provider provider = new KeyedHashProvider(new byte[]{7, 38, 69, 100, -125, -94, -63, -32});
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.XXHASH64).getClassName()).isEqualTo(XxHash64MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.XXH3_64).getClassName()).isEqualTo(Xxh3MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.XXH3_128).getClassName()).isEqualTo(Xxh3MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2B_256).getClassName()).isEqualTo(Blake2MessageDigestSpi.class.getName());
+        byte[] original = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        Assertions.assertThat(MessageDigest.getInstance(HashAlgorithms.XXHASH64, provider).digest(original)).containsExactlyInOrder(29, -10, 99, 75, 5, 46, -128, -114);
+        Assertions.assertThat(MessageDigest.getInstance(HashAlgorithms.XXH3_64, provider).digest(original)).containsExactlyInOrder(57, -84, -19, 32, -45, -2, 109, 104);
+        Assertions.assertThat(MessageDigest.getInstance(HashAlgorithms.XXH3_128, provider).digest(original)).containsExactlyInOrder(113, 125, 77, -95, -44, 92, 80, 31, -78, 88, -8, -30, 103, 127, -108, 54);
+    }
+
+    /**
+     * {@link KeyedHashProvider} class test.
+     */
+    @Test
+    public void blake3ProviderTest() {
+        Provider provider = new KeyedHashProvider(new byte[32]);
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE3).getClassName()).isEqualTo(Blake3MessageDigestSpi.class.getName());
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-512").getAlgorithm()).isEqualTo("BLAKE3-512");
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-512").getProvider()).isSameAs(provider);
+        Assertions.assertThat(provider.getService("MessageDigest", "BLAKE3-12")).isNull();
+        Assertions.assertThat(provider.getService("Cipher", "BLAKE3-512")).isNull();
+        Assertions.assertThat(provider.getService("MessageDigest", HashAlgorithms.BLAKE2S_256).getClassName()).isEqualTo(Blake2MessageDigestSpi.class.getName());
+    }
+
+    /**
+     * {@link KeyedHashProvider} class test.
+     */
+    @Test
+    public void providerNullKeyFailTest() {
+        try {
+            new KeyedHashProvider(null);
+            Assertions.fail("KeyedHashProvider test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Key is null");
+        }
+    }
+
+    /**
+     * {@link KeyedHashProvider} class test.
+     */
+    @Test
+    public void isSupportedTest() {
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE2B_256, 0)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE2B_256, 64)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE2B_256, 65)).isFalse();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE2B_256, -1)).isFalse();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE2S_256, 32)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE2S_256, 33)).isFalse();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.SHA256, 0)).isFalse();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE3, 32)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported("BLAKE3-512", 32)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE3, 16)).isFalse();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.BLAKE3, 0)).isFalse();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.XXHASH64, 8)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported("xxh3-64", 8)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.XXH3_128, 8)).isTrue();
+        Assertions.assertThat(KeyedHashProvider.isSupported(HashAlgorithms.XXH3_64, 4)).isFalse();
+        Assertions.assertThat(KeyedHashProvider.isSupported(null, 0)).isFalse();
+    }
+
+    /**
+     * {@link KeyedHashProvider} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void messageDigestTest() throws NoSuchAlgorithmException {
+        byte[] key = new byte[]{10, 20, 30, 40, 50};
+        Provider provider = new KeyedHashProvider(key);
+        key[0] = 0;
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.BLAKE2B_256, provider);
+        Assertions.assertThat(messageDigest.getAlgorithm()).isEqualTo(HashAlgorithms.BLAKE2B_256);
+        Assertions.assertThat(messageDigest.getProvider()).isSameAs(provider);
+        messageDigest.update(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0});
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-57, -30, -118, 65, -51, 10, -66, -77, -19, 63, 81, -8, 34, -55, -86, -5, -85, -84, -10, -36, 28, 71, -108, -119, 39, 63, -38, -83, -103, -22, -12, -59);
+        messageDigest.update(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0});
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-57, -30, -118, 65, -51, 10, -66, -77, -19, 63, 81, -8, 34, -55, -86, -5, -85, -84, -10, -36, 28, 71, -108, -119, 39, 63, -38, -83, -103, -22, -12, -59);
+    }
+
+}
@@ -0,0 +1,172 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link Md5MessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Md5MessageDigestSpiTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Md5MessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link Md5MessageDigestSpi} class test.
+     */
+    @Test
+    public void digestTest() {
+        Md5MessageDigestSpi messageDigestSpi = new Md5MessageDigestSpi();
+        Assertions.assertThat(messageDigestSpi.getAlgorithm()).isEqualTo(HashAlgorithms.MD5);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(16);
+        messageDigestSpi.update(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi.getLength()).isEqualTo(3L);
+        Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(-112, 1, 80, -104, 60, -46, 79, -80, -42, -106, 63, 125, 40, -31, 127, 114);
+        Assertions.assertThat(messageDigestSpi.getLength()).isEqualTo(0L);
+    }
+
+    /**
+     * {@link Md5MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.MD5);
+        Md5MessageDigestSpi messageDigestSpi = new Md5MessageDigestSpi();
+        for (int length = 0; length <= 64 * 3; length++) {
+            byte[] bytes = createBytes(length);
+            byte[] expected = messageDigest.digest(bytes);
+
+            messageDigestSpi.update(bytes, 0, length);
+            Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(expected);
+
+            for (byte value : bytes) {
+                messageDigestSpi.engineUpdate(value);
+            }
+            Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(expected);
+
+            int half = length / 2;
+            messageDigestSpi.update(bytes, 0, half);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(length - half);
+            buffer.put(bytes, half, length - half);
+            buffer.flip();
+            messageDigestSpi.update(buffer);
+            Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(expected);
+        }
+    }
+
+    /**
+     * {@link Md5MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void stateTest() throws NoSuchAlgorithmException {
+        byte[] bytes = createBytes(64 * 5 + 17);
+        byte[] expected = MessageDigest.getInstance(HashAlgorithms.MD5).digest(bytes);
+        for (int offset = 0; offset <= bytes.length; offset += 13) {
+            Md5MessageDigestSpi messageDigestSpi = new Md5MessageDigestSpi();
+            messageDigestSpi.update(bytes, 0, offset);
+            byte[] state = messageDigestSpi.getState();
+            messageDigestSpi.engineReset();
+
+            Md5MessageDigestSpi resumedMessageDigestSpi = new Md5MessageDigestSpi();
+            resumedMessageDigestSpi.setState(state);
+            Assertions.assertThat(resumedMessageDigestSpi.getLength()).isEqualTo((long) offset);
+            resumedMessageDigestSpi.update(bytes, offset, bytes.length - offset);
+            Assertions.assertThat(resumedMessageDigestSpi.digest()).containsExactlyInOrder(expected);
+        }
+    }
+
+    /**
+     * {@link Md5MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void providerTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.MD5, new HashProvider());
+        Assertions.assertThat(messageDigest.getDigestLength()).isEqualTo(16);
+        Assertions.assertThat(messageDigest.digest(new byte[]{97, 98, 99})).containsExactlyInOrder(-112, 1, 80, -104, 60, -46, 79, -80, -42, -106, 63, 125, 40, -31, 127, 114);
+    }
+
+    /**
+     * {@link Md5MessageDigestSpi} class test.
+     */
+    @Test
+    public void setStateFailTest() {
+        Md5MessageDigestSpi messageDigestSpi = new Md5MessageDigestSpi();
+        messageDigestSpi.update(new byte[]{1, 2, 3}, 0, 3);
+        byte[] state = messageDigestSpi.getState();
+        try {
+            messageDigestSpi.setState(null);
+            Assertions.fail("Md5MessageDigestSpi test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Hash state is null");
+        }
+        try {
+            messageDigestSpi.setState(new byte[]{0, 0, 0, 0, 0, 0, 0});
+            Assertions.fail("Md5MessageDigestSpi test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state");
+        }
+        try {
+            messageDigestSpi.setState(new byte[]{-1, 0, 0, 0, 0, 0, 0, 0});
+            Assertions.fail("Md5MessageDigestSpi test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state");
+        }
+        try {
+            messageDigestSpi.setState(Arrays.copyOf(state, state.length - 1));
+            Assertions.fail("Md5MessageDigestSpi test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong hash state");
+        }
+        Assertions.assertThat(messageDigestSpi.getLength()).isEqualTo(3L);
+        messageDigestSpi.setState(state);
+        messageDigestSpi.update(new byte[]{4, 5}, 0, 2);
+        Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(124, -3, -48, 120, -119, -77, 41, 93, 106, 85, 9, 20, -85, 53, -32, 104);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,270 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link MurmurHash3}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class MurmurHash3Test {
+
+    private static final String[] STRINGS = {
+        "",
+        "a",
+        "hello",
+        "Privet \u043c\u0438\u0440 \ud83d\ude00",
+        "\u65e5\u672c\u8a9e\u30c6\u30ad\u30b9\u30c8 text",
+        "high \ud800 surrogate",
+        "low \udc00 surrogate",
+        "last \ud83d",
+        "\ud83d\ud83d\ude00 surrogates",
+        "long string with ascii, \u043a\u0438\u0440\u0438\u043b\u043b\u0438\u0446\u0430, \u4e2d\u6587 and \ud83d\ude80, repeated twice",
+    };
+
+    /**
+     * Test class constructor.
+     */
+    public MurmurHash3Test() {
+        super();
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(MurmurHash3.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void hash32Test() {
+        byte[] bytes = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertThat(MurmurHash3.getHash32(bytes, 0, bytes.length, 0x9747B28C)).isEqualTo(799549133);
+        Assertions.assertThat(MurmurHash3.getHash32(ByteBuffer.wrap(bytes), 0x9747B28C)).isEqualTo(799549133);
+        Assertions.assertThat(MurmurHash3.getHash32("The quick brown fox jumps over the lazy dog", 0x9747B28C)).isEqualTo(799549133);
+        Assertions.assertThat(MurmurHash3.getHash32("hello", 0)).isEqualTo(613153351);
+        Assertions.assertThat(MurmurHash3.getHash32(new byte[0], 0, 0, 1)).isEqualTo(0x514E28B7);
+        Assertions.assertThat(MurmurHash3.getHash32("Privet \u043c\u0438\u0440 \ud83d\ude00", 42)).isEqualTo(-775703331);
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void hash128Test() {
+        byte[] bytes = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.US_ASCII);
+        long[] result = new long[2];
+        MurmurHash3.getHash128(bytes, 0, bytes.length, 0, result);
+        Assertions.assertThat(result).containsExactlyInOrder(-2068352364225029268L, 8809951995912426311L);
+        MurmurHash3.getHash128(ByteBuffer.wrap(bytes), 0, result);
+        Assertions.assertThat(result).containsExactlyInOrder(-2068352364225029268L, 8809951995912426311L);
+        MurmurHash3.getHash128("The quick brown fox jumps over the lazy dog", 0, result);
+        Assertions.assertThat(result).containsExactlyInOrder(-2068352364225029268L, 8809951995912426311L);
+        MurmurHash3.getHash128("hello", 0, result);
+        Assertions.assertThat(result).containsExactlyInOrder(-3758069500696749310L, 6565844092913065241L);
+        MurmurHash3.getHash128("Privet \u043c\u0438\u0440 \ud83d\ude00", 42, result);
+        Assertions.assertThat(result).containsExactlyInOrder(-3003331466813146273L, 3609250459132484980L);
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        compare(0, -6, 47, -31, -61, -19, -10, 59, -98, -127, -41, -44, -41, -106, 18, 11, 6, -73, 113, -82, -15, 81, 50, 118, -77, 114, 20, -106, -56, 75, -60, -49, -36);
+        compare(-1, 49, -124, 105, -96, 106, 1, -97, 50, -70, 100, -125, -40, 88, -88, -71, 95, -44, 17, -39, -37, -16, -70, 105, -107, 79, -69, 87, 35, -70, 21, -47, 55);
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void charSequenceTest() {
+        long[] result = new long[2];
+        long[] expected = new long[2];
+        for (String string : STRINGS) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            Assertions.assertThat(MurmurHash3.getHash32(string, 42)).isEqualTo(MurmurHash3.getHash32(bytes, 0, bytes.length, 42));
+            Assertions.assertThat(MurmurHash3.getHash32(new StringBuilder(string), 42)).isEqualTo(MurmurHash3.getHash32(bytes, 0, bytes.length, 42));
+            MurmurHash3.getHash128(string, 42, result);
+            MurmurHash3.getHash128(bytes, 0, bytes.length, 42, expected);
+            Assertions.assertThat(result).containsExactlyInOrder(expected);
+        }
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void nullBytesFailTest() {
+        try {
+            MurmurHash3.getHash32((byte[]) null, 0, 0, 0);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void wrongOffsetFailTest() {
+        try {
+            MurmurHash3.getHash32(new byte[10], -1, 5, 0);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 10]");
+        }
+        try {
+            MurmurHash3.getHash128(new byte[10], 6, 5, 0, new long[2]);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 10]");
+        }
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void wrongLengthFailTest() {
+        try {
+            MurmurHash3.getHash32(new byte[10], 0, -1, 0);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 10]");
+        }
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void nullBufferFailTest() {
+        try {
+            MurmurHash3.getHash32((ByteBuffer) null, 0);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte buffer is null");
+        }
+        try {
+            MurmurHash3.getHash128((ByteBuffer) null, 0, new long[2]);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte buffer is null");
+        }
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void nullCharSequenceFailTest() {
+        try {
+            MurmurHash3.getHash32((CharSequence) null, 0);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source char sequence is null");
+        }
+        try {
+            MurmurHash3.getHash128((CharSequence) null, 0, new long[2]);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source char sequence is null");
+        }
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void nullResultFailTest() {
+        try {
+            MurmurHash3.getHash128(ByteBuffer.allocateDirect(10), 0, null);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Result array is null");
+        }
+    }
+
+    /**
+     * {@link MurmurHash3} class test.
+     */
+    @Test
+    public void shortResultFailTest() {
+        try {
+            MurmurHash3.getHash128("hello", 0, new long[1]);
+            Assertions.fail("MurmurHash3 test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Result array length is less than 2");
+        }
+    }
+
+    private static void compare(final int seed, final int... expected) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        for (int length = 0; length < 200; length++) {
+            byte[] bytes = new byte[length + 2];
+            System.arraycopy(createBytes(length), 0, bytes, 1, length);
+            int hash32 = MurmurHash3.getHash32(bytes, 1, length, seed);
+            long[] hash128 = new long[2];
+            MurmurHash3.getHash128(bytes, 1, length, seed, hash128);
+            ByteBuffer digest = ByteBuffer.allocate(20);
+            digest.putInt(hash32).putLong(hash128[0]).putLong(hash128[1]);
+            messageDigest.update(digest.array());
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(length + 3);
+            buffer.position(2);
+            buffer.put(bytes, 1, length);
+            buffer.flip();
+            buffer.position(2);
+            Assertions.assertThat(MurmurHash3.getHash32(buffer, seed)).isEqualTo(hash32);
+            long[] result = new long[2];
+            MurmurHash3.getHash128(buffer, seed, result);
+            Assertions.assertThat(result).containsExactlyInOrder(hash128);
+            Assertions.assertThat(buffer.position()).isEqualTo(2);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,97 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link ResumableDigestFactory}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ResumableDigestFactoryTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ResumableDigestFactoryTest() {
+        super();
+    }
+
+    /**
+     * {@link ResumableDigestFactory} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(ResumableDigestFactory.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link ResumableDigestFactory} class test.
+     */
+    @Test
+    public void isSupportedTest() {
+        Assertions.assertThat(ResumableDigestFactory.isSupported(HashAlgorithms.MD5)).isTrue();
+        Assertions.assertThat(ResumableDigestFactory.isSupported(HashAlgorithms.SHA1)).isTrue();
+        Assertions.assertThat(ResumableDigestFactory.isSupported(HashAlgorithms.SHA256)).isTrue();
+        Assertions.assertThat(ResumableDigestFactory.isSupported(HashAlgorithms.SHA384)).isTrue();
+        Assertions.assertThat(ResumableDigestFactory.isSupported(HashAlgorithms.SHA512)).isTrue();
+        Assertions.assertThat(ResumableDigestFactory.isSupported("sha-256")).isTrue();
+        Assertions.assertThat(ResumableDigestFactory.isSupported(HashAlgorithms.MD2)).isFalse();
+        Assertions.assertThat(ResumableDigestFactory.isSupported(HashAlgorithms.TREE_SHA256)).isFalse();
+    }
+
+    /**
+     * {@link ResumableDigestFactory} class test.
+     */
+    @Test
+    public void newResumableDigestTest() {
+        Assertions.assertThat(ResumableDigestFactory.newResumableDigest(HashAlgorithms.MD5)).isInstanceOf(Md5MessageDigestSpi.class);
+        Assertions.assertThat(ResumableDigestFactory.newResumableDigest(HashAlgorithms.SHA1)).isInstanceOf(Sha1MessageDigestSpi.class);
+        Assertions.assertThat(ResumableDigestFactory.newResumableDigest(HashAlgorithms.SHA256)).isInstanceOf(Sha256MessageDigestSpi.class);
+        Assertions.assertThat(ResumableDigestFactory.newResumableDigest(HashAlgorithms.SHA384)).isInstanceOf(Sha384MessageDigestSpi.class);
+        Assertions.assertThat(ResumableDigestFactory.newResumableDigest(HashAlgorithms.SHA512)).isInstanceOf(Sha512MessageDigestSpi.class);
+        Assertions.assertThat(ResumableDigestFactory.newResumableDigest("md5").getAlgorithm()).isEqualTo(HashAlgorithms.MD5);
+        Assertions.assertThat(ResumableDigestFactory.newResumableDigest(HashAlgorithms.MD2)).isNull();
+    }
+
+    /**
+     * {@link ResumableDigestFactory} class test.
+     */
+    @Test
+    public void newResumableDigestFailTest() {
+        try {
+            ResumableDigestFactory.newResumableDigest(null);
+            Assertions.fail("ResumableDigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+        try {
+            ResumableDigestFactory.isSupported(null);
+            Assertions.fail("ResumableDigestFactory test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Algorithm is null");
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link Sha1MessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Sha1MessageDigestSpiTest {
+
+    /**
+     * Test class constructor.
+     */
+    public Sha1MessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link Sha1MessageDigestSpi} class test.
+     */
+    @Test
+    public void digestTest() {
+        Sha1MessageDigestSpi messageDigestSpi = new Sha1MessageDigestSpi();
+        Assertions.assertThat(messageDigestSpi.getAlgorithm()).isEqualTo(HashAlgorithms.SHA1);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(20);
+        messageDigestSpi.update(new byte[]{97, 98, 99}, 0, 3);
+        Assertions.assertThat(messageDigestSpi.getLength()).isEqualTo(3L);
+        Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(-87, -103, 62, 54, 71, 6, -127, 106, -70, 62, 37, 113, 120, 80, -62, 108, -100, -48, -40, -99);
+        Assertions.assertThat(messageDigestSpi.getLength()).isEqualTo(0L);
+    }
+
+    /**
+     * {@link Sha1MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.SHA1);
+        Sha1MessageDigestSpi messageDigestSpi = new Sha1MessageDigestSpi();
+        for (int length = 0; length <= 64 * 3; length++) {
+            byte[] bytes = createBytes(length);
+            byte[] expected = messageDigest.digest(bytes);
+
+            messageDigestSpi.update(bytes, 0, length);
+            Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(expected);
+
+            for (byte value : bytes) {
+                messageDigestSpi.engineUpdate(value);
+            }
+            Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(expected);
+
+            int half = length / 2;
+            messageDigestSpi.update(bytes, 0, half);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(length - half);
+            buffer.put(bytes, half, length - half);
+            buffer.flip();
+            messageDigestSpi.update(buffer);
+            Assertions.assertThat(messageDigestSpi.digest()).containsExactlyInOrder(expected);
+        }
+    }
+
+    /**
+     * {@link Sha1MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void stateTest() throws NoSuchAlgorithmException {
+        byte[] bytes = createBytes(64 * 5 + 17);
+        byte[] expected = MessageDigest.getInstance(HashAlgorithms.SHA1).digest(bytes);
+        for (int offset = 0; offset <= bytes.length; offset += 13) {
+            Sha1MessageDigestSpi messageDigestSpi = new Sha1MessageDigestSpi();
+            messageDigestSpi.update(bytes, 0, offset);
+            byte[] state = messageDigestSpi.getState();
+            messageDigestSpi.engineReset();
+
+            Sha1MessageDigestSpi resumedMessageDigestSpi = new Sha1MessageDigestSpi();
+            resumedMessageDigestSpi.setState(state);
+            Assertions.assertThat(resumedMessageDigestSpi.getLength()).isEqualTo((long) offset);
+            resumedMessageDigestSpi.update(bytes, offset, bytes.length - offset);
+            Assertions.assertThat(resumedMessageDigestSpi.digest()).containsExactlyInOrder(expected);
+        }
+    }
+
+    /**
+     * {@link Sha1MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void providerTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.SHA1, new HashProvider());
+        Assertions.assertThat(messageDigest.getDigestLength()).isEqualTo(20);
+        Assertions.assertThat(messageDigest.digest(new byte[]{97, 98, 99})).containsExactlyInOrder(-87, -103, 62, 54, 71, 6, -127, 106, -70, 62, 37, 113, 120, 80, -62, 108, -100, -48, -40, -99);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
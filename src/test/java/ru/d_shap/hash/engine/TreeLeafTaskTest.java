@@ -0,0 +1,122 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link TreeLeafTask}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TreeLeafTaskTest {
+
+    /**
+     * Test class constructor.
+     */
+    public TreeLeafTaskTest() {
+        super();
+    }
+
+    /**
+     * {@link TreeLeafTask} class test.
+     */
+    @Test
+    public void hashLeafTest() {
+        ByteBuffer leaf = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThat(TreeLeafTask.hashLeaf(leaf)).containsExactlyInOrder(23, -24, -115, -79, -121, -81, -42, 44, 22, -27, -34, -65, 62, 101, 39, -51, 0, 107, -64, 18, -68, -112, -75, 26, -127, 12, -40, 12, 45, 81, 31, 67);
+        Assertions.assertThat(leaf.position()).isEqualTo(0);
+        Assertions.assertThat(TreeLeafTask.hashLeaf(ByteBuffer.allocate(0))).containsExactlyInOrder(110, 52, 11, -100, -1, -77, 122, -104, -100, -91, 68, -26, -69, 120, 10, 44, 120, -112, 29, 63, -77, 55, 56, 118, -123, 17, -93, 6, 23, -81, -96, 29);
+    }
+
+    /**
+     * {@link TreeLeafTask} class test.
+     */
+    @Test
+    public void callTest() {
+        ByteBuffer leaf = ByteBuffer.allocateDirect(5);
+        leaf.put(new byte[]{1, 2, 3, 4, 5});
+        leaf.flip();
+        TreeLeafTask leafTask = new TreeLeafTask(leaf);
+        Assertions.assertThat(leafTask.getLeaf()).isSameAs(leaf);
+        Assertions.assertThat(leafTask.call()).containsExactlyInOrder(23, -24, -115, -79, -121, -81, -42, 44, 22, -27, -34, -65, 62, 101, 39, -51, 0, 107, -64, 18, -68, -112, -75, 26, -127, 12, -40, 12, 45, 81, 31, 67);
+        Assertions.assertThat(leaf.position()).isEqualTo(0);
+        leafTask.submit(new ForkJoinPool(1));
+        Assertions.assertThat(leafTask.join()).containsExactlyInOrder(23, -24, -115, -79, -121, -81, -42, 44, 22, -27, -34, -65, 62, 101, 39, -51, 0, 107, -64, 18, -68, -112, -75, 26, -127, 12, -40, 12, 45, 81, 31, 67);
+        Assertions.assertThat(leaf.position()).isEqualTo(0);
+    }
+
+    /**
+     * {@link TreeLeafTask} class test.
+     */
+    @Test
+    public void cancelTest() {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            forkJoinPool.execute(new LatchTask(latch));
+            TreeLeafTask leafTask = new TreeLeafTask(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+            leafTask.submit(forkJoinPool);
+            leafTask.cancel();
+            try {
+                leafTask.join();
+                Assertions.fail("TreeLeafTask test fail");
+            } catch (CancellationException ex) {
+                Assertions.assertThat(ex).isNotNull();
+            }
+        } finally {
+            latch.countDown();
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class LatchTask implements Runnable {
+
+        private final CountDownLatch _latch;
+
+        LatchTask(final CountDownLatch latch) {
+            super();
+            _latch = latch;
+        }
+
+        @Override
+        public void run() {
+            try {
+                _latch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+}
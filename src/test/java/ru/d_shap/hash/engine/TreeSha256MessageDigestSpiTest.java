@@ -0,0 +1,230 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.hash.HashAlgorithms;
+
+/**
+ * Tests for {@link TreeSha256MessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TreeSha256MessageDigestSpiTest {
+
+    /**
+     * Test class constructor.
+     */
+    public TreeSha256MessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link TreeSha256MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void singleLeafTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = createMessageDigest();
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(110, 52, 11, -100, -1, -77, 122, -104, -100, -91, 68, -26, -69, 120, 10, 44, 120, -112, 29, 63, -77, 55, 56, 118, -123, 17, -93, 6, 23, -81, -96, 29);
+        Assertions.assertThat(messageDigest.digest(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0})).containsExactlyInOrder(-77, 67, -84, -49, 91, -89, 127, -22, 61, -103, 21, 117, -100, -33, -33, -75, 39, 93, -73, -45, 2, 54, 100, -8, -77, -36, -83, 21, -43, 20, -82, -52);
+        messageDigest.update((byte) 1);
+        messageDigest.update(new byte[]{2, 3});
+        messageDigest.update(ByteBuffer.wrap(new byte[]{4, 5}));
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(23, -24, -115, -79, -121, -81, -42, 44, 22, -27, -34, -65, 62, 101, 39, -51, 0, 107, -64, 18, -68, -112, -75, 26, -127, 12, -40, 12, 45, 81, 31, 67);
+        Assertions.assertThat(MessageDigest.getInstance(HashAlgorithms.SHA256).digest(new byte[]{1, 2, 3, 4, 5})).containsExactlyInOrder(116, -8, 31, -31, 103, -39, -101, 76, -76, 29, 109, 12, -51, -88, 34, 120, -54, -18, -97, 62, 47, 37, -43, -27, -93, -109, 111, -13, -36, -20, 96, -48);
+    }
+
+    /**
+     * {@link TreeSha256MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void wholeLeavesTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = createMessageDigest();
+        byte[] bytes = createBytes(TreeSha256MessageDigestSpi.LEAF_SIZE * 3);
+        Assertions.assertThat(messageDigest.digest(bytes)).containsExactlyInOrder(-21, -31, 110, 80, 42, -114, -75, 35, 40, 65, -40, -97, -35, 110, 113, 21, -55, 61, -127, -8, 101, 82, 116, 98, 4, -53, 89, -20, -34, 107, 48, -111);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        messageDigest.update(buffer);
+        Assertions.assertThat(buffer.hasRemaining()).isFalse();
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-21, -31, 110, 80, 42, -114, -75, 35, 40, 65, -40, -97, -35, 110, 113, 21, -55, 61, -127, -8, 101, 82, 116, 98, 4, -53, 89, -20, -34, 107, 48, -111);
+    }
+
+    /**
+     * {@link TreeSha256MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void partialLeavesTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = createMessageDigest();
+        byte[] bytes = createBytes(TreeSha256MessageDigestSpi.LEAF_SIZE * 2 + TreeSha256MessageDigestSpi.LEAF_SIZE / 2 + 3);
+        Assertions.assertThat(messageDigest.digest(bytes)).containsExactlyInOrder(-85, 57, 89, 18, 60, -112, -127, -34, 42, -7, -126, 9, -39, 78, 125, -22, -61, -22, -78, -47, -124, 108, 70, -84, 42, 106, -40, 66, -121, 67, 111, -103);
+
+        messageDigest.update(bytes, 0, 100);
+        messageDigest.update(bytes, 100, bytes.length - 100);
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-85, 57, 89, 18, 60, -112, -127, -34, 42, -7, -126, 9, -39, 78, 125, -22, -61, -22, -78, -47, -124, 108, 70, -84, 42, 106, -40, 66, -121, 67, 111, -103);
+
+        for (int i = 0; i < bytes.length; i += 8192) {
+            messageDigest.update(bytes, i, Math.min(8192, bytes.length - i));
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-85, 57, 89, 18, 60, -112, -127, -34, 42, -7, -126, 9, -39, 78, 125, -22, -61, -22, -78, -47, -124, 108, 70, -84, 42, 106, -40, 66, -121, 67, 111, -103);
+
+        for (byte value : bytes) {
+            messageDigest.update(value);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(-85, 57, 89, 18, 60, -112, -127, -34, 42, -7, -126, 9, -39, 78, 125, -22, -61, -22, -78, -47, -124, 108, 70, -84, 42, 106, -40, 66, -121, 67, 111, -103);
+    }
+
+    /**
+     * {@link TreeSha256MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void pendingLeavesTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = createMessageDigest();
+        byte[] bytes = createBytes(TreeSha256MessageDigestSpi.LEAF_SIZE * (TreeSha256MessageDigestSpi.MAX_PENDING_LEAF_COUNT + 3) + 7);
+        byte[] expected = createTreeHash(bytes);
+        Assertions.assertThat(messageDigest.digest(bytes)).containsExactlyInOrder(expected);
+
+        for (int i = 0; i < bytes.length; i += 65536) {
+            messageDigest.update(bytes, i, Math.min(65536, bytes.length - i));
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+
+        messageDigest.update(bytes, 0, 5);
+        messageDigest.update(bytes, 5, TreeSha256MessageDigestSpi.LEAF_SIZE * 2);
+        messageDigest.update(bytes, 5 + TreeSha256MessageDigestSpi.LEAF_SIZE * 2, bytes.length - 5 - TreeSha256MessageDigestSpi.LEAF_SIZE * 2);
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+    }
+
+    /**
+     * {@link TreeSha256MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void resetTest() throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = createMessageDigest();
+        messageDigest.update(createBytes(TreeSha256MessageDigestSpi.LEAF_SIZE + 10));
+        messageDigest.reset();
+        Assertions.assertThat(messageDigest.digest(new byte[]{1, 2, 3, 4, 5})).containsExactlyInOrder(23, -24, -115, -79, -121, -81, -42, 44, 22, -27, -34, -65, 62, 101, 39, -51, 0, 107, -64, 18, -68, -112, -75, 26, -127, 12, -40, 12, 45, 81, 31, 67);
+    }
+
+    /**
+     * {@link TreeSha256MessageDigestSpi} class test.
+     */
+    @Test
+    public void resetReleaseTest() {
+        TreeSha256MessageDigestSpi messageDigestSpi = new TreeSha256MessageDigestSpi();
+        Assertions.assertThat(messageDigestSpi.isLeafBufferAllocated()).isFalse();
+        byte[] bytes = createBytes(TreeSha256MessageDigestSpi.LEAF_SIZE * 2 + 10);
+        for (int i = 0; i < bytes.length; i += 65536) {
+            messageDigestSpi.engineUpdate(bytes, i, Math.min(65536, bytes.length - i));
+        }
+        Assertions.assertThat(messageDigestSpi.getPendingLeafCount()).isEqualTo(2);
+        Assertions.assertThat(messageDigestSpi.isLeafBufferAllocated()).isTrue();
+        messageDigestSpi.engineReset();
+        Assertions.assertThat(messageDigestSpi.getPendingLeafCount()).isEqualTo(0);
+        Assertions.assertThat(messageDigestSpi.isLeafBufferAllocated()).isFalse();
+
+        bytes = createBytes(TreeSha256MessageDigestSpi.LEAF_SIZE * (TreeSha256MessageDigestSpi.MAX_PENDING_LEAF_COUNT + 1));
+        for (int i = 0; i < bytes.length; i += 65536) {
+            messageDigestSpi.engineUpdate(bytes, i, Math.min(65536, bytes.length - i));
+        }
+        Assertions.assertThat(messageDigestSpi.getPendingLeafCount()).isEqualTo(TreeSha256MessageDigestSpi.MAX_PENDING_LEAF_COUNT);
+        Assertions.assertThat(messageDigestSpi.isLeafBufferAllocated()).isTrue();
+        messageDigestSpi.engineReset();
+        Assertions.assertThat(messageDigestSpi.isLeafBufferAllocated()).isFalse();
+
+        messageDigestSpi.engineUpdate((byte) 1);
+        Assertions.assertThat(messageDigestSpi.isLeafBufferAllocated()).isTrue();
+        messageDigestSpi.engineUpdate(new byte[]{2, 3, 4, 5}, 0, 4);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(23, -24, -115, -79, -121, -81, -42, 44, 22, -27, -34, -65, 62, 101, 39, -51, 0, 107, -64, 18, -68, -112, -75, 26, -127, 12, -40, 12, 45, 81, 31, 67);
+        Assertions.assertThat(messageDigestSpi.isLeafBufferAllocated()).isFalse();
+    }
+
+    /**
+     * {@link TreeSha256MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void cloneFailTest() throws NoSuchAlgorithmException {
+        try {
+            createMessageDigest().clone();
+            Assertions.fail("TreeSha256MessageDigestSpi test fail");
+        } catch (CloneNotSupportedException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+    }
+
+    private static MessageDigest createMessageDigest() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance(HashAlgorithms.TREE_SHA256, new HashProvider());
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+    private static byte[] createTreeHash(final byte[] bytes) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(HashAlgorithms.SHA256);
+        int leafCount = (bytes.length + TreeSha256MessageDigestSpi.LEAF_SIZE - 1) / TreeSha256MessageDigestSpi.LEAF_SIZE;
+        byte[][] level = new byte[leafCount][];
+        for (int i = 0; i < leafCount; i++) {
+            int offset = i * TreeSha256MessageDigestSpi.LEAF_SIZE;
+            messageDigest.update((byte) 0);
+            messageDigest.update(bytes, offset, Math.min(TreeSha256MessageDigestSpi.LEAF_SIZE, bytes.length - offset));
+            level[i] = messageDigest.digest();
+        }
+        while (level.length > 1) {
+            byte[][] nextLevel = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < nextLevel.length; i++) {
+                if (i * 2 + 1 < level.length) {
+                    messageDigest.update((byte) 1);
+                    messageDigest.update(level[i * 2]);
+                    messageDigest.update(level[i * 2 + 1]);
+                    nextLevel[i] = messageDigest.digest();
+                } else {
+                    nextLevel[i] = level[i * 2];
+                }
+            }
+            level = nextLevel;
+        }
+        return level[0];
+    }
+
+}
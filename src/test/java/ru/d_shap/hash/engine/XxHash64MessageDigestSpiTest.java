@@ -0,0 +1,119 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link XxHash64MessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class XxHash64MessageDigestSpiTest {
+
+    private static final int[] LENGTHS = {4096, 4097, 16385, 131072};
+
+    /**
+     * Test class constructor.
+     */
+    public XxHash64MessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link XxHash64MessageDigestSpi} class test.
+     */
+    @Test
+    public void xxHash64Test() {
+        XxHash64MessageDigestSpi messageDigestSpi = new XxHash64MessageDigestSpi(0L);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(8);
+        messageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(-26, 15, 75, -12, 103, -18, -36, -18);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(10);
+        buffer.put(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0});
+        buffer.flip();
+        messageDigestSpi.update(buffer);
+        Assertions.assertThat(buffer.remaining()).isEqualTo(0);
+        Assertions.assertThat(messageDigestSpi.getHash()).isEqualTo(-1869191807247655698L);
+        messageDigestSpi.engineReset();
+
+        XxHash64MessageDigestSpi seededMessageDigestSpi = new XxHash64MessageDigestSpi(515175505388028384L);
+        seededMessageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(seededMessageDigestSpi.engineDigest()).containsExactlyInOrder(29, -10, 99, 75, 5, 46, -128, -114);
+    }
+
+    /**
+     * {@link XxHash64MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        compare(new XxHash64MessageDigestSpi(0L), 126, 33, 119, 108, 24, 59, 111, 105, -5, -30, -5, -47, 123, 68, 107, -77, -21, -53, 5, 110, 76, 72, 44, 73, -88, 91, 93, -107, 108, -87, -75, 79);
+        compare(new XxHash64MessageDigestSpi(515175505388028384L), -16, 1, -50, -121, 40, -115, 111, -44, 39, -119, -39, -39, 81, 91, -51, -101, 125, -67, -23, 85, -15, -124, 66, 91, -75, -103, -36, -5, 25, -64, -117, -99);
+    }
+
+    private static void compare(final XxHash64MessageDigestSpi messageDigestSpi, final int... expected) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        for (int length = 0; length < 2100; length++) {
+            compare(messageDigestSpi, messageDigest, length, true);
+        }
+        for (int length : LENGTHS) {
+            compare(messageDigestSpi, messageDigest, length, false);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+    }
+
+    private static void compare(final XxHash64MessageDigestSpi messageDigestSpi, final MessageDigest messageDigest, final int length, final boolean byteUpdate) {
+        byte[] bytes = createBytes(length);
+
+        messageDigestSpi.engineUpdate(bytes, 0, length);
+        byte[] digest = messageDigestSpi.engineDigest();
+        messageDigest.update(digest);
+
+        if (byteUpdate) {
+            for (byte value : bytes) {
+                messageDigestSpi.engineUpdate(value);
+            }
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+        }
+
+        int third = length / 3;
+        messageDigestSpi.engineUpdate(bytes, 0, third);
+        messageDigestSpi.engineUpdate(bytes, third, third);
+        messageDigestSpi.engineUpdate(bytes, third * 2, length - third * 2);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
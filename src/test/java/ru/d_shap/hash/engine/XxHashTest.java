@@ -0,0 +1,239 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link XxHash}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class XxHashTest {
+
+    private static final int[] LENGTHS = {4096, 4097, 16385, 131072};
+
+    private static final long SEED = 515175505388028384L;
+
+    /**
+     * Test class constructor.
+     */
+    public XxHashTest() {
+        super();
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(XxHash.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void xxHash64Test() {
+        byte[] bytes = new byte[]{10, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 10};
+        Assertions.assertThat(XxHash.getXxHash64(bytes, 1, 10, 0L)).isEqualTo(-1869191807247655698L);
+        Assertions.assertThat(XxHash.getXxHash64(bytes, 1, 10, SEED)).isEqualTo(2159022245231362190L);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, 10);
+        Assertions.assertThat(XxHash.getXxHash64(buffer, 0L)).isEqualTo(-1869191807247655698L);
+        Assertions.assertThat(buffer.position()).isEqualTo(1);
+        Assertions.assertThat(XxHash.getXxHash64(buffer.slice(), SEED)).isEqualTo(2159022245231362190L);
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void xxh3Hash64Test() {
+        byte[] bytes = new byte[]{10, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 10};
+        Assertions.assertThat(XxHash.getXxh3Hash64(bytes, 1, 10, 0L)).isEqualTo(-9158086910313900691L);
+        Assertions.assertThat(XxHash.getXxh3Hash64(bytes, 1, 10, SEED)).isEqualTo(4155957281407528296L);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, 10);
+        Assertions.assertThat(XxHash.getXxh3Hash64(buffer, 0L)).isEqualTo(-9158086910313900691L);
+        Assertions.assertThat(buffer.position()).isEqualTo(1);
+        Assertions.assertThat(XxHash.getXxh3Hash64(buffer.slice(), SEED)).isEqualTo(4155957281407528296L);
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void xxh3Hash128Test() {
+        byte[] bytes = new byte[]{10, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 10};
+        long[] result = new long[2];
+        XxHash.getXxh3Hash128(bytes, 1, 10, 0L, result);
+        Assertions.assertThat(result).containsExactlyInOrder(135857382834951973L, -1122059268912218651L);
+        XxHash.getXxh3Hash128(bytes, 1, 10, SEED, result);
+        Assertions.assertThat(result).containsExactlyInOrder(-5595448885725129674L, 8177777855822581791L);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, 10);
+        XxHash.getXxh3Hash128(buffer, 0L, result);
+        Assertions.assertThat(result).containsExactlyInOrder(135857382834951973L, -1122059268912218651L);
+        Assertions.assertThat(buffer.position()).isEqualTo(1);
+        XxHash.getXxh3Hash128(buffer.slice(), SEED, result);
+        Assertions.assertThat(result).containsExactlyInOrder(-5595448885725129674L, 8177777855822581791L);
+    }
+
+    /**
+     * {@link XxHash} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        compare(0L, 68, -4, 5, -123, -92, -117, -79, -84, -52, -44, 14, 122, -120, -67, -119, 25, 86, -67, 73, 7, -124, -121, -83, -82, 17, 103, 114, -86, 69, 30, -111, 50);
+        compare(SEED, -83, 46, -49, 117, 90, 116, 88, 119, 2, 104, 55, -43, -92, 3, 60, -82, -42, 123, 38, 47, 68, 22, 45, 78, 87, -38, 7, 100, 15, -75, 89, -113);
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void nullBytesFailTest() {
+        try {
+            XxHash.getXxHash64(null, 0, 0, 0L);
+            Assertions.fail("XxHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte array is null");
+        }
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void wrongOffsetFailTest() {
+        try {
+            XxHash.getXxh3Hash64(new byte[10], -1, 5, 0L);
+            Assertions.fail("XxHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 10]");
+        }
+        try {
+            XxHash.getXxh3Hash64(new byte[10], 6, 5, 0L);
+            Assertions.fail("XxHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 10]");
+        }
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void wrongLengthFailTest() {
+        try {
+            XxHash.getXxh3Hash128(new byte[10], 0, -1, 0L, new long[2]);
+            Assertions.fail("XxHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Offset and length are not within [0; 10]");
+        }
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void nullBufferFailTest() {
+        try {
+            XxHash.getXxHash64(null, 0L);
+            Assertions.fail("XxHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Source byte buffer is null");
+        }
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void nullResultFailTest() {
+        try {
+            XxHash.getXxh3Hash128(ByteBuffer.allocate(10), 0L, null);
+            Assertions.fail("XxHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Result array is null");
+        }
+    }
+
+    /**
+     * {@link XxHash} class test.
+     */
+    @Test
+    public void shortResultFailTest() {
+        try {
+            XxHash.getXxh3Hash128(new byte[10], 0, 10, 0L, new long[1]);
+            Assertions.fail("XxHash test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Result array length is less than 2");
+        }
+    }
+
+    private static void compare(final long seed, final int... expected) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        for (int length = 0; length < 2100; length++) {
+            compare(messageDigest, length, seed);
+        }
+        for (int length : LENGTHS) {
+            compare(messageDigest, length, seed);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+    }
+
+    private static void compare(final MessageDigest messageDigest, final int length, final long seed) {
+        byte[] bytes = new byte[length + 2];
+        System.arraycopy(createBytes(length), 0, bytes, 1, length);
+        long xxHash64 = XxHash.getXxHash64(bytes, 1, length, seed);
+        long xxh3Hash64 = XxHash.getXxh3Hash64(bytes, 1, length, seed);
+        long[] xxh3Hash128 = new long[2];
+        XxHash.getXxh3Hash128(bytes, 1, length, seed, xxh3Hash128);
+        ByteBuffer digest = ByteBuffer.allocate(32);
+        digest.putLong(xxHash64).putLong(xxh3Hash64).putLong(xxh3Hash128[1]).putLong(xxh3Hash128[0]);
+        messageDigest.update(digest.array());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        buffer.put(bytes, 1, length);
+        buffer.flip();
+        Assertions.assertThat(XxHash.getXxHash64(buffer, seed)).isEqualTo(xxHash64);
+        Assertions.assertThat(XxHash.getXxh3Hash64(buffer, seed)).isEqualTo(xxh3Hash64);
+        long[] result = new long[2];
+        XxHash.getXxh3Hash128(buffer, seed, result);
+        Assertions.assertThat(result).containsExactlyInOrder(xxh3Hash128);
+        Assertions.assertThat(buffer.remaining()).isEqualTo(length);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,136 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// Hash library provides facilities for the hash computations.
+// Copyright (C) 2017 Dmitry Shapovalov.
+//
+// This file is part of hash library.
+//
+// Hash library is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// Hash library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.hash.engine;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link Xxh3MessageDigestSpi}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class Xxh3MessageDigestSpiTest {
+
+    private static final int[] LENGTHS = {4096, 4097, 16385, 131072};
+
+    /**
+     * Test class constructor.
+     */
+    public Xxh3MessageDigestSpiTest() {
+        super();
+    }
+
+    /**
+     * {@link Xxh3MessageDigestSpi} class test.
+     */
+    @Test
+    public void xxh3Hash64Test() {
+        Xxh3MessageDigestSpi messageDigestSpi = new Xxh3MessageDigestSpi(8, 0L);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(8);
+        messageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(-128, -25, -16, 122, 8, -107, -43, 109);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(10);
+        buffer.put(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0});
+        buffer.flip();
+        messageDigestSpi.update(buffer);
+        Assertions.assertThat(buffer.remaining()).isEqualTo(0);
+        Assertions.assertThat(messageDigestSpi.getHash64()).isEqualTo(-9158086910313900691L);
+        messageDigestSpi.engineReset();
+
+        Xxh3MessageDigestSpi seededMessageDigestSpi = new Xxh3MessageDigestSpi(8, 515175505388028384L);
+        seededMessageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(seededMessageDigestSpi.engineDigest()).containsExactlyInOrder(57, -84, -19, 32, -45, -2, 109, 104);
+    }
+
+    /**
+     * {@link Xxh3MessageDigestSpi} class test.
+     */
+    @Test
+    public void xxh3Hash128Test() {
+        Xxh3MessageDigestSpi messageDigestSpi = new Xxh3MessageDigestSpi(16, 0L);
+        Assertions.assertThat(messageDigestSpi.engineGetDigestLength()).isEqualTo(16);
+        messageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(-16, 109, -91, 10, 51, -115, 125, -27, 1, -30, -87, -111, -29, -3, -41, 37);
+
+        Xxh3MessageDigestSpi seededMessageDigestSpi = new Xxh3MessageDigestSpi(16, 515175505388028384L);
+        seededMessageDigestSpi.engineUpdate(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0}, 0, 10);
+        Assertions.assertThat(seededMessageDigestSpi.engineDigest()).containsExactlyInOrder(113, 125, 77, -95, -44, 92, 80, 31, -78, 88, -8, -30, 103, 127, -108, 54);
+    }
+
+    /**
+     * {@link Xxh3MessageDigestSpi} class test.
+     *
+     * @throws NoSuchAlgorithmException exception in test.
+     */
+    @Test
+    public void compareTest() throws NoSuchAlgorithmException {
+        compare(new Xxh3MessageDigestSpi(8, 0L), 64, 116, -112, -81, -37, -1, -110, 4, -118, 9, 75, -16, 88, 113, -120, 121, 57, -45, 107, 52, 58, -5, 38, -27, 69, 0, 23, -74, -101, -70, -118, 56);
+        compare(new Xxh3MessageDigestSpi(8, 515175505388028384L), 88, -2, -34, 64, -95, -96, -115, -31, -92, -127, -55, -117, -64, -22, -4, 92, -40, 85, 26, -88, 29, 79, -70, -1, -85, -122, 20, -7, 1, 59, -125, -45);
+        compare(new Xxh3MessageDigestSpi(16, 0L), 47, 45, -127, -9, -95, 119, -83, 87, -84, 37, -112, -82, 28, 16, -97, 40, 35, -121, 106, -97, -108, -114, 117, 3, 43, -100, -22, -55, 22, 86, -45, -3);
+        compare(new Xxh3MessageDigestSpi(16, 515175505388028384L), -119, -41, 83, -107, -107, 77, -12, -47, 2, 104, -90, -112, -17, -34, -6, -88, 83, -118, 102, 28, 126, -6, -122, -123, 45, 18, 51, -48, -2, -15, 81, -54);
+    }
+
+    private static void compare(final Xxh3MessageDigestSpi messageDigestSpi, final int... expected) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        for (int length = 0; length < 2100; length++) {
+            compare(messageDigestSpi, messageDigest, length, true);
+        }
+        for (int length : LENGTHS) {
+            compare(messageDigestSpi, messageDigest, length, false);
+        }
+        Assertions.assertThat(messageDigest.digest()).containsExactlyInOrder(expected);
+    }
+
+    private static void compare(final Xxh3MessageDigestSpi messageDigestSpi, final MessageDigest messageDigest, final int length, final boolean byteUpdate) {
+        byte[] bytes = createBytes(length);
+
+        messageDigestSpi.engineUpdate(bytes, 0, length);
+        byte[] digest = messageDigestSpi.engineDigest();
+        messageDigest.update(digest);
+
+        if (byteUpdate) {
+            for (byte value : bytes) {
+                messageDigestSpi.engineUpdate(value);
+            }
+            Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+        }
+
+        int third = length / 3;
+        messageDigestSpi.engineUpdate(bytes, 0, third);
+        messageDigestSpi.engineUpdate(bytes, third, third);
+        messageDigestSpi.engineUpdate(bytes, third * 2, length - third * 2);
+        Assertions.assertThat(messageDigestSpi.engineDigest()).containsExactlyInOrder(digest);
+    }
+
+    private static byte[] createBytes(final int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+}